@@ -0,0 +1,79 @@
+package games.strategy.engine.data;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import games.strategy.triplea.delegate.Matches;
+import games.strategy.triplea.xml.TestMapGameData;
+import games.strategy.util.Match;
+
+/**
+ * Finds routes between a fixed, pseudo randomly chosen set of territory pairs. Each operation finds every route in the
+ * set.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Fork(1)
+@Warmup(iterations = 5)
+@Measurement(iterations = 5)
+public class GameMapRouteBenchmark {
+  private static final int ROUTES = 64;
+
+  @Param({"BIG_WORLD_1942", "LHTR", "PACT_OF_STEEL_2"})
+  public TestMapGameData map;
+
+  private GameMap gameMap;
+  private final List<Territory> starts = new ArrayList<>();
+  private final List<Territory> ends = new ArrayList<>();
+  private final List<Territory> landStarts = new ArrayList<>();
+  private final List<Territory> landEnds = new ArrayList<>();
+
+  @Setup
+  public void setUp() throws Exception {
+    gameMap = map.getGameData().getMap();
+    final List<Territory> territories = gameMap.getTerritories();
+    final List<Territory> land = Match.getMatches(territories, Matches.TerritoryIsLand);
+    final Random random = new Random(ROUTES);
+    for (int i = 0; i < ROUTES; i++) {
+      starts.add(territories.get(random.nextInt(territories.size())));
+      ends.add(territories.get(random.nextInt(territories.size())));
+      landStarts.add(land.get(random.nextInt(land.size())));
+      landEnds.add(land.get(random.nextInt(land.size())));
+    }
+  }
+
+  @Benchmark
+  public int getRoute() {
+    int steps = 0;
+    for (int i = 0; i < ROUTES; i++) {
+      final Route route = gameMap.getRoute(starts.get(i), ends.get(i));
+      steps += route == null ? 0 : route.numberOfSteps();
+    }
+    return steps;
+  }
+
+  @Benchmark
+  public int getLandRoute() {
+    int steps = 0;
+    for (int i = 0; i < ROUTES; i++) {
+      final Route route = gameMap.getRoute(landStarts.get(i), landEnds.get(i), Matches.TerritoryIsLand);
+      steps += route == null ? 0 : route.numberOfSteps();
+    }
+    return steps;
+  }
+}
@@ -0,0 +1,47 @@
+package games.strategy.engine.data;
+
+import java.io.ByteArrayInputStream;
+import java.nio.file.Files;
+import java.nio.file.Paths;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import games.strategy.triplea.xml.TestMapGameData;
+
+/**
+ * Parses a map's game xml. The file is read into memory first so that disk access is not measured.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Fork(1)
+@Warmup(iterations = 5)
+@Measurement(iterations = 5)
+public class GameParserBenchmark {
+  @Param({"BIG_WORLD_1942", "LHTR", "PACT_OF_STEEL_2"})
+  public TestMapGameData map;
+
+  private byte[] xml;
+
+  @Setup
+  public void setUp() throws Exception {
+    xml = Files.readAllBytes(Paths.get("src/test/resources", map.toString()));
+  }
+
+  @Benchmark
+  public GameData parse() throws Exception {
+    return new GameParser(map.toString()).parse(new ByteArrayInputStream(xml), new AtomicReference<>(), false);
+  }
+}
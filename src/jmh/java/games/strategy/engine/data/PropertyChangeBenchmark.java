@@ -0,0 +1,54 @@
+package games.strategy.engine.data;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import games.strategy.engine.data.changefactory.ChangeFactory;
+import games.strategy.triplea.TripleAUnit;
+import games.strategy.triplea.xml.TestMapGameData;
+
+/**
+ * Damages and moves every unit on the map and takes it back, the way battles and the battle calculator change units.
+ * Each operation makes and performs a property change for every unit and then performs its inverse.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Fork(1)
+@Warmup(iterations = 5)
+@Measurement(iterations = 5)
+public class PropertyChangeBenchmark {
+  @Param({"BIG_WORLD_1942", "LHTR", "PACT_OF_STEEL_2"})
+  public TestMapGameData map;
+
+  private GameData data;
+
+  @Setup
+  public void setUp() throws Exception {
+    data = map.getGameData();
+  }
+
+  @Benchmark
+  public Change changeAndUndo() {
+    final CompositeChange change = new CompositeChange();
+    for (final Unit unit : data.getUnits().getUnits()) {
+      change.add(ChangeFactory.unitPropertyChange(unit, 1, "hits"));
+      change.add(ChangeFactory.unitPropertyChange(unit, 1, TripleAUnit.ALREADY_MOVED));
+    }
+    data.performChange(change);
+    final Change undo = change.invert();
+    data.performChange(undo);
+    return undo;
+  }
+}
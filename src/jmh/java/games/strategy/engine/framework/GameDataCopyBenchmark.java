@@ -0,0 +1,67 @@
+package games.strategy.engine.framework;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import games.strategy.engine.data.GameData;
+import games.strategy.triplea.xml.TestMapGameData;
+
+/**
+ * Copies a game the different ways the engine does: a save game round trip, a plain clone, and serialized bytes that
+ * are captured once and then deserialized.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Fork(1)
+@Warmup(iterations = 5)
+@Measurement(iterations = 5)
+public class GameDataCopyBenchmark {
+  @Param({"BIG_WORLD_1942", "LHTR", "PACT_OF_STEEL_2"})
+  public TestMapGameData map;
+
+  private GameData data;
+  private SerializedGameData serialized;
+
+  @Setup
+  public void setUp() throws Exception {
+    data = map.getGameData();
+    serialized = SerializedGameData.serialize(data, false);
+  }
+
+  @Benchmark
+  public GameData saveAndLoad() throws Exception {
+    final GameDataManager manager = new GameDataManager();
+    final ByteArrayOutputStream saveGame = new ByteArrayOutputStream();
+    manager.saveGame(saveGame, data);
+    return manager.loadGame(new ByteArrayInputStream(saveGame.toByteArray()), null);
+  }
+
+  @Benchmark
+  public GameData cloneGameData() {
+    return GameDataUtils.cloneGameData(data, false);
+  }
+
+  @Benchmark
+  public SerializedGameData serialize() throws Exception {
+    return SerializedGameData.serialize(data, false);
+  }
+
+  @Benchmark
+  public GameData deserialize() throws Exception {
+    return serialized.deserialize();
+  }
+}
@@ -0,0 +1,92 @@
+package games.strategy.triplea.delegate;
+
+import java.util.List;
+
+import games.strategy.engine.data.GameData;
+import games.strategy.engine.data.PlayerID;
+import games.strategy.engine.data.Territory;
+import games.strategy.engine.data.Unit;
+import games.strategy.util.Match;
+
+/**
+ * The two neighbouring land territories of a map, owned by players at war, that hold the most land combat units
+ * between them. Benchmarks use it to find a realistic move or battle on any map.
+ */
+public final class Frontline {
+  private final Territory from;
+  private final Territory to;
+  private final List<Unit> attackingUnits;
+  private final List<Unit> defendingUnits;
+
+  private Frontline(final Territory from, final Territory to, final List<Unit> attackingUnits,
+      final List<Unit> defendingUnits) {
+    this.from = from;
+    this.to = to;
+    this.attackingUnits = attackingUnits;
+    this.defendingUnits = defendingUnits;
+  }
+
+  /**
+   * Finds the busiest frontline of the given game. Territories are visited in map order, so the same map always gives
+   * the same frontline.
+   *
+   * @throws IllegalArgumentException If the map has no two neighbouring territories with units of players at war.
+   */
+  public static Frontline find(final GameData data) {
+    Frontline best = null;
+    for (final Territory from : data.getMap().getTerritories()) {
+      final List<Unit> attackingUnits = getLandCombatUnits(from);
+      if (from.isWater() || from.getOwner().isNull() || attackingUnits.isEmpty()) {
+        continue;
+      }
+      for (final Territory to : data.getMap().getTerritories()) {
+        if (to.isWater() || to.getOwner().isNull() || !data.getMap().getNeighbors(from).contains(to)
+            || !data.getRelationshipTracker().isAtWar(from.getOwner(), to.getOwner())) {
+          continue;
+        }
+        final List<Unit> defendingUnits = getLandCombatUnits(to);
+        if (!defendingUnits.isEmpty()
+            && (best == null || attackingUnits.size() + defendingUnits.size() > best.size())) {
+          best = new Frontline(from, to, attackingUnits, defendingUnits);
+        }
+      }
+    }
+    if (best == null) {
+      throw new IllegalArgumentException("No frontline in " + data.getGameName());
+    }
+    return best;
+  }
+
+  private static List<Unit> getLandCombatUnits(final Territory territory) {
+    return territory.getUnits().getMatches(Match.allOf(Matches.unitIsOwnedBy(territory.getOwner()),
+        Matches.UnitIsLand, Matches.UnitIsNotInfrastructure, Matches.UnitIsNotAA));
+  }
+
+  public Territory getFrom() {
+    return from;
+  }
+
+  public Territory getTo() {
+    return to;
+  }
+
+  public PlayerID getAttacker() {
+    return from.getOwner();
+  }
+
+  public PlayerID getDefender() {
+    return to.getOwner();
+  }
+
+  public List<Unit> getAttackingUnits() {
+    return attackingUnits;
+  }
+
+  public List<Unit> getDefendingUnits() {
+    return defendingUnits;
+  }
+
+  private int size() {
+    return attackingUnits.size() + defendingUnits.size();
+  }
+}
@@ -0,0 +1,65 @@
+package games.strategy.triplea.delegate;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import games.strategy.engine.data.GameData;
+import games.strategy.engine.data.Territory;
+import games.strategy.engine.data.Unit;
+import games.strategy.triplea.xml.TestMapGameData;
+import games.strategy.util.Match;
+
+/**
+ * Filters one large stack, made of every unit on the map, with some of the most used unit matches.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Fork(1)
+@Warmup(iterations = 5)
+@Measurement(iterations = 5)
+public class MatchesBenchmark {
+  @Param({"BIG_WORLD_1942", "LHTR", "PACT_OF_STEEL_2"})
+  public TestMapGameData map;
+
+  private List<Unit> units;
+  private Match<Unit> landCombatUnits;
+
+  @Setup
+  public void setUp() throws Exception {
+    final GameData data = map.getGameData();
+    units = new ArrayList<>();
+    for (final Territory territory : data.getMap().getTerritories()) {
+      units.addAll(territory.getUnits().getUnits());
+    }
+    landCombatUnits = Match.allOf(Matches.UnitIsLand, Matches.UnitIsNotInfrastructure, Matches.UnitIsNotAA);
+  }
+
+  @Benchmark
+  public List<Unit> getSeaUnits() {
+    return Match.getMatches(units, Matches.UnitIsSea);
+  }
+
+  @Benchmark
+  public List<Unit> getTransports() {
+    return Match.getMatches(units, Matches.UnitIsTransport);
+  }
+
+  @Benchmark
+  public List<Unit> getLandCombatUnits() {
+    return Match.getMatches(units, landCombatUnits);
+  }
+}
@@ -0,0 +1,52 @@
+package games.strategy.triplea.delegate;
+
+import java.util.Collections;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import games.strategy.engine.data.GameData;
+import games.strategy.engine.data.Route;
+import games.strategy.triplea.delegate.dataObjects.MoveValidationResult;
+import games.strategy.triplea.xml.TestMapGameData;
+
+/**
+ * Validates moving the units of the map's busiest frontline into the enemy territory, as a combat move.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Fork(1)
+@Warmup(iterations = 5)
+@Measurement(iterations = 5)
+public class MoveValidatorBenchmark {
+  @Param({"BIG_WORLD_1942", "LHTR", "PACT_OF_STEEL_2"})
+  public TestMapGameData map;
+
+  private GameData data;
+  private Frontline frontline;
+  private Route route;
+
+  @Setup
+  public void setUp() throws Exception {
+    data = map.getGameData();
+    frontline = Frontline.find(data);
+    route = new Route(frontline.getFrom(), frontline.getTo());
+  }
+
+  @Benchmark
+  public MoveValidationResult validateMove() {
+    return MoveValidator.validateMove(frontline.getAttackingUnits(), route, frontline.getAttacker(),
+        Collections.emptyList(), Collections.emptyMap(), false, Collections.emptyList(), data);
+  }
+}
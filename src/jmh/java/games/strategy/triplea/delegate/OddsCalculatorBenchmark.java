@@ -0,0 +1,65 @@
+package games.strategy.triplea.delegate;
+
+import java.util.Collections;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import games.strategy.engine.data.GameData;
+import games.strategy.triplea.oddsCalculator.ta.AggregateResults;
+import games.strategy.triplea.oddsCalculator.ta.OddsCalculator;
+import games.strategy.triplea.xml.TestMapGameData;
+
+/**
+ * Simulates the battle for the map's busiest frontline, both with the compiled battle and with the full battle engine.
+ * Each operation fights the battle {@link #RUNS} times.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Fork(1)
+@Warmup(iterations = 5)
+@Measurement(iterations = 5)
+public class OddsCalculatorBenchmark {
+  private static final int RUNS = 200;
+
+  @Param({"BIG_WORLD_1942", "LHTR", "PACT_OF_STEEL_2"})
+  public TestMapGameData map;
+
+  @Param({"true", "false"})
+  public boolean compiled;
+
+  private OddsCalculator calculator;
+
+  @Setup
+  public void setUp() throws Exception {
+    final GameData data = map.getGameData();
+    final Frontline frontline = Frontline.find(data);
+    calculator = new OddsCalculator(data);
+    calculator.setUseCompiledBattle(compiled);
+    calculator.setCalculateData(frontline.getAttacker(), frontline.getDefender(), frontline.getTo(),
+        frontline.getAttackingUnits(), frontline.getDefendingUnits(), Collections.emptyList(),
+        TerritoryEffectHelper.getEffects(frontline.getTo()), RUNS);
+  }
+
+  @TearDown
+  public void tearDown() {
+    calculator.shutdown();
+  }
+
+  @Benchmark
+  public AggregateResults calculate() {
+    return calculator.calculate();
+  }
+}
@@ -1,15 +1,10 @@
 package games.strategy.engine.data;
 
-import java.util.ArrayList;
 import java.util.Collections;
 import java.util.HashMap;
-import java.util.HashSet;
-import java.util.List;
 import java.util.Map;
-import java.util.Set;
 import java.util.logging.Logger;
 
-import games.strategy.triplea.delegate.Matches;
 import games.strategy.util.Match;
 
 public class CompositeRouteFinder {
@@ -39,65 +34,19 @@ public class CompositeRouteFinder {
   }
 
   Route findRoute(final Territory start, final Territory end) {
-    final Set<Territory> allMatchingTers =
-        new HashSet<>(Match.getMatches(m_map.getTerritories(), Match.anyOf(m_matches.keySet())));
     final Map<Territory, Integer> terScoreMap = createScoreMap();
-    final Map<Territory, Integer> routeScoreMap = new HashMap<>();
-    int bestRouteToEndScore = Integer.MAX_VALUE;
-    final Map<Territory, Territory> previous = new HashMap<>();
-    List<Territory> routeLeadersToProcess = new ArrayList<>();
-    for (final Territory ter : m_map.getNeighbors(start, Matches.territoryIsInList(allMatchingTers))) {
-      final int routeScore = terScoreMap.get(start) + terScoreMap.get(ter);
-      routeScoreMap.put(ter, routeScore);
-      routeLeadersToProcess.add(ter);
-      previous.put(ter, start);
-    }
-    while (routeLeadersToProcess.size() > 0) {
-      final List<Territory> newLeaders = new ArrayList<>();
-      for (final Territory oldLeader : routeLeadersToProcess) {
-        for (final Territory ter : m_map.getNeighbors(oldLeader, Matches.territoryIsInList(allMatchingTers))) {
-          final int routeScore = routeScoreMap.get(oldLeader) + terScoreMap.get(ter);
-          if (routeLeadersToProcess.contains(ter) || ter.equals(start)) {
-            continue;
-          }
-          if (previous.containsKey(ter)) { // If we're bumping into an existing route
-            if (routeScore >= routeScoreMap.get(ter)) {
-              continue;
-            }
-          }
-          if (bestRouteToEndScore <= routeScore) {
-            // Ignore this route leader, as we know we already have a better route
-            continue;
-          }
-          routeScoreMap.put(ter, routeScore);
-          newLeaders.add(ter);
-          previous.put(ter, oldLeader);
-          if (ter.equals(end)) {
-            if (routeScore < bestRouteToEndScore) {
-              bestRouteToEndScore = routeScore;
-            }
-          }
-        }
+    final int minimumScore = m_matches.isEmpty() ? 0 : Collections.min(m_matches.values());
+    return m_map.getCheapestRoute(start, end, Match.anyOf(m_matches.keySet()), new RouteCost() {
+      @Override
+      public int getCost(final Territory from, final Territory to) {
+        return terScoreMap.get(to);
       }
-      routeLeadersToProcess = newLeaders;
-    }
-    if (bestRouteToEndScore == Integer.MAX_VALUE) {
-      return null;
-    }
-    return assembleRoute(start, end, previous);
-  }
 
-  private static Route assembleRoute(final Territory start, final Territory end,
-      final Map<Territory, Territory> previous) {
-    final List<Territory> routeTers = new ArrayList<>();
-    Territory curTer = end;
-    while (previous.containsKey(curTer)) {
-      routeTers.add(curTer);
-      curTer = previous.get(curTer);
-    }
-    routeTers.add(start);
-    Collections.reverse(routeTers);
-    return new Route(routeTers);
+      @Override
+      public int getMinimumCost() {
+        return minimumScore;
+      }
+    });
   }
 
   private Map<Territory, Integer> createScoreMap() {
@@ -26,6 +26,7 @@ import games.strategy.engine.framework.message.PlayerListing;
 import games.strategy.engine.history.History;
 import games.strategy.thread.LockUtil;
 import games.strategy.triplea.ResourceLoader;
+import games.strategy.triplea.TripleAUnit;
 import games.strategy.util.Tuple;
 import games.strategy.util.Version;
 
@@ -116,6 +117,11 @@ public class GameData implements Serializable {
   private void readObject(final ObjectInputStream in) throws IOException, ClassNotFoundException {
     in.defaultReadObject();
     lockUtil = LockUtil.INSTANCE;
+    // in map order first, so a transport's cargo is listed in the order of the units in its territory
+    for (final Territory territory : map) {
+      TripleAUnit.addToCargo(territory.getUnits().getUnits());
+    }
+    TripleAUnit.addToCargo(unitsList.getUnits());
   }
 
   /**
@@ -30,6 +30,8 @@ public class GameMap extends GameDataComponent implements Iterable<Territory> {
   // otherwise, m_gridDimensions.length is the number of dimensions,
   // and each element is the size of a dimension
   private int[] m_gridDimensions = null;
+  // built on first use, and thrown away whenever territories or connections change
+  private transient volatile RoutingIndex routingIndex = null;
 
   GameMap(final GameData data) {
     super(data);
@@ -75,6 +77,7 @@ public class GameMap extends GameDataComponent implements Iterable<Territory> {
 
   protected void reorderTerritoryList() {
     Collections.sort(m_territories, TERRITORY_GRID_ORDERING);
+    routingIndex = null;
   }
 
   private static Comparator<Territory> TERRITORY_GRID_ORDERING = (t1, t2) -> {
@@ -150,6 +153,7 @@ public class GameMap extends GameDataComponent implements Iterable<Territory> {
     m_territories.add(t1);
     m_connections.put(t1, Collections.emptySet());
     m_territoryLookup.put(t1.getName(), t1);
+    routingIndex = null;
   }
 
   /**
@@ -187,6 +191,16 @@ public class GameMap extends GameDataComponent implements Iterable<Territory> {
     final Set<Territory> modified = new HashSet<>(current);
     modified.add(to);
     m_connections.put(from, Collections.unmodifiableSet(modified));
+    routingIndex = null;
+  }
+
+  private RoutingIndex getRoutingIndex() {
+    RoutingIndex index = routingIndex;
+    if (index == null) {
+      index = new RoutingIndex(m_territories, m_connections);
+      routingIndex = index;
+    }
+    return index;
   }
 
   /**
@@ -258,6 +272,10 @@ public class GameMap extends GameDataComponent implements Iterable<Territory> {
     if (distance == 1) {
       return start;
     }
+    final RoutingIndex routingIndex = getRoutingIndex();
+    if (routingIndex.canAnswer(territory, null, Matches.TerritoryIsLandOrWater)) {
+      return routingIndex.getNeighbors(territory, distance, Matches.TerritoryIsLandOrWater);
+    }
     final Set<Territory> neighbors = getNeighbors(start, new HashSet<>(start), --distance);
     neighbors.remove(territory);
     return neighbors;
@@ -279,6 +297,10 @@ public class GameMap extends GameDataComponent implements Iterable<Territory> {
     if (distance == 1) {
       return start;
     }
+    final RoutingIndex routingIndex = getRoutingIndex();
+    if (routingIndex.canAnswer(territory, null, cond)) {
+      return routingIndex.getNeighbors(territory, distance, cond);
+    }
     final Set<Territory> neighbors = getNeighbors(start, new HashSet<>(start), --distance, cond);
     neighbors.remove(territory);
     return neighbors;
@@ -362,6 +384,10 @@ public class GameMap extends GameDataComponent implements Iterable<Territory> {
     if (t1 == t2) {
       return new Route(t1);
     }
+    final RoutingIndex routingIndex = getRoutingIndex();
+    if (routingIndex.canAnswer(t1, t2, cond)) {
+      return routingIndex.getRoute(t1, t2, cond);
+    }
     if (getNeighbors(t1, cond).contains(t2)) {
       return new Route(t1, t2);
     }
@@ -395,6 +421,72 @@ public class GameMap extends GameDataComponent implements Iterable<Territory> {
     return getRoute(t1, t2, Match.anyOf(Matches.territoryIs(t2), match));
   }
 
+  /**
+   * @param t1
+   *        start territory of the route
+   * @param t2
+   *        end territory of the route
+   * @param cond
+   *        condition that covered territories of the route must match
+   * @param cost
+   *        the cost of each step of the route
+   * @return the route between two territories with the lowest total cost so that covered territories match the
+   *         condition, or null if no route exists.
+   */
+  public Route getCheapestRoute(final Territory t1, final Territory t2, final Match<Territory> cond,
+      final RouteCost cost) {
+    if (t1 == t2) {
+      return new Route(t1);
+    }
+    final RoutingIndex routingIndex = getRoutingIndex();
+    if (routingIndex.getId(t1) < 0 || routingIndex.getId(t2) < 0) {
+      return null;
+    }
+    return new WeightedRouteFinder(routingIndex, cond, cost).findRoute(t1, t2);
+  }
+
+  /**
+   * Finds a shortest route, and among all shortest routes, one whose covered territories all match the earliest
+   * possible preference. Use this instead of trying {@link #getRoute(Territory, Territory, Match)} once for each
+   * preference.
+   *
+   * @param t1
+   *        start territory of the route
+   * @param t2
+   *        end territory of the route
+   * @param cond
+   *        condition that covered territories of the route must match
+   * @param preferences
+   *        conditions the covered territories of the route should match, the most important first; at most 8
+   * @return a shortest route between two territories so that covered territories match the condition, or null if no
+   *         route exists.
+   */
+  public Route getPreferredRoute(final Territory t1, final Territory t2, final Match<Territory> cond,
+      final List<Match<Territory>> preferences) {
+    if (t1 == t2) {
+      return new Route(t1);
+    }
+    final RoutingIndex routingIndex = getRoutingIndex();
+    if (routingIndex.getId(t1) < 0 || routingIndex.getId(t2) < 0) {
+      return null;
+    }
+    return new PreferredRouteFinder(routingIndex, cond, preferences).findRoute(t1, t2);
+  }
+
+  /**
+   * Same as {@link #getPreferredRoute(Territory, Territory, Match, List)}, except that the end territory does not need
+   * to match the condition or any preference.
+   */
+  public Route getPreferredRoute_IgnoreEnd(final Territory t1, final Territory t2, final Match<Territory> cond,
+      final List<Match<Territory>> preferences) {
+    final Match<Territory> isEnd = Matches.territoryIs(t2);
+    final List<Match<Territory>> preferencesIgnoringEnd = new ArrayList<>(preferences.size());
+    for (final Match<Territory> preference : preferences) {
+      preferencesIgnoringEnd.add(Match.anyOf(isEnd, preference));
+    }
+    return getPreferredRoute(t1, t2, Match.anyOf(isEnd, cond), preferencesIgnoringEnd);
+  }
+
   /**
    * A composite route between two territories
    * Example set of matches: [Friendly Land, score: 1] [Enemy Land, score: 2] [Neutral Land, score = 4]
@@ -458,6 +550,10 @@ public class GameMap extends GameDataComponent implements Iterable<Territory> {
     if (t1.equals(t2)) {
       return 0;
     }
+    final RoutingIndex routingIndex = getRoutingIndex();
+    if (routingIndex.canAnswer(t1, t2, cond)) {
+      return routingIndex.getDistance(t1, t2, cond);
+    }
     final Set<Territory> frontier = new HashSet<>();
     frontier.add(t1);
     return getDistance(0, new HashSet<>(), frontier, t2, cond);
@@ -554,6 +650,9 @@ public class GameMap extends GameDataComponent implements Iterable<Territory> {
     return m_territories.iterator();
   }
 
+  /**
+   * @return All territories owned by the given player, in map order.
+   */
   public List<Territory> getTerritoriesOwnedBy(final PlayerID player) {
     final Iterator<Territory> iter = m_territories.iterator();
     final List<Territory> owner = new ArrayList<>();
@@ -588,6 +687,7 @@ public class GameMap extends GameDataComponent implements Iterable<Territory> {
    * If the actual territories in the map are deleted, or new ones added, call this.
    */
   public void notifyChanged() {
+    routingIndex = null;
     getData().notifyMapDataChanged();
   }
 }
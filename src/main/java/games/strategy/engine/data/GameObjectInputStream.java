@@ -3,8 +3,10 @@ package games.strategy.engine.data;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.ObjectInputStream;
+import java.util.Collections;
 
 import games.strategy.engine.framework.GameObjectStreamFactory;
+import games.strategy.triplea.TripleAUnit;
 
 /**
  * Please refer to the comments on GameObjectOutputStream.
@@ -57,6 +59,7 @@ public class GameObjectInputStream extends ObjectInputStream {
         return local;
       }
       getData().getUnits().put(unit);
+      TripleAUnit.addToCargo(Collections.singleton(unit));
       return unit;
     } finally {
       m_dataSource.getData().releaseReadLock();
@@ -4,6 +4,8 @@ import java.io.IOException;
 import java.io.ObjectOutputStream;
 import java.io.OutputStream;
 
+import games.strategy.engine.data.changefactory.CompactChange;
+
 /**
  * To maintain == relationships and the singleton nature of many classes in GameData
  * we do some work in the ObjectSteam.
@@ -16,6 +18,8 @@ import java.io.OutputStream;
  * This ensures the state of the territory remains consistent.
  */
 public class GameObjectOutputStream extends ObjectOutputStream {
+  private final boolean compact;
+
   /**
    * Creates a new instance of GameObjectOutputStream.
    *
@@ -23,12 +27,29 @@ public class GameObjectOutputStream extends ObjectOutputStream {
    *        output stream
    */
   public GameObjectOutputStream(final OutputStream output) throws IOException {
+    this(output, false);
+  }
+
+  /**
+   * Creates a new instance of GameObjectOutputStream.
+   *
+   * @param output
+   *        output stream
+   * @param compact
+   *        whether changes are written in their compact form, which only a peer that agreed on
+   *        {@link games.strategy.net.WireProtocol#COMPACT} can read
+   */
+  public GameObjectOutputStream(final OutputStream output, final boolean compact) throws IOException {
     super(output);
+    this.compact = compact;
     enableReplaceObject(true);
   }
 
   @Override
   protected Object replaceObject(final Object obj) throws IOException {
+    if (compact && CompactChange.canEncode(obj)) {
+      return new CompactChange((Change) obj);
+    }
     if (obj instanceof Named) {
       final Named named = (Named) obj;
       if (GameObjectStreamData.canSerialize(named)) {
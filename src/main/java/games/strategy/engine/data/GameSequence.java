@@ -44,6 +44,15 @@ public class GameSequence extends GameDataComponent implements Iterable<GameStep
     }
   }
 
+  /**
+   * Sets the round and the index of the current step, as when the game was saved. Unlike setRoundAndStep, this finds
+   * the right step even when several steps have the same display name and player.
+   */
+  public synchronized void setRoundAndStepIndex(final int currentRound, final int stepIndex) {
+    setStepIndex(stepIndex);
+    m_round = currentRound;
+  }
+
   public void addStep(final GameStep step) {
     m_steps.add(step);
   }
@@ -0,0 +1,133 @@
+package games.strategy.engine.data;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import games.strategy.util.Match;
+
+/**
+ * Finds a shortest route between two territories which, among all shortest routes, satisfies the most important
+ * preference it can.
+ *
+ * <p>
+ * A route satisfies a preference if all of its covered territories match it. Rather than searching once per
+ * preference, a single breadth first search is run over pairs of a territory and the set of preferences the route to
+ * it still satisfies, so every shortest route is considered at once.
+ * </p>
+ */
+class PreferredRouteFinder {
+  static final int MAX_PREFERENCES = 8;
+
+  private final RoutingIndex index;
+  private final Match<Territory> condition;
+  private final List<Match<Territory>> preferences;
+
+  PreferredRouteFinder(final RoutingIndex index, final Match<Territory> condition,
+      final List<Match<Territory>> preferences) {
+    if (preferences.size() > MAX_PREFERENCES) {
+      throw new IllegalArgumentException("At most " + MAX_PREFERENCES + " preferences, not " + preferences.size());
+    }
+    this.index = index;
+    this.condition = condition;
+    this.preferences = preferences;
+  }
+
+  /**
+   * @return A shortest route whose covered territories all match the condition, or null if there is none.
+   */
+  Route findRoute(final Territory startTerritory, final Territory endTerritory) {
+    final int start = index.getId(startTerritory);
+    final int end = index.getId(endTerritory);
+    final int masks = 1 << preferences.size();
+    final int states = index.size() * masks;
+    // the preferences each territory matches, or -1 if it doesn't match the condition, or -2 if not known yet
+    final int[] territoryMasks = new int[index.size()];
+    Arrays.fill(territoryMasks, -2);
+    final int[] distances = new int[states];
+    Arrays.fill(distances, -1);
+    final int[] previous = new int[states];
+    final int[] queue = new int[states];
+    final int startState = start * masks + masks - 1;
+    distances[startState] = 0;
+    previous[startState] = startState;
+    queue[0] = startState;
+    int head = 0;
+    int tail = 1;
+    int bestDistance = Integer.MAX_VALUE;
+    while (head < tail && distances[queue[head]] < bestDistance) {
+      final int state = queue[head++];
+      final int current = state / masks;
+      final int mask = state % masks;
+      for (int i = index.getNeighborStart(current); i < index.getNeighborEnd(current); i++) {
+        final int neighbor = index.getNeighbor(i);
+        final int neighborMask = getMask(neighbor, territoryMasks);
+        if (neighborMask < 0) {
+          continue;
+        }
+        final int next = neighbor * masks + (mask & neighborMask);
+        if (distances[next] < 0) {
+          distances[next] = distances[state] + 1;
+          previous[next] = state;
+          queue[tail++] = next;
+          if (neighbor == end) {
+            bestDistance = distances[next];
+          }
+        }
+      }
+    }
+    if (bestDistance == Integer.MAX_VALUE) {
+      return null;
+    }
+    return getRoute(startState, getBestEndState(end, masks, distances), previous, masks);
+  }
+
+  private int getMask(final int territory, final int[] territoryMasks) {
+    if (territoryMasks[territory] == -2) {
+      final Territory t = index.getTerritory(territory);
+      int mask = -1;
+      if (condition.match(t)) {
+        mask = 0;
+        for (int i = 0; i < preferences.size(); i++) {
+          if (preferences.get(i).match(t)) {
+            mask |= 1 << i;
+          }
+        }
+      }
+      territoryMasks[territory] = mask;
+    }
+    return territoryMasks[territory];
+  }
+
+  /**
+   * All end states that were reached are at the same, shortest, distance. Pick the one satisfying the earliest
+   * preference.
+   */
+  private static int getBestEndState(final int end, final int masks, final int[] distances) {
+    int bestState = -1;
+    int bestPreference = Integer.MAX_VALUE;
+    for (int mask = 0; mask < masks; mask++) {
+      final int state = end * masks + mask;
+      if (distances[state] < 0) {
+        continue;
+      }
+      final int preference = mask == 0 ? masks : Integer.numberOfTrailingZeros(mask);
+      if (preference < bestPreference) {
+        bestPreference = preference;
+        bestState = state;
+      }
+    }
+    return bestState;
+  }
+
+  private Route getRoute(final int startState, final int endState, final int[] previous, final int masks) {
+    final List<Territory> route = new ArrayList<>();
+    for (int state = endState; state != startState; state = previous[state]) {
+      route.add(index.getTerritory(state / masks));
+    }
+    route.add(index.getTerritory(startState / masks));
+    Collections.reverse(route);
+    return new Route(route);
+  }
+}
@@ -0,0 +1,41 @@
+package games.strategy.engine.data;
+
+/**
+ * The cost of moving between two connected territories, used to find the cheapest rather than the shortest route.
+ *
+ * <p>
+ * Costs may depend on the connection (a canal), on the territory being entered (a territory effect or terrain), or on
+ * both (a road between two territories). Costs must never be negative.
+ * </p>
+ */
+@FunctionalInterface
+public interface RouteCost {
+  /**
+   * Every step costs 1, which makes the cheapest route a shortest route.
+   */
+  RouteCost STEPS = new RouteCost() {
+    @Override
+    public int getCost(final Territory from, final Territory to) {
+      return 1;
+    }
+
+    @Override
+    public int getMinimumCost() {
+      return 1;
+    }
+  };
+
+  /**
+   * @return The cost of moving from one territory to a neighboring territory.
+   */
+  int getCost(Territory from, Territory to);
+
+  /**
+   * @return A lower bound for {@link #getCost(Territory, Territory)} over all connections. Route searches estimate the
+   *         cost still to come as this times the remaining number of steps, so a larger bound makes them faster, but
+   *         a bound that is too large makes them miss the cheapest route.
+   */
+  default int getMinimumCost() {
+    return 0;
+  }
+}
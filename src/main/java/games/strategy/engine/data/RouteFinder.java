@@ -10,8 +10,7 @@ import java.util.Set;
 
 import games.strategy.util.Match;
 
-// TODO this class doesn't take movementcost into account... typically the shortest route is the fastest route, but not
-// always...
+// this class only counts steps, use GameMap.getCheapestRoute when steps can cost different amounts
 class RouteFinder {
   private final GameMap m_map;
   private final Match<Territory> m_condition;
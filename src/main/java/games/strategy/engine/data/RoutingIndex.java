@@ -0,0 +1,237 @@
+package games.strategy.engine.data;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+import games.strategy.triplea.delegate.Matches;
+import games.strategy.util.Match;
+
+/**
+ * A read only view of a {@link GameMap}'s territories and connections, built to answer distance and route queries
+ * with array lookups.
+ *
+ * <p>
+ * Territories are numbered in map order and their connections are stored as a compressed adjacency array. For a few
+ * common conditions that never change during a game (any territory, land only and water only), a breadth first
+ * search is run from a territory the first time it is the start of a query, and its distances and predecessors are
+ * kept for all later queries. Queries with any other condition are not handled here.
+ * </p>
+ *
+ * <p>
+ * An index must be thrown away whenever the map's territories or connections change. Instances are thread safe.
+ * </p>
+ */
+final class RoutingIndex {
+  private static final int UNREACHABLE = -1;
+
+  private final List<Territory> territories;
+  private final Map<Territory, Integer> ids;
+  // the neighbors of territory i are neighbors[neighborStart[i]] to neighbors[neighborStart[i + 1] - 1]
+  private final int[] neighborStart;
+  private final int[] neighbors;
+  // the same connections, followed backwards
+  private final int[] reverseNeighborStart;
+  private final int[] reverseNeighbors;
+  private final Map<Match<Territory>, Layers> layers = new IdentityHashMap<>();
+  private final Layers stepsTo;
+
+  RoutingIndex(final List<Territory> territories, final Map<Territory, Set<Territory>> connections) {
+    this.territories = new ArrayList<>(territories);
+    ids = new HashMap<>();
+    for (int i = 0; i < this.territories.size(); i++) {
+      ids.put(this.territories.get(i), i);
+    }
+    final int size = this.territories.size();
+    final List<List<Integer>> adjacent = new ArrayList<>(size);
+    final List<List<Integer>> reverseAdjacent = new ArrayList<>(size);
+    for (int i = 0; i < size; i++) {
+      adjacent.add(new ArrayList<>());
+      reverseAdjacent.add(new ArrayList<>());
+    }
+    for (int i = 0; i < size; i++) {
+      for (final Territory neighbor : connections.get(this.territories.get(i))) {
+        adjacent.get(i).add(ids.get(neighbor));
+        reverseAdjacent.get(ids.get(neighbor)).add(i);
+      }
+    }
+    neighborStart = new int[size + 1];
+    neighbors = toCompressedArray(adjacent, neighborStart);
+    reverseNeighborStart = new int[size + 1];
+    reverseNeighbors = toCompressedArray(reverseAdjacent, reverseNeighborStart);
+    layers.put(Matches.TerritoryIsLandOrWater, new Layers(Matches.TerritoryIsLandOrWater, neighborStart, neighbors));
+    layers.put(Matches.TerritoryIsLand, new Layers(Matches.TerritoryIsLand, neighborStart, neighbors));
+    layers.put(Matches.TerritoryIsWater, new Layers(Matches.TerritoryIsWater, neighborStart, neighbors));
+    stepsTo = new Layers(Matches.TerritoryIsLandOrWater, reverseNeighborStart, reverseNeighbors);
+  }
+
+  private static int[] toCompressedArray(final List<List<Integer>> adjacent, final int[] start) {
+    int count = 0;
+    for (int i = 0; i < adjacent.size(); i++) {
+      start[i] = count;
+      count += adjacent.get(i).size();
+    }
+    start[adjacent.size()] = count;
+    final int[] compressed = new int[count];
+    for (int i = 0; i < adjacent.size(); i++) {
+      for (int j = 0; j < adjacent.get(i).size(); j++) {
+        compressed[start[i] + j] = adjacent.get(i).get(j);
+      }
+    }
+    return compressed;
+  }
+
+  int size() {
+    return territories.size();
+  }
+
+  /**
+   * @return The index of the territory, or -1 if it is not on the map.
+   */
+  int getId(final Territory territory) {
+    final Integer id = ids.get(territory);
+    return id == null ? -1 : id;
+  }
+
+  Territory getTerritory(final int id) {
+    return territories.get(id);
+  }
+
+  /**
+   * @return Where the neighbors of the territory start in {@link #getNeighbor(int)}.
+   */
+  int getNeighborStart(final int id) {
+    return neighborStart[id];
+  }
+
+  /**
+   * @return Where the neighbors of the territory end (exclusive) in {@link #getNeighbor(int)}.
+   */
+  int getNeighborEnd(final int id) {
+    return neighborStart[id + 1];
+  }
+
+  int getNeighbor(final int index) {
+    return neighbors[index];
+  }
+
+  /**
+   * @return The fewest steps needed to get from a territory to another, ignoring any condition, or -1 if it cannot be
+   *         reached at all.
+   */
+  int getSteps(final int from, final int to) {
+    return stepsTo.getRow(to)[from];
+  }
+
+  /**
+   * @return Whether queries with the given territories and condition can be answered by this index.
+   */
+  boolean canAnswer(final Territory t1, final Territory t2, final Match<Territory> cond) {
+    return layers.containsKey(cond) && ids.containsKey(t1) && (t2 == null || ids.containsKey(t2));
+  }
+
+  /**
+   * @return The number of steps from t1 to t2 through territories matching the condition, or -1 if there is no such
+   *         route.
+   */
+  int getDistance(final Territory t1, final Territory t2, final Match<Territory> cond) {
+    return layers.get(cond).getRow(ids.get(t1))[ids.get(t2)];
+  }
+
+  /**
+   * @return The shortest route from t1 to t2 through territories matching the condition, or null if there is no such
+   *         route.
+   */
+  Route getRoute(final Territory t1, final Territory t2, final Match<Territory> cond) {
+    final int[] row = layers.get(cond).getRow(ids.get(t1));
+    final int end = ids.get(t2);
+    if (row[end] == UNREACHABLE) {
+      return null;
+    }
+    final int size = territories.size();
+    final List<Territory> route = new ArrayList<>(row[end] + 1);
+    for (int current = end; route.size() <= row[end]; current = row[size + current]) {
+      route.add(territories.get(current));
+    }
+    Collections.reverse(route);
+    return new Route(route);
+  }
+
+  /**
+   * @return All territories at most the given number of steps away from the territory, through territories matching
+   *         the condition. Does not include the territory itself.
+   */
+  Set<Territory> getNeighbors(final Territory territory, final int distance, final Match<Territory> cond) {
+    final int[] row = layers.get(cond).getRow(ids.get(territory));
+    final Set<Territory> neighbors = new HashSet<>();
+    for (int i = 0; i < territories.size(); i++) {
+      if (row[i] > 0 && row[i] <= distance) {
+        neighbors.add(territories.get(i));
+      }
+    }
+    return neighbors;
+  }
+
+  /**
+   * The breadth first search results for one condition, computed lazily for each start territory.
+   * Each row holds the distance to every territory, followed by the predecessor of every territory on a shortest
+   * route.
+   */
+  private final class Layers {
+    private final boolean[] allowed;
+    private final int[] start;
+    private final int[] adjacent;
+    private final AtomicReferenceArray<int[]> rows;
+
+    Layers(final Match<Territory> cond, final int[] start, final int[] adjacent) {
+      this.start = start;
+      this.adjacent = adjacent;
+      allowed = new boolean[territories.size()];
+      for (int i = 0; i < allowed.length; i++) {
+        allowed[i] = cond.match(territories.get(i));
+      }
+      rows = new AtomicReferenceArray<>(territories.size());
+    }
+
+    int[] getRow(final int from) {
+      int[] row = rows.get(from);
+      if (row == null) {
+        // racing threads compute identical rows, so whichever is stored is fine
+        row = search(from);
+        rows.set(from, row);
+      }
+      return row;
+    }
+
+    private int[] search(final int from) {
+      final int size = territories.size();
+      final int[] row = new int[size * 2];
+      Arrays.fill(row, 0, size, UNREACHABLE);
+      row[from] = 0;
+      row[size + from] = from;
+      final int[] queue = new int[size];
+      queue[0] = from;
+      int head = 0;
+      int tail = 1;
+      while (head < tail) {
+        final int current = queue[head++];
+        for (int i = start[current]; i < start[current + 1]; i++) {
+          final int neighbor = adjacent[i];
+          if (allowed[neighbor] && row[neighbor] == UNREACHABLE) {
+            row[neighbor] = row[current] + 1;
+            row[size + neighbor] = current;
+            queue[tail++] = neighbor;
+          }
+        }
+      }
+      return row;
+    }
+  }
+}
@@ -12,6 +12,8 @@ public class Unit extends GameDataComponent {
   private final GUID m_uid;
   private int m_hits = 0;
   private final UnitType m_type;
+  // the unit collection this unit was last added to, kept up to date by UnitCollection
+  private transient UnitCollection collection;
 
   /**
    * Creates new Unit. Should use a call to UnitType.create(). Owner can be null
@@ -40,27 +42,26 @@ public class Unit extends GameDataComponent {
   }
 
   public UnitAttachment getUnitAttachment() {
-    return (UnitAttachment) m_type.getAttachment("unitAttachment");
+    return m_type.getUnitAttachment();
   }
 
   /**
-   * @deprecated DO NOT USE THIS METHOD if at all possible. It is very slow.
-   *             This can return null if the unit is not in any territories.
-   *             A unit just created, or held by a player after purchasing may not be in a territory.
-   *             A unit can be in exactly 2 territories, if the unit is in the process of moving from one territory to
-   *             another. This
-   *             method will just
-   *             return the first territory found.
-   *             A unit should never be in more than 2 territories.
+   * This can return null if the unit is not in any territories.
+   * A unit just created, or held by a player after purchasing may not be in a territory.
+   * A unit can be in exactly 2 territories, if the unit is in the process of moving from one territory to another.
+   * This method will return the territory the unit was most recently added to.
    */
-  @Deprecated
   protected Territory getTerritoryUnitIsIn() {
-    for (final Territory t : this.getData().getMap().getTerritories()) {
-      if (t.getUnits().getUnits().contains(this)) {
-        return t;
-      }
-    }
-    return null;
+    final NamedUnitHolder holder = collection == null ? null : collection.getHolder();
+    return holder instanceof Territory ? (Territory) holder : null;
+  }
+
+  UnitCollection getCollection() {
+    return collection;
+  }
+
+  void setCollection(final UnitCollection collection) {
+    this.collection = collection;
   }
 
   public int getHits() {
@@ -86,6 +87,9 @@ public class Unit extends GameDataComponent {
       player = PlayerID.NULL_PLAYERID;
     }
     m_owner = player;
+    if (collection != null) {
+      collection.unitOwnerChanged();
+    }
   }
 
   @Override
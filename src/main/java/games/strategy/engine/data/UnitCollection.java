@@ -1,24 +1,35 @@
 package games.strategy.engine.data;
 
+import java.io.IOException;
+import java.io.ObjectInputStream;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.HashMap;
 import java.util.HashSet;
 import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
-import java.util.stream.Collectors;
 
 import games.strategy.util.IntegerMap;
 import games.strategy.util.Match;
 
 /**
  * A collection of units.
+ *
+ * <p>
+ * The units are kept in the order they were added. Membership and the counts of units by type and owner are also
+ * kept in an index, which is built the first time it is needed and then kept up to date as units are added and
+ * removed, so these queries do not have to look at every unit. The index is only read or changed while holding the
+ * collection's lock.
+ * </p>
  */
 public class UnitCollection extends GameDataComponent implements Collection<Unit> {
   private static final long serialVersionUID = -3534037864426122864L;
   private final List<Unit> m_units = new ArrayList<>();
   private final NamedUnitHolder m_holder;
+  private transient Index index;
 
   /**
    * Creates new UnitCollection.
@@ -35,21 +46,55 @@ public class UnitCollection extends GameDataComponent implements Collection<Unit
 
   @Override
   public boolean add(final Unit unit) {
-    final boolean result = m_units.add(unit);
+    final boolean result;
+    synchronized (this) {
+      result = m_units.add(unit);
+      final Index current = index;
+      if (current != null) {
+        current.add(unit);
+      }
+    }
+    unit.setCollection(this);
     m_holder.notifyChanged();
     return result;
   }
 
   @Override
   public boolean addAll(final Collection<? extends Unit> units) {
-    final boolean result = m_units.addAll(units);
+    final boolean result;
+    synchronized (this) {
+      result = m_units.addAll(units);
+      final Index current = index;
+      if (current != null) {
+        units.forEach(current::add);
+      }
+    }
+    for (final Unit unit : units) {
+      unit.setCollection(this);
+    }
     m_holder.notifyChanged();
     return result;
   }
 
   @Override
   public boolean removeAll(final Collection<?> units) {
-    final boolean result = m_units.removeAll(units);
+    final Set<?> toRemove = units instanceof Set ? (Set<?>) units : new HashSet<>(units);
+    final boolean result;
+    synchronized (this) {
+      final Index current = index;
+      result = m_units.removeIf(unit -> {
+        if (!toRemove.contains(unit)) {
+          return false;
+        }
+        if (current != null) {
+          current.remove(unit);
+        }
+        return true;
+      });
+    }
+    for (final Object unit : units) {
+      releaseUnit(unit);
+    }
     m_holder.notifyChanged();
     return result;
   }
@@ -58,25 +103,27 @@ public class UnitCollection extends GameDataComponent implements Collection<Unit
     return m_units.size();
   }
 
-  int getUnitCount(final UnitType type) {
-    return (int) m_units.stream().filter(u -> u.getType().equals(type)).count();
+  synchronized int getUnitCount(final UnitType type) {
+    return getIndex().getUnits(type).size();
   }
 
-  public int getUnitCount(final UnitType type, final PlayerID owner) {
-    return (int) m_units.stream().filter(u -> u.getType().equals(type) && u.getOwner().equals(owner)).count();
+  public synchronized int getUnitCount(final UnitType type, final PlayerID owner) {
+    return getIndex().getUnitsByType(owner).getInt(type);
   }
 
-  int getUnitCount(final PlayerID owner) {
-    return (int) m_units.stream().filter(u -> u.getOwner().equals(owner)).count();
+  synchronized int getUnitCount(final PlayerID owner) {
+    return getIndex().getPlayerUnitCounts().getInt(owner);
   }
 
   @Override
-  public boolean containsAll(final Collection<?> units) {
-    // much faster for large sets
-    if (m_units.size() > 500 && units.size() > 500) {
-      return new HashSet<>(m_units).containsAll(units);
+  public synchronized boolean containsAll(final Collection<?> units) {
+    final Index current = getIndex();
+    for (final Object unit : units) {
+      if (!current.contains(unit)) {
+        return false;
+      }
     }
-    return m_units.containsAll(units);
+    return true;
   }
 
   /**
@@ -86,23 +133,15 @@ public class UnitCollection extends GameDataComponent implements Collection<Unit
    *        maximal number of units
    * @return up to count units of a given type currently in the collection.
    */
-  public Collection<Unit> getUnits(final UnitType type, final int maxUnits) {
+  public synchronized Collection<Unit> getUnits(final UnitType type, final int maxUnits) {
     if (maxUnits == 0) {
       return new ArrayList<>();
     }
     if (maxUnits < 0) {
       throw new IllegalArgumentException("value must be positiive.  Instead its:" + maxUnits);
     }
-    final Collection<Unit> rVal = new ArrayList<>();
-    for (final Unit current : m_units) {
-      if (current.getType().equals(type)) {
-        rVal.add(current);
-        if (rVal.size() == maxUnits) {
-          return rVal;
-        }
-      }
-    }
-    return rVal;
+    final List<Unit> units = getIndex().getUnits(type);
+    return new ArrayList<>(units.subList(0, Math.min(maxUnits, units.size())));
   }
 
   /**
@@ -125,10 +164,11 @@ public class UnitCollection extends GameDataComponent implements Collection<Unit
   /**
    * @return integer map of UnitType.
    */
-  public IntegerMap<UnitType> getUnitsByType() {
+  public synchronized IntegerMap<UnitType> getUnitsByType() {
     final IntegerMap<UnitType> units = new IntegerMap<>();
+    final Index current = getIndex();
     getData().getUnitTypeList().forEach(type -> {
-      final int count = getUnitCount(type);
+      final int count = current.getUnits(type).size();
       if (count > 0) {
         units.put(type, count);
       }
@@ -141,10 +181,8 @@ public class UnitCollection extends GameDataComponent implements Collection<Unit
    *        referring player ID
    * @return map of UnitType (only of units for the specified player).
    */
-  public IntegerMap<UnitType> getUnitsByType(final PlayerID id) {
-    final IntegerMap<UnitType> count = new IntegerMap<>();
-    m_units.stream().filter(unit -> unit.getOwner().equals(id)).forEach(unit -> count.add(unit.getType(), 1));
-    return count;
+  public synchronized IntegerMap<UnitType> getUnitsByType(final PlayerID id) {
+    return new IntegerMap<>(getIndex().getUnitsByType(id));
   }
 
   @Override
@@ -160,22 +198,20 @@ public class UnitCollection extends GameDataComponent implements Collection<Unit
   /**
    * @return a Set of all players who have units in this collection.
    */
-  public Set<PlayerID> getPlayersWithUnits() {
+  public synchronized Set<PlayerID> getPlayersWithUnits() {
     // note nulls are handled by PlayerID.NULL_PLAYERID
-    return m_units.stream().map(unit -> unit.getOwner()).collect(Collectors.toSet());
+    return new HashSet<>(getIndex().getPlayerUnitCounts().keySet());
   }
 
   /**
    * @return The count of units each player has in this collection.
    */
-  public IntegerMap<PlayerID> getPlayerUnitCounts() {
-    final IntegerMap<PlayerID> count = new IntegerMap<>();
-    m_units.stream().forEach(unit -> count.add(unit.getOwner(), 1));
-    return count;
+  public synchronized IntegerMap<PlayerID> getPlayerUnitCounts() {
+    return new IntegerMap<>(getIndex().getPlayerUnitCounts());
   }
 
-  public boolean hasUnitsFromMultiplePlayers() {
-    return getPlayersWithUnits().size() > 1;
+  public synchronized boolean hasUnitsFromMultiplePlayers() {
+    return getIndex().getPlayerUnitCounts().size() > 1;
   }
 
   public NamedUnitHolder getHolder() {
@@ -216,8 +252,8 @@ public class UnitCollection extends GameDataComponent implements Collection<Unit
   }
 
   @Override
-  public boolean contains(Object object) {
-    return m_units.contains(object);
+  public synchronized boolean contains(Object object) {
+    return getIndex().contains(object);
   }
 
   @Override
@@ -232,19 +268,133 @@ public class UnitCollection extends GameDataComponent implements Collection<Unit
 
   @Override
   public boolean remove(Object object) {
-    final boolean result = m_units.remove(object);
+    final boolean result;
+    synchronized (this) {
+      final Index current = index;
+      result = (current == null || current.contains(object)) && m_units.remove(object);
+      if (result && current != null) {
+        current.remove((Unit) object);
+      }
+    }
+    releaseUnit(object);
     m_holder.notifyChanged();
     return result;
   }
 
   @Override
   public boolean retainAll(Collection<?> collection) {
-    return m_units.retainAll(collection);
+    final List<Unit> removed = new ArrayList<>(m_units);
+    removed.removeAll(collection);
+    final boolean result;
+    synchronized (this) {
+      result = m_units.retainAll(collection);
+      index = null;
+    }
+    removed.forEach(this::releaseUnit);
+    return result;
   }
 
   @Override
   public void clear() {
-    m_units.clear();
+    final List<Unit> removed = new ArrayList<>(m_units);
+    synchronized (this) {
+      m_units.clear();
+      index = null;
+    }
+    removed.forEach(this::releaseUnit);
     m_holder.notifyChanged();
   }
+
+  /**
+   * A unit may be added to its new collection before it is removed from its old one, so only forget the collection
+   * of a unit that has not been added anywhere else since.
+   */
+  private void releaseUnit(final Object object) {
+    if (object instanceof Unit && ((Unit) object).getCollection() == this) {
+      ((Unit) object).setCollection(null);
+    }
+  }
+
+  /**
+   * Called when the owner of one of our units changes, as the index counts units by owner.
+   */
+  synchronized void unitOwnerChanged() {
+    index = null;
+  }
+
+  /**
+   * Must be called while holding the collection's lock.
+   */
+  private Index getIndex() {
+    if (index == null) {
+      index = new Index();
+      for (final Unit unit : m_units) {
+        index.add(unit);
+      }
+    }
+    return index;
+  }
+
+  private void readObject(final ObjectInputStream in) throws IOException, ClassNotFoundException {
+    in.defaultReadObject();
+    for (final Unit unit : m_units) {
+      unit.setCollection(this);
+    }
+  }
+
+  /**
+   * The units of a collection by identity, type and owner.
+   */
+  private static final class Index {
+    // how many times each unit is in the collection, which should only ever be once
+    private final Map<Unit, Integer> counts = new HashMap<>();
+    private final Map<UnitType, List<Unit>> unitsByType = new HashMap<>();
+    private final Map<PlayerID, IntegerMap<UnitType>> unitsByOwnerAndType = new HashMap<>();
+    private final IntegerMap<PlayerID> unitsByOwner = new IntegerMap<>();
+
+    boolean contains(final Object unit) {
+      return counts.containsKey(unit);
+    }
+
+    List<Unit> getUnits(final UnitType type) {
+      return unitsByType.getOrDefault(type, Collections.emptyList());
+    }
+
+    IntegerMap<UnitType> getUnitsByType(final PlayerID owner) {
+      final IntegerMap<UnitType> units = unitsByOwnerAndType.get(owner);
+      return units == null ? new IntegerMap<>() : units;
+    }
+
+    IntegerMap<PlayerID> getPlayerUnitCounts() {
+      return unitsByOwner;
+    }
+
+    void add(final Unit unit) {
+      counts.merge(unit, 1, Integer::sum);
+      unitsByType.computeIfAbsent(unit.getType(), type -> new ArrayList<>()).add(unit);
+      unitsByOwnerAndType.computeIfAbsent(unit.getOwner(), owner -> new IntegerMap<>()).add(unit.getType(), 1);
+      unitsByOwner.add(unit.getOwner(), 1);
+    }
+
+    void remove(final Unit unit) {
+      counts.computeIfPresent(unit, (u, count) -> count == 1 ? null : count - 1);
+      final List<Unit> units = unitsByType.get(unit.getType());
+      units.remove(unit);
+      if (units.isEmpty()) {
+        unitsByType.remove(unit.getType());
+      }
+      final IntegerMap<UnitType> ownerUnits = unitsByOwnerAndType.get(unit.getOwner());
+      ownerUnits.add(unit.getType(), -1);
+      if (ownerUnits.getInt(unit.getType()) == 0) {
+        ownerUnits.removeKey(unit.getType());
+      }
+      if (ownerUnits.isEmpty()) {
+        unitsByOwnerAndType.remove(unit.getOwner());
+      }
+      unitsByOwner.add(unit.getOwner(), -1);
+      if (unitsByOwner.getInt(unit.getOwner()) == 0) {
+        unitsByOwner.removeKey(unit.getOwner());
+      }
+    }
+  }
 }
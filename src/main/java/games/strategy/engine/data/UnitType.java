@@ -11,6 +11,7 @@ import java.util.Optional;
 import java.util.Set;
 
 import games.strategy.debug.ClientLogger;
+import games.strategy.triplea.Constants;
 import games.strategy.triplea.TripleAUnit;
 import games.strategy.triplea.attachments.UnitAttachment;
 import games.strategy.triplea.image.UnitImageFactory;
@@ -23,11 +24,37 @@ import games.strategy.util.LocalizeHTML;
  */
 public class UnitType extends NamedAttachable {
   private static final long serialVersionUID = 4885339076798905247L;
+  // nearly every unit match reads the unit attachment, so only look it up by name once
+  private transient volatile UnitAttachment unitAttachment;
 
   public UnitType(final String name, final GameData data) {
     super(name, data);
   }
 
+  /**
+   * Returns the unit attachment of this type, or null if it does not have one yet.
+   */
+  public UnitAttachment getUnitAttachment() {
+    UnitAttachment attachment = unitAttachment;
+    if (attachment == null) {
+      attachment = (UnitAttachment) getAttachment(Constants.UNIT_ATTACHMENT_NAME);
+      unitAttachment = attachment;
+    }
+    return attachment;
+  }
+
+  @Override
+  public void addAttachment(final String key, final IAttachment value) {
+    super.addAttachment(key, value);
+    unitAttachment = null;
+  }
+
+  @Override
+  public void removeAttachment(final String keyString) {
+    super.removeAttachment(keyString);
+    unitAttachment = null;
+  }
+
   public List<Unit> create(final int quantity, final PlayerID owner) {
     return create(quantity, owner, false);
   }
@@ -0,0 +1,161 @@
+package games.strategy.engine.data;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import games.strategy.util.Match;
+
+/**
+ * Finds the cheapest route between two territories with an A* search over a {@link RoutingIndex}.
+ *
+ * <p>
+ * The remaining cost from a territory is estimated as the fewest steps to the end, ignoring the condition, times the
+ * cost's minimum step cost. This never overestimates, so the route found is always a cheapest one. The open set is a
+ * binary heap of territory indices, and the condition is only tested once per territory.
+ * </p>
+ */
+class WeightedRouteFinder {
+  private static final byte UNKNOWN = 0;
+  private static final byte ALLOWED = 1;
+  private static final byte NOT_ALLOWED = 2;
+
+  private final RoutingIndex index;
+  private final Match<Territory> condition;
+  private final RouteCost cost;
+
+  WeightedRouteFinder(final RoutingIndex index, final Match<Territory> condition, final RouteCost cost) {
+    this.index = index;
+    this.condition = condition;
+    this.cost = cost;
+  }
+
+  /**
+   * @return The cheapest route whose covered territories all match the condition, or null if there is none.
+   */
+  Route findRoute(final Territory startTerritory, final Territory endTerritory) {
+    final int start = index.getId(startTerritory);
+    final int end = index.getId(endTerritory);
+    if (index.getSteps(start, end) < 0) {
+      return null;
+    }
+    final int size = index.size();
+    final int minimumCost = Math.max(0, cost.getMinimumCost());
+    final byte[] allowed = new byte[size];
+    final int[] costs = new int[size];
+    Arrays.fill(costs, Integer.MAX_VALUE);
+    final int[] previous = new int[size];
+    final boolean[] closed = new boolean[size];
+    final Heap open = new Heap(size);
+    costs[start] = 0;
+    previous[start] = start;
+    open.add(estimate(start, end, 0, minimumCost), start);
+    while (!open.isEmpty()) {
+      final int current = open.poll();
+      if (current == end) {
+        return getRoute(start, end, previous);
+      }
+      if (closed[current]) {
+        continue;
+      }
+      closed[current] = true;
+      final Territory from = index.getTerritory(current);
+      for (int i = index.getNeighborStart(current); i < index.getNeighborEnd(current); i++) {
+        final int neighbor = index.getNeighbor(i);
+        if (closed[neighbor] || !isAllowed(neighbor, allowed)) {
+          continue;
+        }
+        final int newCost = costs[current] + cost.getCost(from, index.getTerritory(neighbor));
+        if (newCost < costs[neighbor]) {
+          costs[neighbor] = newCost;
+          previous[neighbor] = current;
+          open.add(estimate(neighbor, end, newCost, minimumCost), neighbor);
+        }
+      }
+    }
+    return null;
+  }
+
+  private boolean isAllowed(final int territory, final byte[] allowed) {
+    if (allowed[territory] == UNKNOWN) {
+      allowed[territory] = condition.match(index.getTerritory(territory)) ? ALLOWED : NOT_ALLOWED;
+    }
+    return allowed[territory] == ALLOWED;
+  }
+
+  private long estimate(final int territory, final int end, final int costSoFar, final int minimumCost) {
+    return costSoFar + (long) minimumCost * Math.max(0, index.getSteps(territory, end));
+  }
+
+  private Route getRoute(final int start, final int end, final int[] previous) {
+    final List<Territory> route = new ArrayList<>();
+    for (int current = end; current != start; current = previous[current]) {
+      route.add(index.getTerritory(current));
+    }
+    route.add(index.getTerritory(start));
+    Collections.reverse(route);
+    return new Route(route);
+  }
+
+  /**
+   * A binary min heap of territory indices. A territory may be added again with a lower priority instead of being
+   * moved, and the stale entry is skipped when it comes out.
+   */
+  private static final class Heap {
+    private long[] priorities;
+    private int[] territories;
+    private int size = 0;
+
+    Heap(final int capacity) {
+      priorities = new long[Math.max(1, capacity)];
+      territories = new int[priorities.length];
+    }
+
+    boolean isEmpty() {
+      return size == 0;
+    }
+
+    void add(final long priority, final int territory) {
+      if (size == priorities.length) {
+        priorities = Arrays.copyOf(priorities, size * 2);
+        territories = Arrays.copyOf(territories, size * 2);
+      }
+      int child = size++;
+      while (child > 0) {
+        final int parent = (child - 1) / 2;
+        if (priorities[parent] <= priority) {
+          break;
+        }
+        priorities[child] = priorities[parent];
+        territories[child] = territories[parent];
+        child = parent;
+      }
+      priorities[child] = priority;
+      territories[child] = territory;
+    }
+
+    int poll() {
+      final int first = territories[0];
+      size--;
+      final long priority = priorities[size];
+      final int territory = territories[size];
+      int parent = 0;
+      while (parent * 2 + 1 < size) {
+        int child = parent * 2 + 1;
+        if (child + 1 < size && priorities[child + 1] < priorities[child]) {
+          child++;
+        }
+        if (priority <= priorities[child]) {
+          break;
+        }
+        priorities[parent] = priorities[child];
+        territories[parent] = territories[child];
+        parent = child;
+      }
+      priorities[parent] = priority;
+      territories[parent] = territory;
+      return first;
+    }
+  }
+}
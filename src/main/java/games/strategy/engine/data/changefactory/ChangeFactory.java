@@ -241,6 +241,17 @@ public class ChangeFactory {
   public static Change markNoMovementChange(final Unit unit) {
     return unitPropertyChange(unit, TripleAUnit.get(unit).getMaxMovementAllowed(), TripleAUnit.ALREADY_MOVED);
   }
+
+  /**
+   * Nets changes that are performed one after the other, for example to jump over a stretch of history.
+   *
+   * @param changes
+   *        changes in the order they are performed
+   * @return one change with the same effect, leaving out what later changes overwrite or undo
+   */
+  public static Change netChange(final Collection<Change> changes) {
+    return NetChange.of(changes);
+  }
 }
 
 
@@ -0,0 +1,298 @@
+package games.strategy.engine.data.changefactory;
+
+import java.io.Externalizable;
+import java.io.IOException;
+import java.io.InvalidObjectException;
+import java.io.ObjectInput;
+import java.io.ObjectOutput;
+import java.io.ObjectStreamException;
+import java.io.StreamCorruptedException;
+import java.rmi.dgc.VMID;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import games.strategy.engine.data.Change;
+import games.strategy.engine.data.CompositeChange;
+import games.strategy.engine.data.GameData;
+import games.strategy.engine.data.GameObjectInputStream;
+import games.strategy.engine.data.Unit;
+import games.strategy.net.GUID;
+import games.strategy.net.WireProtocol;
+
+/**
+ * Writes the most common changes sent across the network in a compact, hand written form.
+ *
+ * <p>
+ * Units that already exist are written by their id alone, and strings and id prefixes are only written the first
+ * time they appear in a change. Changes it has no encoding for are written with plain serialization. Units are looked
+ * up only after the whole change has been read, so a change may refer to units added earlier in the same change.
+ * </p>
+ */
+public class CompactChange implements Externalizable {
+  private static final long serialVersionUID = -2815360129744823374L;
+  private static final byte FORMAT = 1;
+  private static final byte COMPOSITE = 0;
+  private static final byte ADD_UNITS = 1;
+  private static final byte REMOVE_UNITS = 2;
+  private static final byte OBJECT_PROPERTY = 3;
+  private static final byte OTHER = 4;
+  private static final byte NULL = 0;
+  private static final byte UNIT = 1;
+  private static final byte INTEGER = 2;
+  private static final byte TRUE = 3;
+  private static final byte FALSE = 4;
+  private static final byte OBJECT = 5;
+
+  private Change change;
+  // only used while writing
+  private transient Map<String, Integer> writtenStrings;
+  private transient Map<VMID, Integer> writtenPrefixes;
+  // only used while reading
+  private transient List<String> readStrings;
+  private transient List<VMID> readPrefixes;
+  private transient Decoded<Change> decoded;
+  private transient GameData data;
+
+  public CompactChange() {}
+
+  public CompactChange(final Change change) {
+    if (!canEncode(change)) {
+      throw new IllegalArgumentException("No compact form for:" + change);
+    }
+    this.change = change;
+  }
+
+  /**
+   * @return Whether the change is worth writing in the compact form.
+   */
+  public static boolean canEncode(final Object object) {
+    return object instanceof CompositeChange || object instanceof AddUnits || object instanceof RemoveUnits
+        || object instanceof ObjectPropertyChange;
+  }
+
+  @Override
+  public void writeExternal(final ObjectOutput out) throws IOException {
+    writtenStrings = new HashMap<>();
+    writtenPrefixes = new HashMap<>();
+    out.writeByte(FORMAT);
+    writeChange(out, change);
+  }
+
+  private void writeChange(final ObjectOutput out, final Change toWrite) throws IOException {
+    if (toWrite instanceof CompositeChange) {
+      final List<Change> changes = ((CompositeChange) toWrite).getChanges();
+      out.writeByte(COMPOSITE);
+      WireProtocol.writeVarInt(out, changes.size());
+      for (final Change child : changes) {
+        writeChange(out, child);
+      }
+    } else if (toWrite instanceof AddUnits) {
+      final AddUnits addUnits = (AddUnits) toWrite;
+      out.writeByte(ADD_UNITS);
+      writeString(out, addUnits.getName());
+      writeString(out, addUnits.getType());
+      // the units are new to the other side, so send all of them
+      WireProtocol.writeVarInt(out, addUnits.getUnits().size());
+      for (final Unit unit : addUnits.getUnits()) {
+        out.writeObject(unit);
+      }
+    } else if (toWrite instanceof RemoveUnits) {
+      final RemoveUnits removeUnits = (RemoveUnits) toWrite;
+      out.writeByte(REMOVE_UNITS);
+      writeString(out, removeUnits.getName());
+      writeString(out, removeUnits.getType());
+      WireProtocol.writeVarInt(out, removeUnits.getUnits().size());
+      for (final Unit unit : removeUnits.getUnits()) {
+        unit.getID().writeCompact(out, writtenPrefixes);
+      }
+    } else if (toWrite instanceof ObjectPropertyChange) {
+      final ObjectPropertyChange propertyChange = (ObjectPropertyChange) toWrite;
+      out.writeByte(OBJECT_PROPERTY);
+      writeValue(out, propertyChange.getObject());
+      writeString(out, propertyChange.getProperty());
+      writeValue(out, propertyChange.getNewValue());
+      writeValue(out, propertyChange.getOldValue());
+    } else {
+      out.writeByte(OTHER);
+      out.writeObject(toWrite);
+    }
+  }
+
+  private void writeValue(final ObjectOutput out, final Object value) throws IOException {
+    if (value == null) {
+      out.writeByte(NULL);
+    } else if (value instanceof Unit) {
+      out.writeByte(UNIT);
+      ((Unit) value).getID().writeCompact(out, writtenPrefixes);
+    } else if (value instanceof Integer && isSmall((Integer) value)) {
+      final int i = (Integer) value;
+      out.writeByte(INTEGER);
+      // zig zag, so small negative values stay small
+      WireProtocol.writeVarInt(out, (i << 1) ^ (i >> 31));
+    } else if (value instanceof Boolean) {
+      out.writeByte((Boolean) value ? TRUE : FALSE);
+    } else {
+      out.writeByte(OBJECT);
+      out.writeObject(value);
+    }
+  }
+
+  private static boolean isSmall(final int i) {
+    return i >= -(1 << 30) && i < 1 << 30;
+  }
+
+  private void writeString(final ObjectOutput out, final String s) throws IOException {
+    final Integer index = writtenStrings.get(s);
+    if (index == null) {
+      WireProtocol.writeVarInt(out, 0);
+      out.writeUTF(s);
+      writtenStrings.put(s, writtenStrings.size());
+    } else {
+      WireProtocol.writeVarInt(out, index + 1);
+    }
+  }
+
+  @Override
+  public void readExternal(final ObjectInput in) throws IOException, ClassNotFoundException {
+    if (!(in instanceof GameObjectInputStream)) {
+      throw new InvalidObjectException("Can only be read from a game stream");
+    }
+    data = ((GameObjectInputStream) in).getData();
+    readStrings = new ArrayList<>();
+    readPrefixes = new ArrayList<>();
+    final byte format = in.readByte();
+    if (format != FORMAT) {
+      throw new InvalidObjectException("Unknown format:" + format);
+    }
+    decoded = readChange(in);
+  }
+
+  private Decoded<Change> readChange(final ObjectInput in) throws IOException, ClassNotFoundException {
+    final byte tag = in.readByte();
+    switch (tag) {
+      case COMPOSITE: {
+        final int size = WireProtocol.readVarInt(in);
+        final List<Decoded<Change>> children = new ArrayList<>(Math.min(size, 1024));
+        for (int i = 0; i < size; i++) {
+          children.add(readChange(in));
+        }
+        return () -> {
+          final List<Change> changes = new ArrayList<>(children.size());
+          for (final Decoded<Change> child : children) {
+            changes.add(child.resolve());
+          }
+          return new CompositeChange(changes);
+        };
+      }
+      case ADD_UNITS: {
+        final String name = readString(in);
+        final String type = readString(in);
+        final int size = WireProtocol.readVarInt(in);
+        final List<Unit> units = new ArrayList<>(Math.min(size, 1024));
+        for (int i = 0; i < size; i++) {
+          units.add((Unit) in.readObject());
+        }
+        return () -> new AddUnits(name, type, units);
+      }
+      case REMOVE_UNITS: {
+        final String name = readString(in);
+        final String type = readString(in);
+        final int size = WireProtocol.readVarInt(in);
+        final List<GUID> ids = new ArrayList<>(Math.min(size, 1024));
+        for (int i = 0; i < size; i++) {
+          ids.add(GUID.readCompact(in, readPrefixes));
+        }
+        return () -> new RemoveUnits(name, type, getUnits(ids));
+      }
+      case OBJECT_PROPERTY: {
+        final Decoded<Object> object = readValue(in);
+        final String property = readString(in);
+        final Decoded<Object> newValue = readValue(in);
+        final Decoded<Object> oldValue = readValue(in);
+        return () -> new ObjectPropertyChange(object.resolve(), property, newValue.resolve(), oldValue.resolve());
+      }
+      case OTHER: {
+        final Change other = (Change) in.readObject();
+        return () -> other;
+      }
+      default:
+        throw new StreamCorruptedException("Unknown change:" + tag);
+    }
+  }
+
+  private Decoded<Object> readValue(final ObjectInput in) throws IOException, ClassNotFoundException {
+    final byte kind = in.readByte();
+    switch (kind) {
+      case NULL:
+        return () -> null;
+      case UNIT: {
+        final GUID id = GUID.readCompact(in, readPrefixes);
+        return () -> getUnits(Collections.singletonList(id)).get(0);
+      }
+      case INTEGER: {
+        final int zigZag = WireProtocol.readVarInt(in);
+        final Integer value = (zigZag >>> 1) ^ -(zigZag & 1);
+        return () -> value;
+      }
+      case TRUE:
+        return () -> Boolean.TRUE;
+      case FALSE:
+        return () -> Boolean.FALSE;
+      case OBJECT: {
+        final Object value = in.readObject();
+        return () -> value;
+      }
+      default:
+        throw new StreamCorruptedException("Unknown value:" + kind);
+    }
+  }
+
+  private String readString(final ObjectInput in) throws IOException {
+    final int index = WireProtocol.readVarInt(in);
+    if (index == 0) {
+      final String s = in.readUTF().intern();
+      readStrings.add(s);
+      return s;
+    } else if (index <= readStrings.size()) {
+      return readStrings.get(index - 1);
+    }
+    throw new StreamCorruptedException("Unknown string:" + index);
+  }
+
+  private List<Unit> getUnits(final Collection<GUID> ids) throws InvalidObjectException {
+    final List<Unit> units = new ArrayList<>(ids.size());
+    data.acquireReadLock();
+    try {
+      for (final GUID id : ids) {
+        final Unit unit = data.getUnits().get(id);
+        if (unit == null) {
+          throw new InvalidObjectException("Unknown unit:" + id);
+        }
+        units.add(unit);
+      }
+    } finally {
+      data.releaseReadLock();
+    }
+    return units;
+  }
+
+  /**
+   * Once the whole change has been read, the units it refers to are all known, so the change can be built.
+   */
+  private Object readResolve() throws ObjectStreamException {
+    return decoded.resolve();
+  }
+
+  @Override
+  public String toString() {
+    return "Compact change:" + change;
+  }
+
+  private interface Decoded<T> {
+    T resolve() throws InvalidObjectException;
+  }
+}
@@ -0,0 +1,220 @@
+package games.strategy.engine.data.changefactory;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+
+import games.strategy.engine.data.Change;
+import games.strategy.engine.data.CompositeChange;
+import games.strategy.engine.data.Unit;
+
+/**
+ * Builds a change with the same effect as a list of changes performed in order, without what later changes in the
+ * list overwrite or undo.
+ *
+ * <p>
+ * Territory owners and unit properties are set once, to the last value they are set to. Resource changes of a player
+ * are added up. The units added to and removed from a territory or player are reduced to the units removed from
+ * those it started with and the units it ends up with that it didn't start with, in the order they were last added.
+ * These changes only set what they change, without reading any other part of the game, so they are netted in the order
+ * they were first made. Any other change is kept as it is, and nothing is netted across it.
+ * </p>
+ *
+ * <p>
+ * Like inverting the changes one by one, inverting the net change puts units back at the end of the territory or
+ * player they were removed from.
+ * </p>
+ */
+final class NetChange {
+  private final List<Change> changes = new ArrayList<>();
+  // the changes since the last change that can't be netted, by what they change, in the order first changed
+  private final Map<Key, Net> pending = new LinkedHashMap<>();
+
+  private NetChange() {}
+
+  static Change of(final Collection<Change> changes) {
+    final NetChange netChange = new NetChange();
+    for (final Change change : changes) {
+      netChange.add(change);
+    }
+    netChange.flush();
+    return new CompositeChange(netChange.changes);
+  }
+
+  private void add(final Change change) {
+    if (change instanceof CompositeChange) {
+      for (final Change child : ((CompositeChange) change).getChanges()) {
+        add(child);
+      }
+    } else if (change instanceof OwnerChange) {
+      final OwnerChange ownerChange = (OwnerChange) change;
+      final Key key = new Key(OwnerChange.class, ownerChange.getTerritory(), null);
+      final Net net = pending.get(key);
+      pending.put(key, new OwnerNet(ownerChange.getTerritory(),
+          net == null ? ownerChange.getOldOwner() : ((OwnerNet) net).oldOwner, ownerChange.getNewOwner()));
+    } else if (change instanceof ObjectPropertyChange && ((ObjectPropertyChange) change).getObject() instanceof Unit) {
+      final ObjectPropertyChange propertyChange = (ObjectPropertyChange) change;
+      final Key key = new Key(ObjectPropertyChange.class, propertyChange.getObject(), propertyChange.getProperty());
+      final Net net = pending.get(key);
+      pending.put(key, new PropertyNet(propertyChange.getObject(), propertyChange.getProperty(),
+          net == null ? propertyChange.getOldValue() : ((PropertyNet) net).oldValue, propertyChange.getNewValue()));
+    } else if (change instanceof ChangeResourceChange) {
+      final ChangeResourceChange resourceChange = (ChangeResourceChange) change;
+      final Key key =
+          new Key(ChangeResourceChange.class, resourceChange.getPlayer(), resourceChange.getResource());
+      final Net net = pending.get(key);
+      pending.put(key, new ResourceNet(resourceChange.getPlayer(), resourceChange.getResource(),
+          (net == null ? 0 : ((ResourceNet) net).quantity) + resourceChange.getQuantity()));
+    } else if (change instanceof AddUnits) {
+      final AddUnits addUnits = (AddUnits) change;
+      getUnitsNet(addUnits.getName(), addUnits.getType()).add(addUnits.getUnits());
+    } else if (change instanceof RemoveUnits) {
+      final RemoveUnits removeUnits = (RemoveUnits) change;
+      getUnitsNet(removeUnits.getName(), removeUnits.getType()).remove(removeUnits.getUnits());
+    } else {
+      flush();
+      changes.add(change);
+    }
+  }
+
+  private UnitsNet getUnitsNet(final String name, final String type) {
+    return (UnitsNet) pending.computeIfAbsent(new Key(UnitsNet.class, name, type), key -> new UnitsNet(name, type));
+  }
+
+  private void flush() {
+    for (final Net net : pending.values()) {
+      net.addTo(changes);
+    }
+    pending.clear();
+  }
+
+  private static final class Key {
+    private final Class<?> kind;
+    private final Object target;
+    private final String attribute;
+
+    Key(final Class<?> kind, final Object target, final String attribute) {
+      this.kind = kind;
+      this.target = target;
+      this.attribute = attribute;
+    }
+
+    @Override
+    public boolean equals(final Object o) {
+      if (!(o instanceof Key)) {
+        return false;
+      }
+      final Key other = (Key) o;
+      return kind == other.kind && Objects.equals(target, other.target) && Objects.equals(attribute, other.attribute);
+    }
+
+    @Override
+    public int hashCode() {
+      return Objects.hash(kind, target, attribute);
+    }
+  }
+
+  private interface Net {
+    void addTo(List<Change> changes);
+  }
+
+  private static final class OwnerNet implements Net {
+    private final String territory;
+    private final String oldOwner;
+    private final String newOwner;
+
+    OwnerNet(final String territory, final String oldOwner, final String newOwner) {
+      this.territory = territory;
+      this.oldOwner = oldOwner;
+      this.newOwner = newOwner;
+    }
+
+    @Override
+    public void addTo(final List<Change> changes) {
+      if (!Objects.equals(oldOwner, newOwner)) {
+        changes.add(new OwnerChange(territory, newOwner, oldOwner));
+      }
+    }
+  }
+
+  private static final class PropertyNet implements Net {
+    private final Object object;
+    private final String property;
+    private final Object oldValue;
+    private final Object newValue;
+
+    PropertyNet(final Object object, final String property, final Object oldValue, final Object newValue) {
+      this.object = object;
+      this.property = property;
+      this.oldValue = oldValue;
+      this.newValue = newValue;
+    }
+
+    @Override
+    public void addTo(final List<Change> changes) {
+      if (!Objects.equals(oldValue, newValue)) {
+        changes.add(new ObjectPropertyChange(object, property, newValue, oldValue));
+      }
+    }
+  }
+
+  private static final class ResourceNet implements Net {
+    private final String player;
+    private final String resource;
+    private final int quantity;
+
+    ResourceNet(final String player, final String resource, final int quantity) {
+      this.player = player;
+      this.resource = resource;
+      this.quantity = quantity;
+    }
+
+    @Override
+    public void addTo(final List<Change> changes) {
+      if (quantity != 0) {
+        changes.add(new ChangeResourceChange(player, resource, quantity));
+      }
+    }
+  }
+
+  private static final class UnitsNet implements Net {
+    private final String name;
+    private final String type;
+    // units the holder started with that were removed
+    private final Set<Unit> removed = new LinkedHashSet<>();
+    // units the holder didn't start with, as they are now at its end
+    private final Set<Unit> added = new LinkedHashSet<>();
+
+    UnitsNet(final String name, final String type) {
+      this.name = name;
+      this.type = type;
+    }
+
+    void add(final Collection<Unit> units) {
+      added.addAll(units);
+    }
+
+    void remove(final Collection<Unit> units) {
+      for (final Unit unit : units) {
+        if (!added.remove(unit)) {
+          removed.add(unit);
+        }
+      }
+    }
+
+    @Override
+    public void addTo(final List<Change> changes) {
+      if (!removed.isEmpty()) {
+        changes.add(new RemoveUnits(name, type, removed));
+      }
+      if (!added.isEmpty()) {
+        changes.add(new AddUnits(name, type, added));
+      }
+    }
+  }
+}
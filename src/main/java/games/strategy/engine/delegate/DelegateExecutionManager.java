@@ -5,6 +5,7 @@ import java.lang.reflect.InvocationTargetException;
 import java.lang.reflect.Method;
 import java.lang.reflect.Proxy;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
 import java.util.concurrent.locks.ReentrantReadWriteLock;
 import java.util.logging.Level;
 import java.util.logging.Logger;
@@ -39,6 +40,7 @@ public class DelegateExecutionManager {
   private final ReentrantReadWriteLock m_readWriteLock = new ReentrantReadWriteLock();
   private final ThreadLocal<Boolean> m_currentThreadHasReadLock = new ThreadLocal<>();
   private volatile boolean m_isGameOver = false;
+  private final AtomicLong executionCount = new AtomicLong();
 
   public void setGameOver() {
     m_isGameOver = true;
@@ -168,14 +170,26 @@ public class DelegateExecutionManager {
     return Proxy.newProxyInstance(implementor.getClass().getClassLoader(), interfaces, ih);
   }
 
+  /**
+   * Lets other threads block delegate execution again, and counts the delegate execution as done.
+   */
   public void leaveDelegateExecution() {
     if (sm_logger.isLoggable(Level.FINE)) {
       sm_logger.fine(Thread.currentThread().getName() + " leaves delegate execution.");
     }
+    executionCount.incrementAndGet();
     m_readWriteLock.readLock().unlock();
     m_currentThreadHasReadLock.set(null);
   }
 
+  /**
+   * @return How many times delegate execution has been left, so that a caller can tell whether delegates may have
+   *         changed the game since it last looked.
+   */
+  public long getExecutionCount() {
+    return executionCount.get();
+  }
+
   public void enterDelegateExecution() {
     if (sm_logger.isLoggable(Level.FINE)) {
       sm_logger.fine(Thread.currentThread().getName() + " enters delegate execution.");
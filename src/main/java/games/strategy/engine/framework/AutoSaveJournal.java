@@ -0,0 +1,404 @@
+package games.strategy.engine.framework;
+
+import java.io.BufferedOutputStream;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.io.OutputStream;
+import java.io.Serializable;
+import java.io.StreamCorruptedException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.zip.CRC32;
+
+import games.strategy.debug.ClientLogger;
+import games.strategy.engine.data.Change;
+import games.strategy.engine.data.GameData;
+import games.strategy.engine.data.GameObjectInputStream;
+import games.strategy.engine.data.GameObjectOutputStream;
+import games.strategy.engine.data.GameSequence;
+import games.strategy.engine.data.PlayerID;
+import games.strategy.engine.delegate.IDelegate;
+import games.strategy.engine.history.EventChild;
+import games.strategy.engine.history.HistoryWriter;
+
+/**
+ * An autosave made of a full save, the checkpoint, followed by a log of what was written to the history since.
+ *
+ * <p>
+ * A full save serializes the whole game, history included, while delegates are blocked, so writing one at every
+ * autosaved step gets slower the longer the game runs. Instead, everything written to the history is logged as it
+ * happens, and an autosave only appends to its file the part of the log it doesn't have yet, along with the current
+ * step and the state of the delegates. Loading reads the checkpoint and replays the log onto it.
+ * </p>
+ *
+ * <p>
+ * Once the log gets larger than the checkpoint, {@link #needsCheckpoint()} asks for a new full save, and each file is
+ * compacted to the new checkpoint the next time it is written. A record cut short by a crash is ignored when loading,
+ * so the game is loaded as of the last complete autosave.
+ * </p>
+ */
+final class AutoSaveJournal {
+  private static final byte[] MAGIC = {'T', 'r', 'i', 'p', 'l', 'e', 'A', 'J'};
+  private static final int FORMAT = 1;
+  private static final byte CHANGE = 0;
+  private static final byte START_EVENT = 1;
+  private static final byte RENDERING_DATA = 2;
+  private static final byte EVENT_CHILD = 3;
+  private static final byte START_STEP = 4;
+  private static final byte START_ROUND = 5;
+  private static final byte END = 6;
+
+  // the gzipped full save the log starts from, which may still be compressing, or null if the log can't be used
+  private CompletableFuture<byte[]> checkpoint = null;
+  private final List<byte[]> records = new ArrayList<>();
+  private long recordsSize = 0;
+  private final Map<File, WrittenFile> writtenFiles = new HashMap<>();
+  private ByteArrayOutputStream currentRecord = null;
+  private ObjectOutputStream currentRecordOut = null;
+
+  /**
+   * Starts a new log from the given full save, which must have been taken while delegates were blocked, but may not be
+   * compressed yet.
+   */
+  synchronized void checkpoint(final CompletableFuture<byte[]> save) {
+    checkpoint = save;
+    records.clear();
+    recordsSize = 0;
+    writtenFiles.clear();
+    currentRecord = null;
+    currentRecordOut = null;
+  }
+
+  /**
+   * @return Whether the next autosave should be a full save, because there is no checkpoint yet or replaying the log
+   *         would cost more than reading a new one.
+   */
+  synchronized boolean needsCheckpoint() {
+    if (checkpoint == null || checkpoint.isCompletedExceptionally()) {
+      return true;
+    }
+    // a checkpoint still being compressed is new enough
+    final byte[] save = checkpoint.getNow(null);
+    return save != null && recordsSize + (currentRecord == null ? 0 : currentRecord.size()) > save.length;
+  }
+
+  synchronized void gameDataChanged(final Change change) {
+    record(CHANGE, change);
+  }
+
+  synchronized void startEvent(final String event) {
+    record(START_EVENT, event);
+  }
+
+  synchronized void setRenderingData(final Object renderingData) {
+    record(RENDERING_DATA, renderingData);
+  }
+
+  synchronized void addChildToEvent(final String text, final Object renderingData) {
+    record(EVENT_CHILD, text, renderingData);
+  }
+
+  synchronized void startNextStep(final String stepName, final String delegateName, final PlayerID player,
+      final String displayName) {
+    record(START_STEP, stepName, delegateName, player, displayName);
+  }
+
+  synchronized void startNextRound(final int round) {
+    record(START_ROUND, round);
+  }
+
+  private void record(final byte tag, final Object... values) {
+    if (checkpoint == null) {
+      return;
+    }
+    try {
+      if (currentRecordOut == null) {
+        currentRecord = new ByteArrayOutputStream();
+        currentRecordOut = new JournalOutputStream(currentRecord);
+      }
+      currentRecordOut.writeByte(tag);
+      for (final Object value : values) {
+        currentRecordOut.writeObject(value);
+      }
+      // objects may change before they are written again, so don't let the next write refer back to this one
+      currentRecordOut.reset();
+      currentRecordOut.flush();
+    } catch (final IOException e) {
+      ClientLogger.logQuietly(e);
+      // the log has a gap, so fall back to a full save
+      checkpoint(null);
+    }
+  }
+
+  /**
+   * Ends the current record with the current step and the state of the delegates. Delegates must be blocked.
+   */
+  synchronized void endRecord(final GameData data) throws IOException {
+    if (checkpoint == null) {
+      throw new IllegalStateException("No checkpoint");
+    }
+    if (currentRecordOut == null) {
+      currentRecord = new ByteArrayOutputStream();
+      currentRecordOut = new JournalOutputStream(currentRecord);
+    }
+    final ObjectOutputStream out = currentRecordOut;
+    out.writeByte(END);
+    data.acquireReadLock();
+    try {
+      final GameSequence sequence = data.getSequence();
+      out.writeInt(sequence.getRound() - sequence.getRoundOffset());
+      out.writeInt(sequence.getStepIndex());
+      final List<IDelegate> delegates = new ArrayList<>();
+      data.getDelegateList().forEach(delegates::add);
+      out.writeInt(delegates.size());
+      for (final IDelegate delegate : delegates) {
+        out.writeObject(delegate.getName());
+        out.writeObject(delegate.saveState());
+      }
+    } finally {
+      data.releaseReadLock();
+    }
+    out.close();
+    final byte[] record = currentRecord.toByteArray();
+    records.add(record);
+    recordsSize += record.length;
+    currentRecord = null;
+    currentRecordOut = null;
+  }
+
+  /**
+   * Brings the file up to date with the records ended so far. This may wait for the checkpoint to be compressed, so
+   * delegates should not be blocked, and the game may go on recording while the file is written.
+   */
+  void write(final File file) throws IOException {
+    final CompletableFuture<byte[]> fileCheckpoint;
+    final List<byte[]> fileRecords;
+    final WrittenFile written;
+    synchronized (this) {
+      if (checkpoint == null) {
+        throw new IllegalStateException("No checkpoint");
+      }
+      fileCheckpoint = checkpoint;
+      fileRecords = new ArrayList<>(records);
+      written = writtenFiles.remove(file);
+    }
+    if (written == null || !file.exists() || file.length() != written.length) {
+      final byte[] save;
+      try {
+        save = BackgroundSaves.get(fileCheckpoint);
+      } catch (final IOException e) {
+        synchronized (this) {
+          if (checkpoint == fileCheckpoint) {
+            checkpoint(null);
+          }
+        }
+        throw e;
+      }
+      try (FileOutputStream sink = new FileOutputStream(file)) {
+        final DataOutputStream out = new DataOutputStream(new BufferedOutputStream(sink));
+        out.write(MAGIC);
+        out.writeInt(FORMAT);
+        out.writeInt(save.length);
+        out.write(save);
+        writeRecords(out, fileRecords, 0);
+        sink.getFD().sync();
+      }
+    } else {
+      try (FileOutputStream sink = new FileOutputStream(file, true)) {
+        writeRecords(new DataOutputStream(new BufferedOutputStream(sink)), fileRecords, written.records);
+        sink.getFD().sync();
+      }
+    }
+    synchronized (this) {
+      // a new checkpoint means the file must be rewritten from it
+      if (checkpoint == fileCheckpoint) {
+        writtenFiles.put(file, new WrittenFile(fileRecords.size(), file.length()));
+      }
+    }
+  }
+
+  private static void writeRecords(final DataOutputStream out, final List<byte[]> records, final int from)
+      throws IOException {
+    for (final byte[] record : records.subList(from, records.size())) {
+      final CRC32 crc = new CRC32();
+      crc.update(record);
+      out.writeInt(record.length);
+      out.write(record);
+      out.writeLong(crc.getValue());
+    }
+    out.flush();
+  }
+
+  /**
+   * @param input A stream that supports marks.
+   *
+   * @return Whether the stream holds a journal rather than a plain save game. The stream is left where it was.
+   */
+  static boolean isJournal(final InputStream input) throws IOException {
+    input.mark(MAGIC.length);
+    final byte[] start = new byte[MAGIC.length];
+    final int read = new DataInputStream(input).read(start);
+    input.reset();
+    return read == MAGIC.length && Arrays.equals(start, MAGIC);
+  }
+
+  /**
+   * Loads the checkpoint of the journal and replays the log onto it.
+   *
+   * @return The game, or null if the checkpoint could not be loaded.
+   */
+  static GameData load(final InputStream input, final GameDataManager manager, final String savegamePath)
+      throws IOException {
+    final DataInputStream in = new DataInputStream(input);
+    final byte[] magic = new byte[MAGIC.length];
+    in.readFully(magic);
+    final int format = in.readInt();
+    if (!Arrays.equals(magic, MAGIC) || format != FORMAT) {
+      throw new IOException("Unknown autosave format: " + format);
+    }
+    final byte[] checkpoint = new byte[in.readInt()];
+    in.readFully(checkpoint);
+    final GameData data = manager.loadGame(new ByteArrayInputStream(checkpoint), savegamePath);
+    if (data == null) {
+      return null;
+    }
+    final GameObjectStreamFactory streamFactory = new GameObjectStreamFactory(data);
+    for (byte[] record = readRecord(in); record != null; record = readRecord(in)) {
+      replay(record, streamFactory, data);
+    }
+    return data;
+  }
+
+  private static byte[] readRecord(final DataInputStream in) throws IOException {
+    final int length;
+    try {
+      length = in.readInt();
+    } catch (final EOFException e) {
+      return null;
+    }
+    final byte[] record = new byte[length];
+    final long expectedCrc;
+    try {
+      in.readFully(record);
+      expectedCrc = in.readLong();
+    } catch (final EOFException e) {
+      System.err.println("Ignoring an autosave record that was not completely written");
+      return null;
+    }
+    final CRC32 crc = new CRC32();
+    crc.update(record);
+    if (crc.getValue() != expectedCrc) {
+      System.err.println("Ignoring a corrupt autosave record");
+      return null;
+    }
+    return record;
+  }
+
+  private static void replay(final byte[] record, final GameObjectStreamFactory streamFactory, final GameData data)
+      throws IOException {
+    final HistoryWriter historyWriter = data.getHistory().getHistoryWriter();
+    try (ObjectInputStream in = new JournalInputStream(streamFactory, new ByteArrayInputStream(record))) {
+      for (byte tag = in.readByte(); tag != END; tag = in.readByte()) {
+        switch (tag) {
+          case CHANGE: {
+            final Change change = (Change) in.readObject();
+            data.performChange(change);
+            historyWriter.addChange(change);
+            break;
+          }
+          case START_EVENT:
+            historyWriter.startEvent((String) in.readObject());
+            break;
+          case RENDERING_DATA:
+            historyWriter.setRenderingData(in.readObject());
+            break;
+          case EVENT_CHILD: {
+            final String text = (String) in.readObject();
+            final Object renderingData = in.readObject();
+            historyWriter.addChildToEvent(new EventChild(text, renderingData));
+            break;
+          }
+          case START_STEP: {
+            final String stepName = (String) in.readObject();
+            final String delegateName = (String) in.readObject();
+            final PlayerID player = (PlayerID) in.readObject();
+            final String displayName = (String) in.readObject();
+            historyWriter.startNextStep(stepName, delegateName, player, displayName);
+            break;
+          }
+          case START_ROUND:
+            historyWriter.startNextRound((Integer) in.readObject());
+            break;
+          default:
+            throw new StreamCorruptedException("Unknown autosave entry: " + tag);
+        }
+      }
+      final int round = in.readInt();
+      data.getSequence().setRoundAndStepIndex(round, in.readInt());
+      final int delegateCount = in.readInt();
+      for (int i = 0; i < delegateCount; i++) {
+        final String name = (String) in.readObject();
+        final Object state = in.readObject();
+        final IDelegate delegate = data.getDelegateList().getDelegate(name);
+        if (delegate != null) {
+          delegate.loadState((Serializable) state);
+        }
+      }
+    } catch (final ClassNotFoundException e) {
+      throw new IOException(e.getMessage());
+    }
+  }
+
+  private static final class WrittenFile {
+    private final int records;
+    private final long length;
+
+    WrittenFile(final int records, final long length) {
+      this.records = records;
+      this.length = length;
+    }
+  }
+
+  /**
+   * Objects that hold on to the game data, such as battles in a delegate's state, refer to the game being replayed
+   * onto instead of writing a copy of it.
+   */
+  private enum GameDataReference {
+    INSTANCE
+  }
+
+  private static final class JournalOutputStream extends GameObjectOutputStream {
+    JournalOutputStream(final OutputStream output) throws IOException {
+      super(output, true);
+    }
+
+    @Override
+    protected Object replaceObject(final Object obj) throws IOException {
+      return obj instanceof GameData ? GameDataReference.INSTANCE : super.replaceObject(obj);
+    }
+  }
+
+  private static final class JournalInputStream extends GameObjectInputStream {
+    JournalInputStream(final GameObjectStreamFactory dataSource, final InputStream input) throws IOException {
+      super(dataSource, input);
+    }
+
+    @Override
+    protected Object resolveObject(final Object obj) throws IOException {
+      return obj == GameDataReference.INSTANCE ? getData() : super.resolveObject(obj);
+    }
+  }
+}
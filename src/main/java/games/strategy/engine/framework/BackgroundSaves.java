@@ -0,0 +1,205 @@
+package games.strategy.engine.framework;
+
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.lang.ref.SoftReference;
+import java.nio.file.Files;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+import games.strategy.debug.ClientLogger;
+import games.strategy.engine.data.GameData;
+
+/**
+ * Saves a game without holding the game up while the save is compressed.
+ *
+ * <p>
+ * Only serializing the game, without compressing it, has to happen while delegate execution is blocked. The
+ * serialized copy is then compressed on a background thread. Saves asked for while the game is still in the state of
+ * the last save share that save, and once compressed it is kept in a temporary file, so sending it to another
+ * observer doesn't encode the game again or keep it in memory. Only the latest save is kept, so each save overwrites
+ * the same file, which is deleted on {@link #shutDown()}.
+ * </p>
+ */
+final class BackgroundSaves {
+  private final GameDataManager gameDataManager = new GameDataManager();
+  // one thread at most, which goes away while there is nothing to compress
+  private final ExecutorService executor =
+      new ThreadPoolExecutor(0, 1, 1, TimeUnit.MINUTES, new LinkedBlockingQueue<>(), BackgroundSaves::newThread);
+  // guarded by this
+  private Save latest = null;
+  // guarded by this
+  private File cacheFile = null;
+
+  /**
+   * @param version The version of the game as it is now, which must change whenever the game does.
+   *
+   * @return The latest save if it was taken from the given version of the game, otherwise null.
+   */
+  synchronized CompletableFuture<byte[]> getSave(final long version) {
+    return latest != null && latest.version == version && !latest.failed() ? latest.getBytes() : null;
+  }
+
+  /**
+   * Takes a copy of the game and compresses it in the background, unless the latest save was taken from the same
+   * version of the game. Delegate execution must be blocked.
+   *
+   * @return The save game bytes, once compressed.
+   */
+  CompletableFuture<byte[]> save(final GameData data, final long version) throws IOException {
+    final CompletableFuture<byte[]> same = getSave(version);
+    if (same != null) {
+      return same;
+    }
+    final byte[] serialized = gameDataManager.serializeGame(data, true);
+    final CompletableFuture<byte[]> compressed = CompletableFuture.supplyAsync(() -> compress(serialized), executor);
+    final Save save = new Save(version, compressed);
+    final File file;
+    synchronized (this) {
+      if (latest != null) {
+        latest.discard();
+      }
+      latest = save;
+      file = getCacheFile();
+    }
+    // only once the previous save is discarded, as they share the file
+    if (file != null) {
+      compressed.thenAcceptAsync(bytes -> save.cache(bytes, file), executor);
+    }
+    return compressed;
+  }
+
+  /**
+   * @return The file saves are cached in, or null if it can't be created, in which case saves are kept in memory.
+   */
+  private synchronized File getCacheFile() {
+    if (cacheFile == null) {
+      try {
+        cacheFile = File.createTempFile("triplea", GameDataFileUtils.getExtension());
+      } catch (final IOException e) {
+        ClientLogger.logQuietly(e);
+      }
+    }
+    return cacheFile;
+  }
+
+  private static Thread newThread(final Runnable r) {
+    final Thread thread = new Thread(r, "Save game compression");
+    thread.setDaemon(true);
+    return thread;
+  }
+
+  private static byte[] compress(final byte[] serialized) {
+    final ByteArrayOutputStream sink = new ByteArrayOutputStream(serialized.length / 4);
+    try {
+      GameDataManager.writeSerializedGame(sink, serialized);
+    } catch (final IOException e) {
+      throw new UncheckedIOException(e);
+    }
+    return sink.toByteArray();
+  }
+
+  /**
+   * Waits for a save to be compressed.
+   */
+  static byte[] get(final CompletableFuture<byte[]> save) throws IOException {
+    try {
+      return save.get();
+    } catch (final InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new IOException(e.getMessage());
+    } catch (final ExecutionException e) {
+      if (e.getCause() instanceof UncheckedIOException) {
+        throw ((UncheckedIOException) e.getCause()).getCause();
+      }
+      throw new IOException(e.getCause());
+    }
+  }
+
+  /**
+   * Deletes the cached save.
+   */
+  synchronized void shutDown() {
+    if (latest != null) {
+      latest.discard();
+      latest = null;
+    }
+    if (cacheFile != null) {
+      if (!cacheFile.delete()) {
+        System.err.println("Could not delete the cached save game: " + cacheFile);
+      }
+      cacheFile = null;
+    }
+  }
+
+  private static final class Save {
+    private final long version;
+    // until the save is cached, or if it can't be
+    private CompletableFuture<byte[]> compressed;
+    private SoftReference<byte[]> recent = null;
+    private File file = null;
+    private boolean discarded = false;
+
+    Save(final long version, final CompletableFuture<byte[]> compressed) {
+      this.version = version;
+      this.compressed = compressed;
+    }
+
+    synchronized CompletableFuture<byte[]> getBytes() {
+      if (file == null) {
+        return compressed;
+      }
+      final byte[] bytes = recent.get();
+      if (bytes != null) {
+        return CompletableFuture.completedFuture(bytes);
+      }
+      final CompletableFuture<byte[]> read = new CompletableFuture<>();
+      try {
+        final byte[] fromFile = Files.readAllBytes(file.toPath());
+        recent = new SoftReference<>(fromFile);
+        read.complete(fromFile);
+      } catch (final IOException e) {
+        read.completeExceptionally(new UncheckedIOException(e));
+      }
+      return read;
+    }
+
+    synchronized boolean failed() {
+      return compressed != null && compressed.isCompletedExceptionally();
+    }
+
+    /**
+     * Writes the save to the file all saves are cached in, unless a newer save has replaced this one.
+     */
+    synchronized void cache(final byte[] bytes, final File cacheFile) {
+      if (discarded) {
+        return;
+      }
+      try {
+        try (FileOutputStream out = new FileOutputStream(cacheFile)) {
+          out.write(bytes);
+        }
+        file = cacheFile;
+        recent = new SoftReference<>(bytes);
+        compressed = null;
+      } catch (final IOException e) {
+        // keep the save in memory instead
+        ClientLogger.logQuietly(e);
+      }
+    }
+
+    /**
+     * Stops the save from being cached, as its file now belongs to a newer save.
+     */
+    synchronized void discard() {
+      discarded = true;
+    }
+  }
+}
@@ -3,6 +3,7 @@ package games.strategy.engine.framework;
 import java.io.File;
 import java.io.FileOutputStream;
 import java.io.IOException;
+import java.io.InputStream;
 import java.util.Map;
 import java.util.Set;
 
@@ -209,9 +210,12 @@ public class ClientGame extends AbstractGame {
   @Override
   public void saveGame(final File f) {
     final IServerRemote server = (IServerRemote) m_remoteMessenger.getRemote(ServerGame.SERVER_REMOTE);
-    final byte[] bytes = server.getSavedGame();
-    try (FileOutputStream fout = new FileOutputStream(f)) {
-      fout.write(bytes);
+    try (InputStream in = new SavedGameInputStream(server, server.startSavedGameTransfer(), null);
+        FileOutputStream fout = new FileOutputStream(f)) {
+      final byte[] buffer = new byte[SavedGameTransfers.CHUNK_SIZE];
+      for (int read = in.read(buffer); read != -1; read = in.read(buffer)) {
+        fout.write(buffer, 0, read);
+      }
     } catch (final IOException e) {
       ClientLogger.logQuietly(e);
       throw new IllegalStateException(e.getMessage());
@@ -1,6 +1,7 @@
 package games.strategy.engine.framework;
 
 import java.io.BufferedInputStream;
+import java.io.ByteArrayInputStream;
 import java.io.ByteArrayOutputStream;
 import java.io.File;
 import java.io.FileInputStream;
@@ -11,6 +12,7 @@ import java.io.ObjectOutputStream;
 import java.io.OutputStream;
 import java.io.Serializable;
 import java.util.Iterator;
+import java.util.function.Consumer;
 import java.util.zip.GZIPInputStream;
 import java.util.zip.GZIPOutputStream;
 
@@ -40,7 +42,19 @@ public class GameDataManager {
   private static final String DELEGATE_DATA_NEXT = "<DelegateData>";
   private static final String DELEGATE_LIST_END = "<EndDelegateList>";
 
-  public GameDataManager() {}
+  private final Consumer<String> headlessNotices;
+
+  public GameDataManager() {
+    this(message -> {
+    });
+  }
+
+  /**
+   * @param headlessNotices Told why a headless host couldn't load a game, so it can pass this on to its players.
+   */
+  public GameDataManager(final Consumer<String> headlessNotices) {
+    this.headlessNotices = headlessNotices;
+  }
 
   public GameData loadGame(final File savedGameFile) throws IOException {
     try (
@@ -57,7 +71,14 @@ public class GameDataManager {
   }
 
   public GameData loadGame(final InputStream inputStream, final String savegamePath) throws IOException {
-    final ObjectInputStream input = new ObjectInputStream(new GZIPInputStream(inputStream));
+    final InputStream input = inputStream.markSupported() ? inputStream : new BufferedInputStream(inputStream);
+    if (AutoSaveJournal.isJournal(input)) {
+      return AutoSaveJournal.load(input, this, savegamePath);
+    }
+    return loadGame(new ObjectInputStream(new GZIPInputStream(input)), savegamePath);
+  }
+
+  private GameData loadGame(final ObjectInputStream input, final String savegamePath) throws IOException {
     try {
       final Version readVersion = (Version) input.readObject();
       final boolean headless = HeadlessGameServer.headless();
@@ -66,7 +87,7 @@ public class GameDataManager {
         if (headless) {
           final String message = "Incompatible game save, we are: " + ClientContext.engineVersion()
               + "  Trying to load game created with: " + readVersion;
-          HeadlessGameServer.sendChat(message);
+          headlessNotices.accept(message);
           System.out.println(message);
           return null;
         }
@@ -156,6 +177,14 @@ public class GameDataManager {
     }
   }
 
+  /**
+   * Reads a game previously written by {@link #serializeGame(GameData, boolean)}, i.e. without the GZIP wrapper used
+   * for save game files.
+   */
+  GameData deserializeGame(final byte[] bytes) throws IOException {
+    return loadGame(new ObjectInputStream(new ByteArrayInputStream(bytes)), null);
+  }
+
   /**
    * Use this to keep compatibility between savegames when it is easy to do so.
    * When it is not easy to do so, just make sure to include the last release's .jar file in the "old" folder for
@@ -219,6 +248,25 @@ public class GameDataManager {
 
   void saveGame(final OutputStream sink, final GameData data, final boolean saveDelegateInfo) throws IOException {
     // write internally first in case of error
+    final byte[] bytes = serializeGame(data, saveDelegateInfo);
+    // now write to file
+    writeSerializedGame(sink, bytes);
+  }
+
+  /**
+   * Writes a game serialized by {@link #serializeGame(GameData, boolean)} in the save game format.
+   */
+  static void writeSerializedGame(final OutputStream sink, final byte[] serializedGame) throws IOException {
+    try (final GZIPOutputStream zippedOut = new GZIPOutputStream(sink)) {
+      zippedOut.write(serializedGame);
+    }
+  }
+
+  /**
+   * Writes the game in the save game format, but without compression. Use this when the bytes never leave the
+   * current process, such as when copying a game.
+   */
+  byte[] serializeGame(final GameData data, final boolean saveDelegateInfo) throws IOException {
     final ByteArrayOutputStream bytes = new ByteArrayOutputStream(25000);
     final ObjectOutputStream outStream = new ObjectOutputStream(bytes);
     outStream.writeObject(games.strategy.engine.ClientContext.engineVersion());
@@ -233,10 +281,8 @@ public class GameDataManager {
     } finally {
       data.releaseReadLock();
     }
-    try (final GZIPOutputStream zippedOut = new GZIPOutputStream(sink)) {
-      // now write to file
-      zippedOut.write(bytes.toByteArray());
-    }
+    outStream.flush();
+    return bytes.toByteArray();
   }
 
   private static void writeDelegates(final GameData data, final ObjectOutputStream out) throws IOException {
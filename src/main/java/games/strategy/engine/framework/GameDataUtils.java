@@ -20,13 +20,22 @@ public class GameDataUtils {
    */
   public static GameData cloneGameData(final GameData data, final boolean copyDelegates) {
     try {
-      final GameDataManager manager = new GameDataManager();
-      ByteArrayOutputStream sink = new ByteArrayOutputStream(10000);
-      manager.saveGame(sink, data, copyDelegates);
-      sink.close();
-      final ByteArrayInputStream source = new ByteArrayInputStream(sink.toByteArray());
-      sink = null;
-      return manager.loadGame(source, null);
+      return SerializedGameData.serialize(data, copyDelegates).deserialize();
+    } catch (final IOException ex) {
+      ClientLogger.logQuietly(ex);
+      return null;
+    }
+  }
+
+  /**
+   * Serialize GameData once, so several deep copies can be deserialized without touching the original again.
+   * <strong>You should have the game data's read or write lock before calling this method</strong>
+   *
+   * @return The serialized game data, or null if the game data could not be serialized.
+   */
+  public static SerializedGameData serializeGameData(final GameData data, final boolean copyDelegates) {
+    try {
+      return SerializedGameData.serialize(data, copyDelegates);
     } catch (final IOException ex) {
       ClientLogger.logQuietly(ex);
       return null;
@@ -10,6 +10,7 @@ import games.strategy.engine.data.GameData;
 import games.strategy.engine.data.GameObjectInputStream;
 import games.strategy.engine.data.GameObjectOutputStream;
 import games.strategy.net.IObjectStreamFactory;
+import games.strategy.net.WireProtocol;
 
 public class GameObjectStreamFactory implements IObjectStreamFactory {
   private GameData m_data;
@@ -28,6 +29,11 @@ public class GameObjectStreamFactory implements IObjectStreamFactory {
     return new GameObjectOutputStream(stream);
   }
 
+  @Override
+  public ObjectOutputStream create(final OutputStream stream, final int wireProtocol) throws IOException {
+    return new GameObjectOutputStream(stream, wireProtocol >= WireProtocol.COMPACT);
+  }
+
   public void setData(final GameData data) {
     m_data = data;
   }
@@ -63,6 +63,7 @@ import games.strategy.util.Version;
 public class GameRunner {
 
   public static final String TRIPLEA_HEADLESS = "triplea.headless";
+  public static final String TRIPLEA_HEADLESS_GAME_COUNT = "triplea.headless.games";
   public static final String TRIPLEA_GAME_HOST_CONSOLE_PROPERTY = "triplea.game.host.console";
   public static final int LOBBY_RECONNECTION_REFRESH_SECONDS_MINIMUM = 21600;
   public static final int LOBBY_RECONNECTION_REFRESH_SECONDS_DEFAULT = 2 * LOBBY_RECONNECTION_REFRESH_SECONDS_MINIMUM;
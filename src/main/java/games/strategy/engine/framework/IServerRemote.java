@@ -3,5 +3,15 @@ package games.strategy.engine.framework;
 import games.strategy.engine.message.IRemote;
 
 public interface IServerRemote extends IRemote {
-  byte[] getSavedGame();
+  /**
+   * Captures the game as it is now, to be read with {@link #getSavedGameChunk(String, int)}.
+   */
+  SavedGameTransfer startSavedGameTransfer();
+
+  /**
+   * @return The bytes of the saved game starting at the given offset, at most one chunk of them.
+   */
+  byte[] getSavedGameChunk(String transferId, int offset);
+
+  void endSavedGameTransfer(String transferId);
 }
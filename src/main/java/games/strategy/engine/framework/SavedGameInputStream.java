@@ -0,0 +1,121 @@
+package games.strategy.engine.framework;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.function.IntConsumer;
+
+import games.strategy.debug.ClientLogger;
+import games.strategy.engine.message.ConnectionLostException;
+
+/**
+ * Reads a saved game from the server one chunk at a time, so neither side needs to send or receive the whole game in
+ * a single message.
+ *
+ * <p>
+ * If getting a chunk fails, it is asked for again a few times before giving up, carrying on from where the transfer
+ * stopped. Closing the stream tells the server it may drop the transfer.
+ * </p>
+ */
+public class SavedGameInputStream extends InputStream {
+  private static final int ATTEMPTS = 3;
+  private final IServerRemote server;
+  private final SavedGameTransfer transfer;
+  private final IntConsumer progressListener;
+  private byte[] chunk = new byte[0];
+  private int chunkPosition = 0;
+  private int offset = 0;
+  private int lastProgress = -1;
+  private boolean closed = false;
+
+  /**
+   * Creates a stream reading the given transfer from the server.
+   *
+   * @param progressListener
+   *        told the percentage of the game read so far each time it changes, may be null
+   */
+  public SavedGameInputStream(final IServerRemote server, final SavedGameTransfer transfer,
+      final IntConsumer progressListener) {
+    this.server = server;
+    this.transfer = transfer;
+    this.progressListener = progressListener;
+  }
+
+  @Override
+  public int read() throws IOException {
+    if (!fill()) {
+      return -1;
+    }
+    return chunk[chunkPosition++] & 0xFF;
+  }
+
+  @Override
+  public int read(final byte[] b, final int off, final int len) throws IOException {
+    if (len == 0) {
+      return 0;
+    }
+    if (!fill()) {
+      return -1;
+    }
+    final int read = Math.min(len, chunk.length - chunkPosition);
+    System.arraycopy(chunk, chunkPosition, b, off, read);
+    chunkPosition += read;
+    return read;
+  }
+
+  @Override
+  public int available() {
+    return chunk.length - chunkPosition;
+  }
+
+  @Override
+  public void close() {
+    if (closed) {
+      return;
+    }
+    closed = true;
+    try {
+      server.endSavedGameTransfer(transfer.getId());
+    } catch (final RuntimeException e) {
+      // the server drops abandoned transfers by itself
+      ClientLogger.logQuietly(e);
+    }
+  }
+
+  private boolean fill() throws IOException {
+    if (chunkPosition < chunk.length) {
+      return true;
+    }
+    if (closed) {
+      throw new IOException("Stream closed");
+    }
+    if (offset >= transfer.getSize()) {
+      return false;
+    }
+    chunk = getChunk();
+    if (chunk.length == 0) {
+      throw new IOException("No data at:" + offset + " of " + transfer);
+    }
+    chunkPosition = 0;
+    offset += chunk.length;
+    final int progress = (int) (100L * offset / transfer.getSize());
+    if (progressListener != null && progress != lastProgress) {
+      lastProgress = progress;
+      progressListener.accept(progress);
+    }
+    return true;
+  }
+
+  private byte[] getChunk() throws IOException {
+    RuntimeException lastError = null;
+    for (int i = 0; i < ATTEMPTS; i++) {
+      try {
+        return server.getSavedGameChunk(transfer.getId(), offset);
+      } catch (final ConnectionLostException e) {
+        throw new IOException("Connection lost while reading:" + transfer, e);
+      } catch (final RuntimeException e) {
+        lastError = e;
+      }
+    }
+    throw new IOException("Could not read:" + transfer + " at:" + offset, lastError);
+  }
+}
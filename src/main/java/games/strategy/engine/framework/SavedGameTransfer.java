@@ -0,0 +1,33 @@
+package games.strategy.engine.framework;
+
+import java.io.Serializable;
+
+/**
+ * A saved game captured on the server, ready to be read in chunks with {@link SavedGameInputStream}.
+ */
+public final class SavedGameTransfer implements Serializable {
+  private static final long serialVersionUID = 4180316524393725142L;
+  private final String id;
+  private final int size;
+
+  SavedGameTransfer(final String id, final int size) {
+    this.id = id;
+    this.size = size;
+  }
+
+  public String getId() {
+    return id;
+  }
+
+  /**
+   * @return The size of the saved game, in bytes.
+   */
+  public int getSize() {
+    return size;
+  }
+
+  @Override
+  public String toString() {
+    return "SavedGameTransfer:" + id + " size:" + size;
+  }
+}
@@ -0,0 +1,77 @@
+package games.strategy.engine.framework;
+
+import java.util.Arrays;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+import games.strategy.net.INode;
+
+/**
+ * The saved games the server has captured and is sending to clients in chunks.
+ *
+ * <p>
+ * Each transfer holds an immutable copy of the game as it was when the transfer started, so the game may go on while
+ * the copy is sent. Clients ask for one chunk at a time, so a slow client never has more than a chunk in flight, and
+ * a client can ask again for a chunk it failed to get. A client only has one transfer at a time: starting another
+ * replaces it, and it is dropped when the client disconnects. Transfers a client abandoned are dropped after a while.
+ * </p>
+ */
+class SavedGameTransfers {
+  static final int CHUNK_SIZE = 64 * 1024;
+  private static final long EXPIRY_MILLIS = TimeUnit.MINUTES.toMillis(10);
+  private final Map<String, Snapshot> snapshots = new ConcurrentHashMap<>();
+
+  SavedGameTransfer start(final INode node, final byte[] savedGame) {
+    removeExpired();
+    end(node);
+    final String id = UUID.randomUUID().toString();
+    snapshots.put(id, new Snapshot(node, savedGame));
+    return new SavedGameTransfer(id, savedGame.length);
+  }
+
+  byte[] getChunk(final String id, final int offset) {
+    removeExpired();
+    final Snapshot snapshot = snapshots.get(id);
+    if (snapshot == null) {
+      throw new IllegalStateException("Unknown or expired transfer:" + id);
+    }
+    if (offset < 0 || offset > snapshot.bytes.length) {
+      throw new IllegalArgumentException("Invalid offset:" + offset + " size:" + snapshot.bytes.length);
+    }
+    snapshot.lastAccess = System.currentTimeMillis();
+    return Arrays.copyOfRange(snapshot.bytes, offset, Math.min(offset + CHUNK_SIZE, snapshot.bytes.length));
+  }
+
+  void end(final String id) {
+    snapshots.remove(id);
+  }
+
+  /**
+   * Drops the transfers of the given node, such as when it disconnects.
+   */
+  void end(final INode node) {
+    snapshots.values().removeIf(snapshot -> snapshot.node.equals(node));
+  }
+
+  int size() {
+    return snapshots.size();
+  }
+
+  private void removeExpired() {
+    final long expired = System.currentTimeMillis() - EXPIRY_MILLIS;
+    snapshots.values().removeIf(snapshot -> snapshot.lastAccess < expired);
+  }
+
+  private static final class Snapshot {
+    private final INode node;
+    private final byte[] bytes;
+    private volatile long lastAccess = System.currentTimeMillis();
+
+    Snapshot(final INode node, final byte[] bytes) {
+      this.node = node;
+      this.bytes = bytes;
+    }
+  }
+}
@@ -0,0 +1,47 @@
+package games.strategy.engine.framework;
+
+import java.io.IOException;
+
+import games.strategy.engine.data.GameData;
+
+/**
+ * The serialized bytes of a {@link GameData} at some point in time, kept so that several copies of the game can be
+ * deserialized from a single serialization.
+ *
+ * <p>
+ * Serializing is the only step that reads the source game data, so its lock only needs to be held while
+ * {@link #serialize(GameData, boolean)} runs, rather than for every copy. Each call to {@link #deserialize()} is still
+ * a full deserialization of the game, costing as much as the second half of
+ * {@link GameDataUtils#cloneGameData(GameData, boolean)}; copies share no state with one another.
+ * </p>
+ */
+public final class SerializedGameData {
+  private final byte[] bytes;
+
+  private SerializedGameData(final byte[] bytes) {
+    this.bytes = bytes;
+  }
+
+  /**
+   * Serializes the current state of the given game data.
+   * <strong>You should have the game data's read or write lock before calling this method</strong>
+   */
+  public static SerializedGameData serialize(final GameData data, final boolean copyDelegates) throws IOException {
+    return new SerializedGameData(new GameDataManager().serializeGame(data, copyDelegates));
+  }
+
+  /**
+   * Creates a new game data from the serialized bytes. Every call returns a distinct copy that shares no mutable state
+   * with the original game or with any other copy.
+   */
+  public GameData deserialize() throws IOException {
+    return new GameDataManager().deserializeGame(bytes);
+  }
+
+  /**
+   * @return The number of serialized bytes.
+   */
+  public int size() {
+    return bytes.length;
+  }
+}
@@ -1,6 +1,5 @@
 package games.strategy.engine.framework;
 
-import java.io.ByteArrayOutputStream;
 import java.io.File;
 import java.io.FileOutputStream;
 import java.io.IOException;
@@ -8,9 +7,12 @@ import java.io.OutputStream;
 import java.util.Collection;
 import java.util.Iterator;
 import java.util.Map;
+import java.util.Properties;
 import java.util.Set;
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
 
 import games.strategy.debug.ClientLogger;
 import games.strategy.debug.ErrorConsole;
@@ -48,7 +50,9 @@ import games.strategy.engine.random.IRandomSource;
 import games.strategy.engine.random.IRemoteRandom;
 import games.strategy.engine.random.PlainRandomSource;
 import games.strategy.engine.random.RandomStats;
+import games.strategy.net.IConnectionChangeListener;
 import games.strategy.net.INode;
+import games.strategy.net.IServerMessenger;
 import games.strategy.net.Messengers;
 import games.strategy.triplea.TripleAPlayer;
 
@@ -68,6 +72,20 @@ public class ServerGame extends AbstractGame {
   private IRandomSource m_randomSource = new PlainRandomSource();
   private IRandomSource m_delegateRandomSource;
   private final DelegateExecutionManager m_delegateExecutionManager = new DelegateExecutionManager();
+  private final SavedGameTransfers savedGameTransfers = new SavedGameTransfers();
+  private final IConnectionChangeListener savedGameTransfersCleaner = new IConnectionChangeListener() {
+    @Override
+    public void connectionRemoved(final INode to) {
+      savedGameTransfers.end(to);
+    }
+
+    @Override
+    public void connectionAdded(final INode to) {}
+  };
+  private final AutoSaveJournal autoSaveJournal = new AutoSaveJournal();
+  private final BackgroundSaves backgroundSaves = new BackgroundSaves();
+  // counts the changes made to the game outside of delegate execution
+  private final AtomicLong gameChanges = new AtomicLong();
   private InGameLobbyWatcherWrapper m_inGameLobbyWatcher;
   private boolean m_needToInitialize = true;
   /**
@@ -99,6 +117,8 @@ public class ServerGame extends AbstractGame {
         assertCorrectCaller();
         m_data.performChange(change);
         m_data.getHistory().getHistoryWriter().addChange(change);
+        autoSaveJournal.gameDataChanged(change);
+        gameChanges.incrementAndGet();
       }
 
       private void assertCorrectCaller() {
@@ -119,17 +139,23 @@ public class ServerGame extends AbstractGame {
       public void startHistoryEvent(final String event) {
         assertCorrectCaller();
         m_data.getHistory().getHistoryWriter().startEvent(event);
+        autoSaveJournal.startEvent(event);
+        gameChanges.incrementAndGet();
       }
 
       @Override
       public void addChildToEvent(final String text, final Object renderingData) {
         assertCorrectCaller();
         m_data.getHistory().getHistoryWriter().addChildToEvent(new EventChild(text, renderingData));
+        autoSaveJournal.addChildToEvent(text, renderingData);
+        gameChanges.incrementAndGet();
       }
 
       protected void setRenderingData(final Object renderingData) {
         assertCorrectCaller();
         m_data.getHistory().getHistoryWriter().setRenderingData(renderingData);
+        autoSaveJournal.setRenderingData(renderingData);
+        gameChanges.incrementAndGet();
       }
 
       @Override
@@ -140,6 +166,8 @@ public class ServerGame extends AbstractGame {
           return;
         }
         m_data.getHistory().getHistoryWriter().startNextStep(stepName, delegateName, player, displayName);
+        autoSaveJournal.startNextStep(stepName, delegateName, player, displayName);
+        gameChanges.incrementAndGet();
       }
 
       // nothing to do, we call this
@@ -149,17 +177,29 @@ public class ServerGame extends AbstractGame {
     m_channelMessenger.registerChannelSubscriber(m_gameModifiedChannel, IGame.GAME_MODIFICATION_CHANNEL);
     setupDelegateMessaging(data);
     m_randomStats = new RandomStats(m_remoteMessenger);
-    final IServerRemote m_serverRemote = () -> {
-      final ByteArrayOutputStream sink = new ByteArrayOutputStream(5000);
-      try {
-        saveGame(sink);
-      } catch (final IOException e) {
-        ClientLogger.logQuietly(e);
-        throw new IllegalStateException(e);
+    final IServerRemote m_serverRemote = new IServerRemote() {
+      @Override
+      public SavedGameTransfer startSavedGameTransfer() {
+        try {
+          return ServerGame.this.startSavedGameTransfer(MessageContext.getSender());
+        } catch (final IOException e) {
+          ClientLogger.logQuietly(e);
+          throw new IllegalStateException(e);
+        }
+      }
+
+      @Override
+      public byte[] getSavedGameChunk(final String transferId, final int offset) {
+        return savedGameTransfers.getChunk(transferId, offset);
+      }
+
+      @Override
+      public void endSavedGameTransfer(final String transferId) {
+        savedGameTransfers.end(transferId);
       }
-      return sink.toByteArray();
     };
     m_remoteMessenger.registerRemote(m_serverRemote, SERVER_REMOTE);
+    ((IServerMessenger) getMessenger()).addConnectionChangeListener(savedGameTransfersCleaner);
   }
 
   public void addObserver(final IObserverWaitingToJoin blockingObserver,
@@ -175,16 +215,17 @@ public class ServerGame extends AbstractGame {
     }
     try {
       final CountDownLatch waitOnObserver = new CountDownLatch(1);
-      final ByteArrayOutputStream sink = new ByteArrayOutputStream(1000);
-      saveGame(sink);
+      final SavedGameTransfer transfer = startSavedGameTransfer(newNode);
       (new Thread(() -> {
         try {
-          blockingObserver.joinGame(sink.toByteArray(), m_playerManager.getPlayerMapping());
+          blockingObserver.joinGame(transfer, m_playerManager.getPlayerMapping());
           waitOnObserver.countDown();
         } catch (final ConnectionLostException cle) {
           System.out.println("Connection lost to observer while joining: " + newNode.getName());
         } catch (final Exception e) {
           ClientLogger.logQuietly(e);
+        } finally {
+          savedGameTransfers.end(transfer.getId());
         }
       }, "Waiting on observer to finish joining: " + newNode.getName())).start();
       try {
@@ -298,8 +339,9 @@ public class ServerGame extends AbstractGame {
     try {
       if (!m_delegateExecutionManager.blockDelegateExecution(16000)) {
         System.err.println("Could not stop delegate execution.");
-        if (HeadlessGameServer.getInstance() != null) {
-          HeadlessGameServer.getInstance().printThreadDumpsAndStatus();
+        final HeadlessGameServer headlessGameServer = HeadlessGameServer.forGame(this);
+        if (headlessGameServer != null) {
+          headlessGameServer.printThreadDumpsAndStatus();
         } else {
           ErrorConsole.getConsole().dumpStacks();
         }
@@ -319,6 +361,7 @@ public class ServerGame extends AbstractGame {
       m_randomStats.shutDown();
       m_channelMessenger.unregisterChannelSubscriber(m_gameModifiedChannel, IGame.GAME_MODIFICATION_CHANNEL);
       m_remoteMessenger.unregisterRemote(SERVER_REMOTE);
+      ((IServerMessenger) getMessenger()).removeConnectionChangeListener(savedGameTransfersCleaner);
       m_vault.shutDown();
       final Iterator<IGamePlayer> localPlayersIter = m_gamePlayers.values().iterator();
       while (localPlayersIter.hasNext()) {
@@ -341,19 +384,53 @@ public class ServerGame extends AbstractGame {
       m_delegateExecutionManager.resumeDelegateExecution();
     }
     m_data.getGameLoader().shutDown();
+    backgroundSaves.shutDown();
     if (HeadlessGameServer.headless()) {
       System.out.println("StopGame successful.");
     }
   }
 
   private void autoSave(final String fileName) {
+    autoSave(fileName, false);
+  }
+
+  /**
+   * Writes an autosave, as a new full save if asked to or if the journal needs a new checkpoint, otherwise by
+   * appending what changed since the file was last written.
+   */
+  private void autoSave(final String fileName, final boolean fullSave) {
     SaveGameFileChooser.ensureMapsFolderExists();
     final File autoSaveDir = new File(ClientContext.folderSettings().getSaveGamePath()
         + (SystemProperties.isWindows() ? "\\" : "/" + "autoSave"));
     if (!autoSaveDir.exists()) {
       autoSaveDir.mkdirs();
     }
-    saveGame(new File(autoSaveDir, fileName));
+    final File file = new File(autoSaveDir, fileName);
+    try {
+      blockDelegateExecution();
+      final CompletableFuture<byte[]> save;
+      try {
+        if (fullSave || autoSaveJournal.needsCheckpoint()) {
+          save = backgroundSaves.save(m_data, getGameVersion());
+          autoSaveJournal.checkpoint(save);
+        } else {
+          save = null;
+          autoSaveJournal.endRecord(m_data);
+        }
+      } finally {
+        m_delegateExecutionManager.resumeDelegateExecution();
+      }
+      // the game may go on while the full save is compressed and the file is written
+      if (save != null) {
+        try (FileOutputStream fout = new FileOutputStream(file)) {
+          fout.write(BackgroundSaves.get(save));
+        }
+      } else {
+        autoSaveJournal.write(file);
+      }
+    } catch (final IOException e) {
+      ClientLogger.logQuietly(e);
+    }
   }
 
   private void autoSaveBefore(final IDelegate currentDelegate) {
@@ -375,6 +452,41 @@ public class ServerGame extends AbstractGame {
   }
 
   private void saveGame(final OutputStream out) throws IOException {
+    out.write(BackgroundSaves.get(save()));
+  }
+
+  /**
+   * Captures the game as it is now, so it can be sent to the given client in chunks while the game goes on.
+   */
+  private SavedGameTransfer startSavedGameTransfer(final INode node) throws IOException {
+    return savedGameTransfers.start(node, BackgroundSaves.get(save()));
+  }
+
+  /**
+   * Delegate execution is only blocked while the game is copied, not while the copy is compressed, and saves of the
+   * same version of the game share one copy.
+   */
+  private CompletableFuture<byte[]> save() throws IOException {
+    final CompletableFuture<byte[]> latest = backgroundSaves.getSave(getGameVersion());
+    if (latest != null) {
+      return latest;
+    }
+    blockDelegateExecution();
+    try {
+      return backgroundSaves.save(m_data, getGameVersion());
+    } finally {
+      m_delegateExecutionManager.resumeDelegateExecution();
+    }
+  }
+
+  /**
+   * @return A number that changes whenever the game may have, either through delegates or the game loop.
+   */
+  private long getGameVersion() {
+    return m_delegateExecutionManager.getExecutionCount() + gameChanges.get();
+  }
+
+  private void blockDelegateExecution() throws IOException {
     try {
       if (!m_delegateExecutionManager.blockDelegateExecution(6000)) {
         throw new IOException("Could not lock delegate execution");
@@ -382,16 +494,12 @@ public class ServerGame extends AbstractGame {
     } catch (final InterruptedException ie) {
       throw new IOException(ie.getMessage());
     }
-    try {
-      new GameDataManager().saveGame(out, m_data);
-    } finally {
-      m_delegateExecutionManager.resumeDelegateExecution();
-    }
   }
 
   private void runStep(final boolean stepIsRestoredFromSavedGame) {
     if (getCurrentStep().hasReachedMaxRunCount()) {
       m_data.getSequence().next();
+      gameChanges.incrementAndGet();
       return;
     }
     if (m_isGameOver) {
@@ -428,10 +536,16 @@ public class ServerGame extends AbstractGame {
     if (m_isGameOver) {
       return;
     }
-    if (m_data.getSequence().next()) {
+    final boolean nextRound = m_data.getSequence().next();
+    gameChanges.incrementAndGet();
+    if (nextRound) {
       m_data.getHistory().getHistoryWriter().startNextRound(m_data.getSequence().getRound());
+      autoSaveJournal.startNextRound(m_data.getSequence().getRound());
+      final Properties properties = HeadlessGameServer.getProperties(this);
+      // the round autosaves are full saves, and start the journal over
       autoSave(m_data.getSequence().getRound() % 2 == 0
-          ? SaveGameFileChooser.getAutoSaveEvenFileName() : SaveGameFileChooser.getAutoSaveOddFileName());
+          ? SaveGameFileChooser.getAutoSaveEvenFileName(properties)
+          : SaveGameFileChooser.getAutoSaveOddFileName(properties), true);
     }
     if (autoSaveThisDelegate && !currentStep.getName().endsWith("Move")) {
       autoSave(getAutoSaveAfterFileNameForDelegate(currentDelegate));
@@ -464,6 +578,7 @@ public class ServerGame extends AbstractGame {
       m_delegateExecutionManager.leaveDelegateExecution();
     }
     getCurrentStep().incrementRunCount();
+    gameChanges.incrementAndGet();
   }
 
   private void startPersistentDelegates() {
@@ -4,8 +4,12 @@ import java.io.File;
 import java.io.InputStream;
 import java.time.Duration;
 import java.time.Instant;
+import java.util.ArrayList;
 import java.util.HashSet;
+import java.util.List;
+import java.util.Properties;
 import java.util.Set;
+import java.util.concurrent.CopyOnWriteArrayList;
 import java.util.concurrent.Executors;
 import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.TimeUnit;
@@ -17,6 +21,7 @@ import games.strategy.engine.ClientContext;
 import games.strategy.engine.chat.Chat;
 import games.strategy.engine.chat.IChatPanel;
 import games.strategy.engine.data.GameData;
+import games.strategy.engine.data.GameStep;
 import games.strategy.engine.data.properties.GameProperties;
 import games.strategy.engine.framework.ArgParser;
 import games.strategy.engine.framework.GameRunner;
@@ -40,12 +45,19 @@ import games.strategy.util.Util;
 
 /**
  * A way of hosting a game, but headless.
+ *
+ * <p>
+ * One process may host several games, each with its own properties, port, server model and lobby watcher. The list of
+ * available maps is read once and shared by all of them.
+ * </p>
  */
 public class HeadlessGameServer {
 
   static final Logger s_logger = Logger.getLogger(HeadlessGameServer.class.getName());
-  private static HeadlessGameServer s_instance = null;
+  private static final List<HeadlessGameServer> instances = new CopyOnWriteArrayList<>();
+  private static AvailableGames availableGames = null;
   private final AvailableGames m_availableGames;
+  private final Properties properties;
   private final GameSelectorModel m_gameSelectorModel;
   private SetupPanelModel m_setupPanelModel = null;
   private final ScheduledExecutorService m_lobbyWatcherResetupThread = Executors.newScheduledThreadPool(1);
@@ -53,17 +65,69 @@ public class HeadlessGameServer {
   private boolean m_shutDown = false;
   private final String startDate = TimeManager.getFullUtcString(Instant.now());
 
-  public static synchronized HeadlessGameServer getInstance() {
-    return s_instance;
-  }
-
-  public static synchronized boolean headless() {
-    if (getInstance() != null) {
+  public static boolean headless() {
+    if (!instances.isEmpty()) {
       return true;
     }
     return Boolean.parseBoolean(System.getProperty(GameRunner.TRIPLEA_HEADLESS, "false"));
   }
 
+  /**
+   * @return The headless server whose game is served by the given messenger, or null if there is none.
+   */
+  public static HeadlessGameServer forMessenger(final IServerMessenger messenger) {
+    for (final HeadlessGameServer instance : instances) {
+      final ServerModel model = instance.getServerModel();
+      if (model != null && model.getMessenger() == messenger) {
+        return instance;
+      }
+    }
+    return null;
+  }
+
+  /**
+   * @return The headless server running the given game, or null if there is none.
+   */
+  public static HeadlessGameServer forGame(final ServerGame game) {
+    for (final HeadlessGameServer instance : instances) {
+      if (instance.m_iGame == game) {
+        return instance;
+      }
+    }
+    return null;
+  }
+
+  /**
+   * @return The headless server choosing its games with the given model, or null if there is none.
+   */
+  public static HeadlessGameServer forGameSelectorModel(final GameSelectorModel model) {
+    for (final HeadlessGameServer instance : instances) {
+      if (instance.m_gameSelectorModel == model) {
+        return instance;
+      }
+    }
+    return null;
+  }
+
+  /**
+   * @return The properties of the headless server running the given game, or the system properties if there is none.
+   */
+  public static Properties getProperties(final ServerGame game) {
+    final HeadlessGameServer instance = forGame(game);
+    return instance == null ? System.getProperties() : instance.getProperties();
+  }
+
+  private static synchronized AvailableGames getSharedAvailableGames() {
+    if (availableGames == null) {
+      availableGames = new AvailableGames();
+    }
+    return availableGames;
+  }
+
+  public Properties getProperties() {
+    return properties;
+  }
+
   public Set<String> getAvailableGames() {
     return new HashSet<>(m_availableGames.getGameNames());
   }
@@ -98,7 +162,9 @@ public class HeadlessGameServer {
       }
       final GameData data = m_gameSelectorModel.getGameData(input);
       if (data == null) {
-        System.out.println("Loading GameData failed for: " + fileName);
+        final String message = "Loading GameData failed for: " + fileName;
+        sendChat(message);
+        System.out.println(message);
         return;
       }
       final String mapNameProperty = data.getProperties().get(Constants.MAP_NAME, "");
@@ -131,55 +197,59 @@ public class HeadlessGameServer {
     }
   }
 
-  public static synchronized void setServerGame(final ServerGame serverGame) {
-    final HeadlessGameServer instance = getInstance();
-    if (instance != null) {
-      instance.m_iGame = serverGame;
-      if (serverGame != null) {
-        System.out.println("Game starting up: " + instance.m_iGame.isGameSequenceRunning() + ", GameOver: "
-            + instance.m_iGame.isGameOver() + ", Players: " + instance.m_iGame.getPlayerManager().toString());
-      }
+  /**
+   * Sets the game this server is running, or null once it is waiting for players again.
+   */
+  public synchronized void setServerGame(final ServerGame serverGame) {
+    m_iGame = serverGame;
+    if (serverGame != null) {
+      System.out.println("Game starting up: " + m_iGame.isGameSequenceRunning() + ", GameOver: "
+          + m_iGame.isGameOver() + ", Players: " + m_iGame.getPlayerManager().toString());
     }
   }
 
-  public static synchronized void log(final String stdout) {
-    final HeadlessGameServer instance = getInstance();
-    if (instance != null) {
+  public static void log(final String stdout) {
+    if (!instances.isEmpty()) {
       System.out.println(stdout);
     }
   }
 
-  public static synchronized void sendChat(final String chatString) {
-    final HeadlessGameServer instance = getInstance();
-    if (instance != null) {
-      final Chat chat = instance.getChat();
-      if (chat != null) {
-        try {
-          chat.sendMessage(chatString, false);
-        } catch (final Exception e) {
-          ClientLogger.logQuietly(e);
-        }
+  /**
+   * Sends a message to the chat of this server's game, if it has one.
+   */
+  public void sendChat(final String chatString) {
+    final Chat chat = getChat();
+    if (chat != null) {
+      try {
+        chat.sendMessage(chatString, false);
+      } catch (final Exception e) {
+        ClientLogger.logQuietly(e);
       }
     }
   }
 
   public String getSalt() {
-    final String encryptedPassword = MD5Crypt.crypt(System.getProperty(GameRunner.LOBBY_GAME_SUPPORT_PASSWORD, ""));
+    final String encryptedPassword = MD5Crypt.crypt(properties.getProperty(GameRunner.LOBBY_GAME_SUPPORT_PASSWORD, ""));
     final String salt = MD5Crypt.getSalt(MD5Crypt.MAGIC, encryptedPassword);
     return salt;
   }
 
   public String remoteShutdown(final String hashedPassword, final String salt) {
-    final String password = System.getProperty(GameRunner.LOBBY_GAME_SUPPORT_PASSWORD, "");
+    final String password = properties.getProperty(GameRunner.LOBBY_GAME_SUPPORT_PASSWORD, "");
     if (password.equals(GameRunner.NO_REMOTE_REQUESTS_ALLOWED)) {
       return "Host not accepting remote requests!";
     }
-    final String localPassword = System.getProperty(GameRunner.LOBBY_GAME_SUPPORT_PASSWORD, "");
+    final String localPassword = properties.getProperty(GameRunner.LOBBY_GAME_SUPPORT_PASSWORD, "");
     final String encryptedPassword = MD5Crypt.crypt(localPassword, salt);
     if (encryptedPassword.equals(hashedPassword)) {
       (new Thread(() -> {
         System.out.println("Remote Shutdown Initiated.");
-        System.exit(0);
+        if (instances.size() > 1) {
+          // only this game is shut down, the others hosted by this process keep running
+          shutdown();
+        } else {
+          System.exit(0);
+        }
       })).start();
       return null;
     }
@@ -188,11 +258,11 @@ public class HeadlessGameServer {
   }
 
   public String remoteStopGame(final String hashedPassword, final String salt) {
-    final String password = System.getProperty(GameRunner.LOBBY_GAME_SUPPORT_PASSWORD, "");
+    final String password = properties.getProperty(GameRunner.LOBBY_GAME_SUPPORT_PASSWORD, "");
     if (password.equals(GameRunner.NO_REMOTE_REQUESTS_ALLOWED)) {
       return "Host not accepting remote requests!";
     }
-    final String localPassword = System.getProperty(GameRunner.LOBBY_GAME_SUPPORT_PASSWORD, "");
+    final String localPassword = properties.getProperty(GameRunner.LOBBY_GAME_SUPPORT_PASSWORD, "");
     final String encryptedPassword = MD5Crypt.crypt(localPassword, salt);
     if (encryptedPassword.equals(hashedPassword)) {
       final ServerGame iGame = m_iGame;
@@ -202,7 +272,7 @@ public class HeadlessGameServer {
           SaveGameFileChooser.ensureMapsFolderExists();
           try {
             iGame.saveGame(new File(
-                ClientContext.folderSettings().getSaveGamePath(), SaveGameFileChooser.getAutoSaveFileName()));
+                ClientContext.folderSettings().getSaveGamePath(), SaveGameFileChooser.getAutoSaveFileName(properties)));
           } catch (final Exception e) {
             ClientLogger.logQuietly(e);
           }
@@ -216,11 +286,11 @@ public class HeadlessGameServer {
   }
 
   public String remoteGetChatLog(final String hashedPassword, final String salt) {
-    final String password = System.getProperty(GameRunner.LOBBY_GAME_SUPPORT_PASSWORD, "");
+    final String password = properties.getProperty(GameRunner.LOBBY_GAME_SUPPORT_PASSWORD, "");
     if (password.equals(GameRunner.NO_REMOTE_REQUESTS_ALLOWED)) {
       return "Host not accepting remote requests!";
     }
-    final String localPassword = System.getProperty(GameRunner.LOBBY_GAME_SUPPORT_PASSWORD, "");
+    final String localPassword = properties.getProperty(GameRunner.LOBBY_GAME_SUPPORT_PASSWORD, "");
     final String encryptedPassword = MD5Crypt.crypt(localPassword, salt);
     if (encryptedPassword.equals(hashedPassword)) {
       final IChatPanel chat = getServerModel().getChatPanel();
@@ -235,11 +305,11 @@ public class HeadlessGameServer {
 
   public String remoteMutePlayer(final String playerName, final int minutes, final String hashedPassword,
       final String salt) {
-    final String password = System.getProperty(GameRunner.LOBBY_GAME_SUPPORT_PASSWORD, "");
+    final String password = properties.getProperty(GameRunner.LOBBY_GAME_SUPPORT_PASSWORD, "");
     if (password.equals(GameRunner.NO_REMOTE_REQUESTS_ALLOWED)) {
       return "Host not accepting remote requests!";
     }
-    final String localPassword = System.getProperty(GameRunner.LOBBY_GAME_SUPPORT_PASSWORD, "");
+    final String localPassword = properties.getProperty(GameRunner.LOBBY_GAME_SUPPORT_PASSWORD, "");
     final String encryptedPassword = MD5Crypt.crypt(localPassword, salt);
     // (48 hours max)
     Instant expire = Instant.now().plus(Duration.ofMinutes(Math.min(60 * 24 * 2, minutes)));
@@ -280,11 +350,11 @@ public class HeadlessGameServer {
   }
 
   public String remoteBootPlayer(final String playerName, final String hashedPassword, final String salt) {
-    final String password = System.getProperty(GameRunner.LOBBY_GAME_SUPPORT_PASSWORD, "");
+    final String password = properties.getProperty(GameRunner.LOBBY_GAME_SUPPORT_PASSWORD, "");
     if (password.equals(GameRunner.NO_REMOTE_REQUESTS_ALLOWED)) {
       return "Host not accepting remote requests!";
     }
-    final String localPassword = System.getProperty(GameRunner.LOBBY_GAME_SUPPORT_PASSWORD, "");
+    final String localPassword = properties.getProperty(GameRunner.LOBBY_GAME_SUPPORT_PASSWORD, "");
     final String encryptedPassword = MD5Crypt.crypt(localPassword, salt);
     if (encryptedPassword.equals(hashedPassword)) {
       (new Thread(() -> {
@@ -319,11 +389,11 @@ public class HeadlessGameServer {
 
   public String remoteBanPlayer(final String playerName, final int hours, final String hashedPassword,
       final String salt) {
-    final String password = System.getProperty(GameRunner.LOBBY_GAME_SUPPORT_PASSWORD, "");
+    final String password = properties.getProperty(GameRunner.LOBBY_GAME_SUPPORT_PASSWORD, "");
     if (password.equals(GameRunner.NO_REMOTE_REQUESTS_ALLOWED)) {
       return "Host not accepting remote requests!";
     }
-    final String localPassword = System.getProperty(GameRunner.LOBBY_GAME_SUPPORT_PASSWORD, "");
+    final String localPassword = properties.getProperty(GameRunner.LOBBY_GAME_SUPPORT_PASSWORD, "");
     final String encryptedPassword = MD5Crypt.crypt(localPassword, salt);
     // milliseconds (30 days max)
     final Instant expire = Instant.now().plus(Duration.ofHours(Math.min(24 * 30, hours)));
@@ -383,19 +453,17 @@ public class HeadlessGameServer {
     return m_shutDown;
   }
 
-  private HeadlessGameServer() {
+  private HeadlessGameServer(final Properties properties) {
     super();
-    if (s_instance != null) {
-      throw new IllegalStateException("Instance already exists");
-    }
-    s_instance = this;
+    this.properties = properties;
+    instances.add(this);
     Runtime.getRuntime().addShutdownHook(new Thread(() -> {
       s_logger.info("Running ShutdownHook.");
       shutdown();
     }));
-    m_availableGames = new AvailableGames();
+    m_availableGames = getSharedAvailableGames();
     m_gameSelectorModel = new GameSelectorModel();
-    final String fileName = System.getProperty(GameRunner.TRIPLEA_GAME_PROPERTY, "");
+    final String fileName = properties.getProperty(GameRunner.TRIPLEA_GAME_PROPERTY, "");
     if (fileName.length() > 0) {
       try {
         final File file = new File(fileName);
@@ -406,17 +474,17 @@ public class HeadlessGameServer {
     }
     final Runnable r = () -> {
       System.out.println("Headless Start");
-      m_setupPanelModel = new HeadlessServerSetupPanelModel(m_gameSelectorModel, null);
+      m_setupPanelModel = new HeadlessServerSetupPanelModel(m_gameSelectorModel, null, this);
       m_setupPanelModel.showSelectType();
       System.out.println("Waiting for users to connect.");
       waitForUsersHeadless();
     };
-    final Thread t = new Thread(r, "Initialize Headless Server Setup Model");
+    final Thread t = new Thread(r, "Initialize Headless Server Setup Model " + getPort());
     t.start();
 
     int reconnect;
     try {
-      final String reconnectionSeconds = System.getProperty(GameRunner.LOBBY_GAME_RECONNECTION,
+      final String reconnectionSeconds = properties.getProperty(GameRunner.LOBBY_GAME_RECONNECTION,
           "" + GameRunner.LOBBY_RECONNECTION_REFRESH_SECONDS_DEFAULT);
       reconnect =
           Math.max(Integer.parseInt(reconnectionSeconds), GameRunner.LOBBY_RECONNECTION_REFRESH_SECONDS_MINIMUM);
@@ -435,7 +503,7 @@ public class HeadlessGameServer {
     s_logger.info("Game Server initialized");
   }
 
-  private static synchronized void restartLobbyWatcher(
+  private synchronized void restartLobbyWatcher(
       final SetupPanelModel setupPanelModel, final ServerGame serverGame) {
     try {
       final ISetupPanel setup = setupPanelModel.getPanel();
@@ -459,42 +527,61 @@ public class HeadlessGameServer {
   }
 
   public static void resetLobbyHostOldExtensionProperties() {
-    for (final String property : getProperties()) {
+    resetLobbyHostOldExtensionProperties(System.getProperties());
+  }
+
+  /**
+   * Restores the lobby properties that were cleared when the game was posted to the lobby.
+   */
+  public static void resetLobbyHostOldExtensionProperties(final Properties properties) {
+    for (final String property : getPropertyNames()) {
       if (GameRunner.LOBBY_HOST.equals(property)
           || GameRunner.TRIPLEA_LOBBY_PORT_PROPERTY.equals(property)
           || GameRunner.LOBBY_GAME_HOSTED_BY.equals(property)) {
         // for these 3 properties, we clear them after hosting, but back them up.
-        final String oldValue = System.getProperty(property + GameRunner.OLD_EXTENSION);
+        final String oldValue = properties.getProperty(property + GameRunner.OLD_EXTENSION);
         if (oldValue != null) {
-          System.setProperty(property, oldValue);
+          properties.setProperty(property, oldValue);
         }
       }
     }
   }
 
-  private static String[] getProperties() {
+  private static String[] getPropertyNames() {
     return new String[] {GameRunner.TRIPLEA_GAME_PROPERTY, GameRunner.TRIPLEA_GAME_HOST_CONSOLE_PROPERTY,
         GameRunner.TRIPLEA_SERVER_PROPERTY, GameRunner.TRIPLEA_PORT_PROPERTY,
         GameRunner.TRIPLEA_NAME_PROPERTY, GameRunner.LOBBY_HOST, GameRunner.TRIPLEA_LOBBY_PORT_PROPERTY,
         GameRunner.LOBBY_GAME_COMMENTS, GameRunner.LOBBY_GAME_HOSTED_BY, GameRunner.LOBBY_GAME_SUPPORT_EMAIL,
         GameRunner.LOBBY_GAME_SUPPORT_PASSWORD, GameRunner.LOBBY_GAME_RECONNECTION,
         GameRunner.TRIPLEA_SERVER_START_GAME_SYNC_WAIT_TIME, GameRunner.TRIPLEA_SERVER_OBSERVER_JOIN_WAIT_TIME,
-        GameRunner.MAP_FOLDER};
+        GameRunner.MAP_FOLDER, GameRunner.TRIPLEA_HEADLESS_GAME_COUNT};
   }
 
   String getStatus() {
-    String message = "Server Start Date: " + startDate;
+    String message = "Server Start Date: " + startDate + "\nPort: " + getPort() + "\nGames Hosted By Process: "
+        + instances.size();
     final ServerGame game = getIGame();
     if (game != null) {
       message += "\nIs currently running: " + game.isGameSequenceRunning() + "\nIs GameOver: " + game.isGameOver()
           + "\nGame: " + game.getData().getGameName() + "\nRound: " + game.getData().getSequence().getRound()
-          + "\nPlayers: " + game.getPlayerManager().toString();
+          + "\nPlayers: " + game.getPlayerManager().toString() + "\nStep: " + getStepName(game.getData())
+          + "\nUnits: " + game.getData().getUnits().getUnits().size() + "\nTerritories: "
+          + game.getData().getMap().getTerritories().size();
     } else {
       message += "\nCurrently Waiting To Start A Game";
     }
     return message;
   }
 
+  private static String getStepName(final GameData data) {
+    final GameStep step = data.getSequence().getStep();
+    return step == null ? "none" : step.getName();
+  }
+
+  private String getPort() {
+    return properties.getProperty(GameRunner.TRIPLEA_PORT_PROPERTY, String.valueOf(GameRunner.PORT));
+  }
+
   public void printThreadDumpsAndStatus() {
     final StringBuilder sb = new StringBuilder();
     sb.append("Dump to Log:");
@@ -543,13 +630,16 @@ public class HeadlessGameServer {
     } catch (final Exception e) {
       ClientLogger.logQuietly(e);
     }
-    s_instance = null;
+    instances.remove(this);
     m_setupPanelModel = null;
     m_iGame = null;
     System.out.println("Shutdown Script Finished.");
   }
 
-  private void waitForUsersHeadless() {
+  /**
+   * Waits in the background for players to connect, and starts the game once they are all there.
+   */
+  public void waitForUsersHeadless() {
     setServerGame(null);
 
     final Runnable r = () -> {
@@ -570,11 +660,11 @@ public class HeadlessGameServer {
         }
       }
     };
-    final Thread t = new Thread(r, "Headless Server Waiting For Users To Connect And Start");
+    final Thread t = new Thread(r, "Headless Server Waiting For Users To Connect And Start " + getPort());
     t.start();
   }
 
-  private static synchronized boolean startHeadlessGame(final SetupPanelModel setupPanelModel) {
+  private synchronized boolean startHeadlessGame(final SetupPanelModel setupPanelModel) {
     try {
       if (setupPanelModel != null && setupPanelModel.getPanel() != null && setupPanelModel.getPanel().canGameStart()) {
         System.out.println("Starting Game: " + setupPanelModel.getGameSelectorModel().getGameData().getGameName()
@@ -599,17 +689,6 @@ public class HeadlessGameServer {
     return false;
   }
 
-  public static void waitForUsersHeadlessInstance() {
-    final HeadlessGameServer server = getInstance();
-    if (server == null) {
-      System.err.println("Couldn't find instance.");
-      System.exit(-1);
-    } else {
-      System.out.println("Waiting for users to connect.");
-      server.waitForUsersHeadless();
-    }
-  }
-
   SetupPanelModel getSetupPanelModel() {
     return m_setupPanelModel;
   }
@@ -653,20 +732,53 @@ public class HeadlessGameServer {
 
   public static void main(final String[] args) {
     System.getProperties().setProperty(GameRunner.TRIPLEA_HEADLESS, "true");
-    if (!ArgParser.handleCommandLineArgs(args, getProperties())) {
+    if (!ArgParser.handleCommandLineArgs(args, getPropertyNames())) {
       usage();
       return;
     }
 
-    handleHeadlessGameServerArgs();
+    final List<Properties> gameProperties = new ArrayList<>();
+    final int gameCount = Integer.parseInt(System.getProperty(GameRunner.TRIPLEA_HEADLESS_GAME_COUNT, "1"));
+    if (gameCount <= 1) {
+      gameProperties.add(System.getProperties());
+    } else {
+      for (int i = 0; i < gameCount; i++) {
+        gameProperties.add(getGameProperties(System.getProperties(), i));
+      }
+    }
+    for (final Properties properties : gameProperties) {
+      handleHeadlessGameServerArgs(properties);
+    }
     ClipPlayer.setBeSilentInPreferencesWithoutAffectingCurrent(true);
     try {
-      new HeadlessGameServer();
+      for (final Properties properties : gameProperties) {
+        new HeadlessGameServer(properties);
+      }
     } catch (final Exception e) {
       ClientLogger.logError("Failed to start game server: " + e);
     }
   }
 
+  /**
+   * Derives the properties of one of the games hosted by a single process from the properties the process was started
+   * with. Each game gets the next port after the base one, and the index of the game is appended to its name, so the
+   * games can be told apart in the lobby and by their autosaves.
+   */
+  public static Properties getGameProperties(final Properties processProperties, final int index) {
+    final Properties gameProperties = new Properties();
+    gameProperties.putAll(processProperties);
+    final int basePort = Integer.parseInt(
+        processProperties.getProperty(GameRunner.TRIPLEA_PORT_PROPERTY, String.valueOf(GameRunner.PORT)));
+    gameProperties.setProperty(GameRunner.TRIPLEA_PORT_PROPERTY, String.valueOf(basePort + index));
+    for (final String property : new String[] {GameRunner.TRIPLEA_NAME_PROPERTY, GameRunner.LOBBY_GAME_HOSTED_BY}) {
+      final String value = processProperties.getProperty(property);
+      if (value != null) {
+        gameProperties.setProperty(property, value + "_" + index);
+      }
+    }
+    return gameProperties;
+  }
+
   private static void usage() {
     System.out.println("\nUsage and Valid Arguments:\n"
         + "   " + GameRunner.TRIPLEA_GAME_PROPERTY + "=<FILE_NAME>\n"
@@ -686,7 +798,8 @@ public class HeadlessGameServer {
         + "=<seconds to wait for all clients to start the game>\n"
         + "   " + GameRunner.TRIPLEA_SERVER_OBSERVER_JOIN_WAIT_TIME
         + "=<seconds to wait for an observer joining the game>\n"
-        + "   " + GameRunner.MAP_FOLDER + "=mapFolder"
+        + "   " + GameRunner.MAP_FOLDER + "=mapFolder\n"
+        + "   " + GameRunner.TRIPLEA_HEADLESS_GAME_COUNT + "=<number of games to host, on consecutive ports>"
         + "\n"
         + "   You must start the Name and HostedBy with \"Bot\".\n"
         + "   Game Comments must have this string in it: \"automated_host\".\n"
@@ -699,10 +812,10 @@ public class HeadlessGameServer {
         + "TripleaWarClub.org website forum.)\n");
   }
 
-  private static void handleHeadlessGameServerArgs() {
+  private static void handleHeadlessGameServerArgs(final Properties properties) {
     boolean printUsage = false;
-    final String playerName = System.getProperty(GameRunner.TRIPLEA_NAME_PROPERTY, "");
-    final String hostName = System.getProperty(GameRunner.LOBBY_GAME_HOSTED_BY, "");
+    final String playerName = properties.getProperty(GameRunner.TRIPLEA_NAME_PROPERTY, "");
+    final String hostName = properties.getProperty(GameRunner.LOBBY_GAME_HOSTED_BY, "");
     if (playerName.length() < 7 || hostName.length() < 7 || !hostName.equals(playerName)
         || !playerName.startsWith("Bot") || !hostName.startsWith("Bot")) {
       System.out.println(
@@ -711,21 +824,21 @@ public class HeadlessGameServer {
       printUsage = true;
     }
 
-    final String comments = System.getProperty(GameRunner.LOBBY_GAME_COMMENTS, "");
+    final String comments = properties.getProperty(GameRunner.LOBBY_GAME_COMMENTS, "");
     if (!comments.contains("automated_host")) {
       System.out.println(
           "Invalid argument: " + GameRunner.LOBBY_GAME_COMMENTS + " must contain the string \"automated_host\".");
       printUsage = true;
     }
 
-    final String email = System.getProperty(GameRunner.LOBBY_GAME_SUPPORT_EMAIL, "");
+    final String email = properties.getProperty(GameRunner.LOBBY_GAME_SUPPORT_EMAIL, "");
     if (email.length() < 3 || !Util.isMailValid(email)) {
       System.out.println(
           "Invalid argument: " + GameRunner.LOBBY_GAME_SUPPORT_EMAIL + " must contain a valid email address.");
       printUsage = true;
     }
 
-    final String reconnection = System.getProperty(GameRunner.LOBBY_GAME_RECONNECTION,
+    final String reconnection = properties.getProperty(GameRunner.LOBBY_GAME_RECONNECTION,
         "" + GameRunner.LOBBY_RECONNECTION_REFRESH_SECONDS_DEFAULT);
     try {
       final int reconnect = Integer.parseInt(reconnection);
@@ -745,8 +858,8 @@ public class HeadlessGameServer {
     }
     // no passwords allowed for bots
     // take any actions or commit to preferences
-    final String clientWait = System.getProperty(GameRunner.TRIPLEA_SERVER_START_GAME_SYNC_WAIT_TIME, "");
-    final String observerWait = System.getProperty(GameRunner.TRIPLEA_SERVER_OBSERVER_JOIN_WAIT_TIME, "");
+    final String clientWait = properties.getProperty(GameRunner.TRIPLEA_SERVER_START_GAME_SYNC_WAIT_TIME, "");
+    final String observerWait = properties.getProperty(GameRunner.TRIPLEA_SERVER_OBSERVER_JOIN_WAIT_TIME, "");
     if (clientWait.length() > 0) {
       try {
         final int wait = Integer.parseInt(clientWait);
@@ -44,7 +44,7 @@ public class HeadlessServerSetup implements IRemoteModelListener, ISetupPanel {
   void createLobbyWatcher() {
     if (m_lobbyWatcher != null) {
       m_lobbyWatcher.setInGameLobbyWatcher(InGameLobbyWatcher.newInGameLobbyWatcher(m_model.getMessenger(), null,
-          m_lobbyWatcher.getInGameLobbyWatcher()));
+          m_lobbyWatcher.getInGameLobbyWatcher(), m_model.getProperties()));
       m_lobbyWatcher.setGameSelectorModel(m_gameSelectorModel);
     }
   }
@@ -59,7 +59,7 @@ public class HeadlessServerSetup implements IRemoteModelListener, ISetupPanel {
     System.out.println("Restarting lobby watcher");
     shutDownLobbyWatcher();
     ThreadUtil.sleep(3000);
-    HeadlessGameServer.resetLobbyHostOldExtensionProperties();
+    HeadlessGameServer.resetLobbyHostOldExtensionProperties(m_model.getProperties());
     createLobbyWatcher();
   }
 
@@ -12,15 +12,18 @@ import games.strategy.engine.framework.startup.ui.ServerSetupPanel;
  */
 public class HeadlessServerSetupPanelModel extends SetupPanelModel {
   protected final Component m_ui;
+  private final HeadlessGameServer headlessGameServer;
 
-  public HeadlessServerSetupPanelModel(final GameSelectorModel gameSelectorModel, final Component ui) {
+  public HeadlessServerSetupPanelModel(final GameSelectorModel gameSelectorModel, final Component ui,
+      final HeadlessGameServer headlessGameServer) {
     super(gameSelectorModel);
     m_ui = ui;
+    this.headlessGameServer = headlessGameServer;
   }
 
   @Override
   public void showSelectType() {
-    final ServerModel model = new ServerModel(m_gameSelectorModel, this, ServerModel.InteractionMode.HEADLESS);
+    final ServerModel model = new ServerModel(m_gameSelectorModel, this, headlessGameServer);
     if (!model.createServerMessenger(m_ui)) {
       model.cancel();
       return;
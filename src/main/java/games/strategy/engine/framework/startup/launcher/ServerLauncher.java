@@ -145,8 +145,8 @@ public class ServerLauncher extends AbstractLauncher {
       final Messengers messengers = new Messengers(m_messenger, m_remoteMessenger, m_channelMessenger);
       m_serverGame = new ServerGame(m_gameData, localPlayerSet, m_remotelPlayers, messengers);
       m_serverGame.setInGameLobbyWatcher(m_inGameLobbyWatcher);
-      if (m_headless) {
-        HeadlessGameServer.setServerGame(m_serverGame);
+      if (getHeadlessGameServer() != null) {
+        getHeadlessGameServer().setServerGame(m_serverGame);
       }
       // tell the clients to start,
       // later we will wait for them to all
@@ -235,8 +235,10 @@ public class ServerLauncher extends AbstractLauncher {
             e.printStackTrace(System.err);
             if (m_headless) {
               System.out.println(games.strategy.debug.DebugUtils.getThreadDumps());
-              HeadlessGameServer.sendChat("If this is a repeatable issue or error, please make a copy of this savegame "
-                  + "and contact a Mod and/or file a bug report.");
+            }
+            if (getHeadlessGameServer() != null) {
+              getHeadlessGameServer().sendChat("If this is a repeatable issue or error, please make a copy of this "
+                  + "savegame and contact a Mod and/or file a bug report.");
             }
             stopGame();
           }
@@ -252,8 +254,8 @@ public class ServerLauncher extends AbstractLauncher {
                 // then crashing out, then launching, etc.
                 m_serverModel.setAllPlayersToNullNodes();
               }
-              final File f1 =
-                  new File(ClientContext.folderSettings().getSaveGamePath(), SaveGameFileChooser.getAutoSaveFileName());
+              final File f1 = new File(ClientContext.folderSettings().getSaveGamePath(),
+                  SaveGameFileChooser.getAutoSaveFileName(m_serverModel.getProperties()));
               if (f1.exists()) {
                 m_gameSelectorModel.load(f1, null);
               } else {
@@ -274,9 +276,9 @@ public class ServerLauncher extends AbstractLauncher {
           if (m_inGameLobbyWatcher != null) {
             m_inGameLobbyWatcher.setGameStatus(GameDescription.GameStatus.WAITING_FOR_PLAYERS, null);
           }
-          if (m_headless) {
+          if (getHeadlessGameServer() != null) {
             // tell headless server to wait for new connections:
-            HeadlessGameServer.waitForUsersHeadlessInstance();
+            getHeadlessGameServer().waitForUsersHeadless();
             HeadlessGameServer.log("Game Status: Waiting For Players");
           }
         }
@@ -295,6 +297,10 @@ public class ServerLauncher extends AbstractLauncher {
     }
   }
 
+  private HeadlessGameServer getHeadlessGameServer() {
+    return m_serverModel == null ? null : m_serverModel.getHeadlessGameServer();
+  }
+
   private void warmUpCryptoRandomSource() {
     // the first roll takes a while, initialize
     // here in the background so that the user doesnt notice
@@ -373,14 +379,15 @@ public class ServerLauncher extends AbstractLauncher {
     SaveGameFileChooser.ensureMapsFolderExists();
     // a hack, if headless save to the autosave to avoid polluting our savegames folder with a million saves
     final File f = m_headless
-        ? new File(ClientContext.folderSettings().getSaveGamePath(), SaveGameFileChooser.getAutoSaveFileName())
+        ? new File(ClientContext.folderSettings().getSaveGamePath(),
+            SaveGameFileChooser.getAutoSaveFileName(m_serverModel.getProperties()))
         : new File(ClientContext.folderSettings().getSaveGamePath(), getConnectionLostFileName());
     try {
       m_serverGame.saveGame(f);
     } catch (final Exception e) {
       ClientLogger.logQuietly(e);
-      if (m_headless && HeadlessGameServer.getInstance() != null) {
-        HeadlessGameServer.getInstance().printThreadDumpsAndStatus();
+      if (getHeadlessGameServer() != null) {
+        getHeadlessGameServer().printThreadDumpsAndStatus();
         // TODO: We seem to be getting this bug once a week (1.8.0.1 and previous versions). Trying a fix for 1.8.0.3,
         // need to see if it
         // works.
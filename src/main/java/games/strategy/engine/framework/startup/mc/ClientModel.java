@@ -3,6 +3,7 @@ package games.strategy.engine.framework.startup.mc;
 import java.awt.Component;
 import java.io.ByteArrayInputStream;
 import java.io.IOException;
+import java.io.InputStream;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.HashMap;
@@ -30,6 +31,10 @@ import games.strategy.engine.framework.GameDataManager;
 import games.strategy.engine.framework.GameObjectStreamFactory;
 import games.strategy.engine.framework.GameRunner;
 import games.strategy.engine.framework.IGameLoader;
+import games.strategy.engine.framework.IServerRemote;
+import games.strategy.engine.framework.SavedGameInputStream;
+import games.strategy.engine.framework.SavedGameTransfer;
+import games.strategy.engine.framework.ServerGame;
 import games.strategy.engine.framework.message.PlayerListing;
 import games.strategy.engine.framework.networkMaintenance.ChangeGameOptionsClientAction;
 import games.strategy.engine.framework.networkMaintenance.ChangeGameToSaveGameClientAction;
@@ -247,7 +252,7 @@ public class ClientModel implements IMessengerErrorListener {
     @Override
     public void doneSelectingPlayers(final byte[] gameData, final Map<String, INode> players) {
       final CountDownLatch latch = new CountDownLatch(1);
-      startGame(gameData, players, latch, false);
+      startGame(new ByteArrayInputStream(gameData), players, latch, false);
       try {
         latch.await(GameRunner.MINIMUM_CLIENT_GAMEDATA_LOAD_GRACE_TIME, TimeUnit.SECONDS);
       } catch (final InterruptedException e) {
@@ -257,10 +262,11 @@ public class ClientModel implements IMessengerErrorListener {
   };
   IObserverWaitingToJoin m_observerWaitingToJoin = new IObserverWaitingToJoin() {
     @Override
-    public void joinGame(final byte[] gameData, final Map<String, INode> players) {
+    public void joinGame(final SavedGameTransfer game, final Map<String, INode> players) {
       m_remoteMessenger.unregisterRemote(ServerModel.getObserverWaitingToStartName(m_messenger.getLocalNode()));
       final CountDownLatch latch = new CountDownLatch(1);
-      startGame(gameData, players, latch, true);
+      final IServerRemote server = (IServerRemote) m_remoteMessenger.getRemote(ServerGame.SERVER_REMOTE);
+      startGame(new SavedGameInputStream(server, game, m_gameLoadingWindow::setProgress), players, latch, true);
       try {
         latch.await(GameRunner.MINIMUM_CLIENT_GAMEDATA_LOAD_GRACE_TIME, TimeUnit.SECONDS);
       } catch (final InterruptedException e) {
@@ -278,7 +284,7 @@ public class ClientModel implements IMessengerErrorListener {
     }
   };
 
-  private void startGame(final byte[] gameData, final Map<String, INode> players, final CountDownLatch onDone,
+  private void startGame(final InputStream gameData, final Map<String, INode> players, final CountDownLatch onDone,
       final boolean gameRunning) {
     SwingUtilities.invokeLater(() -> {
       m_gameLoadingWindow.setVisible(true);
@@ -297,13 +303,13 @@ public class ClientModel implements IMessengerErrorListener {
     }
   }
 
-  private void startGameInNewThread(final byte[] gameData, final Map<String, INode> players,
+  private void startGameInNewThread(final InputStream gameData, final Map<String, INode> players,
       final boolean gameRunning) {
     final GameData data;
-    try {
+    try (final InputStream in = gameData) {
       // this normally takes a couple seconds, but can take
       // up to 60 seconds for a freaking huge game
-      data = new GameDataManager().loadGame(new ByteArrayInputStream(gameData), null);
+      data = new GameDataManager().loadGame(in, null);
     } catch (final IOException ex) {
       ClientLogger.logQuietly(ex);
       return;
@@ -21,6 +21,7 @@ import games.strategy.engine.data.GameData;
 import games.strategy.engine.data.GameParseException;
 import games.strategy.engine.data.GameParser;
 import games.strategy.engine.framework.GameDataManager;
+import games.strategy.engine.framework.headlessGameServer.HeadlessGameServer;
 import games.strategy.engine.framework.ui.NewGameChooser;
 import games.strategy.engine.framework.ui.NewGameChooserEntry;
 import games.strategy.engine.framework.ui.NewGameChooserModel;
@@ -103,7 +104,7 @@ public class GameSelectorModel extends Observable {
       }
       return;
     }
-    final GameDataManager manager = new GameDataManager();
+    final GameDataManager manager = newGameDataManager();
     GameData newData;
     final AtomicReference<String> gameName = new AtomicReference<>();
     try {
@@ -136,8 +137,14 @@ public class GameSelectorModel extends Observable {
     }
   }
 
+  private GameDataManager newGameDataManager() {
+    // a headless host tells its players about games it can't load
+    final HeadlessGameServer server = HeadlessGameServer.forGameSelectorModel(this);
+    return server == null ? new GameDataManager() : new GameDataManager(server::sendChat);
+  }
+
   public GameData getGameData(final InputStream input) {
-    final GameDataManager manager = new GameDataManager();
+    final GameDataManager manager = newGameDataManager();
     GameData newData;
     try {
       newData = manager.loadGame(input, null);
@@ -2,6 +2,7 @@ package games.strategy.engine.framework.startup.mc;
 
 import java.util.Map;
 
+import games.strategy.engine.framework.SavedGameTransfer;
 import games.strategy.engine.message.IRemote;
 import games.strategy.net.INode;
 
@@ -13,8 +14,9 @@ public interface IObserverWaitingToJoin extends IRemote {
   /**
    * This method should not return until the client is ready to start the game.
    * This includes the display running, with all remote and channel listeners set up.
+   * The game is read from the server in chunks, see {@link games.strategy.engine.framework.SavedGameInputStream}.
    */
-  void joinGame(byte[] gameData, Map<String, INode> players);
+  void joinGame(SavedGameTransfer game, Map<String, INode> players);
 
   /**
    * You could not join the game, usually this is due to an error.
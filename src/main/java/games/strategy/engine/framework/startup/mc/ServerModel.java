@@ -16,6 +16,7 @@ import java.util.List;
 import java.util.Map;
 import java.util.Observable;
 import java.util.Observer;
+import java.util.Properties;
 import java.util.Set;
 import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.TimeUnit;
@@ -81,6 +82,7 @@ public class ServerModel extends Observable implements IMessengerErrorListener,
   private final GameObjectStreamFactory objectStreamFactory = new GameObjectStreamFactory(null);
   private final SetupPanelModel typePanelModel;
   private final boolean headless;
+  private final HeadlessGameServer headlessGameServer;
   private IServerMessenger serverMessenger;
   private IRemoteMessenger remoteMessenger;
   private IChannelMessenger channelMessenger;
@@ -107,12 +109,41 @@ public class ServerModel extends Observable implements IMessengerErrorListener,
 
   public ServerModel(final GameSelectorModel gameSelectorModel, final SetupPanelModel typePanelModel,
       final InteractionMode interactionMode) {
+    this(gameSelectorModel, typePanelModel, interactionMode, null);
+  }
+
+  /**
+   * Creates the model of one of the games hosted by the given headless server.
+   */
+  public ServerModel(final GameSelectorModel gameSelectorModel, final SetupPanelModel typePanelModel,
+      final HeadlessGameServer headlessGameServer) {
+    this(gameSelectorModel, typePanelModel, InteractionMode.HEADLESS, headlessGameServer);
+  }
+
+  private ServerModel(final GameSelectorModel gameSelectorModel, final SetupPanelModel typePanelModel,
+      final InteractionMode interactionMode, final HeadlessGameServer headlessGameServer) {
     this.gameSelectorModel = gameSelectorModel;
     this.typePanelModel = typePanelModel;
+    this.headlessGameServer = headlessGameServer;
     this.gameSelectorModel.addObserver(gameSelectorObserver);
     headless = (interactionMode == InteractionMode.HEADLESS);
   }
 
+  /**
+   * @return The headless server hosting this game, or null if it is not hosted by one.
+   */
+  public HeadlessGameServer getHeadlessGameServer() {
+    return headlessGameServer;
+  }
+
+  /**
+   * @return The properties this game was started with. Each game hosted by a headless server has its own, otherwise
+   *         they are the system properties.
+   */
+  public Properties getProperties() {
+    return headlessGameServer == null ? System.getProperties() : headlessGameServer.getProperties();
+  }
+
   public void shutDown() {
     gameSelectorModel.deleteObserver(gameSelectorObserver);
     if (serverMessenger != null) {
@@ -183,15 +214,16 @@ public class ServerModel extends Observable implements IMessengerErrorListener,
   }
 
   private ServerProps getServerProps(final Component ui) {
-    if (System.getProperties().getProperty(GameRunner.TRIPLEA_SERVER_PROPERTY, "false").equals("true")
-        && System.getProperties().getProperty(GameRunner.TRIPLEA_STARTED, "").equals("")) {
+    final Properties properties = getProperties();
+    if (properties.getProperty(GameRunner.TRIPLEA_SERVER_PROPERTY, "false").equals("true")
+        && properties.getProperty(GameRunner.TRIPLEA_STARTED, "").equals("")) {
       final ServerProps props = new ServerProps();
-      props.setName(System.getProperty(GameRunner.TRIPLEA_NAME_PROPERTY));
-      props.setPort(Integer.parseInt(System.getProperty(GameRunner.TRIPLEA_PORT_PROPERTY)));
-      if (System.getProperty(GameRunner.TRIPLEA_SERVER_PASSWORD_PROPERTY) != null) {
-        props.setPassword(System.getProperty(GameRunner.TRIPLEA_SERVER_PASSWORD_PROPERTY));
+      props.setName(properties.getProperty(GameRunner.TRIPLEA_NAME_PROPERTY));
+      props.setPort(Integer.parseInt(properties.getProperty(GameRunner.TRIPLEA_PORT_PROPERTY)));
+      if (properties.getProperty(GameRunner.TRIPLEA_SERVER_PASSWORD_PROPERTY) != null) {
+        props.setPassword(properties.getProperty(GameRunner.TRIPLEA_SERVER_PASSWORD_PROPERTY));
       }
-      System.setProperty(GameRunner.TRIPLEA_STARTED, "true");
+      properties.setProperty(GameRunner.TRIPLEA_STARTED, "true");
       return props;
     }
     final Preferences prefs = Preferences.userNodeForPackage(this.getClass());
@@ -366,7 +398,7 @@ public class ServerModel extends Observable implements IMessengerErrorListener,
 
     @Override
     public Set<String> getAvailableGames() {
-      final HeadlessGameServer headless = HeadlessGameServer.getInstance();
+      final HeadlessGameServer headless = headlessGameServer;
       if (headless == null) {
         return null;
       }
@@ -375,7 +407,7 @@ public class ServerModel extends Observable implements IMessengerErrorListener,
 
     @Override
     public void changeServerGameTo(final String gameName) {
-      final HeadlessGameServer headless = HeadlessGameServer.getInstance();
+      final HeadlessGameServer headless = headlessGameServer;
       if (headless == null) {
         return;
       }
@@ -385,18 +417,20 @@ public class ServerModel extends Observable implements IMessengerErrorListener,
 
     @Override
     public void changeToLatestAutosave(final SaveGameFileChooser.AUTOSAVE_TYPE typeOfAutosave) {
-      final HeadlessGameServer headless = HeadlessGameServer.getInstance();
+      final HeadlessGameServer headless = headlessGameServer;
       if (headless == null) {
         return;
       }
       final File save;
       if (SaveGameFileChooser.AUTOSAVE_TYPE.AUTOSAVE.equals(typeOfAutosave)) {
-        save = new File(ClientContext.folderSettings().getSaveGamePath(), SaveGameFileChooser.getAutoSaveFileName());
+        save = new File(ClientContext.folderSettings().getSaveGamePath(),
+            SaveGameFileChooser.getAutoSaveFileName(headless.getProperties()));
       } else if (SaveGameFileChooser.AUTOSAVE_TYPE.AUTOSAVE_ODD.equals(typeOfAutosave)) {
-        save = new File(ClientContext.folderSettings().getSaveGamePath(), SaveGameFileChooser.getAutoSaveOddFileName());
+        save = new File(ClientContext.folderSettings().getSaveGamePath(),
+            SaveGameFileChooser.getAutoSaveOddFileName(headless.getProperties()));
       } else if (SaveGameFileChooser.AUTOSAVE_TYPE.AUTOSAVE_EVEN.equals(typeOfAutosave)) {
-        save =
-            new File(ClientContext.folderSettings().getSaveGamePath(), SaveGameFileChooser.getAutoSaveEvenFileName());
+        save = new File(ClientContext.folderSettings().getSaveGamePath(),
+            SaveGameFileChooser.getAutoSaveEvenFileName(headless.getProperties()));
       } else {
         return;
       }
@@ -411,7 +445,7 @@ public class ServerModel extends Observable implements IMessengerErrorListener,
     public void changeToGameSave(final byte[] bytes, final String fileName) {
       // TODO: change to a string message return, so we can tell the user/requestor if it was successful or not, and why
       // if not.
-      final HeadlessGameServer headless = HeadlessGameServer.getInstance();
+      final HeadlessGameServer headless = headlessGameServer;
       if (headless == null || bytes == null) {
         return;
       }
@@ -428,7 +462,7 @@ public class ServerModel extends Observable implements IMessengerErrorListener,
     public void changeToGameOptions(final byte[] bytes) {
       // TODO: change to a string message return, so we can tell the user/requestor if it was successful or not, and why
       // if not.
-      final HeadlessGameServer headless = HeadlessGameServer.getInstance();
+      final HeadlessGameServer headless = headlessGameServer;
       if (headless == null || bytes == null) {
         return;
       }
@@ -5,6 +5,7 @@ import java.time.Instant;
 import java.util.HashMap;
 import java.util.Map;
 import java.util.Observer;
+import java.util.Properties;
 
 import javax.swing.JComponent;
 import javax.swing.JOptionPane;
@@ -79,20 +80,29 @@ public class InGameLobbyWatcher {
    */
   public static InGameLobbyWatcher newInGameLobbyWatcher(final IServerMessenger gameMessenger, final JComponent parent,
       final InGameLobbyWatcher oldWatcher) {
-    final String host = System.getProperties().getProperty(GameRunner.LOBBY_HOST);
-    final String port = System.getProperties().getProperty(GameRunner.TRIPLEA_LOBBY_PORT_PROPERTY);
-    final String hostedBy = System.getProperties().getProperty(GameRunner.LOBBY_GAME_HOSTED_BY);
+    return newInGameLobbyWatcher(gameMessenger, parent, oldWatcher, System.getProperties());
+  }
+
+  /**
+   * Like {@link #newInGameLobbyWatcher(IServerMessenger, JComponent, InGameLobbyWatcher)}, but reads the given
+   * properties instead, so each game hosted by the same process can post itself to the lobby on its own.
+   */
+  public static InGameLobbyWatcher newInGameLobbyWatcher(final IServerMessenger gameMessenger, final JComponent parent,
+      final InGameLobbyWatcher oldWatcher, final Properties properties) {
+    final String host = properties.getProperty(GameRunner.LOBBY_HOST);
+    final String port = properties.getProperty(GameRunner.TRIPLEA_LOBBY_PORT_PROPERTY);
+    final String hostedBy = properties.getProperty(GameRunner.LOBBY_GAME_HOSTED_BY);
     if (host == null || port == null) {
       return null;
     }
     // clear the properties
-    System.getProperties().remove(GameRunner.LOBBY_HOST);
-    System.getProperties().remove(GameRunner.TRIPLEA_LOBBY_PORT_PROPERTY);
-    System.getProperties().remove(GameRunner.LOBBY_GAME_HOSTED_BY);
+    properties.remove(GameRunner.LOBBY_HOST);
+    properties.remove(GameRunner.TRIPLEA_LOBBY_PORT_PROPERTY);
+    properties.remove(GameRunner.LOBBY_GAME_HOSTED_BY);
     // add them as temporary properties (in case we load an old savegame and need them again)
-    System.getProperties().setProperty(GameRunner.LOBBY_HOST + GameRunner.OLD_EXTENSION, host);
-    System.getProperties().setProperty(GameRunner.TRIPLEA_LOBBY_PORT_PROPERTY + GameRunner.OLD_EXTENSION, port);
-    System.getProperties().setProperty(GameRunner.LOBBY_GAME_HOSTED_BY + GameRunner.OLD_EXTENSION, hostedBy);
+    properties.setProperty(GameRunner.LOBBY_HOST + GameRunner.OLD_EXTENSION, host);
+    properties.setProperty(GameRunner.TRIPLEA_LOBBY_PORT_PROPERTY + GameRunner.OLD_EXTENSION, port);
+    properties.setProperty(GameRunner.LOBBY_GAME_HOSTED_BY + GameRunner.OLD_EXTENSION, hostedBy);
     final IConnectionLogin login = new IConnectionLogin() {
       @Override
       public void notifyFailedLogin(final String message) {}
@@ -117,7 +127,7 @@ public class InGameLobbyWatcher {
       rm.registerRemote(h, HeartBeat.getHeartBeatName(um.getLocalNode()));
       final RemoteHostUtils rhu = new RemoteHostUtils(messenger.getServerNode(), gameMessenger);
       rm.registerRemote(rhu, RemoteHostUtils.getRemoteHostUtilsName(um.getLocalNode()));
-      return new InGameLobbyWatcher(messenger, rm, gameMessenger, parent, oldWatcher);
+      return new InGameLobbyWatcher(messenger, rm, gameMessenger, parent, oldWatcher, properties);
     } catch (final Exception e) {
       ClientLogger.logQuietly(e);
       return null;
@@ -159,11 +169,12 @@ public class InGameLobbyWatcher {
   }
 
   InGameLobbyWatcher(final IMessenger messenger, final IRemoteMessenger remoteMessenger,
-      final IServerMessenger serverMessenger, final JComponent parent, final InGameLobbyWatcher oldWatcher) {
+      final IServerMessenger serverMessenger, final JComponent parent, final InGameLobbyWatcher oldWatcher,
+      final Properties properties) {
     this.messenger = messenger;
     this.remoteMessenger = remoteMessenger;
     this.serverMessenger = serverMessenger;
-    final String password = System.getProperty(GameRunner.TRIPLEA_SERVER_PASSWORD_PROPERTY);
+    final String password = properties.getProperty(GameRunner.TRIPLEA_SERVER_PASSWORD_PROPERTY);
     final boolean passworded = password != null && password.length() > 0;
     final Instant startDateTime = (oldWatcher == null || oldWatcher.gameDescription == null
         || oldWatcher.gameDescription.getStartDateTime() == null) ? Instant.now()
@@ -185,9 +196,12 @@ public class InGameLobbyWatcher {
         gameStatus,
         gameRound,
         serverMessenger.getLocalNode().getName(),
-        System.getProperty(GameRunner.LOBBY_GAME_COMMENTS),
+        properties.getProperty(GameRunner.LOBBY_GAME_COMMENTS),
         passworded,
         ClientContext.engineVersion().toString(), "0");
+    if (HeadlessGameServer.headless()) {
+      gameDescription.setBotSupportEmail(properties.getProperty(GameRunner.LOBBY_GAME_SUPPORT_EMAIL, ""));
+    }
     final ILobbyGameController controller =
         (ILobbyGameController) this.remoteMessenger.getRemote(ILobbyGameController.GAME_CONTROLLER_REMOTE);
     synchronized (mutex) {
@@ -220,7 +234,7 @@ public class InGameLobbyWatcher {
         if (isActive()) {
           shutDown();
           SwingUtilities.invokeLater(() -> {
-            String portString = System.getProperty(GameRunner.TRIPLEA_PORT_PROPERTY);
+            String portString = properties.getProperty(GameRunner.TRIPLEA_PORT_PROPERTY);
             if (portString == null || portString.trim().length() <= 0) {
               portString = "3300";
             }
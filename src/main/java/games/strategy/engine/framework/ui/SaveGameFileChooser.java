@@ -1,6 +1,7 @@
 package games.strategy.engine.framework.ui;
 
 import java.io.File;
+import java.util.Properties;
 
 import javax.swing.JFileChooser;
 import javax.swing.filechooser.FileFilter;
@@ -22,36 +23,42 @@ public class SaveGameFileChooser extends JFileChooser {
   }
 
   public static String getAutoSaveFileName() {
-    if (HeadlessGameServer.headless()) {
-      final String saveSuffix = System.getProperty(GameRunner.TRIPLEA_NAME_PROPERTY,
-          System.getProperty(GameRunner.LOBBY_GAME_HOSTED_BY, ""));
-      if (saveSuffix.length() > 0) {
-        return saveSuffix + "_" + AUTOSAVE_FILE_NAME;
-      }
-    }
-    return AUTOSAVE_FILE_NAME;
+    return getAutoSaveFileName(System.getProperties());
+  }
+
+  /**
+   * @param properties
+   *        the properties the game was started with, a headless server prefixes its autosaves with the name in them
+   */
+  public static String getAutoSaveFileName(final Properties properties) {
+    return getSavePrefix(properties) + AUTOSAVE_FILE_NAME;
   }
 
   public static String getAutoSaveOddFileName() {
-    if (HeadlessGameServer.headless()) {
-      final String saveSuffix = System.getProperty(GameRunner.TRIPLEA_NAME_PROPERTY,
-          System.getProperty(GameRunner.LOBBY_GAME_HOSTED_BY, ""));
-      if (saveSuffix.length() > 0) {
-        return saveSuffix + "_" + AUTOSAVE_ODD_ROUND_FILE_NAME;
-      }
-    }
-    return AUTOSAVE_ODD_ROUND_FILE_NAME;
+    return getAutoSaveOddFileName(System.getProperties());
+  }
+
+  public static String getAutoSaveOddFileName(final Properties properties) {
+    return getSavePrefix(properties) + AUTOSAVE_ODD_ROUND_FILE_NAME;
   }
 
   public static String getAutoSaveEvenFileName() {
+    return getAutoSaveEvenFileName(System.getProperties());
+  }
+
+  public static String getAutoSaveEvenFileName(final Properties properties) {
+    return getSavePrefix(properties) + AUTOSAVE_EVEN_ROUND_FILE_NAME;
+  }
+
+  private static String getSavePrefix(final Properties properties) {
     if (HeadlessGameServer.headless()) {
-      final String saveSuffix = System.getProperty(GameRunner.TRIPLEA_NAME_PROPERTY,
-          System.getProperty(GameRunner.LOBBY_GAME_HOSTED_BY, ""));
+      final String saveSuffix = properties.getProperty(GameRunner.TRIPLEA_NAME_PROPERTY,
+          properties.getProperty(GameRunner.LOBBY_GAME_HOSTED_BY, ""));
       if (saveSuffix.length() > 0) {
-        return saveSuffix + "_" + AUTOSAVE_EVEN_ROUND_FILE_NAME;
+        return saveSuffix + "_";
       }
     }
-    return AUTOSAVE_EVEN_ROUND_FILE_NAME;
+    return "";
   }
 
   public static SaveGameFileChooser getInstance() {
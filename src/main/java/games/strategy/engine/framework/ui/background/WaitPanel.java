@@ -9,6 +9,7 @@ import javax.swing.border.EmptyBorder;
 
 class WaitPanel extends JPanel {
   private static final long serialVersionUID = -8625021554802312498L;
+  private final JProgressBar progress;
 
   WaitPanel(final String waitMessage) {
     setLayout(new BorderLayout());
@@ -17,9 +18,14 @@ class WaitPanel extends JPanel {
     add(BorderLayout.NORTH, label);
     final int min = 0;
     final int max = 100;
-    final JProgressBar progress = new JProgressBar(min, max);
+    progress = new JProgressBar(min, max);
     progress.setBorder(new EmptyBorder(10, 10, 10, 10));
     add(progress, BorderLayout.CENTER);
     progress.setIndeterminate(true);
   }
+
+  void setProgress(final int percent) {
+    progress.setIndeterminate(false);
+    progress.setValue(percent);
+  }
 }
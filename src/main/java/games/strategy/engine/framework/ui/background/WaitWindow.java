@@ -14,10 +14,11 @@ public class WaitWindow extends JWindow {
   private final Object m_mutex = new Object();
   private Timer m_timer = new Timer();
   private boolean m_finished = false;
+  private final WaitPanel mainPanel;
 
   public WaitWindow() {
     setSize(200, 80);
-    final WaitPanel mainPanel = new WaitPanel("Loading game, please wait.");
+    mainPanel = new WaitPanel("Loading game, please wait.");
     setLocationRelativeTo(null);
     mainPanel.setBorder(new LineBorder(Color.BLACK));
     setLayout(new BorderLayout());
@@ -39,6 +40,13 @@ public class WaitWindow extends JWindow {
     }
   }
 
+  /**
+   * Shows how much of the wait is over, once that is known. May be called from any thread.
+   */
+  public void setProgress(final int percent) {
+    SwingUtilities.invokeLater(() -> mainPanel.setProgress(percent));
+  }
+
   public void doneWait() {
     synchronized (m_mutex) {
       if (m_timer != null) {
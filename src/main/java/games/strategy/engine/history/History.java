@@ -1,9 +1,14 @@
 package games.strategy.engine.history;
 
+import java.io.IOException;
+import java.io.InvalidObjectException;
+import java.io.ObjectStreamException;
 import java.io.Serializable;
 import java.util.ArrayList;
 import java.util.Enumeration;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 
 import javax.swing.SwingUtilities;
 import javax.swing.tree.DefaultMutableTreeNode;
@@ -12,6 +17,7 @@ import javax.swing.tree.DefaultTreeModel;
 import games.strategy.engine.data.Change;
 import games.strategy.engine.data.CompositeChange;
 import games.strategy.engine.data.GameData;
+import games.strategy.engine.data.changefactory.ChangeFactory;
 import games.strategy.triplea.ui.history.HistoryPanel;
 
 /**
@@ -27,10 +33,22 @@ import games.strategy.triplea.ui.history.HistoryPanel;
  * Event - an event that happened in the game, eg Russia buys 8 inf.
  */
 public class History extends DefaultTreeModel {
+  static final int SEGMENT_SIZE = 4 * HistoryChanges.PAGE_SIZE;
   private static final long serialVersionUID = -1769876896869L;
+  private static final int NET_SEGMENTS = 16;
 
   private final HistoryWriter m_writer = new HistoryWriter(this);
-  private final List<Change> m_changes = new ArrayList<>();
+  private final HistoryChanges m_changes;
+  // the netted changes of the most recently used segments, by segment
+  private final Map<Integer, Change> netChanges =
+      new LinkedHashMap<Integer, Change>(NET_SEGMENTS, 0.75f, true) {
+        private static final long serialVersionUID = 2474069410381566374L;
+
+        @Override
+        protected boolean removeEldestEntry(final Map.Entry<Integer, Change> eldest) {
+          return size() > NET_SEGMENTS;
+        }
+      };
   private final GameData m_data;
   private HistoryNode m_currentNode;
 
@@ -43,6 +61,7 @@ public class History extends DefaultTreeModel {
   public History(final GameData data) {
     super(new RootHistoryNode("Game History"));
     m_data = data;
+    m_changes = new HistoryChanges(data);
   }
 
   public HistoryWriter getHistoryWriter() {
@@ -92,16 +111,15 @@ public class History extends DefaultTreeModel {
     return lastChangeIndex;
   }
 
-  public Change getDelta(final HistoryNode start, final HistoryNode end) {
+  public synchronized Change getDelta(final HistoryNode start, final HistoryNode end) {
     assertCorrectThread();
     final int firstChange = getLastChange(start);
     final int lastChange = getLastChange(end);
     if (firstChange == lastChange) {
       return null;
     }
-    final List<Change> changes =
-        m_changes.subList(Math.min(firstChange, lastChange), Math.max(firstChange, lastChange));
-    final Change compositeChange = new CompositeChange(changes);
+    final Change compositeChange =
+        getDeltaChanges(Math.min(firstChange, lastChange), Math.max(firstChange, lastChange));
     if (lastChange >= firstChange) {
       return compositeChange;
     } else {
@@ -109,6 +127,25 @@ public class History extends DefaultTreeModel {
     }
   }
 
+  /**
+   * Jumping a long way through the history uses the netted changes of whole segments of the history where it can,
+   * leaving only the changes up to the first segment and after the last one to be performed one by one.
+   */
+  private Change getDeltaChanges(final int from, final int to) {
+    final int firstSegment = (from + SEGMENT_SIZE - 1) / SEGMENT_SIZE;
+    final int lastSegment = to / SEGMENT_SIZE;
+    if (firstSegment >= lastSegment) {
+      return new CompositeChange(m_changes.get(from, to));
+    }
+    final List<Change> changes = new ArrayList<>(m_changes.get(from, firstSegment * SEGMENT_SIZE));
+    for (int segment = firstSegment; segment < lastSegment; segment++) {
+      changes.add(netChanges.computeIfAbsent(segment,
+          s -> ChangeFactory.netChange(m_changes.get(s * SEGMENT_SIZE, (s + 1) * SEGMENT_SIZE))));
+    }
+    changes.addAll(m_changes.get(lastSegment * SEGMENT_SIZE, to));
+    return new CompositeChange(changes);
+  }
+
   public synchronized void gotoNode(final HistoryNode node) {
     assertCorrectThread();
     getGameData().acquireWriteLock();
@@ -132,9 +169,8 @@ public class History extends DefaultTreeModel {
     getGameData().acquireWriteLock();
     try {
       final int lastChange = getLastChange(removeAfterNode) + 1;
-      while (m_changes.size() > lastChange) {
-        m_changes.remove(lastChange);
-      }
+      m_changes.truncate(lastChange);
+      netChanges.clear();
       final List<HistoryNode> nodesToRemove = new ArrayList<>();
       final Enumeration<?> enumeration = ((DefaultMutableTreeNode) this.getRoot()).preorderEnumeration();
       enumeration.nextElement();
@@ -160,7 +196,13 @@ public class History extends DefaultTreeModel {
   }
 
   synchronized void changeAdded(final Change change) {
-    m_changes.add(change);
+    // adding a change may fill a page, which is then encoded
+    m_data.acquireReadLock();
+    try {
+      m_changes.add(change);
+    } finally {
+      m_data.releaseReadLock();
+    }
     if (m_currentNode == null) {
       return;
     }
@@ -169,11 +211,15 @@ public class History extends DefaultTreeModel {
     }
   }
 
-  private Object writeReplace() {
+  synchronized void loadedChangesAdded(final int count) {
+    m_changes.addLoaded(count);
+  }
+
+  private Object writeReplace() throws ObjectStreamException {
     return new SerializedHistory(this, m_data, m_changes);
   }
 
-  List<Change> getChanges() {
+  HistoryChanges getChanges() {
     return m_changes;
   }
 
@@ -186,44 +232,77 @@ public class History extends DefaultTreeModel {
 /**
  * DefaultTreeModel is not serializable across jdk versions
  * Instead we use an instance of this class to store our data.
+ * The changes are stored in their encoded pages, and only counted between the nodes.
+ * Games saved before the changes were paged have every change in between the nodes instead.
  */
 class SerializedHistory implements Serializable {
   private static final long serialVersionUID = -5808427923253751651L;
   private final List<SerializationWriter> m_Writers = new ArrayList<>();
   private final GameData m_data;
+  private final List<byte[]> changePages;
+  private final int changeCount;
 
-  public SerializedHistory(final History history, final GameData data, final List<Change> changes) {
+  public SerializedHistory(final History history, final GameData data, final HistoryChanges changes)
+      throws ObjectStreamException {
     m_data = data;
+    changeCount = changes.size();
+    try {
+      changePages = changes.encode();
+    } catch (final IOException e) {
+      final InvalidObjectException invalid = new InvalidObjectException("Could not write history changes");
+      invalid.initCause(e);
+      throw invalid;
+    }
     int changeIndex = 0;
     final Enumeration<?> enumeration = ((DefaultMutableTreeNode) history.getRoot()).preorderEnumeration();
     enumeration.nextElement();
     while (enumeration.hasMoreElements()) {
       final HistoryNode node = (HistoryNode) enumeration.nextElement();
-      // write the changes to the start of the node
+      // count the changes to the start of the node
       if (node instanceof IndexedHistoryNode) {
-        while (changeIndex < ((IndexedHistoryNode) node).getChangeStartIndex()) {
-          m_Writers.add(new ChangeSerializationWriter(changes.get(changeIndex)));
-          changeIndex++;
+        final int changeStartIndex = ((IndexedHistoryNode) node).getChangeStartIndex();
+        if (changeIndex < changeStartIndex) {
+          m_Writers.add(new ChangeCountSerializationWriter(changeStartIndex - changeIndex));
+          changeIndex = changeStartIndex;
         }
       }
       // write the node itself
       m_Writers.add(node.getWriter());
     }
-    // write out remaining changes
-    while (changeIndex < changes.size()) {
-      m_Writers.add(new ChangeSerializationWriter(changes.get(changeIndex)));
-      changeIndex++;
+    // count the remaining changes
+    if (changeIndex < changeCount) {
+      m_Writers.add(new ChangeCountSerializationWriter(changeCount - changeIndex));
     }
   }
 
   public Object readResolve() {
     final History rVal = new History(m_data);
+    if (changePages != null) {
+      rVal.getChanges().load(changePages, changeCount);
+    }
     final HistoryWriter historyWriter = rVal.getHistoryWriter();
     for (final SerializationWriter element : m_Writers) {
       element.write(historyWriter);
     }
     return rVal;
   }
+
+  /**
+   * Counts changes, already loaded from the pages, in between the nodes.
+   */
+  private static final class ChangeCountSerializationWriter implements SerializationWriter {
+    private static final long serialVersionUID = 3283574016218652290L;
+    private final int count;
+
+    ChangeCountSerializationWriter(final int count) {
+      this.count = count;
+    }
+
+    @Override
+    public void write(final HistoryWriter writer) {
+      writer.addLoadedChanges(count);
+    }
+  }
 }
 
 
@@ -241,6 +320,9 @@ class RootHistoryNode extends HistoryNode {
 }
 
 
+/**
+ * Only read from games saved before the changes were paged.
+ */
 class ChangeSerializationWriter implements SerializationWriter {
   private static final long serialVersionUID = -3802807345707883606L;
   private final Change aChange;
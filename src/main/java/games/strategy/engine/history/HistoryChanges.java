@@ -0,0 +1,228 @@
+package games.strategy.engine.history;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.zip.DeflaterOutputStream;
+import java.util.zip.InflaterInputStream;
+
+import games.strategy.debug.ClientLogger;
+import games.strategy.engine.data.Change;
+import games.strategy.engine.data.GameData;
+import games.strategy.engine.data.GameObjectInputStream;
+import games.strategy.engine.data.GameObjectOutputStream;
+import games.strategy.engine.framework.GameObjectStreamFactory;
+
+/**
+ * The changes made over the history of a game, kept in pages of {@link #PAGE_SIZE} changes.
+ *
+ * <p>
+ * Only the changes after the last full page are kept as they are. A full page is encoded and compressed, and is only
+ * decoded again when the history is browsed to a node that needs its changes, keeping the few most recently used
+ * pages decoded. Save games hold the encoded pages, so loading a game doesn't read any of the changes until they are
+ * needed.
+ * </p>
+ *
+ * <p>
+ * Changes are encoded the way they are sent to other players, so game objects are written by name and units by id,
+ * and the game data must be locked while a page is encoded or decoded.
+ * </p>
+ */
+class HistoryChanges {
+  static final int PAGE_SIZE = 256;
+  private static final int DECODED_PAGES = 8;
+
+  private final GameData data;
+  // all full, except for the last one after a game is loaded, while the open page is empty
+  private final List<Page> pages = new ArrayList<>();
+  private List<Change> open = new ArrayList<>();
+  private final Map<Page, List<Change>> decoded = new LinkedHashMap<Page, List<Change>>(DECODED_PAGES, 0.75f, true) {
+    private static final long serialVersionUID = -4071203598346210435L;
+
+    @Override
+    protected boolean removeEldestEntry(final Map.Entry<Page, List<Change>> eldest) {
+      return size() > DECODED_PAGES;
+    }
+  };
+  // while a game is loaded, the loaded changes are only counted once the nodes before them are
+  private volatile int size = 0;
+
+  HistoryChanges(final GameData data) {
+    this.data = data;
+  }
+
+  /**
+   * Unlike the other methods, this doesn't wait for a page being encoded or decoded.
+   */
+  int size() {
+    return size;
+  }
+
+  synchronized void add(final Change change) {
+    if (size != getLoadedSize()) {
+      throw new IllegalStateException("Changes still loading");
+    }
+    if (open.isEmpty() && !pages.isEmpty() && pages.get(pages.size() - 1).count < PAGE_SIZE) {
+      final Page last = pages.remove(pages.size() - 1);
+      open = new ArrayList<>(getPage(last));
+      decoded.remove(last);
+    }
+    open.add(change);
+    size++;
+    if (open.size() == PAGE_SIZE) {
+      pages.add(Page.encode(open, data));
+      open = new ArrayList<>();
+    }
+  }
+
+  /**
+   * Sets the pages of a loaded game, whose changes are then counted by {@link #addLoaded(int)}.
+   */
+  synchronized void load(final List<byte[]> encodedPages, final int count) {
+    if (size != 0 || !pages.isEmpty() || !open.isEmpty()) {
+      throw new IllegalStateException("Changes already added");
+    }
+    int remaining = count;
+    for (final byte[] bytes : encodedPages) {
+      final int pageCount = Math.min(PAGE_SIZE, remaining);
+      pages.add(new Page(bytes, pageCount));
+      remaining -= pageCount;
+    }
+    if (remaining != 0) {
+      throw new IllegalStateException("Missing " + remaining + " changes");
+    }
+  }
+
+  synchronized void addLoaded(final int count) {
+    if (size + count > getLoadedSize()) {
+      throw new IllegalStateException("Only " + getLoadedSize() + " changes loaded");
+    }
+    size += count;
+  }
+
+  private int getLoadedSize() {
+    return pages.isEmpty() ? open.size()
+        : (pages.size() - 1) * PAGE_SIZE + pages.get(pages.size() - 1).count + open.size();
+  }
+
+  /**
+   * @return The changes from the first index up to, but not including, the second.
+   */
+  synchronized List<Change> get(final int from, final int to) {
+    if (from < 0 || from > to || to > getLoadedSize()) {
+      throw new IndexOutOfBoundsException("From:" + from + " to:" + to + " size:" + getLoadedSize());
+    }
+    final List<Change> changes = new ArrayList<>(to - from);
+    int index = from;
+    while (index < to) {
+      final int pageIndex = index / PAGE_SIZE;
+      final List<Change> page = pageIndex < pages.size() ? getPage(pages.get(pageIndex)) : open;
+      final int offset = index - pageIndex * PAGE_SIZE;
+      final int end = Math.min(page.size(), offset + to - index);
+      changes.addAll(page.subList(offset, end));
+      index += end - offset;
+    }
+    return changes;
+  }
+
+  /**
+   * Removes the changes from the given index on.
+   */
+  synchronized void truncate(final int newSize) {
+    if (newSize >= size) {
+      return;
+    }
+    final int pageIndex = newSize / PAGE_SIZE;
+    if (pageIndex < pages.size()) {
+      open = new ArrayList<>(getPage(pages.get(pageIndex)).subList(0, newSize - pageIndex * PAGE_SIZE));
+      while (pages.size() > pageIndex) {
+        decoded.remove(pages.remove(pages.size() - 1));
+      }
+    } else {
+      open.subList(newSize - pageIndex * PAGE_SIZE, open.size()).clear();
+    }
+    size = newSize;
+  }
+
+  /**
+   * @return Every change, encoded in pages.
+   */
+  synchronized List<byte[]> encode() throws IOException {
+    final List<byte[]> encodedPages = new ArrayList<>(pages.size() + 1);
+    for (final Page page : pages) {
+      encodedPages.add(page.bytes != null ? page.bytes : Page.write(page.changes, data));
+    }
+    if (!open.isEmpty()) {
+      encodedPages.add(Page.write(open, data));
+    }
+    return encodedPages;
+  }
+
+  private List<Change> getPage(final Page page) {
+    if (page.changes != null) {
+      return page.changes;
+    }
+    return decoded.computeIfAbsent(page, this::decode);
+  }
+
+  private List<Change> decode(final Page page) {
+    try (ObjectInputStream in = new GameObjectInputStream(new GameObjectStreamFactory(data),
+        new InflaterInputStream(new ByteArrayInputStream(page.bytes)))) {
+      final List<Change> changes = new ArrayList<>(page.count);
+      for (int i = 0; i < page.count; i++) {
+        changes.add((Change) in.readObject());
+      }
+      return changes;
+    } catch (final IOException | ClassNotFoundException e) {
+      throw new IllegalStateException("Could not read history changes", e);
+    }
+  }
+
+  private static final class Page {
+    private final byte[] bytes;
+    // only if the page could not be encoded
+    private final List<Change> changes;
+    private final int count;
+
+    Page(final byte[] bytes, final int count) {
+      this.bytes = bytes;
+      this.changes = null;
+      this.count = count;
+    }
+
+    private Page(final List<Change> changes) {
+      this.bytes = null;
+      this.changes = changes;
+      this.count = changes.size();
+    }
+
+    static Page encode(final List<Change> changes, final GameData data) {
+      try {
+        return new Page(write(changes, data), changes.size());
+      } catch (final IOException | RuntimeException e) {
+        // keep the changes as they are, a save game will try again
+        ClientLogger.logQuietly(e);
+        return new Page(changes);
+      }
+    }
+
+    static byte[] write(final List<Change> changes, final GameData data) throws IOException {
+      final ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+      data.acquireReadLock();
+      try (ObjectOutputStream out = new GameObjectOutputStream(new DeflaterOutputStream(bytes), true)) {
+        for (final Change change : changes) {
+          out.writeObject(change);
+        }
+      } finally {
+        data.releaseReadLock();
+      }
+      return bytes.toByteArray();
+    }
+  }
+}
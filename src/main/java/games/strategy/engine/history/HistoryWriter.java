@@ -160,6 +160,14 @@ public class HistoryWriter implements java.io.Serializable {
     m_history.changeAdded(change);
   }
 
+  /**
+   * Counts the next changes of a loaded history as part of the current step or event.
+   */
+  void addLoadedChanges(final int count) {
+    assertCorrectThread();
+    m_history.loadedChangesAdded(count);
+  }
+
   public void setRenderingData(final Object details) {
     assertCorrectThread();
     if (!isCurrentEvent()) {
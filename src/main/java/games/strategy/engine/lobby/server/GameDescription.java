@@ -6,8 +6,6 @@ import java.io.ObjectInput;
 import java.io.ObjectOutput;
 import java.time.Instant;
 
-import games.strategy.engine.framework.GameRunner;
-import games.strategy.engine.framework.headlessGameServer.HeadlessGameServer;
 import games.strategy.net.INode;
 import games.strategy.net.Node;
 
@@ -52,8 +50,7 @@ public class GameDescription implements Externalizable, Cloneable {
   private boolean m_passworded;
   private String m_engineVersion;
   private String m_gameVersion;
-  private String m_botSupportEmail =
-      HeadlessGameServer.getInstance() != null ? System.getProperty(GameRunner.LOBBY_GAME_SUPPORT_EMAIL, "") : "";
+  private String m_botSupportEmail = "";
 
   // if you add a field, add it to write/read object as well for Externalizable
   public GameDescription() {}
@@ -158,6 +155,11 @@ public class GameDescription implements Externalizable, Cloneable {
     return m_botSupportEmail;
   }
 
+  public void setBotSupportEmail(final String botSupportEmail) {
+    m_version++;
+    m_botSupportEmail = botSupportEmail;
+  }
+
   public String getRound() {
     return m_round;
   }
@@ -47,7 +47,7 @@ public class RemoteHostUtils implements IRemoteHostUtils {
     if (!MessageContext.getSender().equals(m_serverNode)) {
       return "Not accepted!";
     }
-    final HeadlessGameServer instance = HeadlessGameServer.getInstance();
+    final HeadlessGameServer instance = HeadlessGameServer.forMessenger(m_serverMessenger);
     if (instance == null) {
       return "Not a headless host bot!";
     }
@@ -60,7 +60,7 @@ public class RemoteHostUtils implements IRemoteHostUtils {
     if (!MessageContext.getSender().equals(m_serverNode)) {
       return "Not accepted!";
     }
-    final HeadlessGameServer instance = HeadlessGameServer.getInstance();
+    final HeadlessGameServer instance = HeadlessGameServer.forMessenger(m_serverMessenger);
     if (instance == null) {
       return "Not a headless host bot!";
     }
@@ -73,7 +73,7 @@ public class RemoteHostUtils implements IRemoteHostUtils {
     if (!MessageContext.getSender().equals(m_serverNode)) {
       return "Not accepted!";
     }
-    final HeadlessGameServer instance = HeadlessGameServer.getInstance();
+    final HeadlessGameServer instance = HeadlessGameServer.forMessenger(m_serverMessenger);
     if (instance == null) {
       return "Not a headless host bot!";
     }
@@ -86,7 +86,7 @@ public class RemoteHostUtils implements IRemoteHostUtils {
     if (!MessageContext.getSender().equals(m_serverNode)) {
       return "Not accepted!";
     }
-    final HeadlessGameServer instance = HeadlessGameServer.getInstance();
+    final HeadlessGameServer instance = HeadlessGameServer.forMessenger(m_serverMessenger);
     if (instance == null) {
       return "Not a headless host bot!";
     }
@@ -98,7 +98,7 @@ public class RemoteHostUtils implements IRemoteHostUtils {
     if (!MessageContext.getSender().equals(m_serverNode)) {
       return "Not accepted!";
     }
-    final HeadlessGameServer instance = HeadlessGameServer.getInstance();
+    final HeadlessGameServer instance = HeadlessGameServer.forMessenger(m_serverMessenger);
     if (instance == null) {
       return "Not a headless host bot!";
     }
@@ -110,7 +110,7 @@ public class RemoteHostUtils implements IRemoteHostUtils {
     if (!MessageContext.getSender().equals(m_serverNode)) {
       return "Not accepted!";
     }
-    final HeadlessGameServer instance = HeadlessGameServer.getInstance();
+    final HeadlessGameServer instance = HeadlessGameServer.forMessenger(m_serverMessenger);
     if (instance == null) {
       return "Not a headless host bot!";
     }
@@ -122,7 +122,7 @@ public class RemoteHostUtils implements IRemoteHostUtils {
     if (!MessageContext.getSender().equals(m_serverNode)) {
       return "Not accepted!";
     }
-    final HeadlessGameServer instance = HeadlessGameServer.getInstance();
+    final HeadlessGameServer instance = HeadlessGameServer.forMessenger(m_serverMessenger);
     if (instance == null) {
       return "Not a headless host bot!";
     }
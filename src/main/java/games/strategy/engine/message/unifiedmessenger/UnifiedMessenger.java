@@ -5,8 +5,10 @@ import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.concurrent.CountDownLatch;
-import java.util.concurrent.ExecutorService;
-import java.util.concurrent.Executors;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.logging.Level;
 import java.util.logging.Logger;
 
@@ -34,7 +36,11 @@ import games.strategy.util.ThreadUtil;
 public class UnifiedMessenger {
   private static final Logger s_logger = Logger.getLogger(UnifiedMessenger.class.getName());
 
-  private static final ExecutorService threadPool = Executors.newFixedThreadPool(15);
+  private static final AtomicInteger threadCount = new AtomicInteger();
+
+  // runs the invocations of local end points; each messenger has its own, so that a host running several games
+  // can't have one game's invocations fill up the pool and hold up another's
+  private final ThreadPoolExecutor threadPool;
   // the messenger we are based on
   private final IMessenger m_messenger;
   // lock on this for modifications to create or remove local end points
@@ -60,6 +66,9 @@ public class UnifiedMessenger {
    */
   public UnifiedMessenger(final IMessenger messenger) {
     m_messenger = messenger;
+    threadPool = new ThreadPoolExecutor(15, 15, 60, TimeUnit.SECONDS, new LinkedBlockingQueue<>(),
+        UnifiedMessenger::newThread);
+    threadPool.allowCoreThreadTimeOut(true);
     final IMessageListener m_messageListener = (msg, from) -> UnifiedMessenger.this.messageReceived(msg, from);
     m_messenger.addMessageListener(m_messageListener);
     final IMessengerErrorListener m_messengerErrorListener =
@@ -70,6 +79,12 @@ public class UnifiedMessenger {
     }
   }
 
+  private static Thread newThread(final Runnable r) {
+    final Thread thread = new Thread(r, "Unified messenger invoker " + threadCount.incrementAndGet());
+    thread.setDaemon(false);
+    return thread;
+  }
+
   UnifiedMessengerHub getHub() {
     return m_hub;
   }
@@ -289,26 +304,32 @@ public class UnifiedMessenger {
       // guarantee that the thread pool task will run before
       // we get the next message notification
       // get the number for the invocation here
-      final long methodRunNumber = local.takeANumber();
       // we dont want to block the message thread, only one thread is
       // reading messages
       // per connection, so run with out thread pool
       final EndPoint localFinal = local;
-      final Runnable task = () -> {
-        final List<RemoteMethodCallResults> results =
-            localFinal.invokeLocal(invoke.call, methodRunNumber, invoke.getInvoker());
-        if (invoke.needReturnValues) {
-          RemoteMethodCallResults result = null;
-          if (results.size() == 1) {
-            result = results.get(0);
-          } else {
-            result = new RemoteMethodCallResults(
-                new IllegalStateException("Invalid result count" + results.size()) + " for end point:" + localFinal);
+      final long methodRunNumber;
+      final Runnable task;
+      // the messages of different connections are read on different threads, so take the number and queue
+      // the task together, otherwise the pool can fill up with tasks waiting on a number queued behind them
+      synchronized (local) {
+        methodRunNumber = local.takeANumber();
+        task = () -> {
+          final List<RemoteMethodCallResults> results =
+              localFinal.invokeLocal(invoke.call, methodRunNumber, invoke.getInvoker());
+          if (invoke.needReturnValues) {
+            RemoteMethodCallResults result = null;
+            if (results.size() == 1) {
+              result = results.get(0);
+            } else {
+              result = new RemoteMethodCallResults(
+                  new IllegalStateException("Invalid result count" + results.size()) + " for end point:" + localFinal);
+            }
+            send(new HubInvocationResults(result, invoke.methodCallID), from);
           }
-          send(new HubInvocationResults(result, invoke.methodCallID), from);
-        }
-      };
-      threadPool.execute(task);
+        };
+        threadPool.execute(task);
+      }
     } else if (msg instanceof SpokeInvocationResults) { // a remote machine is returning results
       // if this isn't the server, something is wrong
       // maybe an attempt to spoof a message
@@ -4,7 +4,10 @@ import java.io.Externalizable;
 import java.io.IOException;
 import java.io.ObjectInput;
 import java.io.ObjectOutput;
+import java.io.StreamCorruptedException;
 import java.rmi.dgc.VMID;
+import java.util.List;
+import java.util.Map;
 import java.util.concurrent.atomic.AtomicInteger;
 
 /**
@@ -34,6 +37,11 @@ public class GUID implements Externalizable {
     }
   }
 
+  private GUID(final int id, final VMID prefix) {
+    m_id = id;
+    m_prefix = prefix;
+  }
+
   @Override
   public boolean equals(final Object o) {
     if (o == null) {
@@ -70,4 +78,38 @@ public class GUID implements Externalizable {
     out.writeInt(m_id);
     out.writeObject(m_prefix);
   }
+
+  /**
+   * Writes this id in as few bytes as possible. Almost all ids written together share a few prefixes, so each prefix
+   * is only written the first time, and after that by its position in the given prefixes.
+   */
+  public void writeCompact(final ObjectOutput out, final Map<VMID, Integer> prefixes) throws IOException {
+    final Integer index = prefixes.get(m_prefix);
+    if (index == null) {
+      WireProtocol.writeVarInt(out, 0);
+      out.writeObject(m_prefix);
+      prefixes.put(m_prefix, prefixes.size());
+    } else {
+      WireProtocol.writeVarInt(out, index + 1);
+    }
+    WireProtocol.writeVarInt(out, m_id);
+  }
+
+  /**
+   * Reads an id written by {@link #writeCompact(ObjectOutput, Map)}.
+   */
+  public static GUID readCompact(final ObjectInput in, final List<VMID> prefixes)
+      throws IOException, ClassNotFoundException {
+    final int index = WireProtocol.readVarInt(in);
+    final VMID prefix;
+    if (index == 0) {
+      prefix = (VMID) in.readObject();
+      prefixes.add(prefix);
+    } else if (index <= prefixes.size()) {
+      prefix = prefixes.get(index - 1);
+    } else {
+      throw new StreamCorruptedException("Unknown prefix:" + index);
+    }
+    return new GUID(WireProtocol.readVarInt(in), prefix);
+  }
 }
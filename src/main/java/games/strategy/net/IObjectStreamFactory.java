@@ -10,4 +10,12 @@ public interface IObjectStreamFactory {
   ObjectInputStream create(InputStream stream) throws IOException;
 
   ObjectOutputStream create(OutputStream stream) throws IOException;
+
+  /**
+   * Creates a stream writing in the given {@link WireProtocol} version. Factories that only know plain serialization
+   * write every version the same way.
+   */
+  default ObjectOutputStream create(final OutputStream stream, final int wireProtocol) throws IOException {
+    return create(stream);
+  }
 }
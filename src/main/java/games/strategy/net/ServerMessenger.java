@@ -34,6 +34,7 @@ import games.strategy.engine.message.HubInvoke;
 import games.strategy.engine.message.RemoteMethodCall;
 import games.strategy.engine.message.RemoteName;
 import games.strategy.engine.message.SpokeInvoke;
+import games.strategy.net.nio.DecodeStatistics;
 import games.strategy.net.nio.NIOSocket;
 import games.strategy.net.nio.NIOSocketListener;
 import games.strategy.net.nio.QuarantineConversation;
@@ -111,6 +112,20 @@ public class ServerMessenger implements IServerMessenger, NIOSocketListener {
     return rVal;
   }
 
+  /**
+   * @return How far behind decoding is for each connected node, and how long decoding its messages takes.
+   */
+  public Map<INode, DecodeStatistics> getDecodeStatistics() {
+    final Map<INode, DecodeStatistics> statistics = new HashMap<>();
+    for (final Map.Entry<SocketChannel, DecodeStatistics> entry : nioSocket.getDecodeStatistics().entrySet()) {
+      final INode remote = channelToNode.get(entry.getKey());
+      if (remote != null) {
+        statistics.put(remote, entry.getValue());
+      }
+    }
+    return statistics;
+  }
+
   @Override
   public synchronized void shutDown() {
     if (!shutdown) {
@@ -465,11 +480,8 @@ public class ServerMessenger implements IServerMessenger, NIOSocketListener {
     if (logger.isLoggable(Level.FINEST)) {
       logger.log(Level.FINEST, "broadcasting to" + nodes);
     }
-    for (final SocketChannel channel : nodes) {
-      if (channel != fromChannel) {
-        nioSocket.send(channel, msg);
-      }
-    }
+    nodes.removeIf(channel -> channel == fromChannel);
+    nioSocket.send(nodes, msg);
   }
 
   private boolean isNameTaken(final String nodeName) {
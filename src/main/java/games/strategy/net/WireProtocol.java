@@ -0,0 +1,90 @@
+package games.strategy.net;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+import java.io.StreamCorruptedException;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * The versions of the format messages are written in.
+ *
+ * <p>
+ * The server offers the latest version it knows with its login challenge, and a client that knows about versions
+ * answers with the latest version both know. Each side then writes its messages to the other in that version. A peer
+ * from before versions existed never sees or sends the property, so it keeps getting plain Java serialization. Reading
+ * a message does not depend on the version, since every version is made of classes that describe themselves.
+ * </p>
+ */
+public final class WireProtocol {
+  /**
+   * Messages are written with Java serialization only.
+   */
+  public static final int JAVA_SERIALIZATION = 0;
+  /**
+   * The most common game changes are written with hand written encodings.
+   */
+  public static final int COMPACT = 1;
+  static final int LATEST = COMPACT;
+  static final String LOGIN_PROPERTY = "WireProtocol";
+
+  private WireProtocol() {}
+
+  /**
+   * @return A copy of the login properties with the latest version added.
+   */
+  public static Map<String, String> offer(final Map<String, String> properties) {
+    final Map<String, String> offer = new HashMap<>(properties);
+    offer.put(LOGIN_PROPERTY, String.valueOf(LATEST));
+    return offer;
+  }
+
+  /**
+   * @return The latest version known both here and by the peer that sent the login properties, or
+   *         {@link #JAVA_SERIALIZATION} if the peer doesn't know about versions.
+   */
+  public static int getAgreedVersion(final Map<String, String> properties) {
+    if (properties == null || properties.get(LOGIN_PROPERTY) == null) {
+      return JAVA_SERIALIZATION;
+    }
+    try {
+      return Math.max(JAVA_SERIALIZATION, Math.min(LATEST, Integer.parseInt(properties.get(LOGIN_PROPERTY))));
+    } catch (final NumberFormatException e) {
+      return JAVA_SERIALIZATION;
+    }
+  }
+
+  /**
+   * Writes a non negative int in one to five bytes, seven bits at a time, so small values take a single byte.
+   */
+  public static void writeVarInt(final DataOutput out, final int value) throws IOException {
+    if (value < 0) {
+      throw new IllegalArgumentException("Negative value:" + value);
+    }
+    int remaining = value;
+    while ((remaining & ~0x7F) != 0) {
+      out.writeByte((remaining & 0x7F) | 0x80);
+      remaining >>>= 7;
+    }
+    out.writeByte(remaining);
+  }
+
+  /**
+   * Reads an int written by {@link #writeVarInt(DataOutput, int)}.
+   */
+  public static int readVarInt(final DataInput in) throws IOException {
+    int value = 0;
+    for (int shift = 0; shift < 32; shift += 7) {
+      final int b = in.readUnsignedByte();
+      value |= (b & 0x7F) << shift;
+      if ((b & 0x80) == 0) {
+        if (value < 0) {
+          throw new StreamCorruptedException("Negative var int:" + value);
+        }
+        return value;
+      }
+    }
+    throw new StreamCorruptedException("Var int too long");
+  }
+}
@@ -11,6 +11,7 @@ import java.util.logging.Logger;
 import games.strategy.net.IConnectionLogin;
 import games.strategy.net.MessageHeader;
 import games.strategy.net.Node;
+import games.strategy.net.WireProtocol;
 
 public class ClientQuarantineConversation extends QuarantineConversation {
   private static final Logger s_logger = Logger.getLogger(ClientQuarantineConversation.class.getName());
@@ -32,6 +33,7 @@ public class ClientQuarantineConversation extends QuarantineConversation {
   private InetSocketAddress serverLocalAddress;
   private Map<String, String> challengeProperties;
   private Map<String, String> challengeResponse;
+  private int wireProtocol = WireProtocol.JAVA_SERIALIZATION;
   private volatile boolean isClosed = false;
   private volatile String errorMessage;
 
@@ -114,6 +116,13 @@ public class ClientQuarantineConversation extends QuarantineConversation {
             if (s_logger.isLoggable(Level.FINER)) {
               s_logger.log(Level.FINER, "writing response" + challengeResponse);
             }
+            if (challengeResponse != null) {
+              // accept the newest wire protocol the server offered that we know
+              wireProtocol = WireProtocol.getAgreedVersion(challenge);
+              if (wireProtocol != WireProtocol.JAVA_SERIALIZATION) {
+                challengeResponse = WireProtocol.offer(challengeResponse);
+              }
+            }
             send((Serializable) challengeResponse);
           } else {
             showLatch.countDown();
@@ -157,6 +166,7 @@ public class ClientQuarantineConversation extends QuarantineConversation {
             s_logger.log(Level.FINE, "network visible address:" + networkVisibleAddress);
             s_logger.log(Level.FINE, "channel local adresss:" + channel.socket().getLocalSocketAddress());
           }
+          socket.setWireProtocol(channel, wireProtocol);
           return ACTION.UNQUARANTINE;
         default:
           throw new IllegalStateException("Invalid state");
@@ -0,0 +1,60 @@
+package games.strategy.net.nio;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * How far behind one connection is with decoding the packets read from it, and how long they take to decode.
+ */
+public final class DecodeStatistics {
+  private final AtomicInteger queueDepth = new AtomicInteger();
+  private final AtomicLong decodedCount = new AtomicLong();
+  private final AtomicLong totalDecodeNanos = new AtomicLong();
+  private final AtomicLong maxDecodeNanos = new AtomicLong();
+
+  DecodeStatistics() {}
+
+  void queued() {
+    queueDepth.incrementAndGet();
+  }
+
+  void dequeued() {
+    queueDepth.decrementAndGet();
+  }
+
+  void decoded(final long nanos) {
+    decodedCount.incrementAndGet();
+    totalDecodeNanos.addAndGet(nanos);
+    maxDecodeNanos.accumulateAndGet(nanos, Math::max);
+  }
+
+  /**
+   * @return The number of packets read but not decoded yet.
+   */
+  public int getQueueDepth() {
+    return queueDepth.get();
+  }
+
+  public long getDecodedCount() {
+    return decodedCount.get();
+  }
+
+  /**
+   * @return The average time it took to decode a packet, in milliseconds.
+   */
+  public double getAverageDecodeMillis() {
+    final long count = decodedCount.get();
+    return count == 0 ? 0 : totalDecodeNanos.get() / (double) count / TimeUnit.MILLISECONDS.toNanos(1);
+  }
+
+  public double getMaxDecodeMillis() {
+    return maxDecodeNanos.get() / (double) TimeUnit.MILLISECONDS.toNanos(1);
+  }
+
+  @Override
+  public String toString() {
+    return String.format("queued:%d decoded:%d average ms:%.2f max ms:%.2f", getQueueDepth(), getDecodedCount(),
+        getAverageDecodeMillis(), getMaxDecodeMillis());
+  }
+}
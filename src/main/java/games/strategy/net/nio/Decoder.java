@@ -7,7 +7,16 @@ import java.io.ObjectInputStream;
 import java.io.Serializable;
 import java.net.Socket;
 import java.nio.channels.SocketChannel;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Queue;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.logging.Level;
 import java.util.logging.Logger;
 
@@ -23,10 +32,20 @@ import games.strategy.net.Node;
 import games.strategy.net.nio.QuarantineConversation.ACTION;
 
 /**
- * A thread to Decode messages from a reader.
+ * Decodes messages from a reader.
+ *
+ * <p>
+ * A single thread takes the packets from the reader and hands them to the connection they were read from. Each
+ * connection decodes its packets in the order they were read, but different connections decode on a bounded pool of
+ * threads, so one large message, such as a game sent to an observer, doesn't hold up the messages of everyone else.
+ * </p>
  */
 class Decoder {
   private static final Logger logger = Logger.getLogger(Decoder.class.getName());
+  private static final int THREADS = Math.max(2, Math.min(8, Runtime.getRuntime().availableProcessors()));
+  // how many packets a connection decodes before giving its thread to the next connection
+  private static final int PACKETS_PER_TURN = 16;
+  private static final long SLOW_DECODE_NANOS = TimeUnit.SECONDS.toNanos(1);
   private final NIOReader reader;
   private volatile boolean running = true;
   private final IErrorReporter errorReporter;
@@ -38,6 +57,8 @@ class Decoder {
    */
   private final ConcurrentHashMap<SocketChannel, QuarantineConversation> quarantine =
       new ConcurrentHashMap<>();
+  private final Map<SocketChannel, ChannelDecoder> channelDecoders = new ConcurrentHashMap<>();
+  private final ExecutorService executor;
   private final Thread thread;
 
   Decoder(final NIOSocket nioSocket, final NIOReader reader, final IErrorReporter reporter,
@@ -46,6 +67,9 @@ class Decoder {
     errorReporter = reporter;
     this.objectStreamFactory = objectStreamFactory;
     this.nioSocket = nioSocket;
+    final AtomicInteger threadCount = new AtomicInteger();
+    executor = Executors.newFixedThreadPool(THREADS,
+        r -> new Thread(r, "Decoder -" + threadSuffix + " -" + threadCount.incrementAndGet()));
     thread = new Thread(() -> loop(), "Decoder -" + threadSuffix);
     thread.start();
   }
@@ -53,6 +77,18 @@ class Decoder {
   void shutDown() {
     running = false;
     thread.interrupt();
+    executor.shutdownNow();
+  }
+
+  /**
+   * @return How far behind each open connection is with decoding, and how long its packets take to decode.
+   */
+  Map<SocketChannel, DecodeStatistics> getStatistics() {
+    final Map<SocketChannel, DecodeStatistics> statistics = new HashMap<>();
+    for (final ChannelDecoder channelDecoder : channelDecoders.values()) {
+      statistics.put(channelDecoder.channel, channelDecoder.statistics);
+    }
+    return statistics;
   }
 
   private void loop() {
@@ -67,42 +103,10 @@ class Decoder {
         if (data == null || !running) {
           continue;
         }
-        if (logger.isLoggable(Level.FINEST)) {
-          logger.finest("Decoding packet:" + data);
-        }
-        final ByteArrayInputStream stream = new ByteArrayInputStream(data.getData());
-        try {
-          final MessageHeader header = readMessageHeader(data.getChannel(), objectStreamFactory.create(stream));
-          if (logger.isLoggable(Level.FINEST)) {
-            logger.log(Level.FINEST, "header decoded:" + header);
-          }
-          // make sure we are still open
-          final Socket s = data.getChannel().socket();
-          if (!running || s == null || s.isInputShutdown()) {
-            continue;
-          }
-          final QuarantineConversation converstation = quarantine.get(data.getChannel());
-          if (converstation != null) {
-            sendQuarantine(data.getChannel(), converstation, header);
-          } else {
-            if (nioSocket.getLocalNode() == null) {
-              throw new IllegalStateException("we are writing messages, but no local node");
-            }
-            if (header.getFrom() == null) {
-              throw new IllegalArgumentException("Null from:" + header);
-            }
-            if (logger.isLoggable(Level.FINER)) {
-              logger.log(Level.FINER, "decoded  msg:" + header.getMessage() + " size:" + data.size());
-            }
-            nioSocket.messageReceived(header, data.getChannel());
-          }
-        } catch (final Exception ioe) {
-          // we are reading from memory here
-          // there should be no network errors, something
-          // is odd
-          logger.log(Level.SEVERE, "error reading object", ioe);
-          errorReporter.error(data.getChannel(), ioe);
+        if (!data.getChannel().isOpen()) {
+          continue;
         }
+        channelDecoders.computeIfAbsent(data.getChannel(), ChannelDecoder::new).add(data);
       } catch (final Exception e) {
         // catch unhandles exceptions to that the decoder
         // thread doesnt die
@@ -111,6 +115,45 @@ class Decoder {
     }
   }
 
+  private void decode(final SocketReadData data) {
+    if (logger.isLoggable(Level.FINEST)) {
+      logger.finest("Decoding packet:" + data);
+    }
+    final ByteArrayInputStream stream = new ByteArrayInputStream(data.getData());
+    try {
+      final MessageHeader header = readMessageHeader(data.getChannel(), objectStreamFactory.create(stream));
+      if (logger.isLoggable(Level.FINEST)) {
+        logger.log(Level.FINEST, "header decoded:" + header);
+      }
+      // make sure we are still open
+      final Socket s = data.getChannel().socket();
+      if (!running || s == null || s.isInputShutdown()) {
+        return;
+      }
+      final QuarantineConversation converstation = quarantine.get(data.getChannel());
+      if (converstation != null) {
+        sendQuarantine(data.getChannel(), converstation, header);
+      } else {
+        if (nioSocket.getLocalNode() == null) {
+          throw new IllegalStateException("we are writing messages, but no local node");
+        }
+        if (header.getFrom() == null) {
+          throw new IllegalArgumentException("Null from:" + header);
+        }
+        if (logger.isLoggable(Level.FINER)) {
+          logger.log(Level.FINER, "decoded  msg:" + header.getMessage() + " size:" + data.size());
+        }
+        nioSocket.messageReceived(header, data.getChannel());
+      }
+    } catch (final Exception ioe) {
+      // we are reading from memory here
+      // there should be no network errors, something
+      // is odd
+      logger.log(Level.SEVERE, "error reading object", ioe);
+      errorReporter.error(data.getChannel(), ioe);
+    }
+  }
+
   private void sendQuarantine(final SocketChannel channel, final QuarantineConversation conversation,
       final MessageHeader header) {
     final ACTION a = conversation.message(header.getMessage());
@@ -207,10 +250,69 @@ class Decoder {
   }
 
   void closed(final SocketChannel channel) {
+    final ChannelDecoder channelDecoder = channelDecoders.remove(channel);
+    if (channelDecoder != null) {
+      channelDecoder.close();
+    }
     // remove if it exists
     final QuarantineConversation conversation = quarantine.remove(channel);
     if (conversation != null) {
       conversation.close();
     }
   }
+
+  /**
+   * The packets read from one connection, decoded one at a time and in order.
+   */
+  private final class ChannelDecoder implements Runnable {
+    private final SocketChannel channel;
+    private final Queue<SocketReadData> packets = new ConcurrentLinkedQueue<>();
+    private final AtomicBoolean scheduled = new AtomicBoolean();
+    private final DecodeStatistics statistics = new DecodeStatistics();
+    private volatile boolean closed = false;
+
+    ChannelDecoder(final SocketChannel channel) {
+      this.channel = channel;
+    }
+
+    void add(final SocketReadData packet) {
+      packets.add(packet);
+      statistics.queued();
+      schedule();
+    }
+
+    void close() {
+      closed = true;
+      packets.clear();
+    }
+
+    private void schedule() {
+      if (!packets.isEmpty() && scheduled.compareAndSet(false, true)) {
+        executor.execute(this);
+      }
+    }
+
+    @Override
+    public void run() {
+      try {
+        SocketReadData packet;
+        for (int i = 0; i < PACKETS_PER_TURN && !closed && (packet = packets.poll()) != null; i++) {
+          statistics.dequeued();
+          final long start = System.nanoTime();
+          decode(packet);
+          final long nanos = System.nanoTime() - start;
+          statistics.decoded(nanos);
+          if (nanos > SLOW_DECODE_NANOS && logger.isLoggable(Level.INFO)) {
+            logger.info("Slow decode from:" + channel.socket().getRemoteSocketAddress() + " size:" + packet.size()
+                + " " + statistics);
+          }
+        }
+      } finally {
+        scheduled.set(false);
+      }
+      if (!closed && running) {
+        schedule();
+      }
+    }
+  }
 }
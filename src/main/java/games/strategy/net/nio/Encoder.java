@@ -3,7 +3,13 @@ package games.strategy.net.nio;
 import java.io.Externalizable;
 import java.io.IOException;
 import java.io.ObjectOutputStream;
+import java.nio.ByteBuffer;
 import java.nio.channels.SocketChannel;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
 import java.util.logging.Level;
 import java.util.logging.Logger;
 
@@ -27,30 +33,38 @@ class Encoder {
   }
 
   void write(final SocketChannel to, final MessageHeader header) {
-    if (s_logger.isLoggable(Level.FINEST)) {
-      s_logger.log(Level.FINEST, "Encoding msg:" + header + " to:" + to);
-    }
-    if (header.getFrom() == null) {
-      throw new IllegalArgumentException("No from node");
-    }
     if (to == null) {
       throw new IllegalArgumentException("No to channel!");
     }
-    final ByteArrayOutputStream2 sink = new ByteArrayOutputStream2(512);
-    SocketWriteData data;
-    try {
-      write(header, m_objectStreamFactory.create(sink), to);
-      data = new SocketWriteData(sink.getBuffer(), sink.size());
-    } catch (final Exception e) {
-      // we arent doing any io, just writing in memory
-      // so something is very wrong
-      s_logger.log(Level.SEVERE, "Error writing object:" + header, e);
+    final ByteBuffer data = encode(header, to, m_nioSocket.getWireProtocol(to));
+    if (data != null) {
+      m_writer.enque(new SocketWriteData(data), to);
+    }
+  }
+
+  /**
+   * Writes a broadcast to many channels. A broadcast is encoded the same way for every channel that agreed on the same
+   * wire protocol, so it is only serialized once per protocol, and the packets of those channels share the same bytes.
+   */
+  void write(final Collection<SocketChannel> to, final MessageHeader header) {
+    if (!header.isBroadcast()) {
+      throw new IllegalArgumentException("Not a broadcast:" + header);
+    }
+    if (to.isEmpty()) {
       return;
     }
-    if (s_logger.isLoggable(Level.FINER)) {
-      s_logger.log(Level.FINER, "encoded  msg:" + header.getMessage() + " size:" + data.size());
+    final Map<Integer, List<SocketChannel>> byWireProtocol = new HashMap<>();
+    for (final SocketChannel channel : to) {
+      byWireProtocol.computeIfAbsent(m_nioSocket.getWireProtocol(channel), k -> new ArrayList<>()).add(channel);
+    }
+    for (final Map.Entry<Integer, List<SocketChannel>> entry : byWireProtocol.entrySet()) {
+      final ByteBuffer data = encode(header, null, entry.getKey());
+      if (data != null) {
+        for (final SocketChannel channel : entry.getValue()) {
+          m_writer.enque(new SocketWriteData(data), channel);
+        }
+      }
     }
-    m_writer.enque(data, to);
   }
 
   private void write(final MessageHeader header, final ObjectOutputStream out, final SocketChannel remote)
@@ -90,4 +104,30 @@ class Encoder {
     }
     out.reset();
   }
+
+  /**
+   * @return The encoded message, or null if it could not be encoded.
+   */
+  private ByteBuffer encode(final MessageHeader header, final SocketChannel to, final int wireProtocol) {
+    if (s_logger.isLoggable(Level.FINEST)) {
+      s_logger.log(Level.FINEST, "Encoding msg:" + header + " to:" + to);
+    }
+    if (header.getFrom() == null) {
+      throw new IllegalArgumentException("No from node");
+    }
+    final ByteArrayOutputStream2 sink = new ByteArrayOutputStream2(512);
+    try {
+      write(header, m_objectStreamFactory.create(sink, wireProtocol), to);
+    } catch (final Exception e) {
+      // we arent doing any io, just writing in memory
+      // so something is very wrong
+      s_logger.log(Level.SEVERE, "Error writing object:" + header, e);
+      return null;
+    }
+    if (s_logger.isLoggable(Level.FINER)) {
+      s_logger.log(Level.FINER, "encoded  msg:" + header.getMessage() + " size:" + sink.size());
+    }
+    // the sink is not used again, so its buffer can be written as it is
+    return ByteBuffer.wrap(sink.getBuffer(), 0, sink.size()).asReadOnlyBuffer();
+  }
 }
@@ -3,18 +3,22 @@ package games.strategy.net.nio;
 import java.io.IOException;
 import java.net.Socket;
 import java.nio.channels.SocketChannel;
+import java.util.Collection;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.logging.Level;
 import java.util.logging.Logger;
 
 import games.strategy.net.INode;
 import games.strategy.net.IObjectStreamFactory;
 import games.strategy.net.MessageHeader;
+import games.strategy.net.WireProtocol;
 
 /**
  * The threads needed for a group of sockets using NIO.
  * One thread reds socket data, one thread writes socket data
- * and one thread deserializes (decodes) packets read by the read
- * thread.
+ * and a small pool of threads deserializes (decodes) packets read by the read
+ * thread, keeping the packets of each socket in order.
  * serializing (encoding) objects to be written across the network is done
  * by threads calling this object.
  */
@@ -25,6 +29,7 @@ public class NIOSocket implements IErrorReporter {
   private final NIOWriter m_writer;
   private final NIOReader m_reader;
   private final NIOSocketListener m_listener;
+  private final Map<SocketChannel, Integer> wireProtocols = new ConcurrentHashMap<>();
 
   public NIOSocket(final IObjectStreamFactory factory, final NIOSocketListener listener, final String name) {
     m_listener = listener;
@@ -62,6 +67,19 @@ public class NIOSocket implements IErrorReporter {
     m_encoder.write(to, header);
   }
 
+  /**
+   * Sends a broadcast to all the given channels, serializing it only once.
+   */
+  public void send(final Collection<SocketChannel> to, final MessageHeader header) {
+    if (to == null) {
+      throw new IllegalArgumentException("to cant be null!");
+    }
+    if (header == null) {
+      throw new IllegalArgumentException("header cant be null");
+    }
+    m_encoder.write(to, header);
+  }
+
   /**
    * Add this channel.
    * The channel will either be unquarantined, or an error will be reported
@@ -75,6 +93,25 @@ public class NIOSocket implements IErrorReporter {
     m_reader.add(channel);
   }
 
+  /**
+   * Sets the {@link WireProtocol} version messages to the channel are written in, once both sides have agreed on it.
+   */
+  public void setWireProtocol(final SocketChannel channel, final int wireProtocol) {
+    wireProtocols.put(channel, wireProtocol);
+  }
+
+  int getWireProtocol(final SocketChannel channel) {
+    final Integer wireProtocol = wireProtocols.get(channel);
+    return wireProtocol == null ? WireProtocol.JAVA_SERIALIZATION : wireProtocol;
+  }
+
+  /**
+   * @return How far behind decoding is for each connection, and how long decoding its messages takes.
+   */
+  public Map<SocketChannel, DecodeStatistics> getDecodeStatistics() {
+    return m_decoder.getStatistics();
+  }
+
   void unquarantine(final SocketChannel channel, final QuarantineConversation conversation) {
     m_listener.socketUnqaurantined(channel, conversation);
   }
@@ -104,6 +141,7 @@ public class NIOSocket implements IErrorReporter {
     } catch (final IOException e1) {
       s_logger.log(Level.FINE, "error closing channel", e1);
     }
+    wireProtocols.remove(channel);
     m_decoder.closed(channel);
     m_writer.closed(channel);
     m_reader.closed(channel);
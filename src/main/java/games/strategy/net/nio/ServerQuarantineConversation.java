@@ -11,6 +11,7 @@ import games.strategy.net.ILoginValidator;
 import games.strategy.net.MessageHeader;
 import games.strategy.net.Node;
 import games.strategy.net.ServerMessenger;
+import games.strategy.net.WireProtocol;
 
 public class ServerQuarantineConversation extends QuarantineConversation {
   /**
@@ -79,7 +80,8 @@ public class ServerQuarantineConversation extends QuarantineConversation {
           if (s_logger.isLoggable(Level.FINER)) {
             s_logger.log(Level.FINER, "writing challenge:" + challenge);
           }
-          send((Serializable) challenge);
+          // offer the client a newer wire protocol along with the challenge
+          send((Serializable) (challenge == null ? null : WireProtocol.offer(challenge)));
           m_step = STEP.CHALLENGE;
           return ACTION.NONE;
         case CHALLENGE:
@@ -114,6 +116,8 @@ public class ServerQuarantineConversation extends QuarantineConversation {
           // Login succeeded, so notify the ServerMessenger about the login with the name, mac, etc.
           m_serverMessenger.notifyPlayerLogin(m_remoteName, m_channel.socket().getInetAddress().getHostAddress(),
               m_remoteMac);
+          // from now on, write to the client in the wire protocol it agreed on
+          m_socket.setWireProtocol(m_channel, WireProtocol.getAgreedVersion(challenge == null ? null : response));
           // We are good
           return ACTION.UNQUARANTINE;
         case ACK_ERROR:
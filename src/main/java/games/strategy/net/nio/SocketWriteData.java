@@ -27,17 +27,21 @@ class SocketWriteData {
   // how many times we called write before we finished writing ourselves
   private int m_writeCalls = 0;
 
-  SocketWriteData(final byte[] data, int count) {
-    m_content = ByteBuffer.allocate(count);
-    m_content.put(data, 0, count);
-    m_size = ByteBuffer.allocate(4);
+  /**
+   * Creates a packet that writes the remaining content of the buffer without copying it. The buffer's position and
+   * limit are not changed, so one buffer can be shared by the packets of a message sent to many channels, as long as
+   * its content is not changed.
+   */
+  SocketWriteData(final ByteBuffer content) {
+    m_content = content.slice();
+    int count = m_content.remaining();
     if (count < 0 || count > SocketReadData.MAX_MESSAGE_SIZE) {
       throw new IllegalStateException("Invalid message size:" + count);
     }
+    m_size = ByteBuffer.allocate(4);
     count = count ^ SocketReadData.MAGIC;
     m_size.putInt(count);
     m_size.flip();
-    m_content.flip();
   }
 
   int size() {
@@ -56,6 +56,8 @@ public class TripleAUnit extends Unit {
   public static final String AIRBORNE = "airborne";
   // the transport that is currently transporting us
   private TripleAUnit m_transportedBy = null;
+  // the units whose transportedBy is us, kept up to date by setTransportedBy, wherever they are
+  private transient List<TripleAUnit> cargo;
   // the units we have unloaded this turn
   private List<Unit> m_unloaded = Collections.emptyList();
   // was this unit loaded this turn?
@@ -101,24 +103,66 @@ public class TripleAUnit extends Unit {
     return m_transportedBy;
   }
 
+  /**
+   * Sets the transport carrying this unit, and moves this unit from the old transport's cargo to the new one's.
+   */
   @GameProperty(xmlProperty = false, gameProperty = true, adds = false)
   public void setTransportedBy(final TripleAUnit transportedBy) {
+    if (m_transportedBy != null) {
+      m_transportedBy.removeCargo(this);
+    }
     m_transportedBy = transportedBy;
+    if (transportedBy != null) {
+      transportedBy.addCargo(this);
+    }
+  }
+
+  private void addCargo(final TripleAUnit unit) {
+    if (cargo == null) {
+      cargo = new ArrayList<>();
+    }
+    if (cargo.stream().noneMatch(o -> o == unit)) {
+      cargo.add(unit);
+    }
+  }
+
+  private void removeCargo(final TripleAUnit unit) {
+    if (cargo != null) {
+      // units are equal by id, and a stale copy of a unit must not remove the real one
+      cargo.removeIf(o -> o == unit);
+    }
   }
 
   /**
-   * This is a very slow method because it checks all territories on the map. Try not to use this method if possible.
+   * Adds each of the units to the cargo of the transport carrying it, if it isn't there already. The cargo isn't
+   * serialized, so it is rebuilt this way once the units have been read.
+   */
+  public static void addToCargo(final Collection<Unit> units) {
+    for (final Unit unit : units) {
+      if (unit instanceof TripleAUnit) {
+        final TripleAUnit tripleAUnit = (TripleAUnit) unit;
+        if (tripleAUnit.m_transportedBy != null) {
+          tripleAUnit.m_transportedBy.addCargo(tripleAUnit);
+        }
+      }
+    }
+  }
+
+  /**
+   * Returns the units in the same territory as this unit that are being transported by it.
    */
   public List<Unit> getTransporting() {
-    // we don't store the units we are transporting
-    // rather we look at the transported by property of units
-    for (final Territory t : getData().getMap()) {
-      // find the territory this transport is in
-      if (t.getUnits().getUnits().contains(this)) {
-        return t.getUnits().getMatches(Match.of(o -> TripleAUnit.get(o).getTransportedBy() == TripleAUnit.this));
+    final Territory territory = getTerritoryUnitIsIn();
+    if (cargo == null || territory == null) {
+      return Collections.emptyList();
+    }
+    final List<Unit> transporting = new ArrayList<>(cargo.size());
+    for (final TripleAUnit unit : cargo) {
+      if (unit.getTransportedBy() == this && unit.getTerritoryUnitIsIn() == territory) {
+        transporting.add(unit);
       }
     }
-    return Collections.emptyList();
+    return transporting;
   }
 
   public List<Unit> getTransporting(final Collection<Unit> transportedUnitsPossible) {
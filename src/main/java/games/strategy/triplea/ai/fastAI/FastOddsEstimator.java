@@ -15,6 +15,7 @@ import games.strategy.triplea.ai.proAI.util.ProPurchaseUtils;
 import games.strategy.triplea.oddsCalculator.ta.AggregateResults;
 import games.strategy.triplea.oddsCalculator.ta.IOddsCalculator;
 import games.strategy.triplea.oddsCalculator.ta.OddsCalculatorListener;
+import games.strategy.triplea.oddsCalculator.ta.OddsCalculatorRequest;
 
 public class FastOddsEstimator implements IOddsCalculator {
 
@@ -64,6 +65,17 @@ public class FastOddsEstimator implements IOddsCalculator {
     return calculate();
   }
 
+  @Override
+  public List<AggregateResults> calculateAll(final List<OddsCalculatorRequest> requests) {
+    final List<AggregateResults> results = new ArrayList<>(requests.size());
+    for (final OddsCalculatorRequest request : requests) {
+      results.add(setCalculateDataAndCalculate(request.getAttacker(), request.getDefender(), request.getLocation(),
+          request.getAttacking(), request.getDefending(), request.getBombarding(), request.getTerritoryEffects(),
+          request.getRunCount()));
+    }
+    return results;
+  }
+
   @Override
   public int getRunCount() {
     return 1;
@@ -10,6 +10,7 @@ import java.util.Map;
 import java.util.logging.Level;
 import java.util.logging.Logger;
 
+import games.strategy.engine.ClientContext;
 import games.strategy.engine.data.GameData;
 import games.strategy.engine.data.GameStep;
 import games.strategy.engine.data.PlayerID;
@@ -28,6 +29,7 @@ import games.strategy.triplea.ai.proAI.simulate.ProDummyDelegateBridge;
 import games.strategy.triplea.ai.proAI.simulate.ProSimulateTurnUtils;
 import games.strategy.triplea.ai.proAI.util.ProBattleUtils;
 import games.strategy.triplea.ai.proAI.util.ProMatches;
+import games.strategy.triplea.ai.proAI.util.ProOddsCache;
 import games.strategy.triplea.ai.proAI.util.ProOddsCalculator;
 import games.strategy.triplea.ai.proAI.util.ProPurchaseUtils;
 import games.strategy.triplea.ai.proAI.util.ProTransportUtils;
@@ -61,6 +63,8 @@ public class ProAI extends AbstractAI {
 
   // Odds calculator
   private static final IOddsCalculator concurrentCalc = new ConcurrentOddsCalculator("ProAI");
+  // one per game, so AIs playing different games at once don't keep swapping each other's battles out
+  private static final Map<String, ProOddsCache> oddsCaches = new HashMap<>();
   protected ProOddsCalculator calc;
 
   // Phases
@@ -95,7 +99,18 @@ public class ProAI extends AbstractAI {
   }
 
   protected void initializeCalc() {
-    calc = new ProOddsCalculator(concurrentCalc);
+    calc = new ProOddsCalculator(concurrentCalc, ProAI::getOddsCache);
+  }
+
+  private static ProOddsCache getOddsCache(final GameData data) {
+    synchronized (oddsCaches) {
+      return oddsCaches.computeIfAbsent(ProOddsCache.getGame(data), game -> {
+        final ProOddsCache cache = new ProOddsCache(10000);
+        cache.setDirectory(
+            ClientContext.aiSettings().saveBattleOddsBetweenGames() ? ProOddsCache.getDefaultDirectory() : null);
+        return cache;
+      });
+    }
   }
 
   public ProOddsCalculator getCalc() {
@@ -116,9 +131,20 @@ public class ProAI extends AbstractAI {
     return s_logger;
   }
 
+  /**
+   * Drops the data the AIs keep between turns once a game is over, saving the odds of the battles they calculated if
+   * that is turned on.
+   */
   public static void gameOverClearCache() {
     // Are static, clear so that we don't keep the data around after a game is exited
     concurrentCalc.setGameData(null);
+    synchronized (oddsCaches) {
+      for (final ProOddsCache cache : oddsCaches.values()) {
+        ProLogger.info("Battle odds cache at game over: " + cache);
+        cache.clear();
+      }
+      oddsCaches.clear();
+    }
     ProLogUI.clearCachedInstances();
   }
 
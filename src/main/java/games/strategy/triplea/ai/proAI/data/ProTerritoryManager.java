@@ -6,8 +6,10 @@ import java.util.Collections;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.Iterator;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Map.Entry;
 import java.util.Set;
 
 import games.strategy.engine.data.GameData;
@@ -32,6 +34,7 @@ import games.strategy.triplea.delegate.MoveValidator;
 import games.strategy.triplea.delegate.TerritoryEffectHelper;
 import games.strategy.triplea.delegate.TransportTracker;
 import games.strategy.util.Match;
+import games.strategy.util.Triple;
 
 /**
  * Manages info about territories.
@@ -112,8 +115,10 @@ public class ProTerritoryManager {
     ProLogger.info("Removing territories that can't be conquered");
     final GameData data = ProData.getData();
 
-    // Determine if territory can be successfully attacked with max possible attackers
-    final List<Territory> territoriesToRemove = new ArrayList<>();
+    // Determine if territory can be successfully attacked with max possible attackers, estimating the battles of all
+    // territories together
+    final Map<Territory, List<Unit>> defendersMap = new HashMap<>();
+    final Map<Territory, Triple<List<Unit>, List<Unit>, Set<Unit>>> maxAttacks = new LinkedHashMap<>();
     for (final Territory t : attackMap.keySet()) {
       final ProTerritory patd = attackMap.get(t);
 
@@ -123,16 +128,32 @@ public class ProTerritoryManager {
       if (isIgnoringRelationships) {
         defenders = new ArrayList<>(t.getUnits().getUnits());
       }
-      patd.setMaxBattleResult(calc.estimateAttackBattleResults(t, patd.getMaxUnits(), defenders, new HashSet<>()));
+      defendersMap.put(t, defenders);
+      maxAttacks.put(t, Triple.of(patd.getMaxUnits(), defenders, new HashSet<>()));
+    }
+    final Map<Territory, Triple<List<Unit>, List<Unit>, Set<Unit>>> amphibAttacks = new LinkedHashMap<>();
+    for (final Entry<Territory, ProBattleResult> entry : calc.estimateAttackBattleResults(maxAttacks).entrySet()) {
+      final Territory t = entry.getKey();
+      final ProTerritory patd = attackMap.get(t);
+      patd.setMaxBattleResult(entry.getValue());
 
       // Add in amphib units if I can't win without them
       if (patd.getMaxBattleResult().getWinPercentage() < ProData.winPercentage && !patd.getMaxAmphibUnits().isEmpty()) {
         final Set<Unit> combinedUnits = new HashSet<>(patd.getMaxUnits());
         combinedUnits.addAll(patd.getMaxAmphibUnits());
-        patd.setMaxBattleResult(calc.estimateAttackBattleResults(t, new ArrayList<>(combinedUnits), defenders,
-            patd.getMaxBombardUnits()));
-        patd.setNeedAmphibUnits(true);
+        amphibAttacks.put(t, Triple.of(new ArrayList<>(combinedUnits), defendersMap.get(t), patd.getMaxBombardUnits()));
       }
+    }
+    for (final Entry<Territory, ProBattleResult> entry : calc.estimateAttackBattleResults(amphibAttacks).entrySet()) {
+      final ProTerritory patd = attackMap.get(entry.getKey());
+      patd.setMaxBattleResult(entry.getValue());
+      patd.setNeedAmphibUnits(true);
+    }
+
+    final List<Territory> territoriesToRemove = new ArrayList<>();
+    for (final Territory t : attackMap.keySet()) {
+      final ProTerritory patd = attackMap.get(t);
+      final List<Unit> defenders = defendersMap.get(t);
 
       // Check strafing and using allied attack if enemy capital/factory
       boolean isEnemyCapitalOrFactory = false;
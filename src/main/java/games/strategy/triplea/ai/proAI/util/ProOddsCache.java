@@ -0,0 +1,456 @@
+package games.strategy.triplea.ai.proAI.util;
+
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.io.Serializable;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.TreeSet;
+
+import games.strategy.debug.ClientLogger;
+import games.strategy.engine.ClientFileSystemHelper;
+import games.strategy.engine.data.GameData;
+import games.strategy.engine.data.PlayerID;
+import games.strategy.engine.data.Territory;
+import games.strategy.engine.data.TerritoryEffect;
+import games.strategy.engine.data.Unit;
+import games.strategy.engine.data.UnitType;
+import games.strategy.engine.data.properties.IEditableProperty;
+import games.strategy.triplea.TripleAUnit;
+import games.strategy.triplea.delegate.Matches;
+import games.strategy.triplea.delegate.TechAdvance;
+import games.strategy.triplea.delegate.TechTracker;
+import games.strategy.triplea.delegate.TerritoryEffectHelper;
+import games.strategy.triplea.oddsCalculator.ta.AggregateResults;
+import games.strategy.triplea.oddsCalculator.ta.BattleResults;
+import games.strategy.util.IntegerMap;
+
+/**
+ * A bounded cache of battle odds, so the AI doesn't fight the same battle in the battle calculator again and again.
+ *
+ * <p>
+ * Battles are looked up by a {@link Signature}: what the territory does to a battle, the type, owner, hits and
+ * transport state of every unit, the techs of every player involved and the retreat options. Two battles with the same
+ * signature fight the same way even if they are fought with different units, so the outcome is stored by position in
+ * the signature's sorted unit lists rather than by unit, and mapped back onto the units of each battle asking for it.
+ * </p>
+ *
+ * <p>
+ * The least recently used battles are evicted once the cache is full. The cache only holds the battles of one game,
+ * as given by its name, version and options, and is emptied when the game changes. If a directory is set, the
+ * battles of a game are saved there when the game changes or ends, and loaded again the next time the same game is
+ * played. Instances are thread safe.
+ * </p>
+ */
+public class ProOddsCache {
+
+  private final int maxSize;
+  private final Map<String, Odds> odds;
+  private String game = null;
+  private String gameName = null;
+  private File directory = null;
+  private long hitCount = 0;
+  private long missCount = 0;
+  private long evictionCount = 0;
+
+  /**
+   * @param maxSize The most battles to keep before the least recently used ones are evicted.
+   */
+  public ProOddsCache(final int maxSize) {
+    if (maxSize < 1) {
+      throw new IllegalArgumentException("Max size must be positive: " + maxSize);
+    }
+    this.maxSize = maxSize;
+    odds = new LinkedHashMap<String, Odds>(16, 0.75f, true) {
+      private static final long serialVersionUID = 2305236153245718393L;
+
+      @Override
+      protected boolean removeEldestEntry(final Map.Entry<String, Odds> eldest) {
+        if (size() > ProOddsCache.this.maxSize) {
+          evictionCount++;
+          return true;
+        }
+        return false;
+      }
+    };
+  }
+
+  /**
+   * Sets where the battles of each game are kept between games, or null to only keep them in memory.
+   */
+  public synchronized void setDirectory(final File directory) {
+    this.directory = directory;
+  }
+
+  public static File getDefaultDirectory() {
+    return new File(ClientFileSystemHelper.getUserRootFolder(), "oddsCache");
+  }
+
+  /**
+   * Switches the cache to the game of the given data, if it is not already caching that game. The battles of the
+   * previous game are saved and dropped, and any saved battles of the new game are loaded.
+   */
+  synchronized void setGame(final GameData data) {
+    final String newGame = getGame(data);
+    if (newGame.equals(game)) {
+      return;
+    }
+    save();
+    odds.clear();
+    game = newGame;
+    gameName = data.getGameName();
+    load();
+  }
+
+  /**
+   * The name, version and options of a game, since any of them may change how its battles are fought.
+   */
+  public static String getGame(final GameData data) {
+    final Map<String, Object> options = new TreeMap<>();
+    for (final IEditableProperty property : data.getProperties().getEditableProperties()) {
+      options.put(property.getName(), property.getValue());
+    }
+    return data.getGameName() + "|" + data.getGameVersion() + "|" + options;
+  }
+
+  /**
+   * @return The odds of the battle, or null if it is not cached or was fought fewer than the given number of times.
+   */
+  synchronized Odds get(final Signature signature, final int runCount) {
+    final Odds result = odds.get(signature.getKey());
+    if (result != null && result.getRunCount() >= runCount) {
+      hitCount++;
+      return result;
+    }
+    missCount++;
+    return null;
+  }
+
+  /**
+   * @return The odds of the battle however many times it was fought, or null if it is not cached. Not counted as a
+   *         hit or miss.
+   */
+  synchronized Odds peek(final Signature signature) {
+    return odds.get(signature.getKey());
+  }
+
+  synchronized void put(final Signature signature, final Odds result) {
+    if (result.getRunCount() > 0) {
+      odds.put(signature.getKey(), result);
+    }
+  }
+
+  public synchronized int size() {
+    return odds.size();
+  }
+
+  public synchronized long getHitCount() {
+    return hitCount;
+  }
+
+  public synchronized long getMissCount() {
+    return missCount;
+  }
+
+  public synchronized long getEvictionCount() {
+    return evictionCount;
+  }
+
+  /**
+   * Saves the battles of the current game, if a directory is set, and empties the cache.
+   */
+  public synchronized void clear() {
+    save();
+    odds.clear();
+    game = null;
+    gameName = null;
+  }
+
+  private void save() {
+    if (directory == null || game == null || odds.isEmpty()) {
+      return;
+    }
+    final File file = getFile();
+    file.getParentFile().mkdirs();
+    try (ObjectOutputStream out = new ObjectOutputStream(new FileOutputStream(file))) {
+      out.writeObject(game);
+      out.writeObject(new LinkedHashMap<>(odds));
+    } catch (final IOException e) {
+      ClientLogger.logQuietly("Could not save battle odds to " + file, e);
+    }
+  }
+
+  @SuppressWarnings("unchecked")
+  private void load() {
+    if (directory == null) {
+      return;
+    }
+    final File file = getFile();
+    if (!file.exists()) {
+      return;
+    }
+    try (ObjectInputStream in = new ObjectInputStream(new FileInputStream(file))) {
+      // the game's options may have changed since the file was saved
+      if (game.equals(in.readObject())) {
+        odds.putAll((Map<String, Odds>) in.readObject());
+      }
+    } catch (IOException | ClassNotFoundException e) {
+      ClientLogger.logQuietly("Could not load battle odds from " + file, e);
+    }
+  }
+
+  private File getFile() {
+    return new File(directory, gameName.replaceAll("[^\\w\\- ]", "_") + ".odds");
+  }
+
+  @Override
+  public synchronized String toString() {
+    return "ProOddsCache[size=" + odds.size() + ", hits=" + hitCount + ", misses=" + missCount + ", evictions="
+        + evictionCount + "]";
+  }
+
+  /**
+   * Everything about a battle that changes how it is fought, along with its units in the order the cached odds refer
+   * to them.
+   */
+  static final class Signature {
+    private final String key;
+    private final List<Unit> attackingUnits;
+    private final List<Unit> defendingUnits;
+
+    Signature(final Territory t, final List<Unit> attackingUnits, final List<Unit> defendingUnits,
+        final Collection<Unit> bombardingUnits, final boolean retreatWhenOnlyAirLeft, final GameData data) {
+      final PlayerID attacker = attackingUnits.get(0).getOwner();
+      final PlayerID defender = defendingUnits.get(0).getOwner();
+      final Map<Unit, String> unitKeys = new HashMap<>();
+      this.attackingUnits = sort(attackingUnits, unitKeys);
+      this.defendingUnits = sort(defendingUnits, unitKeys);
+      final List<Unit> sortedBombardingUnits = sort(bombardingUnits, unitKeys);
+      final TreeSet<String> effects = new TreeSet<>();
+      for (final TerritoryEffect effect : TerritoryEffectHelper.getEffects(t)) {
+        effects.add(effect.getName());
+      }
+      final Map<String, PlayerID> players = new TreeMap<>();
+      players.put(attacker.getName(), attacker);
+      players.put(defender.getName(), defender);
+      for (final Unit u : unitKeys.keySet()) {
+        players.put(u.getOwner().getName(), u.getOwner());
+      }
+      final StringBuilder sb = new StringBuilder();
+      sb.append(t.isWater() ? "water" : "land").append(Matches.TerritoryIsNeutralButNotWater.match(t) ? ",neutral" : "")
+          .append(effects).append(retreatWhenOnlyAirLeft ? ",retreatWhenOnlyAirLeft" : "")
+          .append('|').append(attacker.getName()).append(" attacks ").append(defender.getName());
+      for (final PlayerID player : players.values()) {
+        final TreeSet<String> techs = new TreeSet<>();
+        for (final TechAdvance tech : TechTracker.getCurrentTechAdvances(player, data)) {
+          techs.add(tech.getName());
+        }
+        sb.append('|').append(player.getName()).append(techs);
+      }
+      appendUnits(sb.append("|attacking"), this.attackingUnits, unitKeys);
+      appendUnits(sb.append("|defending"), this.defendingUnits, unitKeys);
+      appendUnits(sb.append("|bombarding"), sortedBombardingUnits, unitKeys);
+      key = sb.toString();
+    }
+
+    private static List<Unit> sort(final Collection<Unit> units, final Map<Unit, String> unitKeys) {
+      for (final Unit u : units) {
+        final TripleAUnit unit = TripleAUnit.get(u);
+        unitKeys.put(u, u.getType().getName() + "/" + u.getOwner().getName() + "/" + u.getHits()
+            + (unit.getTransportedBy() != null ? "/transported" : "") + (unit.getWasAmphibious() ? "/amphibious" : ""));
+      }
+      final List<Unit> sorted = new ArrayList<>(units);
+      sorted.sort(Comparator.comparing(unitKeys::get));
+      return sorted;
+    }
+
+    private static void appendUnits(final StringBuilder sb, final List<Unit> units, final Map<Unit, String> unitKeys) {
+      for (final Unit u : units) {
+        sb.append(',').append(unitKeys.get(u));
+      }
+    }
+
+    String getKey() {
+      return key;
+    }
+
+    List<Unit> getAttackingUnits() {
+      return attackingUnits;
+    }
+
+    List<Unit> getDefendingUnits() {
+      return defendingUnits;
+    }
+
+    @Override
+    public String toString() {
+      return key;
+    }
+  }
+
+  /**
+   * The outcome of fighting a battle some number of times. Units are referred to by their position in the
+   * {@link Signature}'s sorted unit lists.
+   */
+  static final class Odds implements Serializable {
+    private static final long serialVersionUID = -4786357286010564171L;
+
+    private final int runCount;
+    private final double attackerWinPercent;
+    private final double battleRounds;
+    // how often each unit survived, used for the average value of the units left over
+    private final double[] attackerSurvival;
+    private final double[] defenderSurvival;
+    // the units left over after the battle closest to the average
+    private final int[] averageAttackersRemaining;
+    private final int[] averageDefendersRemaining;
+
+    private Odds(final int runCount, final double attackerWinPercent, final double battleRounds,
+        final double[] attackerSurvival, final double[] defenderSurvival, final int[] averageAttackersRemaining,
+        final int[] averageDefendersRemaining) {
+      this.runCount = runCount;
+      this.attackerWinPercent = attackerWinPercent;
+      this.battleRounds = battleRounds;
+      this.attackerSurvival = attackerSurvival;
+      this.defenderSurvival = defenderSurvival;
+      this.averageAttackersRemaining = averageAttackersRemaining;
+      this.averageDefendersRemaining = averageDefendersRemaining;
+    }
+
+    static Odds of(final AggregateResults results, final Signature signature) {
+      final Map<Unit, Integer> attackers = getPositions(signature.getAttackingUnits());
+      final Map<Unit, Integer> defenders = getPositions(signature.getDefendingUnits());
+      final double[] attackerSurvival = new double[attackers.size()];
+      final double[] defenderSurvival = new double[defenders.size()];
+      for (final BattleResults result : results.getResults()) {
+        addSurvivors(result.getRemainingAttackingUnits(), attackers, attackerSurvival, results.getRollCount());
+        addSurvivors(result.getRemainingDefendingUnits(), defenders, defenderSurvival, results.getRollCount());
+      }
+      return new Odds(results.getRollCount(), results.getAttackerWinPercent(), results.getAverageBattleRoundsFought(),
+          attackerSurvival, defenderSurvival, toPositions(results.getAverageAttackingUnitsRemaining(), attackers),
+          toPositions(results.getAverageDefendingUnitsRemaining(), defenders));
+    }
+
+    private static Map<Unit, Integer> getPositions(final List<Unit> units) {
+      final Map<Unit, Integer> positions = new HashMap<>();
+      for (int i = 0; i < units.size(); i++) {
+        positions.put(units.get(i), i);
+      }
+      return positions;
+    }
+
+    private static void addSurvivors(final Collection<Unit> survivors, final Map<Unit, Integer> positions,
+        final double[] survival, final int runCount) {
+      for (final Unit u : survivors) {
+        final Integer position = positions.get(u);
+        if (position != null) {
+          survival[position] += 1.0 / runCount;
+        }
+      }
+    }
+
+    private static int[] toPositions(final Collection<Unit> units, final Map<Unit, Integer> positions) {
+      final List<Integer> result = new ArrayList<>();
+      for (final Unit u : units) {
+        final Integer position = positions.get(u);
+        if (position != null) {
+          result.add(position);
+        }
+      }
+      return result.stream().mapToInt(Integer::intValue).toArray();
+    }
+
+    /**
+     * Refines these odds with those of more runs of the same battle. The battle closest to the average is taken from
+     * whichever has more runs.
+     */
+    Odds merge(final Odds other) {
+      if (other == null || other.runCount == 0) {
+        return this;
+      }
+      if (runCount == 0) {
+        return other;
+      }
+      final int total = runCount + other.runCount;
+      final double weight = (double) runCount / total;
+      final Odds larger = runCount >= other.runCount ? this : other;
+      return new Odds(total, mix(attackerWinPercent, other.attackerWinPercent, weight),
+          mix(battleRounds, other.battleRounds, weight), mix(attackerSurvival, other.attackerSurvival, weight),
+          mix(defenderSurvival, other.defenderSurvival, weight), larger.averageAttackersRemaining,
+          larger.averageDefendersRemaining);
+    }
+
+    private static double mix(final double value, final double otherValue, final double weight) {
+      return value * weight + otherValue * (1 - weight);
+    }
+
+    private static double[] mix(final double[] values, final double[] otherValues, final double weight) {
+      final double[] result = new double[values.length];
+      for (int i = 0; i < values.length; i++) {
+        result[i] = mix(values[i], otherValues[i], weight);
+      }
+      return result;
+    }
+
+    int getRunCount() {
+      return runCount;
+    }
+
+    double getAttackerWinPercent() {
+      return attackerWinPercent;
+    }
+
+    double getBattleRounds() {
+      return battleRounds;
+    }
+
+    /**
+     * @return The average value of the attacking units left over after the battle.
+     */
+    double getAttackerValueLeftOver(final Signature signature, final IntegerMap<UnitType> costs) {
+      return getValueLeftOver(signature.getAttackingUnits(), attackerSurvival, costs);
+    }
+
+    /**
+     * @return The average value of the defending units left over after the battle.
+     */
+    double getDefenderValueLeftOver(final Signature signature, final IntegerMap<UnitType> costs) {
+      return getValueLeftOver(signature.getDefendingUnits(), defenderSurvival, costs);
+    }
+
+    private static double getValueLeftOver(final List<Unit> units, final double[] survival,
+        final IntegerMap<UnitType> costs) {
+      double value = 0;
+      for (int i = 0; i < units.size(); i++) {
+        value += survival[i] * costs.getInt(units.get(i).getType());
+      }
+      return value;
+    }
+
+    List<Unit> getAverageAttackersRemaining(final Signature signature) {
+      return toUnits(averageAttackersRemaining, signature.getAttackingUnits());
+    }
+
+    List<Unit> getAverageDefendersRemaining(final Signature signature) {
+      return toUnits(averageDefendersRemaining, signature.getDefendingUnits());
+    }
+
+    private static List<Unit> toUnits(final int[] positions, final List<Unit> units) {
+      final List<Unit> result = new ArrayList<>(positions.length);
+      for (final int position : positions) {
+        result.add(units.get(position));
+      }
+      return result;
+    }
+  }
+}
@@ -1,13 +1,19 @@
 package games.strategy.triplea.ai.proAI.util;
 
 import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Map.Entry;
 import java.util.Set;
+import java.util.function.Function;
 
 import games.strategy.engine.data.GameData;
 import games.strategy.engine.data.PlayerID;
 import games.strategy.engine.data.Territory;
 import games.strategy.engine.data.Unit;
+import games.strategy.engine.data.UnitType;
 import games.strategy.triplea.Properties;
 import games.strategy.triplea.ai.proAI.ProData;
 import games.strategy.triplea.ai.proAI.data.ProBattleResult;
@@ -16,7 +22,10 @@ import games.strategy.triplea.delegate.Matches;
 import games.strategy.triplea.delegate.TerritoryEffectHelper;
 import games.strategy.triplea.oddsCalculator.ta.AggregateResults;
 import games.strategy.triplea.oddsCalculator.ta.IOddsCalculator;
+import games.strategy.triplea.oddsCalculator.ta.OddsCalculatorRequest;
+import games.strategy.util.IntegerMap;
 import games.strategy.util.Match;
+import games.strategy.util.Triple;
 
 /**
  * Pro AI odds calculator.
@@ -24,14 +33,40 @@ import games.strategy.util.Match;
 public class ProOddsCalculator {
 
   private final IOddsCalculator calc;
+  private final Function<GameData, ProOddsCache> caches;
+  private ProOddsCache cache;
   private boolean isCanceled = false;
 
   public ProOddsCalculator(final IOddsCalculator calc) {
+    this(calc, (ProOddsCache) null);
+  }
+
+  /**
+   * @param cache Where to look up battles before fighting them, or null to always fight them.
+   */
+  public ProOddsCalculator(final IOddsCalculator calc, final ProOddsCache cache) {
+    this(calc, data -> cache);
+  }
+
+  /**
+   * @param caches Gives where to look up the battles of a game before fighting them, or null to always fight them.
+   */
+  public ProOddsCalculator(final IOddsCalculator calc, final Function<GameData, ProOddsCache> caches) {
     this.calc = calc;
+    this.caches = caches;
   }
 
+  /**
+   * Sets the game to fight battles in, which is also the game whose battles are cached.
+   */
   public void setData(final GameData data) {
     calc.setGameData(data);
+    if (data != null) {
+      cache = caches.apply(data);
+      if (cache != null) {
+        cache.setGame(data);
+      }
+    }
   }
 
   public void cancelCalcs() {
@@ -55,6 +90,71 @@ public class ProOddsCalculator {
     return callBattleCalculator(t, attackingUnits, defendingUnits, bombardingUnits);
   }
 
+  /**
+   * Estimates the results of several attacks like {@link #estimateAttackBattleResults(Territory, List, List, Set)},
+   * but fights all the battles that need the battle calculator together, so they can be spread across its workers.
+   *
+   * @param attacks The attacking, defending and bombarding units of each territory to attack.
+   * @return The result of each attack, in the same order.
+   */
+  public Map<Territory, ProBattleResult> estimateAttackBattleResults(
+      final Map<Territory, Triple<List<Unit>, List<Unit>, Set<Unit>>> attacks) {
+    final Map<Territory, ProBattleResult> results = new LinkedHashMap<>();
+    final Map<Territory, ProOddsCache.Signature> signatures = new HashMap<>();
+    final Map<String, ProOddsCache.Odds> odds = new HashMap<>();
+    final Map<String, Integer> runCounts = new HashMap<>();
+    final List<ProOddsCache.Signature> calculated = new ArrayList<>();
+    final List<OddsCalculatorRequest> requests = new ArrayList<>();
+    for (final Entry<Territory, Triple<List<Unit>, List<Unit>, Set<Unit>>> entry : attacks.entrySet()) {
+      final Territory t = entry.getKey();
+      final List<Unit> attackingUnits = entry.getValue().getFirst();
+      final List<Unit> defendingUnits = entry.getValue().getSecond();
+      ProBattleResult result = checkIfNoAttackersOrDefenders(t, attackingUnits, defendingUnits);
+      if (result == null
+          && ProBattleUtils.estimateStrengthDifference(t, attackingUnits, defendingUnits) < 45) {
+        result = new ProBattleResult(0, -999, false, new ArrayList<>(), defendingUnits, 1);
+      }
+      if (result == null && isCanceled) {
+        result = new ProBattleResult();
+      }
+      // keep the order of the territories, even though the results of some are only filled in below
+      results.put(t, result);
+      if (result != null) {
+        continue;
+      }
+      final ProOddsCache.Signature signature =
+          new ProOddsCache.Signature(t, attackingUnits, defendingUnits, entry.getValue().getThird(), false,
+              ProData.getData());
+      signatures.put(t, signature);
+      // identical battles in the same batch are only fought once
+      if (!runCounts.containsKey(signature.getKey())) {
+        final int runCount = getRunCount(attackingUnits, defendingUnits);
+        runCounts.put(signature.getKey(), runCount);
+        final ProOddsCache.Odds cached = cache == null ? null : cache.get(signature, runCount);
+        if (cached != null) {
+          odds.put(signature.getKey(), cached);
+        } else {
+          calculated.add(signature);
+          requests.add(newRequest(t, attackingUnits, defendingUnits, entry.getValue().getThird(),
+              runCount - getCachedRunCount(signature)));
+        }
+      }
+    }
+    final List<AggregateResults> aggregateResults = calc.calculateAll(requests);
+    for (int i = 0; i < calculated.size(); i++) {
+      odds.put(calculated.get(i).getKey(), store(calculated.get(i), aggregateResults.get(i)));
+    }
+    for (final Entry<Territory, ProOddsCache.Signature> entry : signatures.entrySet()) {
+      final Territory t = entry.getKey();
+      results.put(t, toBattleResult(t, attacks.get(t).getFirst(), attacks.get(t).getSecond(), entry.getValue(),
+          odds.get(entry.getValue().getKey())));
+    }
+    return results;
+  }
+
+  /**
+   * Estimates the results of defending the territory, without fighting the battle if the defenders have no chance.
+   */
   public ProBattleResult estimateDefendBattleResults(final Territory t,
       final List<Unit> attackingUnits, final List<Unit> defendingUnits, final Set<Unit> bombardingUnits) {
 
@@ -74,6 +174,9 @@ public class ProOddsCalculator {
     return callBattleCalculator(t, attackingUnits, defendingUnits, bombardingUnits);
   }
 
+  /**
+   * Fights the battle in the battle calculator unless either side has nothing to fight with.
+   */
   public ProBattleResult calculateBattleResults(final Territory t,
       final List<Unit> attackingUnits, final List<Unit> defendingUnits, final Set<Unit> bombardingUnits) {
 
@@ -110,42 +213,97 @@ public class ProOddsCalculator {
     return callBattleCalculator(t, attackingUnits, defendingUnits, bombardingUnits, false);
   }
 
+  /**
+   * Fights the battle in the battle calculator, splitting its runs across the calculator's workers.
+   */
   public ProBattleResult callBattleCalculator(final Territory t, final List<Unit> attackingUnits,
       final List<Unit> defendingUnits, final Set<Unit> bombardingUnits, final boolean retreatWhenOnlyAirLeft) {
-    final GameData data = ProData.getData();
-
     if (isCanceled || attackingUnits.isEmpty() || defendingUnits.isEmpty()) {
       return new ProBattleResult();
     }
 
     // Use battle calculator (hasLandUnitRemaining is always true for naval territories)
-    AggregateResults results = null;
+    final ProOddsCache.Signature signature = new ProOddsCache.Signature(t, attackingUnits, defendingUnits,
+        bombardingUnits, retreatWhenOnlyAirLeft, ProData.getData());
+    final int runCount = getRunCount(attackingUnits, defendingUnits);
+    ProOddsCache.Odds odds = cache == null ? null : cache.get(signature, runCount);
+    if (odds == null) {
+      final OddsCalculatorRequest request =
+          newRequest(t, attackingUnits, defendingUnits, bombardingUnits, runCount - getCachedRunCount(signature));
+      if (retreatWhenOnlyAirLeft) {
+        calc.setRetreatWhenOnlyAirLeft(true);
+      }
+      final AggregateResults results = calc.setCalculateDataAndCalculate(request.getAttacker(),
+          request.getDefender(), t, attackingUnits, defendingUnits, request.getBombarding(),
+          request.getTerritoryEffects(), request.getRunCount());
+      if (retreatWhenOnlyAirLeft) {
+        calc.setRetreatWhenOnlyAirLeft(false);
+      }
+      odds = store(signature, results);
+    }
+    return toBattleResult(t, attackingUnits, defendingUnits, signature, odds);
+  }
+
+  private static int getRunCount(final List<Unit> attackingUnits, final List<Unit> defendingUnits) {
     final int minArmySize = Math.min(attackingUnits.size(), defendingUnits.size());
-    final int runCount = Math.max(16, 100 - minArmySize);
+    return Math.max(16, 100 - minArmySize);
+  }
+
+  /**
+   * A cached battle that was fought fewer times than asked for only needs to be fought the remaining times.
+   */
+  private int getCachedRunCount(final ProOddsCache.Signature signature) {
+    final ProOddsCache.Odds cached = cache == null ? null : cache.peek(signature);
+    return cached == null ? 0 : cached.getRunCount();
+  }
+
+  /**
+   * Refines any cached odds of the battle with the new results, and caches them.
+   */
+  private ProOddsCache.Odds store(final ProOddsCache.Signature signature, final AggregateResults results) {
+    ProOddsCache.Odds odds = ProOddsCache.Odds.of(results, signature);
+    if (cache != null) {
+      odds = odds.merge(cache.peek(signature));
+      cache.put(signature, odds);
+    }
+    return odds;
+  }
+
+  private static OddsCalculatorRequest newRequest(final Territory t, final List<Unit> attackingUnits,
+      final List<Unit> defendingUnits, final Set<Unit> bombardingUnits, final int runCount) {
     final PlayerID attacker = attackingUnits.get(0).getOwner();
     final PlayerID defender = defendingUnits.get(0).getOwner();
-    if (retreatWhenOnlyAirLeft) {
-      calc.setRetreatWhenOnlyAirLeft(true);
-    }
-    results = calc.setCalculateDataAndCalculate(attacker, defender, t, attackingUnits, defendingUnits,
+    return new OddsCalculatorRequest(attacker, defender, t, attackingUnits, defendingUnits,
         new ArrayList<>(bombardingUnits), TerritoryEffectHelper.getEffects(t), runCount);
-    if (retreatWhenOnlyAirLeft) {
-      calc.setRetreatWhenOnlyAirLeft(false);
-    }
+  }
+
+  private static ProBattleResult toBattleResult(final Territory t, final List<Unit> attackingUnits,
+      final List<Unit> defendingUnits, final ProOddsCache.Signature signature, final ProOddsCache.Odds odds) {
+    final GameData data = ProData.getData();
+    final PlayerID attacker = attackingUnits.get(0).getOwner();
+    final PlayerID defender = defendingUnits.get(0).getOwner();
 
     // Find battle result statistics
-    final double winPercentage = results.getAttackerWinPercent() * 100;
-    final List<Unit> averageAttackersRemaining = results.getAverageAttackingUnitsRemaining();
-    final List<Unit> averageDefendersRemaining = results.getAverageDefendingUnitsRemaining();
+    final double winPercentage = odds.getAttackerWinPercent() * 100;
+    final List<Unit> averageAttackersRemaining = odds.getAverageAttackersRemaining(signature);
+    final List<Unit> averageDefendersRemaining = odds.getAverageDefendersRemaining(signature);
     final List<Unit> mainCombatAttackers =
         Match.getMatches(attackingUnits, Matches.unitCanBeInBattle(true, !t.isWater(), 1, false, true, true));
     final List<Unit> mainCombatDefenders =
         Match.getMatches(defendingUnits, Matches.unitCanBeInBattle(false, !t.isWater(), 1, false, true, true));
-    double tuvSwing = results.getAverageTUVswing(attacker, mainCombatAttackers, defender, mainCombatDefenders, data);
+    double tuvSwing = 0;
+    if (odds.getRunCount() > 0) {
+      final IntegerMap<UnitType> attackerCostsForTuv = BattleCalculator.getCostsForTUV(attacker, data);
+      final IntegerMap<UnitType> defenderCostsForTuv = BattleCalculator.getCostsForTUV(defender, data);
+      final double attackerLost = BattleCalculator.getTUV(mainCombatAttackers, attackerCostsForTuv)
+          - odds.getAttackerValueLeftOver(signature, attackerCostsForTuv);
+      final double defenderLost = BattleCalculator.getTUV(mainCombatDefenders, defenderCostsForTuv)
+          - odds.getDefenderValueLeftOver(signature, defenderCostsForTuv);
+      tuvSwing = defenderLost - attackerLost;
+    }
     if (Matches.TerritoryIsNeutralButNotWater.match(t)) { // Set TUV swing for neutrals
       final double attackingUnitValue = BattleCalculator.getTUV(mainCombatAttackers, ProData.unitValueMap);
-      final double remainingUnitValue =
-          results.getAverageTUVofUnitsLeftOver(ProData.unitValueMap, ProData.unitValueMap).getFirst();
+      final double remainingUnitValue = odds.getAttackerValueLeftOver(signature, ProData.unitValueMap);
       tuvSwing = remainingUnitValue - attackingUnitValue;
     }
     final List<Unit> defendingTransportedUnits = Match.getMatches(defendingUnits, Matches.unitIsBeingTransported());
@@ -160,10 +318,10 @@ public class ProOddsCalculator {
     if (Match.allMatchNotEmpty(tList, Matches.TerritoryIsLand)) {
       return new ProBattleResult(winPercentage, tuvSwing,
           Match.anyMatch(averageAttackersRemaining, Matches.UnitIsLand), averageAttackersRemaining,
-          averageDefendersRemaining, results.getAverageBattleRoundsFought());
+          averageDefendersRemaining, odds.getBattleRounds());
     } else {
       return new ProBattleResult(winPercentage, tuvSwing, !averageAttackersRemaining.isEmpty(),
-          averageAttackersRemaining, averageDefendersRemaining, results.getAverageBattleRoundsFought());
+          averageAttackersRemaining, averageDefendersRemaining, odds.getBattleRounds());
     }
   }
 
@@ -628,6 +628,17 @@ public class BattleCalculator {
     return killed;
   }
 
+  /**
+   * Returns the order in which the default casualty selection of a normal (non amphibious) battle takes the given
+   * units, first casualty first. Removing the first units of this order gives the order for the units that are left.
+   */
+  public static List<Unit> getDefaultCasualtyOrder(final Collection<Unit> targetsToPickFrom, final boolean defending,
+      final PlayerID player, final Collection<Unit> enemyUnits, final Territory battlesite,
+      final Collection<TerritoryEffect> territoryEffects, final GameData data) {
+    return sortUnitsForCasualtiesWithSupport(targetsToPickFrom, defending, player, enemyUnits, false,
+        Collections.emptyList(), battlesite, getCostsForTUV(player, data), territoryEffects, data, true);
+  }
+
   /**
    * A unit with two hitpoints will be listed twice if they will die. The first time they are listed it is as damaged.
    * The second time they
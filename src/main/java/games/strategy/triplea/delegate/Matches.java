@@ -208,7 +208,11 @@ public class Matches {
     return Match.of(unit -> UnitAttachment.get(unit.getType()).getCanBeGivenByTerritoryTo().contains(player));
   }
 
-  static Match<Unit> unitCanBeCapturedOnEnteringToInThisTerritory(final PlayerID player, final Territory terr,
+  /**
+   * Checks whether a unit would be captured by the player when the player takes over the territory, as set by the
+   * capture units on entering game property and the unit and territory attachments.
+   */
+  public static Match<Unit> unitCanBeCapturedOnEnteringToInThisTerritory(final PlayerID player, final Territory terr,
       final GameData data) {
     return Match.of(unit -> {
       if (!games.strategy.triplea.Properties.getCaptureUnitsOnEnteringTerritory(data)) {
@@ -1569,21 +1569,22 @@ public class MoveValidator {
           // single matches
           noEnemy, noAa, noNeutral));
     }
-    for (final Match<Territory> t : tests) {
-      Match<Territory> testMatch = null;
-      if (mustGoLand) {
-        testMatch = Match.allOf(t, Matches.TerritoryIsLand, noImpassable);
-      } else if (mustGoSea) {
-        testMatch = Match.allOf(t, Matches.TerritoryIsWater, noImpassable);
-      } else {
-        testMatch = Match.allOf(t, noImpassable);
-      }
-      final Route testRoute = data.getMap().getRoute_IgnoreEnd(start, end, testMatch);
-      if (testRoute != null
-          && testRoute.getLargestMovementCost(unitsWhichAreNotBeingTransportedOrDependent) <= defaultRoute
-              .getLargestMovementCost(unitsWhichAreNotBeingTransportedOrDependent)) {
-        return testRoute;
-      }
+    // the same condition the default route was found with, so the preferred route is never longer
+    final Match.CompositeBuilder<Territory> routeConditionBuilder = Match.newCompositeBuilder(noImpassable);
+    if (mustGoLand) {
+      routeConditionBuilder.add(Matches.TerritoryIsLand);
+    } else if (mustGoSea) {
+      routeConditionBuilder.add(Matches.TerritoryIsWater);
+    }
+    if (isNeutralsImpassable) {
+      routeConditionBuilder.add(noNeutral);
+    }
+    final Route preferredRoute =
+        data.getMap().getPreferredRoute_IgnoreEnd(start, end, routeConditionBuilder.all(), tests);
+    if (preferredRoute != null
+        && preferredRoute.getLargestMovementCost(unitsWhichAreNotBeingTransportedOrDependent) <= defaultRoute
+            .getLargestMovementCost(unitsWhichAreNotBeingTransportedOrDependent)) {
+      return preferredRoute;
     }
     return defaultRoute;
   }
@@ -0,0 +1,211 @@
+package games.strategy.triplea.image;
+
+import java.awt.Graphics2D;
+import java.awt.Image;
+import java.awt.image.BufferedImage;
+import java.awt.image.DataBuffer;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import games.strategy.triplea.settings.SystemPreferenceKey;
+import games.strategy.triplea.settings.SystemPreferences;
+
+/**
+ * Keeps the most recently used images in memory, up to a number of bytes.
+ *
+ * <p>
+ * The map tiles, unit images and flags all share one cache, so they share one budget instead of each growing on its
+ * own. Unlike soft references, which the garbage collector only clears once the heap is nearly full, the cache never
+ * holds more than its budget, and it drops the images that have gone longest without being used first, whatever their
+ * owner. The budget is set in megabytes by the {@link SystemPreferenceKey#IMAGE_CACHE_SIZE} preference, and is a third
+ * of the maximum heap by default. Budgets under 64 megabytes are raised to 64, as the cache would then drop the unit
+ * images and flags of a single screen while it is being drawn. The map tiles on and near the screen hold on to their
+ * own images, and only leave them to the cache once they are scrolled away from.
+ * </p>
+ *
+ * <p>
+ * Images are cached under an owner, usually the factory that made them, and a key, so each owner has its own keys and
+ * can drop its own images. Images that aren't buffered images are copied into premultiplied buffered images, whose size
+ * is known and which draw quickly.
+ * </p>
+ *
+ * <p>
+ * Thread safe.
+ * </p>
+ */
+public class ImageCache {
+  private static final long MEGABYTE = 1024 * 1024;
+  private static final int MIN_MEGABYTES = 64;
+  private static final ImageCache instance = new ImageCache(getConfiguredMaxBytes());
+
+  private final long maxBytes;
+  private final Map<Entry, Image> images = new LinkedHashMap<>(16, 0.75f, true);
+  private long bytes = 0;
+  private long hits = 0;
+  private long misses = 0;
+  private long evictions = 0;
+
+  public ImageCache(final long maxBytes) {
+    if (maxBytes < 0) {
+      throw new IllegalArgumentException("Budget must not be negative:" + maxBytes);
+    }
+    this.maxBytes = maxBytes;
+  }
+
+  public static ImageCache getInstance() {
+    return instance;
+  }
+
+  private static long getConfiguredMaxBytes() {
+    final int defaultMegabytes = (int) (Runtime.getRuntime().maxMemory() / 3 / MEGABYTE);
+    final int megabytes = SystemPreferences.get(SystemPreferenceKey.IMAGE_CACHE_SIZE, defaultMegabytes);
+    return Math.max(MIN_MEGABYTES, megabytes) * MEGABYTE;
+  }
+
+  /**
+   * @return The image cached under the owner and key, or null if there isn't one.
+   */
+  public synchronized Image get(final Object owner, final Object key) {
+    final Image image = images.get(new Entry(owner, key));
+    if (image == null) {
+      misses++;
+    } else {
+      hits++;
+    }
+    return image;
+  }
+
+  /**
+   * Caches an image, dropping the least recently used images until the cache is within its budget again. An image
+   * larger than the whole budget is not cached.
+   *
+   * @return The image as cached, which callers should use instead of the one given.
+   */
+  public synchronized Image put(final Object owner, final Object key, final Image image) {
+    final Image compact = toCompactImage(image);
+    final Entry entry = new Entry(owner, key);
+    final Image replaced = images.remove(entry);
+    if (replaced != null) {
+      bytes -= getImageBytes(replaced);
+    }
+    final long imageBytes = getImageBytes(compact);
+    if (imageBytes > maxBytes) {
+      return compact;
+    }
+    final Iterator<Image> eldest = images.values().iterator();
+    while (bytes + imageBytes > maxBytes) {
+      bytes -= getImageBytes(eldest.next());
+      eldest.remove();
+      evictions++;
+    }
+    images.put(entry, compact);
+    bytes += imageBytes;
+    return compact;
+  }
+
+  /**
+   * Drops the image cached under the owner and key, if there is one.
+   */
+  public synchronized void remove(final Object owner, final Object key) {
+    final Image removed = images.remove(new Entry(owner, key));
+    if (removed != null) {
+      bytes -= getImageBytes(removed);
+    }
+  }
+
+  /**
+   * Drops the images cached under the owner.
+   */
+  public synchronized void clear(final Object owner) {
+    final Iterator<Map.Entry<Entry, Image>> iter = images.entrySet().iterator();
+    while (iter.hasNext()) {
+      final Map.Entry<Entry, Image> cached = iter.next();
+      if (cached.getKey().owner == owner) {
+        bytes -= getImageBytes(cached.getValue());
+        iter.remove();
+      }
+    }
+  }
+
+  /**
+   * @return The bytes taken by the cached images.
+   */
+  public synchronized long getBytes() {
+    return bytes;
+  }
+
+  public long getMaxBytes() {
+    return maxBytes;
+  }
+
+  public synchronized int size() {
+    return images.size();
+  }
+
+  /**
+   * @return The share of lookups that found an image, or 0 if there haven't been any.
+   */
+  public synchronized double getHitRate() {
+    final long lookups = hits + misses;
+    return lookups == 0 ? 0 : (double) hits / lookups;
+  }
+
+  /**
+   * @return The number of images dropped to stay within the budget.
+   */
+  public synchronized long getEvictions() {
+    return evictions;
+  }
+
+  @Override
+  public synchronized String toString() {
+    return String.format("Image cache: %d images, %d of %d MB, %.1f%% hits, %d evicted", images.size(),
+        bytes / MEGABYTE, maxBytes / MEGABYTE, getHitRate() * 100, evictions);
+  }
+
+  private static Image toCompactImage(final Image image) {
+    if (image instanceof BufferedImage && ((BufferedImage) image).getType() != BufferedImage.TYPE_CUSTOM) {
+      return image;
+    }
+    final BufferedImage compact = new BufferedImage(Math.max(1, image.getWidth(null)),
+        Math.max(1, image.getHeight(null)), BufferedImage.TYPE_INT_ARGB_PRE);
+    final Graphics2D g = compact.createGraphics();
+    g.drawImage(image, 0, 0, null);
+    g.dispose();
+    return compact;
+  }
+
+  static long getImageBytes(final Image image) {
+    if (image instanceof BufferedImage) {
+      final DataBuffer buffer = ((BufferedImage) image).getRaster().getDataBuffer();
+      return (long) buffer.getSize() * buffer.getNumBanks() * DataBuffer.getDataTypeSize(buffer.getDataType()) / 8;
+    }
+    // assume 4 bytes a pixel
+    return 4L * Math.max(0, image.getWidth(null)) * Math.max(0, image.getHeight(null));
+  }
+
+  private static final class Entry {
+    private final Object owner;
+    private final Object key;
+
+    Entry(final Object owner, final Object key) {
+      this.owner = owner;
+      this.key = key;
+    }
+
+    @Override
+    public boolean equals(final Object obj) {
+      if (!(obj instanceof Entry)) {
+        return false;
+      }
+      final Entry other = (Entry) obj;
+      return owner == other.owner && key.equals(other.key);
+    }
+
+    @Override
+    public int hashCode() {
+      return 31 * System.identityHashCode(owner) + key.hashCode();
+    }
+  }
+}
@@ -3,8 +3,8 @@ package games.strategy.triplea.image;
 import java.awt.Image;
 import java.io.IOException;
 import java.net.URL;
-import java.util.HashMap;
-import java.util.Map;
+import java.util.HashSet;
+import java.util.Set;
 
 import javax.imageio.ImageIO;
 
@@ -12,12 +12,18 @@ import games.strategy.debug.ClientLogger;
 import games.strategy.triplea.ResourceLoader;
 
 public class ImageFactory {
-  private final Map<String, Image> m_images = new HashMap<>();
+  private final ImageCache m_images = ImageCache.getInstance();
+  // the keys with no image
+  private final Set<String> m_missing = new HashSet<>();
   private ResourceLoader m_resourceLoader;
 
-  public void setResourceLoader(final ResourceLoader loader) {
+  /**
+   * Sets where to load images from, dropping the images loaded from the last one.
+   */
+  public synchronized void setResourceLoader(final ResourceLoader loader) {
     m_resourceLoader = loader;
-    m_images.clear();
+    m_images.clear(this);
+    m_missing.clear();
   }
 
   protected Image getImage(final String key1, final String key2, final boolean throwIfNotFound) {
@@ -28,24 +34,33 @@ public class ImageFactory {
     return getImage(key2, throwIfNotFound);
   }
 
-  protected Image getImage(final String key, final boolean throwIfNotFound) {
-    if (!m_images.containsKey(key)) {
-      final URL url = m_resourceLoader.getResource(key);
-      if (url == null && throwIfNotFound) {
-        throw new IllegalStateException("Image Not Found:" + key);
-      } else if (url == null) {
-        m_images.put(key, null);
-        return null;
-      }
-      Image image;
-      try {
-        image = ImageIO.read(url);
-      } catch (final IOException e) {
-        ClientLogger.logQuietly(e);
-        throw new IllegalStateException(e.getMessage());
-      }
-      m_images.put(key, image);
+  protected synchronized Image getImage(final String key, final boolean throwIfNotFound) {
+    if (m_missing.contains(key)) {
+      return null;
     }
-    return m_images.get(key);
+    final Image cached = m_images.get(this, key);
+    if (cached != null) {
+      return cached;
+    }
+    final URL url = m_resourceLoader.getResource(key);
+    if (url == null && throwIfNotFound) {
+      throw new IllegalStateException("Image Not Found:" + key);
+    } else if (url == null) {
+      m_missing.add(key);
+      return null;
+    }
+    Image image;
+    try {
+      image = ImageIO.read(url);
+    } catch (final IOException e) {
+      ClientLogger.logQuietly(e);
+      throw new IllegalStateException(e.getMessage());
+    }
+    if (image == null) {
+      // not a format ImageIO can read
+      m_missing.add(key);
+      return null;
+    }
+    return m_images.put(this, key, image);
   }
 }
@@ -12,8 +12,8 @@ import java.awt.geom.AffineTransform;
 import java.awt.image.BufferedImage;
 import java.io.IOException;
 import java.net.URL;
-import java.util.HashMap;
-import java.util.Iterator;
+import java.util.NavigableSet;
+import java.util.TreeSet;
 import java.util.logging.Level;
 import java.util.logging.Logger;
 import java.util.prefs.BackingStoreException;
@@ -43,8 +43,10 @@ public final class TileImageFactory {
       GraphicsEnvironment.getLocalGraphicsEnvironment().getDefaultScreenDevice().getDefaultConfiguration();
   private static final Logger s_logger = Logger.getLogger(TileImageFactory.class.getName());
   private double m_scale = 1;
-  // maps image name to ImageRef
-  private HashMap<String, ImageRef> m_imageCache = new HashMap<>();
+  // the tiles at each scale they have been shown at
+  private final ImageCache m_imageCache = ImageCache.getInstance();
+  // the scales tiles have been cached at, so a tile can be scaled down from the same tile at a larger scale
+  private final NavigableSet<Double> m_cachedScales = new TreeSet<>();
 
   static {
     final Preferences prefs = Preferences.userNodeForPackage(TileImageFactory.class);
@@ -75,8 +77,8 @@ public final class TileImageFactory {
       throw new IllegalArgumentException("Wrong scale");
     }
     synchronized (m_mutex) {
+      // tiles at the old scale stay cached, for zooming back or to be scaled down
       m_scale = newScale;
-      getM_imageCache().clear();
     }
   }
 
@@ -129,24 +131,24 @@ public final class TileImageFactory {
   public void setMapDir(final ResourceLoader loader) {
     m_resourceLoader = loader;
     synchronized (m_mutex) {
-      // we manually want to clear each ref to allow the soft reference to
-      // be removed
-      final Iterator<ImageRef> values = getM_imageCache().values().iterator();
-      while (values.hasNext()) {
-        final ImageRef imageRef = values.next();
-        imageRef.clear();
-      }
-      getM_imageCache().clear();
+      m_imageCache.clear(this);
+      m_cachedScales.clear();
     }
   }
 
   public TileImageFactory() {}
 
   private Image isImageLoaded(final String fileName) {
-    if (getM_imageCache().get(fileName) == null) {
-      return null;
-    }
-    return getM_imageCache().get(fileName).getImage();
+    return m_imageCache.get(this, getCacheKey(fileName, m_scale));
+  }
+
+  private static String getCacheKey(final String fileName, final double scale) {
+    return fileName + "@" + scale;
+  }
+
+  private Image cacheImage(final String fileName, final Image image) {
+    m_cachedScales.add(m_scale);
+    return m_imageCache.put(this, getCacheKey(fileName, m_scale), image);
   }
 
   public Image getBaseTile(final int x, final int y) {
@@ -181,12 +183,48 @@ public final class TileImageFactory {
       // This is null if there is no image
       final URL url = m_resourceLoader.getResource(fileName);
 
-      if ((!s_showMapBlends || !s_showReliefImages || !transparent) && url == null) {
+      if (!isBlended(transparent) && url == null) {
         return null;
       }
-      loadImage(url, fileName, transparent, true, true);
+      if (!isBlended(transparent)) {
+        final Image scaled = scaleCachedImage(fileName, transparent);
+        if (scaled != null) {
+          return scaled;
+        }
+      }
+      return loadImage(url, fileName, transparent, true, true);
     }
-    return getImage(fileName, transparent);
+  }
+
+  private static boolean isBlended(final boolean transparent) {
+    return s_showMapBlends && s_showReliefImages && transparent;
+  }
+
+  /**
+   * Scales a tile down from the same tile cached at the nearest larger scale, which is much quicker than reading and
+   * scaling its file again.
+   *
+   * @return The tile at the current scale, or null if it isn't cached at a larger scale.
+   */
+  private Image scaleCachedImage(final String fileName, final boolean transparent) {
+    for (final double cachedScale : m_cachedScales.tailSet(m_scale, false)) {
+      final Image cached = m_imageCache.get(this, getCacheKey(fileName, cachedScale));
+      if (cached != null) {
+        final double ratio = m_scale / cachedScale;
+        final BufferedImage image = Util.createImage(getScaledSize(cached.getWidth(null), ratio),
+            getScaledSize(cached.getHeight(null), ratio), transparent);
+        final Graphics2D g = image.createGraphics();
+        g.scale(ratio, ratio);
+        g.drawImage(cached, 0, 0, null);
+        g.dispose();
+        return cacheImage(fileName, image);
+      }
+    }
+    return null;
+  }
+
+  private static int getScaledSize(final int size, final double scale) {
+    return Math.max(1, (int) Math.ceil(size * scale));
   }
 
   public Image getReliefTile(final int a, final int b) {
@@ -225,7 +263,7 @@ public final class TileImageFactory {
 
   private Image loadImage(final URL imageLocation, final String fileName, final boolean transparent,
       final boolean cache, final boolean scale) {
-    if (s_showMapBlends && s_showReliefImages && transparent) {
+    if (isBlended(transparent)) {
       return loadBlendedImage(fileName, cache, scale);
     } else {
       return loadUnblendedImage(imageLocation, fileName, transparent, cache, scale);
@@ -290,15 +328,13 @@ public final class TileImageFactory {
       // g2.setComposite(BlendComposite.Overlay.derive(alpha));
       g2.setComposite(blendComposite);
       g2.drawImage(baseFile, overX, overY, null);
-      final ImageRef ref = new ImageRef(reliefFile);
       if (cache) {
-        getM_imageCache().put(fileName, ref);
+        return cacheImage(fileName, reliefFile);
       }
       return reliefFile;
     } else {
-      final ImageRef ref = new ImageRef(baseFile);
       if (cache) {
-        getM_imageCache().put(fileName, ref);
+        return cacheImage(fileName, baseFile);
       }
       return baseFile;
     }
@@ -318,9 +354,11 @@ public final class TileImageFactory {
       // this step is a significant bottle neck in the image drawing process
       // we should try to find a way to avoid it, and load the
       // png directly as the right type
-      image = Util.createImage(fromFile.getWidth(null), fromFile.getHeight(null), transparent);
+      final double imageScale = scale ? m_scale : 1.0;
+      image = Util.createImage(getScaledSize(fromFile.getWidth(null), imageScale),
+          getScaledSize(fromFile.getHeight(null), imageScale), transparent);
       final Graphics2D g = (Graphics2D) image.getGraphics();
-      if (scale && m_scale != 1.0) {
+      if (imageScale != 1.0) {
         final AffineTransform transform = new AffineTransform();
         transform.scale(m_scale, m_scale);
         g.setTransform(transform);
@@ -333,9 +371,8 @@ public final class TileImageFactory {
       ClientLogger.logError("Could not load image, url: " + imageLocation.toString(), e);
       image = new BufferedImage(1, 1, BufferedImage.TYPE_INT_RGB);
     }
-    final ImageRef ref = new ImageRef(image);
     if (cache) {
-      getM_imageCache().put(fileName, ref);
+      return cacheImage(fileName, image);
     }
     return image;
   }
@@ -361,14 +398,6 @@ public final class TileImageFactory {
   public static BufferedImage createCompatibleImage(final int width, final int height) {
     return configuration.createCompatibleImage(width, height);
   }
-
-  public void setM_imageCache(final HashMap<String, ImageRef> imageCache) {
-    this.m_imageCache = imageCache;
-  }
-
-  public HashMap<String, ImageRef> getM_imageCache() {
-    return m_imageCache;
-  }
 }
 
 
@@ -7,8 +7,6 @@ import java.awt.Image;
 import java.awt.Toolkit;
 import java.awt.image.BufferedImage;
 import java.net.URL;
-import java.util.HashMap;
-import java.util.Map;
 import java.util.Optional;
 
 import javax.swing.ImageIcon;
@@ -38,10 +36,9 @@ public class UnitImageFactory {
   private static int UNIT_COUNTER_OFFSET_WIDTH = DEFAULT_UNIT_ICON_SIZE / 4;
   private static int UNIT_COUNTER_OFFSET_HEIGHT = UNIT_ICON_HEIGHT;
   private static final String FILE_NAME_BASE = "units/";
-  // maps Point -> image
-  private final Map<String, Image> m_images = new HashMap<>();
-  // maps Point -> Icon
-  private final Map<String, ImageIcon> m_icons = new HashMap<>();
+  private static final String ICON_PREFIX = "icon:";
+  // the scaled images, and the unscaled images of the icons, by name
+  private final ImageCache m_images = ImageCache.getInstance();
   // Scaling factor for unit images
   private double m_scaleFactor;
   private ResourceLoader m_resourceLoader;
@@ -101,8 +98,7 @@ public class UnitImageFactory {
 
   // Clear the image and icon cache
   private void clearImageCache() {
-    m_images.clear();
-    m_icons.clear();
+    m_images.clear(this);
   }
 
   /**
@@ -113,8 +109,9 @@ public class UnitImageFactory {
       final boolean disabled) {
     final String baseName = getBaseImageName(type, player, damaged, disabled);
     final String fullName = baseName + player.getName();
-    if (m_images.containsKey(fullName)) {
-      return Optional.of(m_images.get(fullName));
+    final Image cached = m_images.get(this, fullName);
+    if (cached != null) {
+      return Optional.of(cached);
     }
     final Optional<Image> image = getBaseImage(baseName, player);
     if (!image.isPresent()) {
@@ -133,8 +130,7 @@ public class UnitImageFactory {
     final Image scaledImage = baseImage.getScaledInstance(width, height, Image.SCALE_SMOOTH);
     // Ensure the scaling is completed.
     Util.ensureImageLoaded(scaledImage);
-    m_images.put(fullName, scaledImage);
-    return Optional.of(scaledImage);
+    return Optional.of(m_images.put(this, fullName, scaledImage));
   }
 
   public Optional<URL> getBaseImageURL(final String baseImageName, final PlayerID id) {
@@ -189,17 +185,15 @@ public class UnitImageFactory {
       final boolean disabled) {
     final String baseName = getBaseImageName(type, player, damaged, disabled);
     final String fullName = baseName + player.getName();
-    if (m_icons.containsKey(fullName)) {
-      return Optional.of(m_icons.get(fullName));
+    final Image cached = m_images.get(this, ICON_PREFIX + fullName);
+    if (cached != null) {
+      return Optional.of(new ImageIcon(cached));
     }
     final Optional<Image> image = getBaseImage(baseName, player);
     if (!image.isPresent()) {
       return Optional.empty();
     }
-
-    final ImageIcon icon = new ImageIcon(image.get());
-    m_icons.put(fullName, icon);
-    return Optional.of(icon);
+    return Optional.of(new ImageIcon(m_images.put(this, ICON_PREFIX + fullName, image.get())));
   }
 
   private static String getBaseImageName(final UnitType type, final PlayerID id, final boolean damaged,
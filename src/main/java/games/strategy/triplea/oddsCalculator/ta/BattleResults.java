@@ -48,6 +48,18 @@ public class BattleResults extends GameDataComponent {
     m_whoWon = scriptedWhoWon;
   }
 
+  /**
+   * For battles fought without a battle object, such as a {@link CompiledBattle}.
+   */
+  BattleResults(final int battleRoundsFought, final List<Unit> remainingAttackingUnits,
+      final List<Unit> remainingDefendingUnits, final WhoWon whoWon, final GameData data) {
+    super(data);
+    m_battleRoundsFought = battleRoundsFought;
+    m_remainingAttackingUnits = remainingAttackingUnits;
+    m_remainingDefendingUnits = remainingDefendingUnits;
+    m_whoWon = whoWon;
+  }
+
   public void setWhoWon(final WhoWon whoWon) {
     m_whoWon = whoWon;
   }
@@ -0,0 +1,383 @@
+package games.strategy.triplea.oddsCalculator.ta;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import games.strategy.engine.data.GameData;
+import games.strategy.engine.data.PlayerID;
+import games.strategy.engine.data.Territory;
+import games.strategy.engine.data.TerritoryEffect;
+import games.strategy.engine.data.Unit;
+import games.strategy.engine.random.MersenneTwister;
+import games.strategy.triplea.Properties;
+import games.strategy.triplea.attachments.UnitAttachment;
+import games.strategy.triplea.attachments.UnitSupportAttachment;
+import games.strategy.triplea.delegate.BaseEditDelegate;
+import games.strategy.triplea.delegate.BattleCalculator;
+import games.strategy.triplea.delegate.DiceRoll;
+import games.strategy.triplea.delegate.IBattle.WhoWon;
+import games.strategy.triplea.delegate.Matches;
+import games.strategy.util.IntegerMap;
+import games.strategy.util.LinkedIntegerMap;
+import games.strategy.util.Match;
+import games.strategy.util.Tuple;
+
+/**
+ * A battle whose attacking and defending units have been compiled into primitive arrays (power, rolls, hit points and
+ * order of loss), so that it can be fought many times without creating a MustFightBattle, a delegate bridge or any
+ * Change for each trial.
+ *
+ * <p>
+ * Only plain battles can be compiled: every unit fires at the same time each round, and casualties are taken in the
+ * default order of loss (or the order of loss set on the calculator). Battles involving AA, submarines, transports,
+ * suicide units, bombardment, amphibious assaults, retreats or units that would not take part in combat are not
+ * compiled, and must be fought by the full battle engine.
+ * </p>
+ *
+ * <p>
+ * Support is modelled by precomputing the power of each unit for every number of casualties taken, which is possible
+ * because casualties are always taken in the same order. Instances are not thread safe.
+ * </p>
+ */
+final class CompiledBattle {
+  // enemy support makes power depend on the casualties of both sides, so cap the number of tables we precompute
+  private static final int MAX_POWER_TABLES = 4096;
+
+  private final GameData data;
+  private final int diceSides;
+  private final boolean lowLuck;
+  private final int maxRounds;
+  private final Side attacker;
+  private final Side defender;
+  private final MersenneTwister random = new MersenneTwister(System.nanoTime() + System.identityHashCode(this));
+
+  private CompiledBattle(final GameData data, final Territory location, final Side attacker, final Side defender) {
+    this.data = data;
+    this.diceSides = data.getDiceSides();
+    this.lowLuck = Properties.getLow_Luck(data);
+    this.maxRounds =
+        location.isWater() ? Properties.getSeaBattleRounds(data) : Properties.getLandBattleRounds(data);
+    this.attacker = attacker;
+    this.defender = defender;
+  }
+
+  /**
+   * Compiles the given battle, returning null if it uses rules that can only be handled by the full battle engine.
+   */
+  static CompiledBattle compile(final GameData data, final PlayerID attacker, final PlayerID defender,
+      final Territory location, final Collection<Unit> attacking, final Collection<Unit> defending,
+      final Collection<Unit> bombarding, final Collection<TerritoryEffect> territoryEffects,
+      final boolean amphibious, final boolean keepOneAttackingLandUnit, final int retreatAfterRound,
+      final int retreatAfterXUnitsLeft, final boolean retreatWhenOnlyAirLeft, final List<Unit> attackerOrderOfLosses,
+      final List<Unit> defenderOrderOfLosses) {
+    if (!bombarding.isEmpty() || amphibious || keepOneAttackingLandUnit || retreatAfterRound > -1
+        || retreatAfterXUnitsLeft > -1 || retreatWhenOnlyAirLeft || BaseEditDelegate.getEditMode(data)) {
+      return null;
+    }
+    if (attacking.isEmpty() || defending.isEmpty() || !Match.allMatch(attacking, Matches.unitIsOwnedBy(attacker))
+        || !Match.allMatch(attacking, canBeCompiled(true, attacker, location, data))
+        || !Match.allMatch(defending, canBeCompiled(false, attacker, location, data))) {
+      return null;
+    }
+    final List<Unit> attackerOrder = getOrderOfLosses(attacking, false, attacker, defending, attackerOrderOfLosses,
+        location, territoryEffects, data);
+    final List<Unit> defenderOrder = getOrderOfLosses(defending, true, defender, attacking, defenderOrderOfLosses,
+        location, territoryEffects, data);
+    final Side attackingSide = Side.compile(new ArrayList<>(attacking), attackerOrder, new ArrayList<>(defending),
+        defenderOrder, false, attacker, location, territoryEffects, data);
+    final Side defendingSide = Side.compile(new ArrayList<>(defending), defenderOrder, new ArrayList<>(attacking),
+        attackerOrder, true, defender, location, territoryEffects, data);
+    if (attackingSide == null || defendingSide == null
+        || (!attackingSide.canEverHit() && !defendingSide.canEverHit())) {
+      // the full engine decides what happens to battles nobody can win
+      return null;
+    }
+    return new CompiledBattle(data, location, attackingSide, defendingSide);
+  }
+
+  /**
+   * Units that the full battle engine would fight the same way the compiled battle does.
+   */
+  private static Match<Unit> canBeCompiled(final boolean attacking, final PlayerID attacker, final Territory location,
+      final GameData data) {
+    final Match.CompositeBuilder<Unit> canBeCompiled = Match.newCompositeBuilder(
+        Matches.unitCanBeInBattle(attacking, !location.isWater(), 1, true, true, true),
+        Matches.UnitIsNotInfrastructure,
+        Matches.UnitIsAAforAnything.invert(),
+        Matches.UnitIsNotSub,
+        Matches.UnitIsNotTransport,
+        Matches.UnitIsSuicide.invert(),
+        Matches.UnitIsDisabled.invert(),
+        Matches.unitIsBeingTransported().invert(),
+        Matches.UnitWasInAirBattle.invert(),
+        Matches.UnitWasAmphibious.invert(),
+        Matches.unitCanBeCapturedOnEnteringToInThisTerritory(attacker, location, data).invert());
+    if (location.isWater()) {
+      canBeCompiled.add(Matches.UnitIsNotLand);
+    }
+    return canBeCompiled.all();
+  }
+
+  /**
+   * The order of loss set on the calculator is taken first, then the default order of loss.
+   */
+  private static List<Unit> getOrderOfLosses(final Collection<Unit> units, final boolean defending,
+      final PlayerID player, final Collection<Unit> enemyUnits, final List<Unit> orderOfLosses,
+      final Territory location, final Collection<TerritoryEffect> territoryEffects, final GameData data) {
+    final Set<Unit> order = new LinkedHashSet<>();
+    if (orderOfLosses != null) {
+      for (final Unit unit : orderOfLosses) {
+        if (units.contains(unit)) {
+          order.add(unit);
+        }
+      }
+    }
+    order.addAll(BattleCalculator.getDefaultCasualtyOrder(units, defending, player, enemyUnits, location,
+        territoryEffects, data));
+    return new ArrayList<>(order);
+  }
+
+  /**
+   * Fights the battle once, from the compiled starting position.
+   */
+  BattleResults fight() {
+    attacker.reset();
+    defender.reset();
+    int round = 1;
+    while (true) {
+      final int attackerHits = rollHits(attacker, attacker.getPowerTable(defender.killed));
+      final int defenderHits = rollHits(defender, defender.getPowerTable(attacker.killed));
+      defender.takeHits(attackerHits);
+      attacker.takeHits(defenderHits);
+      if (attacker.isDestroyed()) {
+        return getResults(round, WhoWon.DEFENDER);
+      } else if (defender.isDestroyed()) {
+        return getResults(round, WhoWon.ATTACKER);
+      } else if ((maxRounds > 0 && maxRounds <= round)
+          || (attacker.hasNoCombatValueLeft() && defender.hasNoCombatValueLeft())) {
+        return getResults(round, WhoWon.DRAW);
+      }
+      round++;
+    }
+  }
+
+  private BattleResults getResults(final int round, final WhoWon whoWon) {
+    return new BattleResults(round, attacker.getRemainingUnits(), defender.getRemainingUnits(), whoWon, data);
+  }
+
+  private int rollHits(final Side side, final int table) {
+    final int offset = table * side.size;
+    int hits = 0;
+    if (lowLuck) {
+      int power = 0;
+      for (int i = side.killed; i < side.size; i++) {
+        power += side.lowLuckPower[offset + i];
+      }
+      hits = power / diceSides;
+      final int rollFor = power % diceSides;
+      // zero based
+      if (rollFor > 0 && rollFor > random.nextInt(diceSides)) {
+        hits++;
+      }
+      return hits;
+    }
+    for (int i = side.killed; i < side.size; i++) {
+      final int strength = side.power[offset + i];
+      final int rolls = side.rolls[offset + i];
+      if (strength <= 0 || rolls <= 0) {
+        continue;
+      }
+      if (rolls > 1 && side.chooseBestRoll[i]) {
+        // the best die is used, so a single die under the strength is a hit
+        for (int roll = 0; roll < rolls; roll++) {
+          if (strength > random.nextInt(diceSides)) {
+            hits++;
+            break;
+          }
+        }
+      } else {
+        for (int roll = 0; roll < rolls; roll++) {
+          if (strength > random.nextInt(diceSides)) {
+            hits++;
+          }
+        }
+      }
+    }
+    return hits;
+  }
+
+  /**
+   * One side of a compiled battle. Units are indexed by the position in which they are taken as casualties, so the
+   * units still alive are always the ones from {@code killed} to the end.
+   */
+  private static final class Side {
+    private final int size;
+    private final List<List<Unit>> remainingUnits;
+    // extra hits each unit can take before it dies
+    private final int[] initialHitPointsLeft;
+    private final int[] hitPointsLeft;
+    // units with extra hit points, in the order the default casualty selection damages them
+    private final int[] damageOrder;
+    // whether all units from this index on have no combat value, which makes the battle a stalemate
+    private final boolean[] noCombatValueFrom;
+    private final boolean[] chooseBestRoll;
+    // power tables, indexed by table * size + unit
+    private final int[] power;
+    private final int[] rolls;
+    private final int[] lowLuckPower;
+    private final boolean powerDependsOnOwnLosses;
+    private final int enemyTables;
+    private int killed;
+
+    private Side(final List<Unit> order, final int[] damageOrder, final int[] power, final int[] rolls,
+        final int[] lowLuckPower, final boolean powerDependsOnOwnLosses, final int enemyTables,
+        final boolean defending, final GameData data) {
+      this.size = order.size();
+      this.damageOrder = damageOrder;
+      this.power = power;
+      this.rolls = rolls;
+      this.lowLuckPower = lowLuckPower;
+      this.powerDependsOnOwnLosses = powerDependsOnOwnLosses;
+      this.enemyTables = enemyTables;
+      this.remainingUnits = new ArrayList<>(size + 1);
+      for (int i = 0; i <= size; i++) {
+        remainingUnits.add(Collections.unmodifiableList(new ArrayList<>(order.subList(i, size))));
+      }
+      this.initialHitPointsLeft = new int[size];
+      this.hitPointsLeft = new int[size];
+      this.chooseBestRoll = new boolean[size];
+      this.noCombatValueFrom = new boolean[size + 1];
+      final boolean lhtrBombers = Properties.getLHTR_Heavy_Bombers(data);
+      final Match<Unit> hasCombatValue =
+          defending ? Matches.unitHasDefendValueOfAtLeast(1) : Matches.unitHasAttackValueOfAtLeast(1);
+      for (int i = size - 1; i >= 0; i--) {
+        final Unit unit = order.get(i);
+        final UnitAttachment ua = UnitAttachment.get(unit.getType());
+        initialHitPointsLeft[i] = Math.max(0, ua.getHitPoints() - (1 + unit.getHits()));
+        chooseBestRoll[i] = lhtrBombers || ua.getChooseBestRoll();
+        noCombatValueFrom[i] = !hasCombatValue.match(unit) && (i == size - 1 || noCombatValueFrom[i + 1]);
+      }
+    }
+
+    static Side compile(final List<Unit> units, final List<Unit> order, final List<Unit> enemyUnits,
+        final List<Unit> enemyOrder, final boolean defending, final PlayerID player, final Territory location,
+        final Collection<TerritoryEffect> territoryEffects, final GameData data) {
+      final boolean friendlySupport = hasSupport(units, defending, true, data);
+      final boolean enemySupport = hasSupport(enemyUnits, !defending, false, data);
+      final int ownTables = (friendlySupport || enemySupport) ? order.size() + 1 : 1;
+      final int enemyTables = enemySupport ? enemyOrder.size() + 1 : 1;
+      if (ownTables * enemyTables > MAX_POWER_TABLES) {
+        return null;
+      }
+      final int size = order.size();
+      final Map<Unit, Integer> position = new HashMap<>();
+      for (int i = 0; i < size; i++) {
+        position.put(order.get(i), i);
+      }
+      final int[] power = new int[ownTables * enemyTables * size];
+      final int[] rolls = new int[power.length];
+      final int[] lowLuckPower = new int[power.length];
+      final boolean lowLuck = Properties.getLow_Luck(data);
+      for (int ownKilled = 0; ownKilled < ownTables; ownKilled++) {
+        final List<Unit> alive = new ArrayList<>(order.subList(ownKilled, size));
+        final List<Unit> firing = new ArrayList<>(units);
+        firing.retainAll(new HashSet<>(alive));
+        if (!lowLuck) {
+          DiceRoll.sortByStrength(firing, defending);
+        }
+        for (int enemyKilled = 0; enemyKilled < enemyTables; enemyKilled++) {
+          final List<Unit> enemyAlive = new ArrayList<>(enemyUnits);
+          enemyAlive.retainAll(new HashSet<>(enemyOrder.subList(enemyKilled, enemyOrder.size())));
+          final Map<Unit, Tuple<Integer, Integer>> powerAndRolls = DiceRoll.getUnitPowerAndRollsForNormalBattles(
+              firing, enemyAlive, defending, false, data, location, territoryEffects, false, Collections.emptyList());
+          final int offset = (ownKilled * enemyTables + enemyKilled) * size;
+          for (final Unit unit : firing) {
+            final Tuple<Integer, Integer> strengthAndRolls = powerAndRolls.get(unit);
+            final int index = offset + position.get(unit);
+            power[index] = strengthAndRolls.getFirst();
+            rolls[index] = strengthAndRolls.getSecond();
+            lowLuckPower[index] = DiceRoll.getTotalPower(Collections.singletonMap(unit, strengthAndRolls), data);
+          }
+        }
+      }
+      final List<Unit> damageOrder = BattleCalculator.getDefaultCasualtyOrder(units, defending, player, enemyUnits,
+          location, territoryEffects, data);
+      final List<Integer> damageable = new ArrayList<>();
+      for (final Unit unit : damageOrder) {
+        if (UnitAttachment.get(unit.getType()).getHitPoints() > 1 + unit.getHits()) {
+          damageable.add(position.get(unit));
+        }
+      }
+      final int[] damageIndexes = new int[damageable.size()];
+      for (int i = 0; i < damageIndexes.length; i++) {
+        damageIndexes[i] = damageable.get(i);
+      }
+      return new Side(order, damageIndexes, power, rolls, lowLuckPower, ownTables > 1, enemyTables, defending, data);
+    }
+
+    private static boolean hasSupport(final List<Unit> unitsGivingTheSupport, final boolean defence,
+        final boolean allies, final GameData data) {
+      final Set<List<UnitSupportAttachment>> supportRules = new HashSet<>();
+      DiceRoll.getSupport(unitsGivingTheSupport, supportRules, new IntegerMap<>(),
+          new HashMap<UnitSupportAttachment, LinkedIntegerMap<Unit>>(), data, defence, allies);
+      return !supportRules.isEmpty();
+    }
+
+    void reset() {
+      killed = 0;
+      System.arraycopy(initialHitPointsLeft, 0, hitPointsLeft, 0, size);
+    }
+
+    int getPowerTable(final int enemyKilled) {
+      final int ownTable = powerDependsOnOwnLosses ? killed : 0;
+      return ownTable * enemyTables + (enemyTables > 1 ? enemyKilled : 0);
+    }
+
+    boolean canEverHit() {
+      for (int i = 0; i < power.length; i++) {
+        if (power[i] > 0 && rolls[i] > 0) {
+          return true;
+        }
+      }
+      return false;
+    }
+
+    /**
+     * Units with hit points left are damaged first, then units are killed in order of loss.
+     */
+    void takeHits(final int hits) {
+      int hitsLeft = hits;
+      for (final int unit : damageOrder) {
+        if (hitsLeft <= 0) {
+          break;
+        }
+        if (unit < killed) {
+          continue;
+        }
+        final int damage = Math.min(hitsLeft, hitPointsLeft[unit]);
+        hitPointsLeft[unit] -= damage;
+        hitsLeft -= damage;
+      }
+      killed = Math.min(size, killed + hitsLeft);
+    }
+
+    boolean isDestroyed() {
+      return killed >= size;
+    }
+
+    boolean hasNoCombatValueLeft() {
+      return noCombatValueFrom[killed];
+    }
+
+    List<Unit> getRemainingUnits() {
+      return remainingUnits.get(killed);
+    }
+  }
+}
@@ -1,6 +1,8 @@
 package games.strategy.triplea.oddsCalculator.ta;
 
+import java.io.IOException;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collection;
 import java.util.HashMap;
 import java.util.HashSet;
@@ -13,15 +15,18 @@ import java.util.concurrent.ExecutionException;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
 import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.logging.Level;
 import java.util.logging.Logger;
 
+import games.strategy.debug.ClientLogger;
 import games.strategy.engine.data.GameData;
 import games.strategy.engine.data.PlayerID;
 import games.strategy.engine.data.Territory;
 import games.strategy.engine.data.TerritoryEffect;
 import games.strategy.engine.data.Unit;
 import games.strategy.engine.framework.GameDataUtils;
+import games.strategy.engine.framework.SerializedGameData;
 import games.strategy.util.CountUpAndDownLatch;
 
 /**
@@ -42,6 +47,8 @@ public class ConcurrentOddsCalculator implements IOddsCalculator {
   private volatile boolean m_isShutDown = false;
   // shortcut setting of previous game data if we are trying to set it to a new one, or shutdown
   private volatile int m_cancelCurrentOperation = 0;
+  // counts calls to cancel, so that a batch of calculations can tell it should stop between battles
+  private volatile int cancelCount = 0;
   // do not let calcing happen while we are setting game data
   private final CountUpAndDownLatch m_latchSetData = new CountUpAndDownLatch();
   // do not let setting of game data happen multiple times while we offload creating workers and copying data to a
@@ -130,50 +137,45 @@ public class ConcurrentOddsCalculator implements IOddsCalculator {
       // see how long 1 copy takes (some games can get REALLY big)
       final long startTime = System.currentTimeMillis();
       final long startMemory = Runtime.getRuntime().totalMemory() - Runtime.getRuntime().freeMemory();
-      final GameData newData;
+      final SerializedGameData serialized;
       try {
-        // make first copy, then release lock on it so game can continue (ie: we don't want to lock on it while we copy
-        // it 16 times, when once is enough) don't let the data change while we make the first copy
+        // serialize the data once, then release lock on it so game can continue (ie: we don't want to lock on it while
+        // we copy it 16 times, when once is enough) don't let the data change while we serialize it
         data.acquireReadLock();
-        newData = GameDataUtils.cloneGameData(data, false);
+        serialized = GameDataUtils.serializeGameData(data, false);
       } finally {
         data.releaseReadLock();
       }
-      m_currentThreads = getThreadsToUse((System.currentTimeMillis() - startTime), startMemory);
-      try {
-        // make sure all workers are using the same data
-        newData.acquireReadLock();
-        int i = 0;
+      if (serialized != null) {
+        addWorker(serialized);
+        m_currentThreads = getThreadsToUse((System.currentTimeMillis() - startTime), startMemory);
+        // every worker deserializes its own copy from the same bytes, so all workers are using the same data
+        int i = 1;
         // we are already in 1 executor thread, so we have MAX_THREADS-1 threads left to use
         if (m_currentThreads <= 2 || MAX_THREADS <= 2) {
           // if 2 or fewer threads, do not multi-thread the copying (we have already copied it once above, so at most
-          // only 1 more copy to
-          // make)
+          // only 1 more copy to make)
           while (m_cancelCurrentOperation >= 0 && i < m_currentThreads) {
-            // the last one will use our already copied data from above, without copying it again
-            m_workers.add(new OddsCalculator(newData, (m_currentThreads == ++i)));
+            ++i;
+            addWorker(serialized);
           }
-        } else { // multi-thread our copying, cus why the heck not (it increases the speed of copying by about double)
+        } else { // multi-thread our copying, cus why the heck not (copies do not share any state)
           final CountDownLatch workerLatch = new CountDownLatch(m_currentThreads - 1);
-          while (i < (m_currentThreads - 1)) {
+          while (i < m_currentThreads) {
             ++i;
             m_executor.submit(() -> {
               if (m_cancelCurrentOperation >= 0) {
-                m_workers.add(new OddsCalculator(newData, false));
+                addWorker(serialized);
               }
               workerLatch.countDown();
             });
           }
-          // the last one will use our already copied data from above, without copying it again
-          m_workers.add(new OddsCalculator(newData, true));
           try {
             workerLatch.await();
           } catch (final InterruptedException e) {
             Thread.currentThread().interrupt();
           }
         }
-      } finally {
-        newData.releaseReadLock();
       }
     }
     if (m_cancelCurrentOperation < 0 || data == null) {
@@ -192,6 +194,14 @@ public class ConcurrentOddsCalculator implements IOddsCalculator {
     s_logger.fine("Initialized worker thread pool with size: " + m_workers.size());
   }
 
+  private void addWorker(final SerializedGameData serialized) {
+    try {
+      m_workers.add(new OddsCalculator(serialized.deserialize(), true));
+    } catch (final IOException e) {
+      ClientLogger.logQuietly(e);
+    }
+  }
+
   @Override
   public void shutdown() {
     m_isShutDown = true;
@@ -319,6 +329,54 @@ public class ConcurrentOddsCalculator implements IOddsCalculator {
     }
   }
 
+  /**
+   * Calculates each battle on a single worker, so its results are not split up across the workers. Every worker takes
+   * the next battle that has not been started yet until there are none left, so workers finishing small battles pick
+   * up the remaining ones rather than waiting on a fixed share.
+   */
+  @Override
+  public List<AggregateResults> calculateAll(final List<OddsCalculatorRequest> requests) {
+    synchronized (m_mutexCalcIsRunning) {
+      awaitLatch();
+      final AggregateResults[] results = new AggregateResults[requests.size()];
+      final int startCancelCount = cancelCount;
+      final AtomicInteger nextRequest = new AtomicInteger();
+      final List<Future<?>> list = new ArrayList<>();
+      for (final OddsCalculator worker : m_workers) {
+        if (!m_isDataSet || m_isShutDown) {
+          break;
+        }
+        list.add(m_executor.submit(() -> {
+          for (int i = nextRequest.getAndIncrement(); i < results.length && startCancelCount == cancelCount;
+              i = nextRequest.getAndIncrement()) {
+            results[i] = worker.calculate(requests.get(i));
+          }
+        }));
+      }
+      ExecutionException executionException = null;
+      for (final Future<?> future : list) {
+        try {
+          future.get();
+        } catch (final InterruptedException e) {
+          Thread.currentThread().interrupt();
+        } catch (final ExecutionException e) {
+          executionException = e;
+        }
+      }
+      if (executionException != null) {
+        s_logger.log(Level.SEVERE, "Battle results workers aborted by exception", executionException.getCause());
+        throw new IllegalStateException(executionException.getCause());
+      }
+      // battles not calculated because of a cancel or a new game data have no results
+      for (int i = 0; i < results.length; i++) {
+        if (results[i] == null) {
+          results[i] = new AggregateResults(0);
+        }
+      }
+      return Arrays.asList(results);
+    }
+  }
+
   @Override
   public boolean getIsReady() {
     return m_isDataSet && m_isCalcSet && !m_isShutDown;
@@ -407,6 +465,7 @@ public class ConcurrentOddsCalculator implements IOddsCalculator {
   // not on purpose, we need to be able to cancel at any time
   @Override
   public void cancel() {
+    cancelCount++;
     for (final OddsCalculator worker : m_workers) {
       worker.cancel();
     }
@@ -1,6 +1,7 @@
 package games.strategy.triplea.oddsCalculator.ta;
 
 import java.util.Collection;
+import java.util.List;
 
 import games.strategy.engine.data.GameData;
 import games.strategy.engine.data.PlayerID;
@@ -24,6 +25,12 @@ public interface IOddsCalculator {
       final Territory location, final Collection<Unit> attacking, final Collection<Unit> defending,
       final Collection<Unit> bombarding, final Collection<TerritoryEffect> territoryEffects, final int runCount);
 
+  /**
+   * Calculates the odds of several independent battles, each with its own options, and returns their results in the
+   * same order. The options set on this calculator are neither used nor changed.
+   */
+  List<AggregateResults> calculateAll(final List<OddsCalculatorRequest> requests);
+
   int getRunCount();
 
   boolean getIsReady();
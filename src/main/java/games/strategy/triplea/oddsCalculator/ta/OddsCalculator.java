@@ -78,6 +78,7 @@ public class OddsCalculator implements IOddsCalculator, Callable<AggregateResult
   private volatile boolean m_isDataSet = false;
   private volatile boolean m_isCalcSet = false;
   private volatile boolean m_isRunning = false;
+  private boolean useCompiledBattle = true;
   private final List<OddsCalculatorListener> m_listeners = new ArrayList<>();
 
   public OddsCalculator(final GameData data) {
@@ -153,6 +154,48 @@ public class OddsCalculator implements IOddsCalculator, Callable<AggregateResult
     return calculate();
   }
 
+  @Override
+  public List<AggregateResults> calculateAll(final List<OddsCalculatorRequest> requests) {
+    final List<AggregateResults> results = new ArrayList<>(requests.size());
+    for (final OddsCalculatorRequest request : requests) {
+      results.add(calculate(request));
+    }
+    return results;
+  }
+
+  /**
+   * Calculates the odds of one battle with the request's options, leaving the options of this calculator as they were.
+   */
+  AggregateResults calculate(final OddsCalculatorRequest request) {
+    final boolean keepOneAttackingLandUnit = m_keepOneAttackingLandUnit;
+    final boolean amphibious = m_amphibious;
+    final int retreatAfterRound = m_retreatAfterRound;
+    final int retreatAfterXUnitsLeft = m_retreatAfterXUnitsLeft;
+    final boolean retreatWhenOnlyAirLeft = m_retreatWhenOnlyAirLeft;
+    final String attackerOrderOfLosses = m_attackerOrderOfLosses;
+    final String defenderOrderOfLosses = m_defenderOrderOfLosses;
+    try {
+      m_keepOneAttackingLandUnit = request.getKeepOneAttackingLandUnit();
+      m_amphibious = request.getAmphibious();
+      m_retreatAfterRound = request.getRetreatAfterRound();
+      m_retreatAfterXUnitsLeft = request.getRetreatAfterXUnitsLeft();
+      m_retreatWhenOnlyAirLeft = request.getRetreatWhenOnlyAirLeft();
+      m_attackerOrderOfLosses = request.getAttackerOrderOfLosses();
+      m_defenderOrderOfLosses = request.getDefenderOrderOfLosses();
+      return setCalculateDataAndCalculate(request.getAttacker(), request.getDefender(), request.getLocation(),
+          request.getAttacking(), request.getDefending(), request.getBombarding(), request.getTerritoryEffects(),
+          request.getRunCount());
+    } finally {
+      m_keepOneAttackingLandUnit = keepOneAttackingLandUnit;
+      m_amphibious = amphibious;
+      m_retreatAfterRound = retreatAfterRound;
+      m_retreatAfterXUnitsLeft = retreatAfterXUnitsLeft;
+      m_retreatWhenOnlyAirLeft = retreatWhenOnlyAirLeft;
+      m_attackerOrderOfLosses = attackerOrderOfLosses;
+      m_defenderOrderOfLosses = defenderOrderOfLosses;
+    }
+  }
+
   @Override
   public AggregateResults calculate() {
     if (!getIsReady()) {
@@ -176,7 +219,14 @@ public class OddsCalculator implements IOddsCalculator, Callable<AggregateResult
         OddsCalculator.getUnitListByOrderOfLoss(m_attackerOrderOfLosses, m_attackingUnits, m_data);
     final List<Unit> defenderOrderOfLosses =
         OddsCalculator.getUnitListByOrderOfLoss(m_defenderOrderOfLosses, m_defendingUnits, m_data);
-    for (int i = 0; i < count && !m_cancelled; i++) {
+    final CompiledBattle compiledBattle = useCompiledBattle ? CompiledBattle.compile(m_data, m_attacker, m_defender,
+        m_location, m_attackingUnits, m_defendingUnits, m_bombardingUnits, m_territoryEffects, m_amphibious,
+        m_keepOneAttackingLandUnit, m_retreatAfterRound, m_retreatAfterXUnitsLeft, m_retreatWhenOnlyAirLeft,
+        attackerOrderOfLosses, defenderOrderOfLosses) : null;
+    for (int i = 0; i < count && !m_cancelled && compiledBattle != null; i++) {
+      rVal.addResult(compiledBattle.fight());
+    }
+    for (int i = 0; i < count && !m_cancelled && compiledBattle == null; i++) {
       final CompositeChange allChanges = new CompositeChange();
       final DummyDelegateBridge bridge1 =
           new DummyDelegateBridge(m_attacker, m_data, allChanges, attackerOrderOfLosses, defenderOrderOfLosses,
@@ -203,6 +253,14 @@ public class OddsCalculator implements IOddsCalculator, Callable<AggregateResult
     return rVal;
   }
 
+  /**
+   * Plain battles are fought by a {@link CompiledBattle} unless this is turned off, which forces every battle through
+   * the full battle engine.
+   */
+  public void setUseCompiledBattle(final boolean useCompiledBattle) {
+    this.useCompiledBattle = useCompiledBattle;
+  }
+
   @Override
   public AggregateResults call() throws Exception {
     return calculate();
@@ -0,0 +1,143 @@
+package games.strategy.triplea.oddsCalculator.ta;
+
+import java.util.Collection;
+
+import games.strategy.engine.data.PlayerID;
+import games.strategy.engine.data.Territory;
+import games.strategy.engine.data.TerritoryEffect;
+import games.strategy.engine.data.Unit;
+
+/**
+ * One battle to calculate the odds of, along with the options to fight it with.
+ *
+ * <p>
+ * Unlike the setters of {@link IOddsCalculator}, the options only apply to this battle, so many requests with
+ * different options can be calculated together with {@link IOddsCalculator#calculateAll(java.util.List)}. Options that
+ * are not set have the same defaults as a new {@link OddsCalculator}.
+ * </p>
+ */
+public final class OddsCalculatorRequest {
+  private final PlayerID attacker;
+  private final PlayerID defender;
+  private final Territory location;
+  private final Collection<Unit> attacking;
+  private final Collection<Unit> defending;
+  private final Collection<Unit> bombarding;
+  private final Collection<TerritoryEffect> territoryEffects;
+  private final int runCount;
+  private boolean keepOneAttackingLandUnit = false;
+  private boolean amphibious = false;
+  private int retreatAfterRound = -1;
+  private int retreatAfterXUnitsLeft = -1;
+  private boolean retreatWhenOnlyAirLeft = false;
+  private String attackerOrderOfLosses = null;
+  private String defenderOrderOfLosses = null;
+
+  public OddsCalculatorRequest(final PlayerID attacker, final PlayerID defender, final Territory location,
+      final Collection<Unit> attacking, final Collection<Unit> defending, final Collection<Unit> bombarding,
+      final Collection<TerritoryEffect> territoryEffects, final int runCount) {
+    this.attacker = attacker;
+    this.defender = defender;
+    this.location = location;
+    this.attacking = attacking;
+    this.defending = defending;
+    this.bombarding = bombarding;
+    this.territoryEffects = territoryEffects;
+    this.runCount = runCount;
+  }
+
+  public OddsCalculatorRequest keepOneAttackingLandUnit(final boolean value) {
+    keepOneAttackingLandUnit = value;
+    return this;
+  }
+
+  public OddsCalculatorRequest amphibious(final boolean value) {
+    amphibious = value;
+    return this;
+  }
+
+  public OddsCalculatorRequest retreatAfterRound(final int value) {
+    retreatAfterRound = value;
+    return this;
+  }
+
+  public OddsCalculatorRequest retreatAfterXUnitsLeft(final int value) {
+    retreatAfterXUnitsLeft = value;
+    return this;
+  }
+
+  public OddsCalculatorRequest retreatWhenOnlyAirLeft(final boolean value) {
+    retreatWhenOnlyAirLeft = value;
+    return this;
+  }
+
+  public OddsCalculatorRequest attackerOrderOfLosses(final String value) {
+    attackerOrderOfLosses = value;
+    return this;
+  }
+
+  public OddsCalculatorRequest defenderOrderOfLosses(final String value) {
+    defenderOrderOfLosses = value;
+    return this;
+  }
+
+  public PlayerID getAttacker() {
+    return attacker;
+  }
+
+  public PlayerID getDefender() {
+    return defender;
+  }
+
+  public Territory getLocation() {
+    return location;
+  }
+
+  public Collection<Unit> getAttacking() {
+    return attacking;
+  }
+
+  public Collection<Unit> getDefending() {
+    return defending;
+  }
+
+  public Collection<Unit> getBombarding() {
+    return bombarding;
+  }
+
+  public Collection<TerritoryEffect> getTerritoryEffects() {
+    return territoryEffects;
+  }
+
+  public int getRunCount() {
+    return runCount;
+  }
+
+  public boolean getKeepOneAttackingLandUnit() {
+    return keepOneAttackingLandUnit;
+  }
+
+  public boolean getAmphibious() {
+    return amphibious;
+  }
+
+  public int getRetreatAfterRound() {
+    return retreatAfterRound;
+  }
+
+  public int getRetreatAfterXUnitsLeft() {
+    return retreatAfterXUnitsLeft;
+  }
+
+  public boolean getRetreatWhenOnlyAirLeft() {
+    return retreatWhenOnlyAirLeft;
+  }
+
+  public String getAttackerOrderOfLosses() {
+    return attackerOrderOfLosses;
+  }
+
+  public String getDefenderOrderOfLosses() {
+    return defenderOrderOfLosses;
+  }
+}
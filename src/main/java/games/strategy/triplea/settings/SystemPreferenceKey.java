@@ -20,6 +20,7 @@ public enum SystemPreferenceKey {
   CONFIRM_DEFENSIVE_ROLLS,
   FOCUS_ON_OWN_CASUALTIES,
   SHOW_BATTLES_BETWEEN_AI,
+  SAVE_BATTLE_ODDS_BETWEEN_GAMES,
   MAP_FOLDER_OVERRIDE,
   LOOK_AND_FEEL_PREF,
   TRIPLEA_SERVER_OBSERVER_JOIN_WAIT_TIME,
@@ -29,5 +30,6 @@ public enum SystemPreferenceKey {
   TRIPLEA_LAST_CHECK_FOR_MAP_UPDATES,
   TRIPLEA_SERVER_START_GAME_SYNC_WAIT_TIME,
   CASUALTY_SELECTION_SLOW,
-  ARROW_KEY_SCROLL_SPEED
+  ARROW_KEY_SCROLL_SPEED,
+  IMAGE_CACHE_SIZE
 }
@@ -9,6 +9,7 @@ public class AiSettings implements HasDefaults {
 
   static final int DEFAULT_AI_PAUSE_DURACTION = 400;
   private static final boolean DEFAULT_SHOW_BATTLE_BETWEEN_AI = true;
+  private static final boolean DEFAULT_SAVE_BATTLE_ODDS_BETWEEN_GAMES = false;
 
   @Override
   public void setToDefault() {
@@ -30,4 +31,13 @@ public class AiSettings implements HasDefaults {
   public void setShowBattlesBetweenAi(final boolean value) {
     SystemPreferences.put(SystemPreferenceKey.SHOW_BATTLES_BETWEEN_AI, value);
   }
+
+  public boolean saveBattleOddsBetweenGames() {
+    return SystemPreferences.get(SystemPreferenceKey.SAVE_BATTLE_ODDS_BETWEEN_GAMES,
+        DEFAULT_SAVE_BATTLE_ODDS_BETWEEN_GAMES);
+  }
+
+  public void setSaveBattleOddsBetweenGames(final boolean value) {
+    SystemPreferences.put(SystemPreferenceKey.SAVE_BATTLE_ODDS_BETWEEN_GAMES, value);
+  }
 }
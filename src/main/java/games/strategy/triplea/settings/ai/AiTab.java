@@ -28,7 +28,13 @@ public class AiTab implements SettingsTab<AiSettings> {
             "When set to yes, combats between AI players will be shown in a battle window.",
             aiSettings.showBattlesBetweenAi(),
             ((settings, s) -> settings.setShowBattlesBetweenAi(Boolean.valueOf(s))),
-            (settings -> String.valueOf(settings.showBattlesBetweenAi()))));
+            (settings -> String.valueOf(settings.showBattlesBetweenAi()))),
+        SettingInputComponentFactory.buildYesOrNoRadioButtons("Save Battle Odds Between Games",
+            "When set to yes, the Hard AI keeps the odds of the battles it calculated on disk, and reuses them "
+                + "the next time the same game is played with the same options.",
+            aiSettings.saveBattleOddsBetweenGames(),
+            ((settings, s) -> settings.setSaveBattleOddsBetweenGames(Boolean.valueOf(s))),
+            (settings -> String.valueOf(settings.saveBattleOddsBetweenGames()))));
   }
 
   @Override
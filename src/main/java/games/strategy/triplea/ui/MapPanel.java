@@ -22,14 +22,12 @@ import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.HashSet;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
 import java.util.Optional;
 import java.util.Set;
-import java.util.concurrent.BlockingQueue;
-import java.util.concurrent.LinkedBlockingQueue;
-import java.util.concurrent.TimeUnit;
 import java.util.function.Supplier;
 import java.util.logging.Level;
 import java.util.logging.Logger;
@@ -52,6 +50,7 @@ import games.strategy.triplea.delegate.Matches;
 import games.strategy.triplea.ui.screen.SmallMapImageManager;
 import games.strategy.triplea.ui.screen.Tile;
 import games.strategy.triplea.ui.screen.TileManager;
+import games.strategy.triplea.ui.screen.TileRenderer;
 import games.strategy.triplea.ui.screen.UnitsDrawer;
 import games.strategy.triplea.ui.screen.drawable.IDrawable.OptionalExtraBorderLevel;
 import games.strategy.triplea.util.Stopwatch;
@@ -82,16 +81,15 @@ public class MapPanel extends ImageScrollerLargeView {
   // units the mouse is currently over
   private Tuple<Territory, List<Unit>> currentUnits;
   private final SmallMapImageManager smallMapImageManager;
-  // keep a reference to the images from the last paint to
-  // prevent them from being gcd
-  private final List<Tile> images = new ArrayList<>();
+  // the tiles on and near the screen at the last paint, which hold on to their images so the image cache can't drop
+  // them
+  private Set<Tile> heldTiles = new HashSet<>();
   private RouteDescription routeDescription;
   private final TileManager tileManager;
-  private final BackgroundDrawer backgroundDrawer;
+  private final TileRenderer tileRenderer;
   private BufferedImage mouseShadowImage = null;
   private String movementLeftForCurrentUnits = "";
   private final IUIContext uiContext;
-  private final LinkedBlockingQueue<Tile> undrawnTiles = new LinkedBlockingQueue<>();
   private Map<Territory, List<Unit>> highlightedUnits;
   private Cursor hiddenCursor = null;
   private final MapRouteDrawer routeDrawer;
@@ -105,11 +103,9 @@ public class MapPanel extends ImageScrollerLargeView {
     routeDrawer = new MapRouteDrawer(this, uiContext.getMapData());
     setCursor(this.uiContext.getCursor());
     this.scale = this.uiContext.getScale();
-    this.backgroundDrawer = new BackgroundDrawer(this);
     this.tileManager = new TileManager(this.uiContext);
-    final Thread t = new Thread(this.backgroundDrawer, "Map panel background drawer");
-    t.setDaemon(true);
-    t.start();
+    this.tileRenderer =
+        new TileRenderer(this::getData, this.uiContext, () -> SwingUtilities.invokeLater(this::repaint));
     setDoubleBuffered(false);
     this.smallView = smallView;
     this.smallMapImageManager =
@@ -221,15 +217,10 @@ public class MapPanel extends ImageScrollerLargeView {
     this.uiContext.addActive(() -> {
       // super.deactivate
       MapPanel.this.deactivate();
-      clearUndrawn();
-      backgroundDrawer.stop();
+      tileRenderer.shutDown();
     });
   }
 
-  LinkedBlockingQueue<Tile> getUndrawnTiles() {
-    return undrawnTiles;
-  }
-
   private void recreateTiles(final GameData data, final IUIContext uiContext) {
     this.tileManager.createTiles(new Rectangle(this.uiContext.getMapData().getMapDimensions()), data,
         this.uiContext.getMapData());
@@ -436,7 +427,7 @@ public class MapPanel extends ImageScrollerLargeView {
     gameData = data;
     gameData.addTerritoryListener(territoryListener);
     gameData.addDataChangeListener(techUpdateListener);
-    clearUndrawn();
+    tileRenderer.render(Collections.emptyList());
     tileManager.resetTiles(gameData, uiContext.getMapData());
   }
 
@@ -583,10 +574,6 @@ public class MapPanel extends ImageScrollerLargeView {
     if (routeDescription != null) {
       routeDrawer.drawRoute(g2d, routeDescription, movementLeftForCurrentUnits);
     }
-    // used to keep strong references to what is on the screen so it wont be garbage collected
-    // other references to the images are weak references
-    this.images.clear();
-    this.images.addAll(images);
     if (highlightedUnits != null) {
       for (final Entry<Territory, List<Unit>> entry : highlightedUnits.entrySet()) {
         final Set<UnitCategory> categories = UnitSeperator.categorize(entry.getValue());
@@ -611,33 +598,20 @@ public class MapPanel extends ImageScrollerLargeView {
         }
       }
     }
-    // draw the tiles nearest us first
-    // then draw farther away
-    updateUndrawnTiles(undrawnTiles, 30, true);
-    updateUndrawnTiles(undrawnTiles, 257, true);
+    // draw the tiles in view first
+    // then the tiles nearest us, then farther away
+    final Set<Tile> toDraw = new LinkedHashSet<>(undrawnTiles);
+    final Set<Tile> held = new HashSet<>(images);
+    updateUndrawnTiles(toDraw, held, 30, true);
+    updateUndrawnTiles(toDraw, held, 257, true);
     // when we are this far away, dont force the tiles to stay in memroy
-    updateUndrawnTiles(undrawnTiles, 513, false);
-    updateUndrawnTiles(undrawnTiles, 767, false);
-    clearUndrawn();
-    this.undrawnTiles.addAll(undrawnTiles);
+    updateUndrawnTiles(toDraw, held, 513, false);
+    updateUndrawnTiles(toDraw, held, 767, false);
+    holdTiles(held);
+    tileRenderer.render(toDraw);
     stopWatch.done();
   }
 
-  private void clearUndrawn() {
-    for (int i = 0; i < 3; i++) {
-      try {
-        // several bug reports indicate that
-        // clear can throw an exception
-        // http://sourceforge.net/tracker/index.php?func=detail&aid=1832130&group_id=44492&atid=439737
-        // ignore
-        undrawnTiles.clear();
-        return;
-      } catch (final Exception e) {
-        e.printStackTrace(System.out);
-      }
-    }
-  }
-
   private boolean mapWidthFitsOnScreen() {
     return model.getMaxWidth() < getScaledWidth();
   }
@@ -647,25 +621,41 @@ public class MapPanel extends ImageScrollerLargeView {
   }
 
   /**
-   * If we have nothing left undrawn, draw the tiles within preDrawMargin of us, optionally
+   * Draw the tiles within preDrawMargin of us after the ones already queued, optionally
    * forcing the tiles to remain in memory.
    */
-  private void updateUndrawnTiles(final List<Tile> undrawnTiles, final int preDrawMargin, final boolean forceInMemory) {
-    // draw tiles near us if we have nothing left to draw
+  private void updateUndrawnTiles(final Set<Tile> undrawnTiles, final Set<Tile> held, final int preDrawMargin,
+      final boolean forceInMemory) {
+    // draw tiles near us as well
     // that way when we scroll slowly we wont notice a glitch
-    if (undrawnTiles.isEmpty()) {
-      final Rectangle2D extendedBounds = new Rectangle2D.Double(Math.max(model.getX() - preDrawMargin, 0),
-          Math.max(model.getY() - preDrawMargin, 0), getScaledWidth() + (2 * preDrawMargin),
-          getScaledHeight() + (2 * preDrawMargin));
-      final List<Tile> tileList = tileManager.getTiles(extendedBounds);
-      for (final Tile tile : tileList) {
-        if (tile.isDirty()) {
-          undrawnTiles.add(tile);
-        } else if (forceInMemory) {
-          images.add(tile);
-        }
+    final Rectangle2D extendedBounds = new Rectangle2D.Double(Math.max(model.getX() - preDrawMargin, 0),
+        Math.max(model.getY() - preDrawMargin, 0), getScaledWidth() + (2 * preDrawMargin),
+        getScaledHeight() + (2 * preDrawMargin));
+    final List<Tile> tileList = tileManager.getTiles(extendedBounds);
+    for (final Tile tile : tileList) {
+      if (tile.isDirty()) {
+        undrawnTiles.add(tile);
+      }
+      if (forceInMemory) {
+        held.add(tile);
+      }
+    }
+  }
+
+  /**
+   * Lets go of the tiles no longer near the screen, and holds on to the ones that now are, including those still being
+   * drawn, so a tile's image can't be dropped between being drawn and being painted.
+   */
+  private void holdTiles(final Set<Tile> tiles) {
+    for (final Tile tile : heldTiles) {
+      if (!tiles.contains(tile)) {
+        tile.setHeld(false);
       }
     }
+    for (final Tile tile : tiles) {
+      tile.setHeld(true);
+    }
+    heldTiles = tiles;
   }
 
   private void drawTiles(final Graphics2D g, final List<Tile> images, final GameData data, Rectangle2D.Double bounds,
@@ -682,8 +672,8 @@ public class MapPanel extends ImageScrollerLargeView {
           img = tile.getRawImage();
         } else {
           img = tile.getImage(data, uiContext.getMapData());
-          images.add(tile);
         }
+        images.add(tile);
         if (img != null) {
           final AffineTransform t = new AffineTransform();
           t.translate(scale * (tile.getBounds().x - bounds.getX()), scale * (tile.getBounds().y - bounds.getY()));
@@ -826,43 +816,4 @@ public class MapPanel extends ImageScrollerLargeView {
   Optional<Image> getWarningImage() {
     return uiContext.getMapData().getWarningImage();
   }
-
-  private static final class BackgroundDrawer implements Runnable {
-    private MapPanel mapPanel;
-
-    BackgroundDrawer(final MapPanel panel) {
-      mapPanel = panel;
-    }
-
-    void stop() {
-      // the thread will eventually wake up and notice we are done
-      mapPanel = null;
-    }
-
-    @Override
-    public void run() {
-      while (mapPanel != null) {
-        final BlockingQueue<Tile> undrawnTiles;
-        final MapPanel panel = mapPanel;
-        undrawnTiles = panel.getUndrawnTiles();
-        final Tile tile;
-        try {
-          tile = undrawnTiles.poll(2000, TimeUnit.MILLISECONDS);
-        } catch (final InterruptedException e) {
-          continue;
-        }
-        if (tile == null) {
-          continue;
-        }
-        final GameData data = mapPanel.getData();
-        data.acquireReadLock();
-        try {
-          tile.getImage(data, mapPanel.getUIContext().getMapData());
-        } finally {
-          data.releaseReadLock();
-        }
-        SwingUtilities.invokeLater(mapPanel::repaint);
-      }
-    }
-  }
 }
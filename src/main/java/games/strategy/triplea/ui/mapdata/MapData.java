@@ -12,7 +12,6 @@ import java.io.InputStream;
 import java.net.URL;
 import java.util.ArrayList;
 import java.util.Arrays;
-import java.util.Collection;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.HashSet;
@@ -31,6 +30,7 @@ import games.strategy.engine.data.Territory;
 import games.strategy.triplea.Constants;
 import games.strategy.triplea.ResourceLoader;
 import games.strategy.triplea.image.UnitImageFactory;
+import games.strategy.ui.GridIndex;
 import games.strategy.ui.Util;
 import games.strategy.util.PointFileReaderWriter;
 import games.strategy.util.UrlStreams;
@@ -85,12 +85,14 @@ public class MapData implements Closeable {
   private static final String TERRITORY_NAME_PLACE_FILE = "name_place.txt";
   private static final String KAMIKAZE_FILE = "kamikaze_place.txt";
   private static final String DECORATIONS_FILE = "decorations.txt";
+  private static final int POLYGON_INDEX_CELL_SIZE = 128;
 
   private final List<Color> defaultColors = Arrays.asList(Color.RED, Color.MAGENTA, Color.YELLOW, Color.ORANGE,
       Color.CYAN, Color.GREEN, Color.PINK, Color.GRAY);
   private final Map<String, Color> playerColors = new HashMap<>();
   private Map<String, List<Point>> place;
   private Map<String, List<Polygon>> polys;
+  private final GridIndex<String> polygonIndex = new GridIndex<>(POLYGON_INDEX_CELL_SIZE);
   private Map<String, Point> centers;
   private Map<String, Point> vcPlace;
   private Map<String, Point> blockadePlace;
@@ -146,6 +148,11 @@ public class MapData implements Closeable {
       }
       
       polys = PointFileReaderWriter.readOneToManyPolygons(loader.getResourceAsStream(prefix + POLYGON_FILE));
+      for (final Map.Entry<String, List<Polygon>> entry : polys.entrySet()) {
+        for (final Polygon polygon : entry.getValue()) {
+          polygonIndex.add(entry.getKey(), polygon.getBounds());
+        }
+      }
       centers = PointFileReaderWriter.readOneToOneCenters(loader.getResourceAsStream(prefix + CENTERS_FILE));
       vcPlace = PointFileReaderWriter.readOneToOne(loader.getResourceAsStream(prefix + VC_MARKERS));
       convoyPlace = PointFileReaderWriter.readOneToOne(loader.getResourceAsStream(prefix + CONVOY_MARKERS));
@@ -603,13 +610,8 @@ public class MapData implements Closeable {
     String seaName = null;
     // try to find a land territory.
     // sea zones often surround a land territory
-    final Iterator<String> keyIter = polys.keySet().iterator();
-    while (keyIter.hasNext()) {
-      final String name = keyIter.next();
-      final Collection<Polygon> polygons = polys.get(name);
-      final Iterator<Polygon> polyIter = polygons.iterator();
-      while (polyIter.hasNext()) {
-        final Polygon poly = polyIter.next();
+    for (final String name : polygonIndex.get(x, y)) {
+      for (final Polygon poly : polys.get(name)) {
         if (poly.contains(x, y)) {
           if (Util.isTerritoryNameIndicatingWater(name)) {
             seaName = name;
@@ -11,6 +11,7 @@ import games.strategy.debug.ErrorConsole;
 import games.strategy.engine.gamePlayer.IGamePlayer;
 import games.strategy.performance.EnablePerformanceLoggingCheckBox;
 import games.strategy.triplea.ai.proAI.ProAI;
+import games.strategy.triplea.image.ImageCache;
 import games.strategy.triplea.ui.TripleAFrame;
 import games.strategy.ui.SwingAction;
 import games.strategy.ui.SwingComponents;
@@ -32,6 +33,7 @@ class DebugMenu {
     debugMenu.add(SwingAction.of("Show Console", e -> {
       ErrorConsole.getConsole().setVisible(true);
       ErrorConsole.getConsole().append(DebugUtils.getMemory());
+      ErrorConsole.getConsole().append(ImageCache.getInstance() + "\r\n");
     })).setMnemonic(KeyEvent.VK_C);
   }
 }
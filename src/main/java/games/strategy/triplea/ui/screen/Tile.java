@@ -9,12 +9,13 @@ import java.awt.Rectangle;
 import java.awt.RenderingHints;
 import java.awt.geom.AffineTransform;
 import java.awt.image.BufferedImage;
-import java.lang.ref.SoftReference;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.HashSet;
 import java.util.Iterator;
 import java.util.List;
+import java.util.Set;
 import java.util.concurrent.locks.Lock;
 import java.util.concurrent.locks.ReentrantLock;
 import java.util.logging.Level;
@@ -22,6 +23,7 @@ import java.util.logging.Logger;
 
 import games.strategy.engine.data.GameData;
 import games.strategy.thread.LockUtil;
+import games.strategy.triplea.image.ImageCache;
 import games.strategy.triplea.ui.mapdata.MapData;
 import games.strategy.triplea.ui.screen.drawable.DrawableComparator;
 import games.strategy.triplea.ui.screen.drawable.IDrawable;
@@ -33,9 +35,22 @@ public class Tile {
   private static final boolean DRAW_DEBUG = false;
   private static final Logger s_logger = Logger.getLogger(Tile.class.getName());
 
-  // allow the gc to implement memory management
-  private SoftReference<Image> imageRef;
+  private static final String IMAGE = "image";
+  // the drawables up to the relief composited once, and reused while the tile has the same ones
+  private static final String BACKGROUND = "background";
+
+  // the background, and the image of a tile that isn't held, are kept in the image cache, which drops them when it
+  // needs the memory
+  private final ImageCache imageCache;
+  // the image of a held tile, which the image cache can't drop
+  private Image heldImage;
+  private boolean held = false;
+  private boolean dropped = false;
+  private Set<IDrawable> backgroundDrawables = Collections.emptySet();
   private boolean isDirty = true;
+  // changed whenever the contents are, so a tile drawn in the background can tell if it is still current
+  private int version = 0;
+  private boolean drawingInBackground = false;
   private final Rectangle bounds;
   private final int x;
   private final int y;
@@ -44,6 +59,11 @@ public class Tile {
   private final List<IDrawable> contents = new ArrayList<>();
 
   Tile(final Rectangle bounds, final int x, final int y, final double scale) {
+    this(bounds, x, y, scale, ImageCache.getInstance());
+  }
+
+  Tile(final Rectangle bounds, final int x, final int y, final double scale, final ImageCache imageCache) {
+    this.imageCache = imageCache;
     this.bounds = bounds;
     this.x = x;
     this.y = y;
@@ -53,7 +73,7 @@ public class Tile {
   public boolean isDirty() {
     acquireLock();
     try {
-      return isDirty || imageRef == null || imageRef.get() == null;
+      return isDirty || getRawImage() == null;
     } finally {
       releaseLock();
     }
@@ -70,23 +90,14 @@ public class Tile {
   public Image getImage(final GameData data, final MapData mapData) {
     acquireLock();
     try {
-      if (imageRef == null) {
-        imageRef = new SoftReference<>(createBlankImage());
-        isDirty = true;
-      }
-      Image image = imageRef.get();
+      Image image = getRawImage();
       if (image == null) {
-        image = createBlankImage();
-        imageRef = new SoftReference<>(image);
+        image = setImage(createBlankImage());
         isDirty = true;
       }
       if (isDirty) {
-        final Graphics2D g = (Graphics2D) image.getGraphics();
-        g.setRenderingHint(RenderingHints.KEY_RENDERING, RenderingHints.VALUE_RENDER_QUALITY);
-        g.setRenderingHint(RenderingHints.KEY_ALPHA_INTERPOLATION, RenderingHints.VALUE_ALPHA_INTERPOLATION_QUALITY);
-        g.setRenderingHint(RenderingHints.KEY_INTERPOLATION, RenderingHints.VALUE_INTERPOLATION_BICUBIC);
-        draw(g, data, mapData);
-        g.dispose();
+        draw(image, new ArrayList<>(contents), data, mapData);
+        isDirty = false;
       }
       return image;
     } finally {
@@ -94,6 +105,51 @@ public class Tile {
     }
   }
 
+  /**
+   * Draws the tile into a new image if it is dirty, holding the lock only to copy the drawables and to swap in the new
+   * image. The image is dropped if the tile changed while it was drawn.
+   *
+   * @return Whether a new image was drawn.
+   */
+  boolean drawInBackground(final GameData data, final MapData mapData) {
+    final List<IDrawable> drawables;
+    final int drawnVersion;
+    acquireLock();
+    try {
+      if (drawingInBackground || !(isDirty || getRawImage() == null)) {
+        return false;
+      }
+      drawingInBackground = true;
+      drawables = new ArrayList<>(contents);
+      drawnVersion = version;
+    } finally {
+      releaseLock();
+    }
+    boolean drawn = false;
+    try {
+      final BufferedImage image = createBlankImage();
+      draw(image, drawables, data, mapData);
+      acquireLock();
+      try {
+        if (version == drawnVersion) {
+          setImage(image);
+          isDirty = false;
+          drawn = true;
+        }
+      } finally {
+        releaseLock();
+      }
+    } finally {
+      acquireLock();
+      try {
+        drawingInBackground = false;
+      } finally {
+        releaseLock();
+      }
+    }
+    return drawn;
+  }
+
   private BufferedImage createBlankImage() {
     return Util.createImage((int) (bounds.getWidth() * scale), (int) (bounds.getHeight() * scale), false);
   }
@@ -105,33 +161,72 @@ public class Tile {
    * @return the image we currently have.
    */
   public Image getRawImage() {
-    if (imageRef == null) {
-      return null;
+    acquireLock();
+    try {
+      return heldImage != null ? heldImage : imageCache.get(this, IMAGE);
+    } finally {
+      releaseLock();
     }
-    return imageRef.get();
   }
 
-  private void draw(final Graphics2D g, final GameData data, final MapData mapData) {
-    final AffineTransform unscaled = g.getTransform();
-    AffineTransform scaled;
-    if (scale != 1) {
-      scaled = new AffineTransform();
-      scaled.scale(scale, scale);
-      g.setTransform(scaled);
-    } else {
-      scaled = unscaled;
+  private Image setImage(final Image newImage) {
+    if (held) {
+      heldImage = newImage;
+      return newImage;
     }
+    heldImage = null;
+    return dropped ? newImage : imageCache.put(this, IMAGE, newImage);
+  }
+
+  /**
+   * Sets whether this tile holds on to its image. The tiles on and near the screen are held, so their images are never
+   * dropped, however small the image cache. A tile that is let go leaves its image to the image cache.
+   */
+  public void setHeld(final boolean held) {
+    acquireLock();
+    try {
+      if (held == this.held || dropped) {
+        return;
+      }
+      this.held = held;
+      if (held) {
+        heldImage = imageCache.get(this, IMAGE);
+        imageCache.remove(this, IMAGE);
+      } else if (heldImage != null) {
+        setImage(heldImage);
+      }
+    } finally {
+      releaseLock();
+    }
+  }
+
+  /**
+   * Drops the images of a tile that is no longer used.
+   */
+  void dropImages() {
+    acquireLock();
+    try {
+      dropped = true;
+      held = false;
+      heldImage = null;
+      imageCache.remove(this, IMAGE);
+      imageCache.remove(this, BACKGROUND);
+    } finally {
+      releaseLock();
+    }
+  }
+
+  private void draw(final Image image, final List<IDrawable> drawables, final GameData data, final MapData mapData) {
     final Stopwatch stopWatch = new Stopwatch(s_logger, Level.FINEST, "Drawing Tile at" + bounds);
-    // clear
-    g.setColor(Color.BLACK);
-    g.fill(new Rectangle(0, 0, TileManager.TILE_SIZE, TileManager.TILE_SIZE));
-    Collections.sort(contents, new DrawableComparator());
-    final Iterator<IDrawable> iter = contents.iterator();
-    while (iter.hasNext()) {
-      final IDrawable drawable = iter.next();
-      drawable.draw(bounds, data, g, mapData, unscaled, scaled);
+    Collections.sort(drawables, new DrawableComparator());
+    int backgroundSize = 0;
+    while (backgroundSize < drawables.size() && drawables.get(backgroundSize).getLevel() <= IDrawable.RELIEF_LEVEL) {
+      backgroundSize++;
     }
-    isDirty = false;
+    final Image background = getBackground(drawables.subList(0, backgroundSize), data, mapData);
+    final Graphics2D g = (Graphics2D) image.getGraphics();
+    g.drawImage(background, 0, 0, null);
+    drawLayer(g, drawables.subList(backgroundSize, drawables.size()), data, mapData);
     // draw debug graphics
     if (DRAW_DEBUG) {
       g.setColor(Color.PINK);
@@ -142,6 +237,63 @@ public class Tile {
       g.drawString(x + " " + y, 40, 40);
     }
     stopWatch.done();
+    g.dispose();
+  }
+
+  /**
+   * Returns the base map, territory polygons and relief of this tile. These only change when a territory changes hands
+   * or the map is reset, so they are kept composited while the tile has the same drawables below the relief, and a
+   * tile whose units or markers changed is drawn by copying them and drawing only the layers above.
+   */
+  private Image getBackground(final List<IDrawable> background, final GameData data, final MapData mapData) {
+    final Set<IDrawable> drawables = new HashSet<>(background);
+    acquireLock();
+    try {
+      final Image image = imageCache.get(this, BACKGROUND);
+      if (image != null && drawables.equals(backgroundDrawables)) {
+        return image;
+      }
+    } finally {
+      releaseLock();
+    }
+    final BufferedImage image = createBlankImage();
+    final Graphics2D g = image.createGraphics();
+    // clear
+    g.setColor(Color.BLACK);
+    g.fillRect(0, 0, image.getWidth(), image.getHeight());
+    drawLayer(g, background, data, mapData);
+    g.dispose();
+    acquireLock();
+    try {
+      if (!dropped) {
+        imageCache.put(this, BACKGROUND, image);
+      }
+      backgroundDrawables = drawables;
+    } finally {
+      releaseLock();
+    }
+    return image;
+  }
+
+  private void drawLayer(final Graphics2D g, final List<IDrawable> drawables, final GameData data,
+      final MapData mapData) {
+    g.setRenderingHint(RenderingHints.KEY_RENDERING, RenderingHints.VALUE_RENDER_QUALITY);
+    g.setRenderingHint(RenderingHints.KEY_ALPHA_INTERPOLATION, RenderingHints.VALUE_ALPHA_INTERPOLATION_QUALITY);
+    g.setRenderingHint(RenderingHints.KEY_INTERPOLATION, RenderingHints.VALUE_INTERPOLATION_BICUBIC);
+    final AffineTransform unscaled = g.getTransform();
+    AffineTransform scaled;
+    if (scale != 1) {
+      scaled = new AffineTransform();
+      scaled.scale(scale, scale);
+      g.setTransform(scaled);
+    } else {
+      scaled = unscaled;
+    }
+    final Iterator<IDrawable> iter = drawables.iterator();
+    while (iter.hasNext()) {
+      final IDrawable drawable = iter.next();
+      drawable.draw(bounds, data, g, mapData, unscaled, scaled);
+    }
   }
 
   void addDrawables(final Collection<IDrawable> drawables) {
@@ -149,6 +301,7 @@ public class Tile {
     try {
       contents.addAll(drawables);
       isDirty = true;
+      version++;
     } finally {
       releaseLock();
     }
@@ -159,6 +312,7 @@ public class Tile {
     try {
       contents.add(d);
       isDirty = true;
+      version++;
     } finally {
       releaseLock();
     }
@@ -169,6 +323,7 @@ public class Tile {
     try {
       contents.removeAll(c);
       isDirty = true;
+      version++;
     } finally {
       releaseLock();
     }
@@ -179,6 +334,7 @@ public class Tile {
     try {
       contents.clear();
       isDirty = true;
+      version++;
     } finally {
       releaseLock();
     }
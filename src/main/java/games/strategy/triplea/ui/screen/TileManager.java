@@ -54,6 +54,7 @@ import games.strategy.triplea.ui.screen.drawable.TerritoryNameDrawable;
 import games.strategy.triplea.ui.screen.drawable.VCDrawable;
 import games.strategy.triplea.util.UnitCategory;
 import games.strategy.triplea.util.UnitSeperator;
+import games.strategy.ui.GridIndex;
 import games.strategy.ui.Util;
 import games.strategy.util.Tuple;
 
@@ -62,11 +63,19 @@ public class TileManager {
   public static final int TILE_SIZE = 256;
 
   private List<Tile> tiles = new ArrayList<>();
+  private GridIndex<Tile> tileIndex = new GridIndex<>(TILE_SIZE);
   private final Lock lock = new ReentrantLock();
   private final Map<String, IDrawable> territoryOverlays = new HashMap<>();
   private final Map<String, Set<IDrawable>> territoryDrawables = new HashMap<>();
   private final Map<String, Set<Tile>> territoryTiles = new HashMap<>();
+  // the tiles under each territory's bounds, found once for each set of tiles
+  private final Map<String, List<Tile>> territoryBoundsTiles = new HashMap<>();
+  // the polygon drawable of each territory, and what it shows, kept while the territory looks the same so that the
+  // tiles under it keep their backgrounds composited
+  private final Map<String, Tuple<String, IDrawable>> territoryBackgrounds = new HashMap<>();
   private final Collection<UnitsDrawer> allUnitDrawables = new ArrayList<>();
+  // by placement point
+  private final GridIndex<UnitsDrawer> unitDrawableIndex = new GridIndex<>(TILE_SIZE);
   private final IUIContext uiContext;
 
   public TileManager(final IUIContext uiContext) {
@@ -113,27 +122,12 @@ public class TileManager {
     acquireLock();
     try {
       final List<Tile> rVal = new ArrayList<>();
-      for (final Tile tile : tiles) {
-        final Rectangle tileBounds = tile.getBounds();
-        if (bounds.contains(tileBounds) || tileBounds.intersects(bounds)) {
-          rVal.add(tile);
-        }
-      }
+      addTiles(bounds, rVal);
       if (boundsXshift != null) {
-        for (final Tile tile : tiles) {
-          final Rectangle tileBounds = tile.getBounds();
-          if (boundsXshift.contains(tileBounds) || tileBounds.intersects(boundsXshift)) {
-            rVal.add(tile);
-          }
-        }
+        addTiles(boundsXshift, rVal);
       }
       if (boundsYshift != null) {
-        for (final Tile tile : tiles) {
-          final Rectangle tileBounds = tile.getBounds();
-          if (boundsYshift.contains(tileBounds) || tileBounds.intersects(boundsYshift)) {
-            rVal.add(tile);
-          }
-        }
+        addTiles(boundsYshift, rVal);
       }
       return rVal;
     } finally {
@@ -149,6 +143,15 @@ public class TileManager {
     Tile.S_TILE_LOCKUTIL.releaseLock(lock);
   }
 
+  private void addTiles(final Rectangle2D bounds, final List<Tile> intersecting) {
+    for (final Tile tile : tileIndex.get(bounds)) {
+      final Rectangle tileBounds = tile.getBounds();
+      if (bounds.contains(tileBounds) || tileBounds.intersects(bounds)) {
+        intersecting.add(tile);
+      }
+    }
+  }
+
   Collection<UnitsDrawer> getUnitDrawables() {
     acquireLock();
     try {
@@ -161,12 +164,19 @@ public class TileManager {
   public void createTiles(final Rectangle bounds, final GameData data, final MapData mapData) {
     acquireLock();
     try {
+      for (final Tile tile : tiles) {
+        tile.dropImages();
+      }
       // create our tiles
       tiles = new ArrayList<>();
+      tileIndex = new GridIndex<>(TILE_SIZE);
+      territoryBoundsTiles.clear();
       for (int x = 0; (x) * TILE_SIZE < bounds.width; x++) {
         for (int y = 0; (y) * TILE_SIZE < bounds.height; y++) {
-          tiles.add(new Tile(new Rectangle(x * TILE_SIZE, y * TILE_SIZE, TILE_SIZE, TILE_SIZE), x, y,
-              uiContext.getScale()));
+          final Tile tile = new Tile(new Rectangle(x * TILE_SIZE, y * TILE_SIZE, TILE_SIZE, TILE_SIZE), x, y,
+              uiContext.getScale());
+          tiles.add(tile);
+          tileIndex.add(tile, tile.getBounds());
         }
       }
     } finally {
@@ -179,6 +189,7 @@ public class TileManager {
     try {
       acquireLock();
       try {
+        territoryBoundsTiles.clear();
         final Iterator<Tile> allTiles = tiles.iterator();
         while (allTiles.hasNext()) {
           final Tile tile = allTiles.next();
@@ -264,6 +275,11 @@ public class TileManager {
       tile.removeDrawables(drawables);
     }
     allUnitDrawables.removeAll(drawables);
+    for (final IDrawable drawable : drawables) {
+      if (drawable instanceof UnitsDrawer) {
+        unitDrawableIndex.remove((UnitsDrawer) drawable, new Rectangle(((UnitsDrawer) drawable).getPlacementPoint()));
+      }
+    }
   }
 
   private void drawTerritory(final Territory territory, final GameData data, final MapData mapData) {
@@ -281,7 +297,7 @@ public class TileManager {
     drawing.add(new BattleDrawable(territory.getName()));
     final TerritoryAttachment ta = TerritoryAttachment.get(territory);
     if (!territory.isWater()) {
-      drawing.add(new LandTerritoryDrawable(territory.getName()));
+      drawing.add(getBackground(territory, ta));
     } else {
       if (ta != null) {
         // Kamikaze Zones
@@ -301,7 +317,7 @@ public class TileManager {
           drawing.add(new ConvoyZoneDrawable(territory.getOwner(), territory, uiContext));
         }
       }
-      drawing.add(new SeaZoneOutlineDrawable(territory.getName()));
+      drawing.add(getBackground(territory, ta));
     }
     final OptionalExtraBorderLevel optionalBorderLevel = uiContext.getDrawTerritoryBordersAgain();
     if (optionalBorderLevel != OptionalExtraBorderLevel.LOW) {
@@ -316,7 +332,8 @@ public class TileManager {
       drawing.add(new VCDrawable(territory));
     }
     // add to the relevant tiles
-    final Iterator<Tile> tiles = getTiles(mapData.getBoundingRect(territory.getName())).iterator();
+    final Iterator<Tile> tiles = territoryBoundsTiles
+        .computeIfAbsent(territory.getName(), name -> getTiles(mapData.getBoundingRect(name))).iterator();
     while (tiles.hasNext()) {
       final Tile tile = tiles.next();
       drawnOn.add(tile);
@@ -326,6 +343,25 @@ public class TileManager {
     territoryTiles.put(territory.getName(), drawnOn);
   }
 
+  private IDrawable getBackground(final Territory territory, final TerritoryAttachment ta) {
+    final String look;
+    if (territory.isWater()) {
+      look = "";
+    } else if (ta != null && ta.getIsImpassable()) {
+      look = "impassable";
+    } else {
+      look = "owner " + territory.getOwner().getName();
+    }
+    final Tuple<String, IDrawable> background = territoryBackgrounds.get(territory.getName());
+    if (background != null && background.getFirst().equals(look)) {
+      return background.getSecond();
+    }
+    final IDrawable drawable = territory.isWater() ? new SeaZoneOutlineDrawable(territory.getName())
+        : new LandTerritoryDrawable(territory.getName());
+    territoryBackgrounds.put(territory.getName(), Tuple.of(look, drawable));
+    return drawable;
+  }
+
   private static void drawTerritoryEffects(final Territory territory, final MapData mapData,
       final Set<IDrawable> drawing) {
     final Iterator<Point> effectPoints = mapData.getTerritoryEffectPoints(territory).iterator();
@@ -361,6 +397,7 @@ public class TileManager {
           category.getDisabled(), overflow, territory.getName(), uiContext);
       drawing.add(drawable);
       allUnitDrawables.add(drawable);
+      unitDrawableIndex.add(drawable, new Rectangle(lastPlace));
       final Iterator<Tile> tiles =
           getTiles(new Rectangle(lastPlace.x, lastPlace.y, uiContext.getUnitImageFactory().getUnitImageWidth(),
               uiContext.getUnitImageFactory().getUnitImageHeight())).iterator();
@@ -548,10 +585,13 @@ public class TileManager {
     try {
       acquireLock();
       try {
-        for (final UnitsDrawer drawer : allUnitDrawables) {
+        final int width = uiContext.getUnitImageFactory().getUnitImageWidth();
+        final int height = uiContext.getUnitImageFactory().getUnitImageHeight();
+        for (final UnitsDrawer drawer : unitDrawableIndex.get(new Rectangle2D.Double(x - width, y - height, width,
+            height))) {
           final Point placementPoint = drawer.getPlacementPoint();
-          if (x > placementPoint.x && x < placementPoint.x + uiContext.getUnitImageFactory().getUnitImageWidth()) {
-            if (y > placementPoint.y && y < placementPoint.y + uiContext.getUnitImageFactory().getUnitImageHeight()) {
+          if (x > placementPoint.x && x < placementPoint.x + width) {
+            if (y > placementPoint.y && y < placementPoint.y + height) {
               return drawer.getUnits(gameData);
             }
           }
@@ -0,0 +1,90 @@
+package games.strategy.triplea.ui.screen;
+
+import java.util.Collection;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import games.strategy.debug.ClientLogger;
+import games.strategy.engine.data.GameData;
+import games.strategy.triplea.ui.IUIContext;
+
+/**
+ * Draws dirty tiles in the background, on as many threads as there are processors.
+ *
+ * <p>
+ * Each call to {@link #render(Collection)} replaces the tiles waiting to be drawn, so tiles that have scrolled out of
+ * view are dropped, and the tiles are drawn in the order given, which should put the tiles in view first. A tile is
+ * drawn from a copy of its drawables, without holding its lock, so painting the map and changing tiles doesn't wait
+ * for tiles being drawn. The drawables still read the game as they draw, so the game data is read locked while a tile
+ * is drawn, which the drawing threads share.
+ * </p>
+ */
+public class TileRenderer {
+  private static final AtomicInteger threadCount = new AtomicInteger();
+
+  private final Supplier<GameData> data;
+  private final IUIContext uiContext;
+  private final Runnable tileDrawn;
+  private final ThreadPoolExecutor executor;
+
+  /**
+   * @param tileDrawn Called after each tile is drawn, on the drawing thread.
+   */
+  public TileRenderer(final Supplier<GameData> data, final IUIContext uiContext, final Runnable tileDrawn) {
+    this.data = data;
+    this.uiContext = uiContext;
+    this.tileDrawn = tileDrawn;
+    final int threads = Runtime.getRuntime().availableProcessors();
+    executor = new ThreadPoolExecutor(threads, threads, 10, TimeUnit.SECONDS, new LinkedBlockingQueue<>(),
+        TileRenderer::newThread);
+    executor.allowCoreThreadTimeOut(true);
+  }
+
+  private static Thread newThread(final Runnable r) {
+    final Thread thread = new Thread(r, "Map tile renderer " + threadCount.incrementAndGet());
+    thread.setDaemon(true);
+    return thread;
+  }
+
+  /**
+   * Draws the given tiles, in order, instead of the tiles not yet drawn from the last call.
+   */
+  public void render(final Collection<Tile> tiles) {
+    executor.getQueue().clear();
+    try {
+      for (final Tile tile : tiles) {
+        executor.execute(() -> draw(tile));
+      }
+    } catch (final RejectedExecutionException e) {
+      // shut down
+    }
+  }
+
+  private void draw(final Tile tile) {
+    final GameData gameData = data.get();
+    final boolean drawn;
+    gameData.acquireReadLock();
+    try {
+      drawn = tile.drawInBackground(gameData, uiContext.getMapData());
+    } catch (final RuntimeException e) {
+      ClientLogger.logQuietly(e);
+      return;
+    } finally {
+      gameData.releaseReadLock();
+    }
+    if (drawn) {
+      tileDrawn.run();
+    }
+  }
+
+  /**
+   * Drops the tiles not yet drawn, and stops the drawing threads.
+   */
+  public void shutDown() {
+    executor.shutdownNow();
+  }
+}
@@ -0,0 +1,140 @@
+package games.strategy.ui;
+
+import java.awt.geom.Rectangle2D;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Finds the items that may be at a point or in an area of the map, without going through every item.
+ *
+ * <p>
+ * The map is divided into square cells, and each item is listed in every cell its bounds touch. Looking up a point or
+ * an area only returns the items listed in the cells it touches, which the caller then tests exactly. Items are
+ * returned in the order they were added, so a caller that takes the first match finds the same one it would by going
+ * through a list of every item.
+ * </p>
+ *
+ * <p>
+ * Not thread safe.
+ * </p>
+ *
+ * @param <T> The type of the items.
+ */
+public class GridIndex<T> {
+  private final int cellSize;
+  private final Map<Long, List<T>> cells = new HashMap<>();
+  private final Map<T, Entry> entries = new HashMap<>();
+  private long added = 0;
+
+  public GridIndex(final int cellSize) {
+    if (cellSize <= 0) {
+      throw new IllegalArgumentException("Cell size must be positive:" + cellSize);
+    }
+    this.cellSize = cellSize;
+  }
+
+  /**
+   * Lists an item in the cells its bounds touch. An item with several parts can be added once for each part.
+   */
+  public void add(final T item, final Rectangle2D bounds) {
+    final Entry entry = entries.computeIfAbsent(item, key -> new Entry(added++));
+    for (final long cell : getCells(bounds)) {
+      final List<T> items = cells.computeIfAbsent(cell, key -> new ArrayList<>());
+      if (!items.contains(item)) {
+        // keep the cell in the order the items were first added
+        int index = items.size();
+        while (index > 0 && entries.get(items.get(index - 1)).order > entry.order) {
+          index--;
+        }
+        items.add(index, item);
+        entry.cells++;
+      }
+    }
+  }
+
+  /**
+   * Removes an item from the cells the given bounds touch, which must cover the bounds it was added with.
+   */
+  public void remove(final T item, final Rectangle2D bounds) {
+    for (final long cell : getCells(bounds)) {
+      final List<T> items = cells.get(cell);
+      if (items != null && items.remove(item)) {
+        if (items.isEmpty()) {
+          cells.remove(cell);
+        }
+        final Entry entry = entries.get(item);
+        if (--entry.cells == 0) {
+          entries.remove(item);
+        }
+      }
+    }
+  }
+
+  public void clear() {
+    cells.clear();
+    entries.clear();
+  }
+
+  /**
+   * @return The items that may be at the point, in the order they were added.
+   */
+  public Collection<T> get(final double x, final double y) {
+    final List<T> items = cells.get(getCell(getCellIndex(x), getCellIndex(y)));
+    return items == null ? Collections.emptyList() : Collections.unmodifiableList(items);
+  }
+
+  /**
+   * @return The items that may be in the area, in the order they were added.
+   */
+  public List<T> get(final Rectangle2D area) {
+    final Set<T> items = new HashSet<>();
+    for (final long cell : getCells(area)) {
+      final List<T> cellItems = cells.get(cell);
+      if (cellItems != null) {
+        items.addAll(cellItems);
+      }
+    }
+    final List<T> ordered = new ArrayList<>(items);
+    ordered.sort(Comparator.comparingLong(item -> entries.get(item).order));
+    return ordered;
+  }
+
+  private List<Long> getCells(final Rectangle2D bounds) {
+    final int minColumn = getCellIndex(bounds.getMinX());
+    final int maxColumn = getCellIndex(bounds.getMaxX());
+    final int minRow = getCellIndex(bounds.getMinY());
+    final int maxRow = getCellIndex(bounds.getMaxY());
+    final List<Long> cellKeys = new ArrayList<>((maxColumn - minColumn + 1) * (maxRow - minRow + 1));
+    for (int column = minColumn; column <= maxColumn; column++) {
+      for (int row = minRow; row <= maxRow; row++) {
+        cellKeys.add(getCell(column, row));
+      }
+    }
+    return cellKeys;
+  }
+
+  private int getCellIndex(final double coordinate) {
+    return (int) Math.floor(coordinate / cellSize);
+  }
+
+  private static long getCell(final int column, final int row) {
+    return ((long) column << 32) | (row & 0xFFFFFFFFL);
+  }
+
+  private static final class Entry {
+    private final long order;
+    // the number of cells listing the item
+    private int cells = 0;
+
+    Entry(final long order) {
+      this.order = order;
+    }
+  }
+}
@@ -183,7 +183,15 @@ public final class Match<T> {
   public static <T> Match<T> allOf(final Collection<Match<T>> matches) {
     checkNotNull(matches);
 
-    return Match.of(value -> matches.stream().allMatch(match -> match.match(value)));
+    // a plain loop, as composite matches are run on every unit of large stacks
+    return Match.of(value -> {
+      for (final Match<T> match : matches) {
+        if (!match.match(value)) {
+          return false;
+        }
+      }
+      return true;
+    });
   }
 
   /**
@@ -211,7 +219,14 @@ public final class Match<T> {
   public static <T> Match<T> anyOf(final Collection<Match<T>> matches) {
     checkNotNull(matches);
 
-    return Match.of(value -> matches.stream().anyMatch(match -> match.match(value)));
+    return Match.of(value -> {
+      for (final Match<T> match : matches) {
+        if (match.match(value)) {
+          return true;
+        }
+      }
+      return false;
+    });
   }
 
   /**
@@ -1,19 +1,45 @@
 package games.strategy.util;
 
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.invoke.WrongMethodTypeException;
 import java.lang.reflect.Field;
 import java.lang.reflect.Method;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * Utility for getting/setting java bean style properties on an object.
+ *
+ * <p>
+ * The setter, resetter and field of a property are only looked up the first time the property of a class is used, and
+ * are then called through method handles kept with the class.
+ * </p>
  */
 public class PropertyUtil {
+  private static final MethodType SETTER_TYPE = MethodType.methodType(void.class, Object.class, Object.class);
+  private static final MethodType RESETTER_TYPE = MethodType.methodType(void.class, Object.class);
+  private static final MethodType GETTER_TYPE = MethodType.methodType(Object.class, Object.class);
+  // the setter for a null value doesn't depend on the value's class
+  private static final Class<?> NULL_VALUE = Void.class;
+  private static final ClassValue<Accessors> accessors = new ClassValue<Accessors>() {
+    @Override
+    protected Accessors computeValue(final Class<?> type) {
+      return new Accessors();
+    }
+  };
 
   public static void set(final String propertyName, final Object value, final Object subject) {
-    final Method m = getSetter(propertyName, subject, value);
     try {
-      m.setAccessible(true);
-      m.invoke(subject, value);
-    } catch (final Exception e) {
+      final MethodHandle setter = accessors.get(subject.getClass()).setters
+          .computeIfAbsent(propertyName, name -> new ConcurrentHashMap<>())
+          .computeIfAbsent(value == null ? NULL_VALUE : value.getClass(),
+              valueType -> toHandle(getSetter(propertyName, subject, value), SETTER_TYPE));
+      setter.invokeExact(subject, value);
+    } catch (final RuntimeException | Error e) {
+      throw e;
+    } catch (final Throwable e) {
       throw new IllegalStateException(
           "Could not set property:" + propertyName + " subject:" + subject + " new value:" + value, e);
     }
@@ -34,10 +60,12 @@ public class PropertyUtil {
 
   public static void reset(final String propertyName, final Object subject) {
     try {
-      final Method c = getResetter(propertyName, subject);
-      c.setAccessible(true);
-      c.invoke(subject);
-    } catch (final Exception e) {
+      final MethodHandle resetter = accessors.get(subject.getClass()).resetters.computeIfAbsent(propertyName,
+          name -> toHandle(getResetter(propertyName, subject), RESETTER_TYPE));
+      resetter.invokeExact(subject);
+    } catch (final RuntimeException | Error e) {
+      throw e;
+    } catch (final Throwable e) {
       throw new IllegalStateException("Could not reset property:" + propertyName + " subject:" + subject, e);
     }
   }
@@ -64,10 +92,12 @@ public class PropertyUtil {
 
   public static Object getPropertyFieldObject(final String propertyName, final Object subject) {
     try {
-      final Field field = getPropertyField(propertyName, subject);
-      field.setAccessible(true);
-      return field.get(subject);
-    } catch (final Exception e) {
+      final MethodHandle getter = accessors.get(subject.getClass()).getters.computeIfAbsent(propertyName,
+          name -> toGetterHandle(getPropertyField(propertyName, subject)));
+      return (Object) getter.invokeExact(subject);
+    } catch (final RuntimeException | Error e) {
+      throw e;
+    } catch (final Throwable e) {
       final String msg =
           "No such Property Field named: " + "m_" + propertyName + ", or: " + propertyName + ", for Subject: "
               + subject.toString();
@@ -131,4 +161,32 @@ public class PropertyUtil {
     }
     throw new IllegalStateException("No method called:" + resetterName + " on:" + subject);
   }
+
+  private static MethodHandle toHandle(final Method method, final MethodType type) {
+    method.setAccessible(true);
+    try {
+      return MethodHandles.lookup().unreflect(method).asType(type);
+    } catch (final IllegalAccessException | WrongMethodTypeException e) {
+      throw new IllegalStateException("Could not access:" + method, e);
+    }
+  }
+
+  private static MethodHandle toGetterHandle(final Field field) {
+    field.setAccessible(true);
+    try {
+      return MethodHandles.lookup().unreflectGetter(field).asType(GETTER_TYPE);
+    } catch (final IllegalAccessException | WrongMethodTypeException e) {
+      throw new IllegalStateException("Could not access:" + field, e);
+    }
+  }
+
+  /**
+   * The property accessors of a class, by property name.
+   */
+  private static final class Accessors {
+    // by the class of the value, as the setter may be overloaded
+    private final Map<String, Map<Class<?>, MethodHandle>> setters = new ConcurrentHashMap<>();
+    private final Map<String, MethodHandle> resetters = new ConcurrentHashMap<>();
+    private final Map<String, MethodHandle> getters = new ConcurrentHashMap<>();
+  }
 }
@@ -12,6 +12,7 @@ import java.io.ObjectOutputStream;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.List;
 
 import org.junit.Before;
 import org.junit.Test;
@@ -29,8 +30,12 @@ public class ChangeTest {
   }
 
   private Change serialize(final Change change) throws Exception {
+    return serialize(change, false);
+  }
+
+  private Change serialize(final Change change, final boolean compact) throws Exception {
     final ByteArrayOutputStream sink = new ByteArrayOutputStream();
-    final ObjectOutputStream output = new GameObjectOutputStream(sink);
+    final ObjectOutputStream output = new GameObjectOutputStream(sink, compact);
     output.writeObject(change);
     output.flush();
     // System.out.println("bytes:" + sink.toByteArray().length);
@@ -302,4 +307,75 @@ public class ChangeTest {
     compositeChange.add(ChangeFactory.removeUnits(can, units));
     assertFalse(compositeChange.isEmpty());
   }
+
+  private static int serializedSize(final Change change, final boolean compact) throws Exception {
+    final ByteArrayOutputStream sink = new ByteArrayOutputStream();
+    try (final ObjectOutputStream output = new GameObjectOutputStream(sink, compact)) {
+      output.writeObject(change);
+    }
+    return sink.size();
+  }
+
+  @Test
+  public void testSerializeCompactChange() throws Exception {
+    final Territory can = gameData.getMap().getTerritory("canada");
+    final UnitType infantry = gameData.getUnitTypeList().getUnitType(Constants.UNIT_TYPE_INF);
+    final Collection<Unit> removed = can.getUnits().getUnits(infantry, 3);
+    final Collection<Unit> added = infantry.create(2, null);
+    final Unit damaged = removed.iterator().next();
+    final Unit added0 = added.iterator().next();
+    final CompositeChange change = new CompositeChange(ChangeFactory.removeUnits(can, removed),
+        ChangeFactory.addUnits(can, added), ChangeFactory.unitPropertyChange(added0, 2, "hits"),
+        ChangeFactory.unitPropertyChange(damaged, -1, "hits"));
+    assertTrue(serializedSize(change, true) < serializedSize(change, false));
+
+    final Change compact = serialize(change, true);
+    assertTrue(compact instanceof CompositeChange);
+    assertEquals(4, ((CompositeChange) compact).getChanges().size());
+    gameData.performChange(compact);
+    assertEquals(4, can.getUnits().getUnitCount());
+    assertTrue(can.getUnits().getUnits().containsAll(added));
+    assertEquals(2, added0.getHits());
+    assertEquals(-1, damaged.getHits());
+    gameData.performChange(serialize(compact.invert(), true));
+    assertEquals(5, can.getUnits().getUnitCount());
+    assertTrue(can.getUnits().getUnits().containsAll(removed));
+    assertEquals(0, damaged.getHits());
+  }
+
+  @Test
+  public void testNetChange() {
+    final Territory canada = gameData.getMap().getTerritory("canada");
+    final Territory greenland = gameData.getMap().getTerritory("greenland");
+    final PlayerID chretian = gameData.getPlayerList().getPlayerID("chretian");
+    final Resource gold = gameData.getResourceList().getResource("gold");
+    final UnitType infantry = gameData.getUnitTypeList().getUnitType(Constants.UNIT_TYPE_INF);
+    final List<Unit> canadians = new ArrayList<>(canada.getUnits().getUnits(infantry, 3));
+    final Collection<Unit> recruits = infantry.create(2, null);
+    final List<Change> changes = new ArrayList<>();
+    changes.add(ChangeFactory.moveUnits(canada, greenland, canadians));
+    changes.add(ChangeFactory.changeOwner(greenland, gameData.getPlayerList().getPlayerID("bush")));
+    changes.add(ChangeFactory.unitPropertyChange(canadians.get(0), 1, "hits"));
+    changes.add(ChangeFactory.changeResourcesChange(chretian, gold, 50));
+    changes.add(ChangeFactory.moveUnits(greenland, canada, canadians.subList(0, 2)));
+    changes.add(ChangeFactory.addUnits(greenland, recruits));
+    changes.add(ChangeFactory.changeResourcesChange(chretian, gold, -50));
+    changes.add(ChangeFactory.unitPropertyChange(canadians.get(0), 0, "hits"));
+    changes.add(ChangeFactory.changeOwner(greenland, chretian));
+    changes.add(ChangeFactory.removeUnits(greenland, recruits));
+    final Change net = ChangeFactory.netChange(changes);
+    // only the units leaving canada, the two coming back and the one left in greenland are left
+    assertEquals(3, ((CompositeChange) net).getChanges().size());
+    gameData.performChange(net);
+    assertEquals(4, canada.getUnits().getUnitCount());
+    assertFalse(canada.getUnits().getUnits().contains(canadians.get(2)));
+    assertEquals(Collections.singletonList(canadians.get(2)), new ArrayList<>(greenland.getUnits().getUnits()));
+    assertEquals(chretian, greenland.getOwner());
+    assertEquals(0, canadians.get(0).getHits());
+    assertEquals(100, chretian.getResources().getQuantity(gold));
+    gameData.performChange(net.invert());
+    assertEquals(5, canada.getUnits().getUnitCount());
+    assertTrue(canada.getUnits().getUnits().containsAll(canadians));
+    assertEquals(0, greenland.getUnits().getUnitCount());
+  }
 }
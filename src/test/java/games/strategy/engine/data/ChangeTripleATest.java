@@ -1,19 +1,25 @@
 package games.strategy.engine.data;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
 
 import java.io.ByteArrayInputStream;
 import java.io.ByteArrayOutputStream;
 import java.io.InputStream;
 import java.io.ObjectInputStream;
 import java.io.ObjectOutputStream;
+import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
 
 import org.junit.Before;
 import org.junit.Test;
 
 import games.strategy.engine.ClientContext;
 import games.strategy.engine.data.changefactory.ChangeFactory;
+import games.strategy.engine.framework.GameDataUtils;
+import games.strategy.triplea.TripleAUnit;
 import games.strategy.triplea.delegate.GameDataTestUtil;
 import games.strategy.triplea.xml.TestMapGameData;
 
@@ -80,4 +86,32 @@ public class ChangeTripleATest {
     gameData.performChange(change.invert());
     assertEquals(can.getUnits().getUnitCount(), 2);
   }
+
+  @Test
+  public void testTransportingFollowsChanges() throws Exception {
+    final Territory hudsonBay = gameData.getMap().getTerritory("SZ 1 Hudson Bay");
+    final Territory labradorSea = gameData.getMap().getTerritory("SZ 2 Labrador Sea");
+    final PlayerID americans = GameDataTestUtil.americans(gameData);
+    final TripleAUnit transport = (TripleAUnit) GameDataTestUtil.transport(gameData).create(americans);
+    final List<Unit> infantry = GameDataTestUtil.infantry(gameData).create(2, americans);
+    final List<Unit> units = new ArrayList<>(infantry);
+    units.add(transport);
+    gameData.performChange(ChangeFactory.addUnits(hudsonBay, units));
+    assertTrue(transport.getTransporting().isEmpty());
+    // load one unit locally and one through a change sent over the network
+    gameData.performChange(ChangeFactory.unitPropertyChange(infantry.get(0), transport, TripleAUnit.TRANSPORTED_BY));
+    gameData.performChange(
+        serialize(ChangeFactory.unitPropertyChange(infantry.get(1), transport, TripleAUnit.TRANSPORTED_BY)));
+    assertEquals(infantry, transport.getTransporting());
+    final GameData copy = GameDataUtils.cloneGameData(gameData);
+    final TripleAUnit transportCopy = (TripleAUnit) copy.getUnits().get(transport.getID());
+    assertEquals(infantry, transportCopy.getTransporting());
+    // cargo left behind is no longer transported
+    gameData.performChange(ChangeFactory.moveUnits(hudsonBay, labradorSea, Collections.singletonList(transport)));
+    assertTrue(transport.getTransporting().isEmpty());
+    gameData.performChange(ChangeFactory.moveUnits(hudsonBay, labradorSea, infantry));
+    assertEquals(infantry, transport.getTransporting());
+    gameData.performChange(ChangeFactory.unitPropertyChange(infantry.get(0), null, TripleAUnit.TRANSPORTED_BY));
+    assertEquals(infantry.subList(1, 2), transport.getTransporting());
+  }
 }
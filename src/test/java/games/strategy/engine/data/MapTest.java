@@ -1,15 +1,19 @@
 package games.strategy.engine.data;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertNotNull;
 import static org.junit.Assert.assertNull;
 import static org.junit.Assert.assertTrue;
 
+import java.util.Arrays;
+import java.util.Collections;
 import java.util.Set;
 
 import org.junit.Before;
 import org.junit.Test;
 
+import games.strategy.triplea.delegate.Matches;
 import games.strategy.util.Match;
 
 public class MapTest {
@@ -240,4 +244,56 @@ public class MapTest {
     assertTrue(neighbors.contains(bb));
     assertTrue(neighbors.contains(ca));
   }
+
+  @Test
+  public void testLandNeighborsWithDistance() {
+    final Set<Territory> neighbors = map.getNeighbors(ad, 3, Matches.TerritoryIsLand);
+    assertEquals(4, neighbors.size());
+    assertTrue(neighbors.contains(ac));
+    assertTrue(neighbors.contains(ab));
+    assertTrue(neighbors.contains(aa));
+    assertTrue(neighbors.contains(bb));
+  }
+
+  @Test
+  public void testNewConnectionIsUsedAfterQuery() {
+    assertEquals(-1, map.getLandDistance(aa, cd));
+    assertNull(map.getLandRoute(aa, cd));
+    map.addConnection(ad, cd);
+    assertEquals(4, map.getLandDistance(aa, cd));
+    final Route route = map.getLandRoute(aa, cd);
+    assertEquals(4, route.numberOfSteps());
+    assertEquals(ad, route.getTerritoryAtStep(2));
+    assertTrue(map.isValidRoute(route));
+  }
+
+  @Test
+  public void testCheapestRouteAvoidsExpensiveTerritory() {
+    final Route route = map.getCheapestRoute(aa, da, Matches.TerritoryIsLand, (from, to) -> to == ba ? 10 : 1);
+    assertEquals(aa, route.getStart());
+    assertEquals(da, route.getEnd());
+    assertEquals(5, route.numberOfSteps());
+    assertFalse(route.getAllTerritories().contains(ba));
+    assertTrue(map.isValidRoute(route));
+  }
+
+  @Test
+  public void testCheapestRouteWithStepCostIsShortest() {
+    assertEquals(map.getLandRoute(ad, da).numberOfSteps(),
+        map.getCheapestRoute(ad, da, Matches.TerritoryIsLand, RouteCost.STEPS).numberOfSteps());
+    assertNull(map.getCheapestRoute(aa, cd, Matches.TerritoryIsLand, RouteCost.STEPS));
+  }
+
+  @Test
+  public void testPreferredRouteUsesEarliestSatisfiablePreference() {
+    final Match<Territory> avoidFirstRow = Match.of(t -> t != ab && t != bb);
+    final Match<Territory> avoidFirstColumn = Match.of(t -> t != ba && t != ca);
+    Route route =
+        map.getPreferredRoute(aa, cb, Matches.TerritoryIsLand, Arrays.asList(avoidFirstRow, avoidFirstColumn));
+    assertEquals(Arrays.asList(aa, ba, ca, cb), route.getAllTerritories());
+    route = map.getPreferredRoute(aa, cb, Matches.TerritoryIsLand, Arrays.asList(Match.never(), avoidFirstColumn));
+    assertEquals(Arrays.asList(aa, ab, bb, cb), route.getAllTerritories());
+    route = map.getPreferredRoute(aa, cb, Matches.TerritoryIsLand, Collections.singletonList(Match.never()));
+    assertEquals(3, route.numberOfSteps());
+  }
 }
@@ -439,4 +439,23 @@ public class UnitCollectionTest {
     unitCollectionIterator.forEachRemaining(u -> assertThat(u, is(collectionIterator.next())));
   }
 
+  @Test
+  public void countsFollowRemovalsAndOwnerChanges() {
+    final UnitCollection allPlayersUnitCollection =
+        addAllOtherPlayerUnitsToUnitCollection(addAllDefaultPlayerUnitsToUnitCollection(unitCollection));
+    assertThat(allPlayersUnitCollection.getUnitCount(unitTypeTwo, otherPlayerId),
+        is(equalTo(unitCountOtherPlayerUnitTypeTwo)));
+    allPlayersUnitCollection.remove(unitOtherPlayer4);
+    allPlayersUnitCollection.removeAll(getDefaultPlayerUnitsOfUnitTypeOne());
+    assertThat(allPlayersUnitCollection.contains(unitOtherPlayer4), is(equalTo(false)));
+    assertThat(allPlayersUnitCollection.getUnitCount(unitTypeTwo, otherPlayerId),
+        is(equalTo(unitCountOtherPlayerUnitTypeTwo - 1)));
+    assertThat(allPlayersUnitCollection.getUnitCount(unitTypeOne, defaultPlayerId), is(equalTo(0)));
+    unitOtherPlayer5.setOwner(defaultPlayerId);
+    assertThat(allPlayersUnitCollection.getUnitCount(unitTypeTwo, otherPlayerId),
+        is(equalTo(unitCountOtherPlayerUnitTypeTwo - 2)));
+    assertThat(allPlayersUnitCollection.getUnitCount(unitTypeTwo, defaultPlayerId),
+        is(equalTo(unitCountDefaultPlayerUnitTypeTwo + 1)));
+    assertThat(allPlayersUnitCollection.getUnits(unitTypeTwo, 2), is(equalTo(getDefaultPlayerUnitsOfUnitTypeTwo())));
+  }
 }
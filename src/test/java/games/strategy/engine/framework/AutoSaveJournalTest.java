@@ -0,0 +1,128 @@
+package games.strategy.engine.framework;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.RandomAccessFile;
+import java.util.concurrent.CompletableFuture;
+
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import games.strategy.engine.data.Change;
+import games.strategy.engine.data.GameData;
+import games.strategy.engine.data.GameStep;
+import games.strategy.engine.data.PlayerID;
+import games.strategy.engine.data.Territory;
+import games.strategy.engine.data.changefactory.ChangeFactory;
+import games.strategy.engine.history.EventChild;
+import games.strategy.triplea.xml.TestMapGameData;
+
+public class AutoSaveJournalTest {
+  @Rule
+  public TemporaryFolder tempFolder = new TemporaryFolder();
+
+  private GameData gameData;
+  private AutoSaveJournal journal;
+  private Territory germany;
+  private PlayerID russians;
+
+  @Before
+  public void setUp() throws Exception {
+    gameData = TestMapGameData.REVISED.getGameData();
+    germany = gameData.getMap().getTerritory("Germany");
+    russians = gameData.getPlayerList().getPlayerID("Russians");
+    journal = new AutoSaveJournal();
+    final GameStep step = gameData.getSequence().getStep();
+    gameData.getHistory().getHistoryWriter().startNextStep(step.getName(), step.getDelegate().getName(),
+        step.getPlayerID(), step.getDisplayName());
+    final ByteArrayOutputStream save = new ByteArrayOutputStream();
+    new GameDataManager().saveGame(save, gameData);
+    journal.checkpoint(CompletableFuture.completedFuture(save.toByteArray()));
+  }
+
+  private void startEvent(final String event) {
+    gameData.getHistory().getHistoryWriter().startEvent(event);
+    journal.startEvent(event);
+  }
+
+  private void addChildToEvent(final String text) {
+    gameData.getHistory().getHistoryWriter().addChildToEvent(new EventChild(text, null));
+    journal.addChildToEvent(text, null);
+  }
+
+  private void change(final Change change) {
+    gameData.performChange(change);
+    gameData.getHistory().getHistoryWriter().addChange(change);
+    journal.gameDataChanged(change);
+  }
+
+  private void nextStep() {
+    gameData.getSequence().next();
+    final GameStep step = gameData.getSequence().getStep();
+    gameData.getHistory().getHistoryWriter().startNextStep(step.getName(), step.getDelegate().getName(),
+        step.getPlayerID(), step.getDisplayName());
+    journal.startNextStep(step.getName(), step.getDelegate().getName(), step.getPlayerID(), step.getDisplayName());
+  }
+
+  @Test
+  public void testLoadingReplaysTheLogOntoTheCheckpoint() throws Exception {
+    final File file = tempFolder.newFile("autosave.tsvg");
+    startEvent("Russians take Germany");
+    change(ChangeFactory.changeOwner(germany, russians));
+    addChildToEvent("Russians are in Berlin");
+    journal.endRecord(gameData);
+    journal.write(file);
+    final long firstLength = file.length();
+    nextStep();
+    startEvent("Russians reinforce");
+    change(ChangeFactory.addUnits(germany, gameData.getUnitTypeList().getUnitType("infantry").create(2, russians)));
+    journal.endRecord(gameData);
+    journal.write(file);
+    assertTrue(file.length() > firstLength);
+
+    final GameData loaded = new GameDataManager().loadGame(file);
+    final Territory loadedGermany = loaded.getMap().getTerritory("Germany");
+    assertEquals("Russians", loadedGermany.getOwner().getName());
+    assertEquals(germany.getUnits().size(), loadedGermany.getUnits().size());
+    assertEquals(gameData.getSequence().getStepIndex(), loaded.getSequence().getStepIndex());
+    assertEquals(gameData.getSequence().getRound(), loaded.getSequence().getRound());
+    assertEquals(gameData.getHistory().getLastNode().toString(), loaded.getHistory().getLastNode().toString());
+  }
+
+  @Test
+  public void testRecordCutShortIsIgnored() throws Exception {
+    final File file = tempFolder.newFile("autosave.tsvg");
+    final String originalOwner = germany.getOwner().getName();
+    startEvent("Nothing happens");
+    journal.endRecord(gameData);
+    journal.write(file);
+    final long firstLength = file.length();
+    startEvent("Russians take Germany");
+    change(ChangeFactory.changeOwner(germany, russians));
+    journal.endRecord(gameData);
+    journal.write(file);
+    try (RandomAccessFile torn = new RandomAccessFile(file, "rw")) {
+      torn.setLength(file.length() - 3);
+    }
+    assertTrue(file.length() > firstLength);
+
+    final GameData loaded = new GameDataManager().loadGame(file);
+    assertEquals(originalOwner, loaded.getMap().getTerritory("Germany").getOwner().getName());
+  }
+
+  @Test
+  public void testLogLargerThanCheckpointNeedsNewCheckpoint() throws Exception {
+    final AutoSaveJournal empty = new AutoSaveJournal();
+    assertTrue(empty.needsCheckpoint());
+    empty.checkpoint(CompletableFuture.completedFuture(new byte[100]));
+    assertFalse(empty.needsCheckpoint());
+    empty.startEvent(new String(new char[200]));
+    assertTrue(empty.needsCheckpoint());
+  }
+}
@@ -0,0 +1,49 @@
+package games.strategy.engine.framework;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+
+import java.io.ByteArrayInputStream;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import games.strategy.engine.data.GameData;
+import games.strategy.triplea.xml.TestMapGameData;
+
+public class BackgroundSavesTest {
+  private GameData gameData;
+  private BackgroundSaves saves;
+
+  @Before
+  public void setUp() throws Exception {
+    gameData = TestMapGameData.REVISED.getGameData();
+    saves = new BackgroundSaves();
+  }
+
+  @After
+  public void tearDown() {
+    saves.shutDown();
+  }
+
+  @Test
+  public void testSaveCanBeLoaded() throws Exception {
+    final byte[] save = BackgroundSaves.get(saves.save(gameData, 1));
+    final GameData loaded = new GameDataManager().loadGame(new ByteArrayInputStream(save), null);
+    assertEquals(gameData.getMap().getTerritories().size(), loaded.getMap().getTerritories().size());
+    assertEquals(gameData.getSequence().getStep().getName(), loaded.getSequence().getStep().getName());
+  }
+
+  @Test
+  public void testSavesOfTheSameVersionAreShared() throws Exception {
+    assertNull(saves.getSave(1));
+    final byte[] first = BackgroundSaves.get(saves.save(gameData, 1));
+    assertNotNull(saves.getSave(1));
+    assertArrayEquals(first, BackgroundSaves.get(saves.getSave(1)));
+    assertArrayEquals(first, BackgroundSaves.get(saves.save(gameData, 1)));
+    assertNull(saves.getSave(2));
+  }
+}
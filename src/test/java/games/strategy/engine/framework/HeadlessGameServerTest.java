@@ -0,0 +1,41 @@
+package games.strategy.engine.framework;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.core.Is.is;
+
+import java.util.Properties;
+
+import org.junit.Test;
+
+import games.strategy.engine.framework.headlessGameServer.HeadlessGameServer;
+
+public class HeadlessGameServerTest {
+
+  @Test
+  public void eachGameGetsItsOwnPortAndName() {
+    final Properties processProperties = new Properties();
+    processProperties.setProperty(GameRunner.TRIPLEA_PORT_PROPERTY, "3300");
+    processProperties.setProperty(GameRunner.TRIPLEA_NAME_PROPERTY, "Bot_Host");
+    processProperties.setProperty(GameRunner.LOBBY_GAME_HOSTED_BY, "Bot_Host");
+    processProperties.setProperty(GameRunner.LOBBY_GAME_COMMENTS, "automated_host");
+
+    final Properties second = HeadlessGameServer.getGameProperties(processProperties, 1);
+
+    assertThat(second.getProperty(GameRunner.TRIPLEA_PORT_PROPERTY), is("3301"));
+    assertThat(second.getProperty(GameRunner.TRIPLEA_NAME_PROPERTY), is("Bot_Host_1"));
+    assertThat(second.getProperty(GameRunner.LOBBY_GAME_HOSTED_BY), is("Bot_Host_1"));
+    assertThat(second.getProperty(GameRunner.LOBBY_GAME_COMMENTS), is("automated_host"));
+  }
+
+  @Test
+  public void gamePropertiesCanBeChangedWithoutAffectingTheProcess() {
+    final Properties processProperties = new Properties();
+    processProperties.setProperty(GameRunner.LOBBY_HOST, "lobby");
+
+    final Properties first = HeadlessGameServer.getGameProperties(processProperties, 0);
+    first.remove(GameRunner.LOBBY_HOST);
+
+    assertThat(first.getProperty(GameRunner.TRIPLEA_PORT_PROPERTY), is(String.valueOf(GameRunner.PORT)));
+    assertThat(processProperties.getProperty(GameRunner.LOBBY_HOST), is("lobby"));
+  }
+}
@@ -0,0 +1,124 @@
+package games.strategy.engine.framework;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.fail;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.InetAddress;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import games.strategy.net.INode;
+import games.strategy.net.Node;
+
+public class SavedGameInputStreamTest {
+  private final SavedGameTransfers transfers = new SavedGameTransfers();
+  private INode client;
+  private byte[] savedGame;
+  private int chunkRequests;
+  private int failures;
+  private final IServerRemote server = new IServerRemote() {
+    @Override
+    public SavedGameTransfer startSavedGameTransfer() {
+      return transfers.start(client, savedGame.clone());
+    }
+
+    @Override
+    public byte[] getSavedGameChunk(final String transferId, final int offset) {
+      chunkRequests++;
+      if (failures > 0) {
+        failures--;
+        throw new IllegalStateException("Lost a chunk");
+      }
+      return transfers.getChunk(transferId, offset);
+    }
+
+    @Override
+    public void endSavedGameTransfer(final String transferId) {
+      transfers.end(transferId);
+    }
+  };
+
+  @Before
+  public void setUp() throws Exception {
+    client = new Node("client", InetAddress.getLocalHost(), 0);
+    savedGame = new byte[SavedGameTransfers.CHUNK_SIZE * 3 + 17];
+    new Random(42).nextBytes(savedGame);
+  }
+
+  private static byte[] readAll(final InputStream in) throws IOException {
+    final ByteArrayOutputStream out = new ByteArrayOutputStream();
+    final byte[] buffer = new byte[1000];
+    for (int read = in.read(buffer); read != -1; read = in.read(buffer)) {
+      out.write(buffer, 0, read);
+    }
+    return out.toByteArray();
+  }
+
+  @Test
+  public void testReadsTheGameInChunks() throws Exception {
+    final List<Integer> progress = new ArrayList<>();
+    final SavedGameTransfer transfer = server.startSavedGameTransfer();
+    final SavedGameInputStream in = new SavedGameInputStream(server, transfer, progress::add);
+    final byte[] original = savedGame.clone();
+    // the game may go on once the transfer has started
+    savedGame[0]++;
+    assertArrayEquals(original, readAll(in));
+    assertEquals(4, chunkRequests);
+    assertEquals(100, (int) progress.get(progress.size() - 1));
+    assertEquals(1, transfers.size());
+    in.close();
+    assertEquals(0, transfers.size());
+  }
+
+  @Test
+  public void testCarriesOnAfterLosingAChunk() throws Exception {
+    final SavedGameTransfer transfer = server.startSavedGameTransfer();
+    try (final InputStream in = new SavedGameInputStream(server, transfer, null)) {
+      final byte[] start = new byte[SavedGameTransfers.CHUNK_SIZE + 5];
+      assertEquals(SavedGameTransfers.CHUNK_SIZE, in.read(start));
+      failures = 2;
+      final byte[] rest = readAll(in);
+      assertEquals(savedGame.length - SavedGameTransfers.CHUNK_SIZE, rest.length);
+      assertEquals(savedGame[savedGame.length - 1], rest[rest.length - 1]);
+    }
+    assertEquals(6, chunkRequests);
+  }
+
+  @Test(expected = IOException.class)
+  public void testGivesUpAfterLosingTooManyChunks() throws Exception {
+    failures = 3;
+    try (final InputStream in = new SavedGameInputStream(server, server.startSavedGameTransfer(), null)) {
+      in.read();
+    }
+  }
+
+  @Test
+  public void testStartingAnotherTransferReplacesTheClientsLastOne() throws Exception {
+    final SavedGameTransfer first = server.startSavedGameTransfer();
+    final SavedGameTransfer second = server.startSavedGameTransfer();
+    assertEquals(1, transfers.size());
+    assertEquals(SavedGameTransfers.CHUNK_SIZE, transfers.getChunk(second.getId(), 0).length);
+    try {
+      transfers.getChunk(first.getId(), 0);
+      fail("The replaced transfer should be gone");
+    } catch (final IllegalStateException expected) {
+      // expected
+    }
+  }
+
+  @Test
+  public void testTransfersAreDroppedWhenTheirClientLeaves() throws Exception {
+    server.startSavedGameTransfer();
+    transfers.start(new Node("other", InetAddress.getLocalHost(), 1), savedGame.clone());
+    transfers.end(client);
+    assertEquals(1, transfers.size());
+  }
+}
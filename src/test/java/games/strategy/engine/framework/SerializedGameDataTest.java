@@ -0,0 +1,54 @@
+package games.strategy.engine.framework;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotSame;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import games.strategy.engine.data.GameData;
+import games.strategy.engine.data.PlayerID;
+import games.strategy.engine.data.Territory;
+import games.strategy.engine.data.changefactory.ChangeFactory;
+import games.strategy.triplea.xml.TestMapGameData;
+
+public class SerializedGameDataTest {
+  private GameData gameData;
+
+  @Before
+  public void setUp() throws Exception {
+    gameData = TestMapGameData.BIG_WORLD_1942.getGameData();
+  }
+
+  @Test
+  public void testDeserializeCopiesGameState() throws Exception {
+    final GameData copy = SerializedGameData.serialize(gameData, false).deserialize();
+    assertNotSame(gameData, copy);
+    assertEquals(gameData.getMap().getTerritories().size(), copy.getMap().getTerritories().size());
+    assertEquals(gameData.getUnits().getUnits().size(), copy.getUnits().getUnits().size());
+    assertEquals(gameData.getProperties().get(GameData.GAME_UUID), copy.getProperties().get(GameData.GAME_UUID));
+  }
+
+  @Test
+  public void testCopiesAreIndependent() throws Exception {
+    final SerializedGameData serialized = SerializedGameData.serialize(gameData, false);
+    final GameData first = serialized.deserialize();
+    final GameData second = serialized.deserialize();
+    final Territory westernGermany = first.getMap().getTerritory("Western Germany");
+    final PlayerID originalOwner = westernGermany.getOwner();
+    final PlayerID russians = first.getPlayerList().getPlayerID("Russians");
+    first.performChange(ChangeFactory.changeOwner(westernGermany, russians));
+    assertEquals(russians, first.getMap().getTerritory("Western Germany").getOwner());
+    assertEquals(originalOwner.getName(), second.getMap().getTerritory("Western Germany").getOwner().getName());
+    assertEquals(originalOwner.getName(), gameData.getMap().getTerritory("Western Germany").getOwner().getName());
+  }
+
+  @Test
+  public void testChangesAfterSerializingAreNotSeenByCopies() throws Exception {
+    final SerializedGameData serialized = SerializedGameData.serialize(gameData, false);
+    final Territory westernGermany = gameData.getMap().getTerritory("Western Germany");
+    final String originalOwner = westernGermany.getOwner().getName();
+    gameData.performChange(ChangeFactory.changeOwner(westernGermany, gameData.getPlayerList().getPlayerID("Russians")));
+    assertEquals(originalOwner, serialized.deserialize().getMap().getTerritory("Western Germany").getOwner().getName());
+  }
+}
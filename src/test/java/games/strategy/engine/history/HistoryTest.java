@@ -0,0 +1,154 @@
+package games.strategy.engine.history;
+
+import static org.junit.Assert.assertEquals;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import games.strategy.engine.data.Change;
+import games.strategy.engine.data.CompositeChange;
+import games.strategy.engine.data.GameData;
+import games.strategy.engine.data.PlayerID;
+import games.strategy.engine.data.Resource;
+import games.strategy.engine.data.Territory;
+import games.strategy.engine.data.Unit;
+import games.strategy.engine.data.changefactory.ChangeFactory;
+import games.strategy.engine.framework.GameDataManager;
+import games.strategy.triplea.Constants;
+import games.strategy.triplea.xml.TestMapGameData;
+
+public class HistoryTest {
+  private static final int EVENTS = HistoryChanges.PAGE_SIZE + 44;
+
+  private GameData gameData;
+  private Territory germany;
+  private final List<PlayerID> owners = new ArrayList<>();
+
+  @Before
+  public void setUp() throws Exception {
+    gameData = TestMapGameData.REVISED.getGameData();
+    germany = gameData.getMap().getTerritory("Germany");
+    owners.add(gameData.getPlayerList().getPlayerID("Russians"));
+    owners.add(gameData.getPlayerList().getPlayerID("British"));
+    owners.add(gameData.getPlayerList().getPlayerID("Americans"));
+    final HistoryWriter writer = gameData.getHistory().getHistoryWriter();
+    writer.startNextStep("germanCombatMove", "move", germany.getOwner(), "Germans Combat Move");
+    for (int i = 0; i < EVENTS; i++) {
+      writer.startEvent("Event " + i);
+      // two changes an event, so events end up on both sides of a page boundary
+      for (int j = 0; j < 2; j++) {
+        final Change change = ChangeFactory.changeOwner(germany, owners.get((2 * i + j) % owners.size()));
+        gameData.performChange(change);
+        writer.addChange(change);
+      }
+    }
+  }
+
+  private Event getEvent(final History history, final int index) {
+    final HistoryNode round = (HistoryNode) ((HistoryNode) history.getRoot()).getChildAt(0);
+    return (Event) round.getChildAt(0).getChildAt(index);
+  }
+
+  private static String getOwnerAfterEvent(final int index) {
+    return new String[] {"Russians", "British", "Americans"}[(2 * index + 1) % 3];
+  }
+
+  @Test
+  public void testGoingBackAndForthAcrossPages() {
+    final History history = gameData.getHistory();
+    assertEquals(2 * EVENTS, history.getChanges().size());
+    for (final int index : new int[] {0, EVENTS - 1, 3, HistoryChanges.PAGE_SIZE / 2, 200, 1}) {
+      history.gotoNode(getEvent(history, index));
+      assertEquals(getOwnerAfterEvent(index), germany.getOwner().getName());
+    }
+  }
+
+  @Test
+  public void testChangesAreLoadedWithTheirNodes() throws Exception {
+    final ByteArrayOutputStream save = new ByteArrayOutputStream();
+    new GameDataManager().saveGame(save, gameData);
+    final GameData loaded = new GameDataManager().loadGame(new ByteArrayInputStream(save.toByteArray()), null);
+    final History history = loaded.getHistory();
+    assertEquals(2 * EVENTS, history.getChanges().size());
+    assertEquals(gameData.getHistory().getLastNode().toString(), history.getLastNode().toString());
+    for (final int index : new int[] {EVENTS - 2, 0, HistoryChanges.PAGE_SIZE - 1}) {
+      history.gotoNode(getEvent(history, index));
+      assertEquals(getOwnerAfterEvent(index), loaded.getMap().getTerritory("Germany").getOwner().getName());
+    }
+  }
+
+  @Test
+  public void testChangesCanBeAddedAfterLoading() throws Exception {
+    final ByteArrayOutputStream save = new ByteArrayOutputStream();
+    new GameDataManager().saveGame(save, gameData);
+    final GameData loaded = new GameDataManager().loadGame(new ByteArrayInputStream(save.toByteArray()), null);
+    final Territory loadedGermany = loaded.getMap().getTerritory("Germany");
+    final HistoryWriter writer = loaded.getHistory().getHistoryWriter();
+    writer.startEvent("Germans take Germany back");
+    final Change change = ChangeFactory.changeOwner(loadedGermany, loaded.getPlayerList().getPlayerID("Germans"));
+    loaded.performChange(change);
+    writer.addChange(change);
+    assertEquals(2 * EVENTS + 1, loaded.getHistory().getChanges().size());
+
+    loaded.getHistory().gotoNode(getEvent(loaded.getHistory(), 0));
+    assertEquals(getOwnerAfterEvent(0), loadedGermany.getOwner().getName());
+    loaded.getHistory().gotoNode(loaded.getHistory().getLastNode());
+    assertEquals("Germans", loadedGermany.getOwner().getName());
+  }
+
+  @Test
+  public void testRemovingHistoryAfterANode() {
+    final History history = gameData.getHistory();
+    final int index = HistoryChanges.PAGE_SIZE / 2 + 10;
+    history.removeAllHistoryAfterNode(getEvent(history, index));
+    assertEquals(getOwnerAfterEvent(index), germany.getOwner().getName());
+    history.gotoNode(getEvent(history, 0));
+    assertEquals(getOwnerAfterEvent(0), germany.getOwner().getName());
+    history.gotoNode(getEvent(history, index));
+    assertEquals(getOwnerAfterEvent(index), germany.getOwner().getName());
+  }
+
+  @Test
+  public void testJumpingAcrossSegments() {
+    final Territory westernEurope = gameData.getMap().getTerritory("Western Europe");
+    final PlayerID germans = gameData.getPlayerList().getPlayerID("Germans");
+    final Resource pus = gameData.getResourceList().getResource(Constants.PUS);
+    final List<Unit> units = new ArrayList<>(germany.getUnits().getUnits());
+    final HistoryWriter writer = gameData.getHistory().getHistoryWriter();
+    final List<Event> events = new ArrayList<>();
+    final List<Integer> unitCounts = new ArrayList<>();
+    final List<Integer> resources = new ArrayList<>();
+    for (int i = 0; gameData.getHistory().getChanges().size() < 3 * History.SEGMENT_SIZE; i++) {
+      writer.startEvent("Move " + i);
+      final Unit unit = units.get(i % units.size());
+      final boolean back = (i / units.size()) % 2 == 1;
+      final CompositeChange change = new CompositeChange(
+          ChangeFactory.moveUnits(back ? westernEurope : germany, back ? germany : westernEurope,
+              Collections.singletonList(unit)),
+          ChangeFactory.changeResourcesChange(germans, pus, i % 3 - 1),
+          ChangeFactory.unitPropertyChange(unit, i % 2, "hits"));
+      gameData.performChange(change);
+      writer.addChange(change);
+      events.add((Event) gameData.getHistory().getLastNode());
+      unitCounts.add(germany.getUnits().getUnitCount());
+      resources.add(germans.getResources().getQuantity(pus));
+    }
+    final History history = gameData.getHistory();
+    for (final int index : new int[] {0, events.size() - 1, 1, events.size() / 2, 7, events.size() - 3}) {
+      history.gotoNode(events.get(index));
+      assertEquals(unitCounts.get(index).intValue(), germany.getUnits().getUnitCount());
+      assertEquals(resources.get(index).intValue(), germans.getResources().getQuantity(pus));
+    }
+    history.gotoNode(getEvent(history, 0));
+    assertEquals(getOwnerAfterEvent(0), germany.getOwner().getName());
+    assertEquals(units.size(), germany.getUnits().getUnitCount());
+    history.gotoNode(history.getLastNode());
+    assertEquals(unitCounts.get(events.size() - 1).intValue(), germany.getUnits().getUnitCount());
+  }
+}
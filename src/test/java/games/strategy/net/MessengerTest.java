@@ -2,12 +2,15 @@ package games.strategy.net;
 
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
 import static org.junit.Assert.fail;
 
 import java.io.IOException;
 import java.io.Serializable;
 import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicInteger;
 
@@ -16,6 +19,7 @@ import org.junit.Before;
 import org.junit.Test;
 
 import games.strategy.debug.ClientLogger;
+import games.strategy.net.nio.DecodeStatistics;
 import games.strategy.test.TestUtil;
 import games.strategy.util.ThreadUtil;
 
@@ -141,6 +145,25 @@ public class MessengerTest {
     assertEquals(serverMessageListener.getMessageCount(), 0);
   }
 
+  @Test
+  public void testServerBroadcastLargeMessage() {
+    final int count = 1 * 1000 * 1000;
+    final StringBuilder builder = new StringBuilder(count);
+    for (int i = 0; i < count; i++) {
+      builder.append('a');
+    }
+    final String message = builder.toString();
+    serverMessenger.broadcast(message);
+    assertEquals(client1MessageListener.getLastMessage(), message);
+    assertEquals(client2MessageListener.getLastMessage(), message);
+    client1MessageListener.clearLastMessage();
+    client2MessageListener.clearLastMessage();
+    serverMessenger.broadcast("Hello");
+    assertEquals(client1MessageListener.getLastMessage(), "Hello");
+    assertEquals(client2MessageListener.getLastMessage(), "Hello");
+    assertEquals(serverMessageListener.getMessageCount(), 0);
+  }
+
   @Test
   public void testClientBroadcast() {
     final String message = "Hello";
@@ -172,6 +195,35 @@ public class MessengerTest {
     }
   }
 
+  @Test
+  public void testMessagesFromEachClientStayInOrder() throws Exception {
+    final Thread t1 = new Thread(() -> {
+      for (int i = 0; i < 200; i++) {
+        client1Messenger.send(i, serverMessenger.getLocalNode());
+      }
+    });
+    final Thread t2 = new Thread(() -> {
+      for (int i = 0; i < 200; i++) {
+        client2Messenger.send(i, serverMessenger.getLocalNode());
+      }
+    });
+    t1.start();
+    t2.start();
+    t1.join();
+    t2.join();
+    final Map<INode, Integer> lastReceived = new HashMap<>();
+    for (int i = 0; i < 400; i++) {
+      final INode sender = serverMessageListener.getLastSender();
+      final int message = (Integer) serverMessageListener.getLastMessage();
+      serverMessageListener.clearLastMessage();
+      assertEquals(lastReceived.getOrDefault(sender, -1) + 1, message);
+      lastReceived.put(sender, message);
+    }
+    final Map<INode, DecodeStatistics> statistics = ((ServerMessenger) serverMessenger).getDecodeStatistics();
+    assertTrue(statistics.get(client1Messenger.getLocalNode()).getDecodedCount() > 0);
+    assertEquals(0, statistics.get(client2Messenger.getLocalNode()).getQueueDepth());
+  }
+
   @Test
   public void testMultipleMessages() throws Exception {
     final Thread t1 = new Thread(new MultipleMessageSender(serverMessenger));
@@ -0,0 +1,19 @@
+package games.strategy.net;
+
+import static org.junit.Assert.assertEquals;
+
+import java.util.Collections;
+import java.util.Map;
+
+import org.junit.Test;
+
+public class WireProtocolTest {
+
+  @Test
+  public void testWireProtocolIsAgreedOn() {
+    final Map<String, String> offer = WireProtocol.offer(Collections.emptyMap());
+    assertEquals(WireProtocol.COMPACT, WireProtocol.getAgreedVersion(offer));
+    assertEquals(WireProtocol.JAVA_SERIALIZATION, WireProtocol.getAgreedVersion(Collections.emptyMap()));
+    assertEquals(WireProtocol.JAVA_SERIALIZATION, WireProtocol.getAgreedVersion(null));
+  }
+}
@@ -0,0 +1,122 @@
+package games.strategy.triplea.ai;
+
+import static games.strategy.triplea.delegate.GameDataTestUtil.armour;
+import static games.strategy.triplea.delegate.GameDataTestUtil.british;
+import static games.strategy.triplea.delegate.GameDataTestUtil.germans;
+import static games.strategy.triplea.delegate.GameDataTestUtil.infantry;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.util.Collections;
+import java.util.List;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import games.strategy.engine.data.GameData;
+import games.strategy.engine.data.Territory;
+import games.strategy.engine.data.Unit;
+import games.strategy.engine.data.properties.IEditableProperty;
+import games.strategy.triplea.Constants;
+import games.strategy.triplea.ai.proAI.ProData;
+import games.strategy.triplea.ai.proAI.data.ProBattleResult;
+import games.strategy.triplea.ai.proAI.util.ProOddsCache;
+import games.strategy.triplea.ai.proAI.util.ProOddsCalculator;
+import games.strategy.triplea.oddsCalculator.ta.OddsCalculator;
+import games.strategy.triplea.xml.TestMapGameData;
+
+public class ProOddsCalculatorTest {
+  @Rule
+  public TemporaryFolder tempFolder = new TemporaryFolder();
+
+  private GameData gameData;
+  private Territory eastCanada;
+  private OddsCalculator oddsCalculator;
+
+  @Before
+  public void setUp() throws Exception {
+    gameData = TestMapGameData.REVISED.getGameData();
+    eastCanada = gameData.getMap().getTerritory("Eastern Canada");
+    ProData.initializeSimulation(null, gameData, germans(gameData));
+    oddsCalculator = new OddsCalculator(gameData);
+  }
+
+  @After
+  public void tearDown() {
+    oddsCalculator.shutdown();
+  }
+
+  private ProBattleResult fight(final ProOddsCalculator calc, final int attackingInfantry) {
+    final List<Unit> attackingUnits = infantry(gameData).create(attackingInfantry, germans(gameData), false);
+    attackingUnits.addAll(armour(gameData).create(1, germans(gameData), false));
+    final List<Unit> defendingUnits = infantry(gameData).create(3, british(gameData), false);
+    final ProBattleResult result =
+        calc.calculateBattleResults(eastCanada, attackingUnits, defendingUnits, Collections.emptySet());
+    assertTrue(attackingUnits.containsAll(result.getAverageAttackersRemaining()));
+    assertTrue(defendingUnits.containsAll(result.getAverageDefendersRemaining()));
+    return result;
+  }
+
+  @Test
+  public void identicalBattlesAreOnlyFoughtOnce() {
+    final ProOddsCache cache = new ProOddsCache(10);
+    final ProOddsCalculator calc = new ProOddsCalculator(oddsCalculator, cache);
+    calc.setData(gameData);
+    final ProBattleResult first = fight(calc, 3);
+    final ProBattleResult second = fight(calc, 3);
+    assertEquals(1, cache.getMissCount());
+    assertEquals(1, cache.getHitCount());
+    assertEquals(first.getWinPercentage(), second.getWinPercentage(), 0.0);
+    assertEquals(first.getTUVSwing(), second.getTUVSwing(), 0.0);
+    assertEquals(first.getBattleRounds(), second.getBattleRounds(), 0.0);
+    assertEquals(first.getAverageAttackersRemaining().size(), second.getAverageAttackersRemaining().size());
+  }
+
+  @Test
+  public void leastRecentlyUsedBattlesAreEvicted() {
+    final ProOddsCache cache = new ProOddsCache(2);
+    final ProOddsCalculator calc = new ProOddsCalculator(oddsCalculator, cache);
+    calc.setData(gameData);
+    fight(calc, 1);
+    fight(calc, 2);
+    fight(calc, 1);
+    fight(calc, 3);
+    assertEquals(2, cache.size());
+    assertEquals(1, cache.getEvictionCount());
+    fight(calc, 1);
+    fight(calc, 2);
+    assertEquals(2, cache.getHitCount());
+    assertEquals(4, cache.getMissCount());
+  }
+
+  @Test
+  public void battlesAreKeptBetweenGames() throws Exception {
+    final ProOddsCache cache = new ProOddsCache(10);
+    cache.setDirectory(tempFolder.getRoot());
+    final ProOddsCalculator calc = new ProOddsCalculator(oddsCalculator, cache);
+    calc.setData(gameData);
+    final ProBattleResult first = fight(calc, 3);
+    cache.clear();
+
+    final ProOddsCache nextGameCache = new ProOddsCache(10);
+    nextGameCache.setDirectory(tempFolder.getRoot());
+    final ProOddsCalculator nextGameCalc = new ProOddsCalculator(oddsCalculator, nextGameCache);
+    nextGameCalc.setData(gameData);
+    assertEquals(1, nextGameCache.size());
+    assertEquals(first.getWinPercentage(), fight(nextGameCalc, 3).getWinPercentage(), 0.0);
+    assertEquals(1, nextGameCache.getHitCount());
+
+    for (final IEditableProperty property : gameData.getProperties().getEditableProperties()) {
+      if (property.getName().equals(Constants.LOW_LUCK)) {
+        property.setValue(!(Boolean) property.getValue());
+      }
+    }
+    final ProOddsCache otherOptionsCache = new ProOddsCache(10);
+    otherOptionsCache.setDirectory(tempFolder.getRoot());
+    new ProOddsCalculator(oddsCalculator, otherOptionsCache).setData(gameData);
+    assertEquals(0, otherOptionsCache.size());
+  }
+}
@@ -0,0 +1,90 @@
+package games.strategy.triplea.image;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import java.awt.Image;
+import java.awt.image.BufferedImage;
+
+import org.junit.Test;
+
+public class ImageCacheTest {
+  // 10 by 10 pixels at 4 bytes a pixel
+  private static final long IMAGE_BYTES = 400;
+
+  private final ImageCache cache = new ImageCache(2 * IMAGE_BYTES);
+  private final Object owner = new Object();
+
+  private static BufferedImage newImage() {
+    return new BufferedImage(10, 10, BufferedImage.TYPE_INT_ARGB);
+  }
+
+  @Test
+  public void testBytesAreCounted() {
+    assertEquals(IMAGE_BYTES, ImageCache.getImageBytes(newImage()));
+    assertEquals(300, ImageCache.getImageBytes(new BufferedImage(10, 10, BufferedImage.TYPE_3BYTE_BGR)));
+    cache.put(owner, "a", newImage());
+    // replacing an image doesn't count it twice
+    cache.put(owner, "a", newImage());
+    assertEquals(IMAGE_BYTES, cache.getBytes());
+    cache.remove(owner, "a");
+    assertEquals(0, cache.getBytes());
+    assertNull(cache.get(owner, "a"));
+  }
+
+  @Test
+  public void testLeastRecentlyUsedImageIsDroppedOverBudget() {
+    final BufferedImage first = newImage();
+    assertSame(first, cache.put(owner, "first", first));
+    cache.put(owner, "second", newImage());
+    assertSame(first, cache.get(owner, "first"));
+    cache.put(owner, "third", newImage());
+    assertNotNull(cache.get(owner, "first"));
+    assertNull(cache.get(owner, "second"));
+    assertNotNull(cache.get(owner, "third"));
+    assertEquals(2 * IMAGE_BYTES, cache.getBytes());
+    assertEquals(1, cache.getEvictions());
+  }
+
+  @Test
+  public void testImageOverBudgetIsNotCached() {
+    cache.put(owner, "small", newImage());
+    cache.put(owner, "large", new BufferedImage(100, 100, BufferedImage.TYPE_INT_ARGB));
+    assertNull(cache.get(owner, "large"));
+    assertNotNull(cache.get(owner, "small"));
+  }
+
+  @Test
+  public void testOwnersHaveTheirOwnImages() {
+    final Object other = new Object();
+    cache.put(owner, "a", newImage());
+    cache.put(other, "a", newImage());
+    assertEquals(2, cache.size());
+    cache.clear(owner);
+    assertNull(cache.get(owner, "a"));
+    assertNotNull(cache.get(other, "a"));
+    assertEquals(IMAGE_BYTES, cache.getBytes());
+  }
+
+  @Test
+  public void testHitRate() {
+    assertEquals(0, cache.getHitRate(), 0);
+    cache.put(owner, "a", newImage());
+    cache.get(owner, "a");
+    cache.get(owner, "b");
+    assertEquals(0.5, cache.getHitRate(), 0);
+  }
+
+  @Test
+  public void testOtherImagesAreCachedAsPremultipliedImages() {
+    final Image scaled = newImage().getScaledInstance(5, 5, Image.SCALE_FAST);
+    final Image cached = cache.put(owner, "scaled", scaled);
+    assertTrue(cached instanceof BufferedImage);
+    assertEquals(BufferedImage.TYPE_INT_ARGB_PRE, ((BufferedImage) cached).getType());
+    assertEquals(5, cached.getWidth(null));
+    assertSame(cached, cache.get(owner, "scaled"));
+  }
+}
@@ -1,11 +1,18 @@
 package games.strategy.triplea.oddsCalculator.ta;
 
 import static games.strategy.triplea.delegate.GameDataTestUtil.americans;
+import static games.strategy.triplea.delegate.GameDataTestUtil.armour;
+import static games.strategy.triplea.delegate.GameDataTestUtil.battleship;
+import static games.strategy.triplea.delegate.GameDataTestUtil.destroyer;
+import static games.strategy.triplea.delegate.GameDataTestUtil.fighter;
 import static games.strategy.triplea.delegate.GameDataTestUtil.germans;
+import static games.strategy.triplea.delegate.GameDataTestUtil.infantry;
+import static games.strategy.triplea.delegate.GameDataTestUtil.russians;
 import static games.strategy.triplea.delegate.GameDataTestUtil.submarine;
 import static games.strategy.triplea.delegate.GameDataTestUtil.territory;
 import static games.strategy.triplea.delegate.GameDataTestUtil.transport;
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
 import static org.junit.Assert.assertTrue;
 
 import java.util.ArrayList;
@@ -70,6 +77,40 @@ public class OddsCalculatorTest {
     assertEquals(0.16, results.getDefenderWinPercent(), 0.10);
   }
 
+  @Test
+  public void testCalculateAllUsesTheOptionsOfEachRequest() {
+    final PlayerID germans = GameDataTestUtil.germans(gameData);
+    final PlayerID british = GameDataTestUtil.british(gameData);
+    final Territory eastCanada = gameData.getMap().getTerritory("Eastern Canada");
+    final List<Unit> attackingUnits = GameDataTestUtil.infantry(gameData).create(3, germans, false);
+    final List<Unit> defendingUnits = GameDataTestUtil.infantry(gameData).create(3, british, false);
+    final List<OddsCalculatorRequest> requests = new ArrayList<>();
+    for (int i = 0; i < 4; i++) {
+      requests.add(new OddsCalculatorRequest(germans, british, eastCanada, attackingUnits, defendingUnits,
+          Collections.emptyList(), TerritoryEffectHelper.getEffects(eastCanada), 200)
+              .retreatAfterRound(i % 2 == 0 ? 1 : -1));
+    }
+    final OddsCalculator calculator = new OddsCalculator(gameData);
+    final ConcurrentOddsCalculator concurrentCalculator = new ConcurrentOddsCalculator("test");
+    concurrentCalculator.setGameData(gameData);
+    final List<AggregateResults> results = new ArrayList<>(calculator.calculateAll(requests));
+    results.addAll(concurrentCalculator.calculateAll(requests));
+    final AggregateResults unchangedOptionsResults = calculator.setCalculateDataAndCalculate(germans, british,
+        eastCanada, attackingUnits, defendingUnits, Collections.emptyList(),
+        TerritoryEffectHelper.getEffects(eastCanada), 200);
+    calculator.shutdown();
+    concurrentCalculator.shutdown();
+    for (int i = 0; i < results.size(); i++) {
+      assertEquals(200, results.get(i).getRollCount());
+      if (i % 2 == 0) {
+        assertEquals(1.0, results.get(i).getAverageBattleRoundsFought(), 0.0);
+      } else {
+        assertTrue(results.get(i).getAverageBattleRoundsFought() > 2);
+      }
+    }
+    assertTrue(unchangedOptionsResults.getAverageBattleRoundsFought() > 2);
+  }
+
   @Test
   public void testAttackingTransports() {
     final Territory sz1 = territory("1 Sea Zone", gameData);
@@ -99,4 +140,51 @@ public class OddsCalculatorTest {
     assertEquals(results.getAttackerWinPercent(), 1.0, 0.0);
     assertEquals(results.getDefenderWinPercent(), 0.0, 0.0);
   }
+
+  @Test
+  public void testCompiledLandBattleMatchesBattleEngine() throws Exception {
+    // use v3 rule set, where artillery supports infantry
+    gameData = TestMapGameData.WW2V3_1942.getGameData();
+    final Territory ukraine = territory("Ukraine", gameData);
+    final List<Unit> attacking = infantry(gameData).create(4, germans(gameData));
+    attacking.addAll(gameData.getUnitTypeList().getUnitType("artillery").create(2, germans(gameData)));
+    attacking.addAll(armour(gameData).create(2, germans(gameData)));
+    attacking.addAll(fighter(gameData).create(1, germans(gameData)));
+    final List<Unit> defending = infantry(gameData).create(6, russians(gameData));
+    defending.addAll(armour(gameData).create(1, russians(gameData)));
+    assertCompiledBattleMatchesBattleEngine(germans(gameData), russians(gameData), ukraine, attacking, defending);
+  }
+
+  @Test
+  public void testCompiledSeaBattleMatchesBattleEngine() throws Exception {
+    gameData = TestMapGameData.WW2V3_1942.getGameData();
+    final Territory sz2 = territory("2 Sea Zone", gameData);
+    final List<Unit> attacking = battleship(gameData).create(1, germans(gameData));
+    attacking.addAll(destroyer(gameData).create(1, germans(gameData)));
+    attacking.addAll(fighter(gameData).create(2, germans(gameData)));
+    final List<Unit> defending = destroyer(gameData).create(2, americans(gameData));
+    defending.addAll(gameData.getUnitTypeList().getUnitType("cruiser").create(2, americans(gameData)));
+    assertCompiledBattleMatchesBattleEngine(germans(gameData), americans(gameData), sz2, attacking, defending);
+  }
+
+  private void assertCompiledBattleMatchesBattleEngine(final PlayerID attacker, final PlayerID defender,
+      final Territory location, final List<Unit> attacking, final List<Unit> defending) {
+    final int runs = 2000;
+    final OddsCalculator compiled = new OddsCalculator(gameData);
+    final AggregateResults compiledResults = compiled.setCalculateDataAndCalculate(attacker, defender, location,
+        attacking, defending, Collections.emptyList(), TerritoryEffectHelper.getEffects(location), runs);
+    final OddsCalculator engine = new OddsCalculator(gameData);
+    engine.setUseCompiledBattle(false);
+    final AggregateResults engineResults = engine.setCalculateDataAndCalculate(attacker, defender, location,
+        attacking, defending, Collections.emptyList(), TerritoryEffectHelper.getEffects(location), runs);
+    assertNotNull(CompiledBattle.compile(gameData, attacker, defender, location, attacking, defending,
+        Collections.emptyList(), TerritoryEffectHelper.getEffects(location), false, false, -1, -1, false, null, null));
+    compiled.shutdown();
+    engine.shutdown();
+    assertEquals(engineResults.getAttackerWinPercent(), compiledResults.getAttackerWinPercent(), 0.05);
+    assertEquals(engineResults.getDefenderWinPercent(), compiledResults.getDefenderWinPercent(), 0.05);
+    assertEquals(engineResults.getAverageAttackingUnitsLeft(), compiledResults.getAverageAttackingUnitsLeft(), 0.3);
+    assertEquals(engineResults.getAverageDefendingUnitsLeft(), compiledResults.getAverageDefendingUnitsLeft(), 0.3);
+    assertEquals(engineResults.getAverageBattleRoundsFought(), compiledResults.getAverageBattleRoundsFought(), 0.2);
+  }
 }
@@ -0,0 +1,133 @@
+package games.strategy.triplea.ui.screen;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import java.awt.Graphics2D;
+import java.awt.Image;
+import java.awt.Rectangle;
+import java.awt.geom.AffineTransform;
+import java.util.Collections;
+
+import org.junit.Test;
+
+import games.strategy.engine.data.GameData;
+import games.strategy.triplea.image.ImageCache;
+import games.strategy.triplea.ui.mapdata.MapData;
+import games.strategy.triplea.ui.screen.drawable.IDrawable;
+
+public class TileTest {
+  private final Tile tile = newTile(ImageCache.getInstance());
+
+  private static Tile newTile(final ImageCache imageCache) {
+    return new Tile(new Rectangle(0, 0, TileManager.TILE_SIZE, TileManager.TILE_SIZE), 0, 0, 1.0, imageCache);
+  }
+
+  @Test
+  public void testDrawingInBackgroundCleansTheTile() {
+    tile.addDrawable(new TestDrawable(null));
+    assertTrue(tile.isDirty());
+    assertNull(tile.getRawImage());
+
+    assertTrue(tile.drawInBackground(null, null));
+    assertFalse(tile.isDirty());
+    assertNotNull(tile.getRawImage());
+    // nothing left to draw
+    assertFalse(tile.drawInBackground(null, null));
+  }
+
+  @Test
+  public void testImageIsDroppedIfTheTileChangesWhileDrawing() {
+    tile.addDrawable(new TestDrawable(() -> tile.addDrawable(new TestDrawable(null))));
+
+    assertFalse(tile.drawInBackground(null, null));
+    assertTrue(tile.isDirty());
+    assertNull(tile.getRawImage());
+  }
+
+  @Test
+  public void testBackgroundIsOnlyDrawnAgainWhenItChanges() {
+    final TestDrawable base = new TestDrawable(null, IDrawable.BASE_MAP_LEVEL);
+    final TestDrawable units = new TestDrawable(null, IDrawable.UNITS_LEVEL);
+    tile.addDrawable(base);
+    tile.addDrawable(units);
+    tile.getImage(null, null);
+    assertEquals(1, base.timesDrawn);
+    assertEquals(1, units.timesDrawn);
+
+    // units moving, and a territory being cleared and drawn again, leave the background alone
+    tile.removeDrawables(Collections.singleton(units));
+    tile.addDrawable(units);
+    tile.removeDrawables(Collections.singleton(base));
+    tile.addDrawable(base);
+    assertTrue(tile.drawInBackground(null, null));
+    assertEquals(1, base.timesDrawn);
+    assertEquals(2, units.timesDrawn);
+
+    final TestDrawable polygon = new TestDrawable(null, IDrawable.POLYGONS_LEVEL);
+    tile.addDrawable(polygon);
+    tile.getImage(null, null);
+    assertEquals(2, base.timesDrawn);
+    assertEquals(1, polygon.timesDrawn);
+    assertEquals(3, units.timesDrawn);
+  }
+
+  @Test
+  public void testHeldTileKeepsItsImageWithoutRoomInTheCache() {
+    final Tile heldTile = newTile(new ImageCache(0));
+    heldTile.addDrawable(new TestDrawable(null));
+    heldTile.setHeld(true);
+    assertTrue(heldTile.drawInBackground(null, null));
+    assertFalse(heldTile.isDirty());
+    // let go, the image is left to a cache with no room for it
+    heldTile.setHeld(false);
+    assertTrue(heldTile.isDirty());
+  }
+
+  @Test
+  public void testTileLetGoLeavesItsImageToTheCache() {
+    final ImageCache imageCache = new ImageCache(Long.MAX_VALUE);
+    final Tile heldTile = newTile(imageCache);
+    heldTile.setHeld(true);
+    final Image image = heldTile.getImage(null, null);
+    assertNull(imageCache.get(heldTile, "image"));
+    heldTile.setHeld(false);
+    assertSame(image, imageCache.get(heldTile, "image"));
+    heldTile.setHeld(true);
+    assertSame(image, heldTile.getRawImage());
+    assertNull(imageCache.get(heldTile, "image"));
+  }
+
+  private static final class TestDrawable implements IDrawable {
+    private final Runnable whileDrawing;
+    private final int level;
+    private int timesDrawn = 0;
+
+    TestDrawable(final Runnable whileDrawing) {
+      this(whileDrawing, UNITS_LEVEL);
+    }
+
+    TestDrawable(final Runnable whileDrawing, final int level) {
+      this.whileDrawing = whileDrawing;
+      this.level = level;
+    }
+
+    @Override
+    public void draw(final Rectangle bounds, final GameData data, final Graphics2D graphics, final MapData mapData,
+        final AffineTransform unscaled, final AffineTransform scaled) {
+      timesDrawn++;
+      if (whileDrawing != null) {
+        whileDrawing.run();
+      }
+    }
+
+    @Override
+    public int getLevel() {
+      return level;
+    }
+  }
+}
@@ -0,0 +1,53 @@
+package games.strategy.ui;
+
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.empty;
+import static org.junit.Assert.assertThat;
+
+import java.awt.Rectangle;
+
+import org.junit.Test;
+
+public final class GridIndexTest {
+  private final GridIndex<String> index = new GridIndex<>(100);
+
+  @Test
+  public void testPointFindsItemsWhoseBoundsTouchItsCell() {
+    index.add("west", new Rectangle(0, 0, 150, 50));
+    index.add("east", new Rectangle(250, 0, 50, 50));
+    assertThat(index.get(120, 80), contains("west"));
+    assertThat(index.get(260, 10), contains("east"));
+    assertThat(index.get(410, 10), empty());
+  }
+
+  @Test
+  public void testItemsAreFoundInTheOrderTheyWereAdded() {
+    index.add("first", new Rectangle(10, 10, 10, 10));
+    index.add("second", new Rectangle(150, 10, 10, 10));
+    index.add("second", new Rectangle(50, 50, 10, 10));
+    // a second part of the first item, added after the second item
+    index.add("first", new Rectangle(160, 20, 10, 10));
+    assertThat(index.get(50, 50), contains("first", "second"));
+    assertThat(index.get(150, 50), contains("first", "second"));
+    assertThat(index.get(new Rectangle(0, 0, 200, 100)), contains("first", "second"));
+  }
+
+  @Test
+  public void testRemovedItemsAreNotFound() {
+    index.add("first", new Rectangle(10, 10, 10, 10));
+    index.add("second", new Rectangle(10, 10, 10, 10));
+    index.remove("first", new Rectangle(10, 10, 10, 10));
+    assertThat(index.get(15, 15), contains("second"));
+    // added again, it now comes after the others
+    index.add("first", new Rectangle(10, 10, 10, 10));
+    assertThat(index.get(new Rectangle(0, 0, 50, 50)), contains("second", "first"));
+  }
+
+  @Test
+  public void testNegativeCoordinates() {
+    index.add("wrapped", new Rectangle(-30, -30, 20, 20));
+    assertThat(index.get(-15, -15), contains("wrapped"));
+    assertThat(index.get(15, 15), empty());
+    assertThat(index.get(new Rectangle(-50, -50, 10, 10)), contains("wrapped"));
+  }
+}
@@ -79,6 +79,17 @@ public class PropertyUtilTest {
         testClass.bar, is("default"));
   }
 
+  @Test
+  public void testOverloadedSetterIsPickedByValue() {
+    final OverloadedSetterClass testClass = new OverloadedSetterClass();
+    PropertyUtil.set(BAR, NEW_VALUE, testClass);
+    assertThat(testClass.bar, is(NEW_VALUE));
+    PropertyUtil.set(BAR, 3, testClass);
+    assertThat(testClass.bar, is("3 times"));
+    PropertyUtil.set(BAR, NEW_VALUE, new OverloadedSetterClass());
+    assertThat(PropertyUtil.getPropertyFieldObject(BAR, testClass), is("3 times"));
+  }
+
   private static class NoSetterClass {
     
     @SuppressWarnings("unused")
@@ -110,6 +121,20 @@ public class PropertyUtilTest {
     }
   }
 
+  private static class OverloadedSetterClass {
+    protected String bar = PropertyUtilTest.DEFAULT;
+
+    @SuppressWarnings("unused")
+    public void setBar(final String newValue) {
+      bar = newValue;
+    }
+
+    @SuppressWarnings("unused")
+    public void setBar(final Integer times) {
+      bar = times + " times";
+    }
+  }
+
   private static class mUnderBarClass {
     
     @SuppressWarnings("unused")